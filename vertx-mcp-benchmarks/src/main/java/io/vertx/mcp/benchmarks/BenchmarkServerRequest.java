@@ -0,0 +1,54 @@
+package io.vertx.mcp.benchmarks;
+
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.mcp.common.rpc.JsonRequest;
+import io.vertx.mcp.server.ServerRequest;
+import io.vertx.mcp.server.ServerResponse;
+import io.vertx.mcp.server.ServerSession;
+
+/**
+ * An already decoded server request, answered by a {@link BenchmarkServerResponse}.
+ */
+public class BenchmarkServerRequest implements ServerRequest {
+
+  private final ContextInternal context;
+  private final JsonRequest request;
+  private final BenchmarkServerResponse response;
+  private ServerSession session;
+
+  public BenchmarkServerRequest(ContextInternal context, JsonRequest request) {
+    this.context = context;
+    this.request = request;
+    this.response = new BenchmarkServerResponse(context, request.getId());
+  }
+
+  @Override
+  public void init(ServerSession session, ServerResponse response) {
+    this.session = session;
+  }
+
+  @Override
+  public String path() {
+    return request.getMethod();
+  }
+
+  @Override
+  public ContextInternal context() {
+    return context;
+  }
+
+  @Override
+  public BenchmarkServerResponse response() {
+    return response;
+  }
+
+  @Override
+  public JsonRequest getJsonRequest() {
+    return request;
+  }
+
+  @Override
+  public ServerSession session() {
+    return session;
+  }
+}
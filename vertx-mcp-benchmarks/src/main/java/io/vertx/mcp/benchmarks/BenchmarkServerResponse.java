@@ -0,0 +1,96 @@
+package io.vertx.mcp.benchmarks;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.mcp.server.ServerResponse;
+import io.vertx.mcp.server.ServerSession;
+
+/**
+ * A server response keeping the last message written, so that dispatch benchmarks measure the server and not a transport.
+ */
+public class BenchmarkServerResponse implements ServerResponse {
+
+  private final ContextInternal context;
+  private final Object requestId;
+  private ServerSession session;
+  private Object last;
+
+  public BenchmarkServerResponse(ContextInternal context, Object requestId) {
+    this.context = context;
+    this.requestId = requestId;
+  }
+
+  /**
+   * @return the last message written, as a {@link JsonObject} or a {@link Buffer}
+   */
+  public Object last() {
+    return last;
+  }
+
+  @Override
+  public void init(ServerSession session) {
+    this.session = session;
+  }
+
+  @Override
+  public Object requestId() {
+    return requestId;
+  }
+
+  @Override
+  public ServerSession session() {
+    return session;
+  }
+
+  @Override
+  public ContextInternal context() {
+    return context;
+  }
+
+  @Override
+  public Future<Void> write(JsonObject data) {
+    last = data;
+    return Future.succeededFuture();
+  }
+
+  @Override
+  public Future<Void> end(JsonObject data) {
+    last = data;
+    return Future.succeededFuture();
+  }
+
+  @Override
+  public Future<Void> end(Buffer message) {
+    last = message;
+    return Future.succeededFuture();
+  }
+
+  @Override
+  public Future<Void> end() {
+    return Future.succeededFuture();
+  }
+
+  @Override
+  public WriteStream<JsonObject> setWriteQueueMaxSize(int maxSize) {
+    return this;
+  }
+
+  @Override
+  public boolean writeQueueFull() {
+    return false;
+  }
+
+  @Override
+  public WriteStream<JsonObject> drainHandler(Handler<Void> handler) {
+    return this;
+  }
+
+  @Override
+  public WriteStream<JsonObject> exceptionHandler(Handler<Throwable> handler) {
+    return this;
+  }
+}
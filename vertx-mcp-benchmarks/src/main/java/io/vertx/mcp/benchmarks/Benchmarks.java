@@ -0,0 +1,23 @@
+package io.vertx.mcp.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler, so that every benchmark reports its allocation rate per operation ({@code gc.alloc.rate.norm}) next to its average time.
+ * <p>
+ * Accepts the JMH command line options, e.g. {@code java -jar target/benchmarks.jar Codec -rf json -rff baseline.json}.
+ */
+public class Benchmarks {
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder()
+      .parent(new CommandLineOptions(args))
+      .addProfiler(GCProfiler.class)
+      .build();
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,89 @@
+package io.vertx.mcp.benchmarks;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.common.request.CallToolRequest;
+import io.vertx.mcp.common.request.Request;
+import io.vertx.mcp.common.result.CallToolResult;
+import io.vertx.mcp.common.result.Result;
+import io.vertx.mcp.common.rpc.JsonCodec;
+import io.vertx.mcp.common.rpc.JsonEnvelope;
+import io.vertx.mcp.common.rpc.JsonMessageDecoder;
+import io.vertx.mcp.common.rpc.JsonRequest;
+import io.vertx.mcp.common.rpc.JsonRequestDecoder;
+import io.vertx.mcp.common.rpc.JsonResponse;
+import io.vertx.mcp.common.rpc.JsonResponseEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Decoding and encoding of a {@code tools/call} request and of its result, from and to the wire bytes.
+ */
+public class CodecBenchmark extends BenchmarkBase {
+
+  private Buffer requestBytes;
+  private Buffer resultBytes;
+  private CallToolRequest request;
+  private JsonRequest jsonRequest;
+  private CallToolResult result;
+
+  @Setup
+  public void setup() {
+    request = new CallToolRequest(new JsonObject()
+      .put("name", "search")
+      .put("arguments", new JsonObject().put("query", "vert.x model context protocol").put("limit", 10).put("tags", new JsonArray().add("java").add("mcp")))
+      .put("_meta", new JsonObject().put("progressToken", "token-1")));
+    jsonRequest = request.toRequest(42);
+    requestBytes = jsonRequest.toJson().toBuffer();
+
+    JsonArray items = new JsonArray();
+    for (int i = 0; i < 10; i++) {
+      items.add(new JsonObject().put("title", "Result " + i).put("url", "https://example.com/" + i).put("score", 1.0 / (i + 1)));
+    }
+    result = new CallToolResult().setStructuredContent(new JsonObject().put("items", items)).setIsError(false);
+    resultBytes = JsonResponse.success(jsonRequest, result.toJson()).toJson().toBuffer();
+  }
+
+  @Benchmark
+  public JsonRequest decodeEnvelope() {
+    return JsonRequestDecoder.fromJson(new JsonObject(requestBytes));
+  }
+
+  @Benchmark
+  public Request decodeRequest() {
+    JsonRequest decoded = JsonRequestDecoder.fromJson(new JsonObject(requestBytes));
+    return JsonCodec.decodeRequest(decoded.getMethod(), decoded.getNamedParams());
+  }
+
+  @Benchmark
+  public Request decodeRequestStreaming() {
+    return ((JsonRequest) JsonMessageDecoder.decode(requestBytes)).getRequest();
+  }
+
+  @Benchmark
+  public JsonEnvelope probeRequest() {
+    return JsonEnvelope.probe(requestBytes);
+  }
+
+  @Benchmark
+  public Buffer encodeRequest() {
+    return request.toRequest(42).toJson().toBuffer();
+  }
+
+  @Benchmark
+  public Result decodeResult() {
+    JsonObject json = new JsonObject(resultBytes);
+    return JsonCodec.decodeResult(CallToolRequest.METHOD, json.getJsonObject("result"));
+  }
+
+  @Benchmark
+  public Buffer encodeResult() {
+    return JsonResponse.success(jsonRequest, result.toJson()).toJson().toBuffer();
+  }
+
+  @Benchmark
+  public Buffer encodeResultStreaming() {
+    return JsonResponseEncoder.encode(result.toResponse(jsonRequest));
+  }
+}
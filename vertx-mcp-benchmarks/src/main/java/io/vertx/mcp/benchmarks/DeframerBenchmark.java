@@ -0,0 +1,47 @@
+package io.vertx.mcp.benchmarks;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.client.transport.http.EventMessageDeframer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * {@link EventMessageDeframer} throughput: parsing a chunk of SSE events and draining the messages, one operation being one chunk.
+ */
+public class DeframerBenchmark extends BenchmarkBase {
+
+  @Param({ "1", "16" })
+  public int events;
+
+  @Param({ "128", "4096" })
+  public int payloadSize;
+
+  private Buffer chunk;
+
+  @Setup
+  public void setup() {
+    String message = new JsonObject()
+      .put("jsonrpc", "2.0")
+      .put("method", "notifications/message")
+      .put("params", new JsonObject().put("level", "info").put("data", "x".repeat(payloadSize)))
+      .encode();
+    chunk = Buffer.buffer();
+    for (int i = 0; i < events; i++) {
+      chunk.appendString("data: ").appendString(message).appendString("\n\n");
+    }
+  }
+
+  @Benchmark
+  public int deframe() {
+    EventMessageDeframer deframer = new EventMessageDeframer();
+    deframer.maxMessageSize(1024 * 1024);
+    deframer.update(chunk);
+    int count = 0;
+    while (deframer.next() != null) {
+      count++;
+    }
+    return count;
+  }
+}
@@ -0,0 +1,63 @@
+package io.vertx.mcp.benchmarks;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.common.dsl.Schemas;
+import io.vertx.mcp.common.request.CallToolRequest;
+import io.vertx.mcp.common.request.PingRequest;
+import io.vertx.mcp.common.rpc.JsonRequest;
+import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.feature.ProtocolServerFeature;
+import io.vertx.mcp.server.feature.ToolServerFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * {@code ModelContextProtocolServerImpl.handle}: feature lookup, handler invocation and response, for a {@code ping} and for a {@code tools/call} of a tool completing
+ * immediately.
+ */
+public class DispatchBenchmark extends BenchmarkBase {
+
+  private Vertx vertx;
+  private ContextInternal context;
+  private ModelContextProtocolServer server;
+  private JsonRequest ping;
+  private JsonRequest callTool;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx();
+    context = (ContextInternal) vertx.getOrCreateContext();
+    server = ModelContextProtocolServer.create(vertx);
+    server.addServerFeature(new ProtocolServerFeature());
+    ToolServerFeature tools = new ToolServerFeature();
+    JsonObject output = new JsonObject().put("ok", true);
+    tools.addStructuredTool("echo", Schemas.objectSchema(), Schemas.objectSchema(), args -> Future.succeededFuture(output));
+    server.addServerFeature(tools);
+
+    ping = new PingRequest().toRequest(1);
+    callTool = new CallToolRequest(new JsonObject().put("name", "echo").put("arguments", new JsonObject().put("text", "hello"))).toRequest(2);
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close().await();
+  }
+
+  @Benchmark
+  public Object ping() {
+    BenchmarkServerRequest request = new BenchmarkServerRequest(context, ping);
+    server.handle(request);
+    return request.response().last();
+  }
+
+  @Benchmark
+  public Object callTool() {
+    BenchmarkServerRequest request = new BenchmarkServerRequest(context, callTool);
+    server.handle(request);
+    return request.response().last();
+  }
+}
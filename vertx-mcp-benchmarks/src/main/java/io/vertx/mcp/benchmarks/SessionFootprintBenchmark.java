@@ -0,0 +1,90 @@
+package io.vertx.mcp.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.common.capabilities.ClientCapabilities;
+import io.vertx.mcp.server.ServerOptions;
+import io.vertx.mcp.server.impl.ServerSessionImpl;
+import io.vertx.mcp.server.impl.SessionManagerImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+/**
+ * Footprint of an idle session, listening to a stream without any pending request or log message. The benchmark creates and removes a session, its {@code gc.alloc.rate.norm}
+ * is the number of bytes allocated per session. {@link #main(String[])} creates idle sessions and reports the number of bytes retained per session, e.g.
+ * {@code java -cp target/benchmarks.jar io.vertx.mcp.benchmarks.SessionFootprintBenchmark 100000}.
+ */
+public class SessionFootprintBenchmark extends BenchmarkBase {
+
+  private Vertx vertx;
+  private ContextInternal context;
+  private SessionManagerImpl sessionManager;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx();
+    context = (ContextInternal) vertx.getOrCreateContext();
+    sessionManager = new SessionManagerImpl(vertx, options(Integer.MAX_VALUE));
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close().await();
+  }
+
+  @Benchmark
+  public Object createIdleSession() {
+    ServerSessionImpl session = createIdleSession(context, sessionManager);
+    sessionManager.removeSession(session.id());
+    return session;
+  }
+
+  private static ServerOptions options(int maxSessions) {
+    return new ServerOptions().setMaxSessions(maxSessions).setStreamingEnabled(true);
+  }
+
+  private static ServerSessionImpl createIdleSession(ContextInternal context, SessionManagerImpl sessionManager) {
+    // Every client declares its capabilities in its own initialize request
+    ClientCapabilities capabilities = new ClientCapabilities().setSampling(new JsonObject()).setElicitation(new JsonObject());
+    ServerSessionImpl session = (ServerSessionImpl) sessionManager.createSession(capabilities);
+    BenchmarkServerResponse stream = new BenchmarkServerResponse(context, null);
+    stream.init(session);
+    session.init(stream);
+    return session;
+  }
+
+  public static void main(String[] args) {
+    int count = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+    Vertx vertx = Vertx.vertx();
+    try {
+      ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+      SessionManagerImpl sessionManager = new SessionManagerImpl(vertx, options(count));
+      // Warms up the classes and the shared state before measuring
+      sessionManager.removeSession(createIdleSession(context, sessionManager).id());
+
+      MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+      long before = usedHeap(memory);
+      for (int i = 0; i < count; i++) {
+        createIdleSession(context, sessionManager);
+      }
+      long after = usedHeap(memory);
+
+      System.out.printf("%d idle sessions: %d bytes retained, %d bytes per session%n", sessionManager.getSessionCount(), after - before,
+        (after - before) / sessionManager.getSessionCount());
+    } finally {
+      vertx.close().await();
+    }
+  }
+
+  private static long usedHeap(MemoryMXBean memory) {
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return memory.getHeapMemoryUsage().getUsed();
+  }
+}
@@ -0,0 +1,115 @@
+package io.vertx.mcp.benchmarks;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.common.LoggingLevel;
+import io.vertx.mcp.common.capabilities.ClientCapabilities;
+import io.vertx.mcp.common.notification.LoggingMessageNotification;
+import io.vertx.mcp.common.rpc.JsonResponse;
+import io.vertx.mcp.server.ServerOptions;
+import io.vertx.mcp.server.impl.ServerSessionImpl;
+import io.vertx.mcp.server.transport.http.StreamableHttpServerResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SSE frame encoding of {@link StreamableHttpServerResponse}: a single event, a batch of events written at once, and a final response event, written to an HTTP response that
+ * discards the bytes.
+ */
+public class SseFramingBenchmark extends BenchmarkBase {
+
+  private static final int BATCH_SIZE = 16;
+
+  private Vertx vertx;
+  private ContextInternal context;
+  private ServerSessionImpl session;
+  private HttpServerResponse httpResponse;
+  private StreamableHttpServerResponse stream;
+  private JsonObject notification;
+  private List<JsonObject> batch;
+  private Buffer response;
+  private Buffer last;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx();
+    context = (ContextInternal) vertx.getOrCreateContext();
+    httpResponse = discardingResponse();
+    session = new ServerSessionImpl(vertx, new ServerOptions(), null, "benchmark", true, new ClientCapabilities());
+    stream = new StreamableHttpServerResponse(context, httpResponse);
+    stream.init(session);
+    session.init(stream);
+
+    notification = new LoggingMessageNotification().setLevel(LoggingLevel.INFO).setLogger("benchmark").setData("A log message of a typical length").toNotification().toJson();
+    batch = new ArrayList<>(BATCH_SIZE);
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      batch.add(notification.copy());
+    }
+    response = JsonResponse.encodeSuccess(1, new JsonObject().put("content", "x".repeat(256)).toBuffer());
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close().await();
+  }
+
+  @Benchmark
+  public Buffer writeEvent() {
+    stream.write(notification);
+    return last;
+  }
+
+  @Benchmark
+  public Buffer writeBatch() {
+    stream.writeAll(batch);
+    return last;
+  }
+
+  @Benchmark
+  public Buffer endEvent() {
+    StreamableHttpServerResponse single = new StreamableHttpServerResponse(context, httpResponse);
+    single.init(session);
+    single.end(response);
+    return last;
+  }
+
+  private HttpServerResponse discardingResponse() {
+    return (HttpServerResponse) Proxy.newProxyInstance(HttpServerResponse.class.getClassLoader(), new Class<?>[] { HttpServerResponse.class }, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "write":
+        case "end":
+          if (args != null && args.length > 0 && args[0] instanceof Buffer) {
+            last = (Buffer) args[0];
+          }
+          return Future.succeededFuture();
+        case "headWritten":
+          return true;
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "equals":
+          return proxy == args[0];
+        default:
+          Class<?> type = method.getReturnType();
+          if (type == boolean.class) {
+            return false;
+          }
+          if (type == int.class) {
+            return 0;
+          }
+          if (type == long.class) {
+            return 0L;
+          }
+          return type.isInstance(proxy) ? proxy : null;
+      }
+    });
+  }
+}
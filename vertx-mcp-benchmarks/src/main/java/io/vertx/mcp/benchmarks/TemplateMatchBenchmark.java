@@ -0,0 +1,39 @@
+package io.vertx.mcp.benchmarks;
+
+import io.vertx.mcp.server.impl.UriTemplateRouter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Resource template matching of {@code resources/read}, depending on the number of registered templates: a URI matching the last registered template, and a URI matching none.
+ */
+public class TemplateMatchBenchmark extends BenchmarkBase {
+
+  @Param({ "10", "1000" })
+  public int templates;
+
+  private UriTemplateRouter<Integer> router;
+  private String matching;
+  private String missing;
+
+  @Setup
+  public void setup() {
+    router = new UriTemplateRouter<>();
+    for (int i = 0; i < templates; i++) {
+      router.add("resource://service-" + i + "/users/{id}/files{/path*}", i);
+    }
+    matching = "resource://service-" + (templates - 1) + "/users/42/files/docs/report.pdf";
+    missing = "resource://unknown/users/42";
+  }
+
+  @Benchmark
+  public Object match() {
+    return router.match(matching);
+  }
+
+  @Benchmark
+  public Object miss() {
+    return router.match(missing);
+  }
+}
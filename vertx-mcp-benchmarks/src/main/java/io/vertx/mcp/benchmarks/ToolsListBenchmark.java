@@ -0,0 +1,57 @@
+package io.vertx.mcp.benchmarks;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.common.dsl.Schemas;
+import io.vertx.mcp.common.request.ListToolsRequest;
+import io.vertx.mcp.common.rpc.JsonRequest;
+import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.feature.ToolServerFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Generation of the {@code tools/list} response by the server, depending on the number of registered tools.
+ */
+public class ToolsListBenchmark extends BenchmarkBase {
+
+  @Param({ "10", "1000", "10000" })
+  public int tools;
+
+  private Vertx vertx;
+  private ContextInternal context;
+  private ModelContextProtocolServer server;
+  private JsonRequest listTools;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx();
+    context = (ContextInternal) vertx.getOrCreateContext();
+    server = ModelContextProtocolServer.create(vertx);
+    ToolServerFeature feature = new ToolServerFeature();
+    for (int i = 0; i < tools; i++) {
+      feature.addStructuredTool("tool-" + i, "Tool " + i, "Description of the tool number " + i,
+        Schemas.objectSchema().requiredProperty("query", Schemas.stringSchema()).optionalProperty("limit", Schemas.intSchema()),
+        Schemas.objectSchema().requiredProperty("result", Schemas.stringSchema()),
+        args -> Future.succeededFuture(new JsonObject()));
+    }
+    server.addServerFeature(feature);
+    listTools = new ListToolsRequest().toRequest(1);
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close().await();
+  }
+
+  @Benchmark
+  public Object listTools() {
+    BenchmarkServerRequest request = new BenchmarkServerRequest(context, listTools);
+    server.handle(request);
+    return request.response().last();
+  }
+}
@@ -13,6 +13,7 @@ package io.vertx.mcp.client;
 import io.vertx.codegen.annotations.DataObject;
 import io.vertx.codegen.json.annotations.JsonGen;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.tracing.TracingPolicy;
 
 /**
  * Configuration for a Model Context Protocol client.
@@ -61,6 +62,11 @@ public class ClientOptions {
    */
   public static final long DEFAULT_CONNECT_TIMEOUT_MS = 10 * 1000L;
 
+  /**
+   * The default tracing policy = {@link TracingPolicy#PROPAGATE}
+   */
+  public static final TracingPolicy DEFAULT_TRACING_POLICY = TracingPolicy.PROPAGATE;
+
   private String clientName;
   private String clientVersion;
   private boolean sessionsEnabled;
@@ -69,6 +75,7 @@ public class ClientOptions {
   private boolean loggingEnabled;
   private long requestTimeoutMs;
   private long connectTimeoutMs;
+  private TracingPolicy tracingPolicy;
 
   public ClientOptions() {
     clientName = DEFAULT_CLIENT_NAME;
@@ -79,6 +86,7 @@ public class ClientOptions {
     loggingEnabled = DEFAULT_LOGGING_ENABLED;
     requestTimeoutMs = DEFAULT_REQUEST_TIMEOUT_MS;
     connectTimeoutMs = DEFAULT_CONNECT_TIMEOUT_MS;
+    tracingPolicy = DEFAULT_TRACING_POLICY;
   }
 
   public ClientOptions(ClientOptions other) {
@@ -90,6 +98,7 @@ public class ClientOptions {
     loggingEnabled = other.loggingEnabled;
     requestTimeoutMs = other.requestTimeoutMs;
     connectTimeoutMs = other.connectTimeoutMs;
+    tracingPolicy = other.tracingPolicy;
   }
 
   public ClientOptions(JsonObject json) {
@@ -334,6 +343,30 @@ public class ClientOptions {
     return this;
   }
 
+  /**
+   * Gets the tracing policy of the client.
+   *
+   * @return the tracing policy
+   */
+  public TracingPolicy getTracingPolicy() {
+    return tracingPolicy;
+  }
+
+  /**
+   * Sets the tracing policy of the client, used when a tracer is configured on the Vert.x instance. With {@link TracingPolicy#PROPAGATE} a request is only traced when it is sent within a trace, {@link TracingPolicy#ALWAYS} starts a trace for every request and {@link TracingPolicy#IGNORE} disables tracing.
+   *
+   * @param tracingPolicy the tracing policy
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalArgumentException if the policy is null
+   */
+  public ClientOptions setTracingPolicy(TracingPolicy tracingPolicy) {
+    if (tracingPolicy == null) {
+      throw new IllegalArgumentException("Tracing policy must not be null");
+    }
+    this.tracingPolicy = tracingPolicy;
+    return this;
+  }
+
   /**
    * @return a JSON representation of options
    */
@@ -1,6 +1,10 @@
 package io.vertx.mcp.client;
 
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 
 /**
  * Represents the client response in a JSON-RPC framework. This interface provides mechanisms for accessing and managing JSON-RPC responses and notifications received from the
@@ -31,4 +35,18 @@ public interface ClientResponse extends MessageReadStream {
    * @return the associated {@link ClientRequest} object
    */
   ClientRequest request();
+
+  /**
+   * Switches the response to raw mode: the received messages are passed to the handler as encoded bytes, without being decoded, instead of being passed to the message handler.
+   * <p>
+   * The default implementation re-encodes the decoded messages, implementations receiving encoded messages pass them as received.
+   *
+   * @param handler the handler of the encoded messages
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  default ClientResponse rawMessageHandler(@Nullable Handler<Buffer> handler) {
+    handler(handler != null ? message -> handler.handle(message.toBuffer()) : null);
+    return this;
+  }
 }
@@ -5,6 +5,7 @@ import io.vertx.core.Closeable;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.mcp.common.capabilities.ServerCapabilities;
 import io.vertx.mcp.common.notification.Notification;
@@ -52,6 +53,14 @@ public interface ClientSession extends Handler<JsonObject>, Closeable {
    */
   Future<Result> sendRequest(Request request);
 
+  /**
+   * Sends a request to the server and returns its result as received, without decoding it.
+   *
+   * @param request the request to send
+   * @return a future that completes with the encoded result
+   */
+  Future<Buffer> sendRawRequest(Request request);
+
   /**
    * Sends a notification to the server. This method is typically used to deliver an asynchronous notification without expecting any response from the server.
    *
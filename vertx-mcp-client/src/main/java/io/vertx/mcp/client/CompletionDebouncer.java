@@ -0,0 +1,42 @@
+package io.vertx.mcp.client;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.mcp.client.impl.CompletionDebouncerImpl;
+import io.vertx.mcp.common.completion.Completion;
+import io.vertx.mcp.common.request.CompleteRequest;
+
+/**
+ * Debounces {@code completion/complete} requests sent while the user types. A request is only sent once no newer request for the same reference and argument has been made during
+ * the debounce delay, and the result of a request made stale by a newer one is dropped.
+ * <p>
+ * The future of a superseded request fails with a {@link java.util.concurrent.CancellationException}, the server cancels superseded requests still in progress on its side.
+ *
+ * @version 2025-06-18
+ * @see <a href="https://modelcontextprotocol.io/specification/2025-06-18/server/utilities/completion">Server Utilities - Completion</a>
+ */
+public interface CompletionDebouncer {
+
+  /**
+   * Creates a debouncer sending requests through a session.
+   *
+   * @param vertx the Vert.x instance
+   * @param session the client session
+   * @param delayMs the debounce delay in milliseconds, {@code 0} sends immediately and only drops stale results
+   * @return the debouncer
+   */
+  static CompletionDebouncer create(Vertx vertx, ClientSession session, long delayMs) {
+    if (delayMs < 0) {
+      throw new IllegalArgumentException("Debounce delay must not be negative");
+    }
+    return new CompletionDebouncerImpl(vertx, session, delayMs);
+  }
+
+  /**
+   * Requests a completion, superseding the pending request for the same reference and argument.
+   *
+   * @param request the completion request
+   * @return a future completed with the completion, or failed with a {@link java.util.concurrent.CancellationException} when superseded
+   */
+  Future<Completion> complete(CompleteRequest request);
+}
@@ -5,6 +5,7 @@ import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.mcp.client.impl.ModelContextProtocolClientImpl;
 import io.vertx.mcp.common.capabilities.ClientCapabilities;
 import io.vertx.mcp.common.notification.Notification;
@@ -109,5 +110,24 @@ public interface ModelContextProtocolClient {
 
   Future<Result> sendRequest(Request request, ClientSession session);
 
+  /**
+   * Sends a request to the server and returns its result as received, without decoding it, e.g. to forward it.
+   *
+   * @param request the request to send
+   * @return a future that completes with the encoded result, or fails with a {@link ClientRequestException} when the server returns an error
+   */
+  default Future<Buffer> sendRawRequest(Request request) {
+    return sendRawRequest(request, null);
+  }
+
+  /**
+   * Sends a request to the server and returns its result as received, without decoding it, e.g. to forward it.
+   *
+   * @param request the request to send
+   * @param session the session, or {@code null}
+   * @return a future that completes with the encoded result, or fails with a {@link ClientRequestException} when the server returns an error
+   */
+  Future<Buffer> sendRawRequest(Request request, ClientSession session);
+
   Future<Void> sendNotification(Notification notification, ClientSession session);
 }
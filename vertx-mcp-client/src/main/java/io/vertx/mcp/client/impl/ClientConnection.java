@@ -0,0 +1,204 @@
+package io.vertx.mcp.client.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.VertxException;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.client.*;
+import io.vertx.mcp.common.Implementation;
+import io.vertx.mcp.common.capabilities.ClientCapabilities;
+import io.vertx.mcp.common.request.InitializeRequest;
+import io.vertx.mcp.common.result.InitializeResult;
+import io.vertx.mcp.common.rpc.JsonEnvelope;
+import io.vertx.mcp.common.rpc.JsonResponse;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A persistent connection carrying the messages of a session in both directions, e.g. the standard streams of a server process or a WebSocket. A request is given an ID unique to
+ * the connection and its response is routed back to it, the messages initiated by the server are delivered to the stream of the session. Subclasses write the messages and feed
+ * the messages received to {@link #handleMessage(Buffer)} on the context of the connection.
+ */
+public abstract class ClientConnection {
+
+  private static final Logger LOGGER = Logger.getLogger(ClientConnection.class.getName());
+
+  private final ContextInternal context;
+  private final ClientConnectionResponse sessionStream;
+  private final Map<Long, ClientConnectionResponse> pending = new ConcurrentHashMap<>();
+  private final AtomicLong wireIdGenerator = new AtomicLong();
+
+  protected ClientConnection(ContextInternal context) {
+    this.context = context;
+    // The messages initiated by the server stop being read while the session does not handle them
+    this.sessionStream = new ClientConnectionResponse(context, context, paused -> {
+      if (paused) {
+        pause();
+      } else {
+        resume();
+      }
+    });
+  }
+
+  /**
+   * @return the context on which the messages are received
+   */
+  public ContextInternal context() {
+    return context;
+  }
+
+  /**
+   * @return the path of the requests written on the connection
+   */
+  protected abstract String path();
+
+  /**
+   * Writes a message on the connection.
+   *
+   * @param message the message
+   * @return a future completed once the message has been written
+   */
+  protected abstract Future<Void> write(JsonObject message);
+
+  protected abstract boolean writeQueueFull();
+
+  /**
+   * Sets a handler called once the write queue is no longer full, the handler can be called from any thread.
+   */
+  protected abstract void drainHandler(Handler<Void> handler);
+
+  /**
+   * Stops reading the messages of the server.
+   */
+  protected abstract void pause();
+
+  protected abstract void resume();
+
+  /**
+   * Creates a request written on the connection.
+   *
+   * @param session the session of the request, can be null
+   * @return the request
+   */
+  public ClientRequest request(ClientSession session) {
+    return new ClientConnectionRequest(this, (ContextInternal) context.owner().getOrCreateContext(), session);
+  }
+
+  /**
+   * Sends the {@code initialize} request of the session carried by the connection, the messages initiated by the server are delivered to the session created.
+   *
+   * @param client the client
+   * @param transport the transport of the session
+   * @param sessionId the ID of the session
+   * @param protocolVersion the protocol version requested
+   * @param capabilities the capabilities of the client
+   * @param clientOptions the client options
+   * @return the session
+   */
+  public Future<ClientSession> initialize(ModelContextProtocolClient client, ClientTransport transport, String sessionId, String protocolVersion,
+    ClientCapabilities capabilities, ClientOptions clientOptions) {
+    InitializeRequest initialize = new InitializeRequest()
+      .setProtocolVersion(protocolVersion)
+      .setClientInfo(new Implementation()
+        .setName(clientOptions.getClientName())
+        .setVersion(clientOptions.getClientVersion())
+      )
+      .setCapabilities(capabilities);
+
+    Promise<ClientSession> promise = Promise.promise();
+    ClientRequest request = request(null);
+    request.end(initialize.toRequest(0))
+      .compose(v -> request.response())
+      .onSuccess(response -> response.handler(json -> {
+        try {
+          JsonResponse jsonResponse = JsonResponse.fromJson(json);
+          if (jsonResponse.getError() != null) {
+            promise.fail(new ClientRequestException(jsonResponse.getError()));
+            return;
+          }
+          InitializeResult result = new InitializeResult((JsonObject) jsonResponse.getResult());
+
+          ClientSessionImpl session = new ClientSessionImpl(
+            sessionId,
+            result.getCapabilities(),
+            transport,
+            client.features(),
+            client.notificationHandlers(),
+            client instanceof ModelContextProtocolClientImpl ? (ModelContextProtocolClientImpl) client : null
+          );
+          sessionStream.init(session, null);
+          session.init(sessionStream);
+
+          promise.complete(session);
+        } catch (Exception e) {
+          promise.fail(e);
+        }
+      }).exceptionHandler(promise::tryFail))
+      .onFailure(promise::tryFail);
+
+    return promise.future();
+  }
+
+  long register(ClientConnectionResponse response) {
+    long wireId = wireIdGenerator.incrementAndGet();
+    pending.put(wireId, response);
+    return wireId;
+  }
+
+  ClientConnectionResponse unregister(long wireId) {
+    return pending.remove(wireId);
+  }
+
+  /**
+   * Routes a message received from the server, called on the context of the connection.
+   *
+   * @param message the encoded message
+   */
+  public void handleMessage(Buffer message) {
+    JsonEnvelope envelope;
+    try {
+      envelope = JsonEnvelope.probe(message);
+    } catch (DecodeException e) {
+      LOGGER.log(Level.FINE, "Invalid message from the server", e);
+      return;
+    }
+
+    if (!envelope.isResponse()) {
+      sessionStream.receive(message);
+      return;
+    }
+
+    Object id = envelope.getId();
+    ClientConnectionResponse response = id instanceof Number ? pending.remove(((Number) id).longValue()) : null;
+    if (response == null) {
+      LOGGER.log(Level.FINE, "Response to an unknown request: {0}", id);
+      return;
+    }
+    response.receive(message);
+    response.receiveEnd();
+  }
+
+  /**
+   * Fails the pending requests and ends the stream of the session once the connection is closed, called on the context of the connection.
+   *
+   * @param reason the reason given to the pending requests
+   */
+  public void handleClose(String reason) {
+    VertxException closed = new VertxException(reason, true);
+    for (Long wireId : pending.keySet()) {
+      ClientConnectionResponse response = pending.remove(wireId);
+      if (response != null) {
+        response.tryFail(closed);
+      }
+    }
+    sessionStream.receiveEnd();
+  }
+}
@@ -0,0 +1,170 @@
+package io.vertx.mcp.client.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.client.ClientRequest;
+import io.vertx.mcp.client.ClientResponse;
+import io.vertx.mcp.client.ClientSession;
+import io.vertx.mcp.common.rpc.JsonProtocol;
+import io.vertx.mcp.common.rpc.JsonRequest;
+
+/**
+ * A message written on a {@link ClientConnection}. A request is given an ID unique to the connection, so that its response can be routed back to it, other messages have an
+ * empty response.
+ */
+public class ClientConnectionRequest implements ClientRequest {
+
+  private final ClientConnection connection;
+  private final ContextInternal context;
+  private final ClientSession session;
+
+  private MultiMap headers;
+  private Future<ClientResponse> response;
+  private Long wireId;
+  private boolean ended;
+  private boolean cancelled;
+
+  ClientConnectionRequest(ClientConnection connection, ContextInternal context, ClientSession session) {
+    this.connection = connection;
+    this.context = context;
+    this.session = session;
+  }
+
+  /**
+   * @return the ID written in place of the ID of the request, or {@code null} when no request was sent
+   */
+  Long wireId() {
+    return wireId;
+  }
+
+  @Override
+  public String path() {
+    return connection.path();
+  }
+
+  @Override
+  public ClientSession session() {
+    return session;
+  }
+
+  @Override
+  public Future<Void> send(JsonRequest request) {
+    return endMessage(request.toJson(), true);
+  }
+
+  @Override
+  public Future<Void> end(JsonRequest request) {
+    return endMessage(request.toJson(), true);
+  }
+
+  @Override
+  public Future<Void> writeMessage(JsonObject message) {
+    return endMessage(message);
+  }
+
+  @Override
+  public Future<Void> endMessage(JsonObject message) {
+    return endMessage(message, false);
+  }
+
+  private Future<Void> endMessage(JsonObject message, boolean owned) {
+    if (ended) {
+      return context.failedFuture("Request already sent");
+    }
+    ended = true;
+
+    if (message.containsKey(JsonProtocol.METHOD_FIELD) && message.getValue(JsonProtocol.ID_FIELD) != null) {
+      ClientConnectionResponse pending = new ClientConnectionResponse(connection.context(), context, null);
+      pending.init(session, this);
+      wireId = connection.register(pending);
+      // The ID of the caller is replaced, the response is delivered as received
+      message = (owned ? message : message.copy()).put(JsonProtocol.ID_FIELD, wireId);
+      response = context.succeededFuture(pending);
+      return connection.write(message).onFailure(err -> {
+        connection.unregister(wireId);
+        pending.tryFail(err);
+      });
+    }
+
+    ClientConnectionResponse empty = new ClientConnectionResponse(connection.context(), context, null);
+    empty.init(session, this);
+    response = context.succeededFuture(empty);
+    return connection.write(message).onComplete(ar -> {
+      if (ar.succeeded()) {
+        connection.context().runOnContext(v -> empty.receiveEnd());
+      } else {
+        empty.tryFail(ar.cause());
+      }
+    });
+  }
+
+  @Override
+  public Future<Void> write(JsonObject data) {
+    return writeMessage(data);
+  }
+
+  @Override
+  public Future<Void> end(JsonObject data) {
+    return endMessage(data);
+  }
+
+  @Override
+  public Future<Void> end() {
+    return ended ? context.succeededFuture() : context.failedFuture("No message sent");
+  }
+
+  @Override
+  public Future<ClientResponse> response() {
+    return response != null ? response : context.failedFuture("Request not sent");
+  }
+
+  @Override
+  public void cancel() {
+    if (!cancelled && wireId != null) {
+      cancelled = true;
+      ClientConnectionResponse pending = connection.unregister(wireId);
+      if (pending != null) {
+        pending.tryFail(new IllegalStateException("Request cancelled"));
+      }
+    }
+  }
+
+  @Override
+  public boolean isCancelled() {
+    return cancelled;
+  }
+
+  @Override
+  public MultiMap headers() {
+    if (headers == null) {
+      headers = MultiMap.caseInsensitiveMultiMap();
+    }
+    return headers;
+  }
+
+  @Override
+  public ClientConnectionRequest exceptionHandler(Handler<Throwable> handler) {
+    return this;
+  }
+
+  @Override
+  public ClientConnectionRequest setWriteQueueMaxSize(int maxSize) {
+    return this;
+  }
+
+  @Override
+  public boolean writeQueueFull() {
+    return connection.writeQueueFull();
+  }
+
+  @Override
+  public ClientConnectionRequest drainHandler(Handler<Void> handler) {
+    if (handler != null) {
+      connection.drainHandler(handler);
+    }
+    return this;
+  }
+}
@@ -0,0 +1,207 @@
+package io.vertx.mcp.client.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.concurrent.InboundMessageQueue;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.client.ClientRequest;
+import io.vertx.mcp.client.ClientResponse;
+import io.vertx.mcp.client.ClientSession;
+
+/**
+ * The messages routed by a {@link ClientConnection} to a request, its response, or to the stream of the session, the messages initiated by the server. The messages are received
+ * on the context of the connection and delivered on the context of the response.
+ */
+public class ClientConnectionResponse implements ClientResponse {
+
+  private static final Buffer END = Buffer.buffer();
+
+  private final ContextInternal context;
+  private final InboundMessageQueue<Buffer> queue;
+  private final Promise<Void> endPromise;
+
+  private ClientSession session;
+  private ClientRequest request;
+  private MultiMap headers;
+  private Handler<Throwable> exceptionHandler;
+  private Handler<JsonObject> messageHandler;
+  private Handler<Buffer> rawMessageHandler;
+  private Handler<Void> endHandler;
+  private JsonObject last;
+  private boolean delivering;
+
+  public ClientConnectionResponse(ContextInternal connectionContext, ContextInternal context, Handler<Boolean> backPressure) {
+    this.context = context;
+    this.endPromise = context.promise();
+    this.queue = new InboundMessageQueue<>(connectionContext.executor(), context.executor(), 8, 16) {
+      @Override
+      protected void handlePause() {
+        if (backPressure != null) {
+          backPressure.handle(true);
+        }
+      }
+
+      @Override
+      protected void handleResume() {
+        if (backPressure != null) {
+          backPressure.handle(false);
+        }
+      }
+
+      @Override
+      protected void handleMessage(Buffer msg) {
+        if (msg == END) {
+          handleEnd();
+        } else {
+          ClientConnectionResponse.this.handleMessage(msg);
+        }
+      }
+    };
+    // The handler is set once the request is sent, the messages received before are held until then
+    this.queue.pause();
+  }
+
+  @Override
+  public void init(ClientSession session, ClientRequest request) {
+    this.session = session;
+    this.request = request;
+  }
+
+  /**
+   * Receives a message, called on the context of the connection.
+   */
+  void receive(Buffer message) {
+    queue.write(message);
+  }
+
+  /**
+   * Ends the response after the messages received, called on the context of the connection.
+   */
+  void receiveEnd() {
+    queue.write(END);
+  }
+
+  @Override
+  public ClientSession session() {
+    return session;
+  }
+
+  @Override
+  public ClientRequest request() {
+    return request;
+  }
+
+  @Override
+  public MultiMap headers() {
+    if (headers == null) {
+      headers = MultiMap.caseInsensitiveMultiMap();
+    }
+    return headers;
+  }
+
+  @Override
+  public ClientConnectionResponse pause() {
+    queue.pause();
+    return this;
+  }
+
+  @Override
+  public ClientConnectionResponse resume() {
+    return fetch(Long.MAX_VALUE);
+  }
+
+  @Override
+  public ClientConnectionResponse fetch(long amount) {
+    queue.fetch(amount);
+    return this;
+  }
+
+  @Override
+  public ClientConnectionResponse exceptionHandler(Handler<Throwable> handler) {
+    exceptionHandler = handler;
+    return this;
+  }
+
+  @Override
+  public ClientConnectionResponse messageHandler(Handler<JsonObject> handler) {
+    messageHandler = handler;
+    startDelivery(handler);
+    return this;
+  }
+
+  @Override
+  public ClientConnectionResponse rawMessageHandler(Handler<Buffer> handler) {
+    rawMessageHandler = handler;
+    startDelivery(handler);
+    return this;
+  }
+
+  private void startDelivery(Handler<?> handler) {
+    if (handler != null && !delivering) {
+      delivering = true;
+      queue.fetch(Long.MAX_VALUE);
+    }
+  }
+
+  @Override
+  public ClientConnectionResponse handler(Handler<JsonObject> handler) {
+    return messageHandler(handler);
+  }
+
+  @Override
+  public ClientConnectionResponse endHandler(Handler<Void> endHandler) {
+    this.endHandler = endHandler;
+    return this;
+  }
+
+  /**
+   * Fails the response, e.g. when the server exits before responding.
+   *
+   * @param err the failure
+   */
+  public void tryFail(Throwable err) {
+    if (endPromise.tryFail(err)) {
+      Handler<Throwable> handler = exceptionHandler;
+      if (handler != null) {
+        context.dispatch(err, handler);
+      }
+    }
+  }
+
+  private void handleEnd() {
+    endPromise.tryComplete();
+    Handler<Void> handler = endHandler;
+    if (handler != null) {
+      context.dispatch(handler);
+    }
+  }
+
+  private void handleMessage(Buffer msg) {
+    Handler<Buffer> raw = rawMessageHandler;
+    if (raw != null) {
+      context.dispatch(msg, raw);
+      return;
+    }
+    // Messages are decoded when they are delivered, so that raw messages are never decoded
+    JsonObject json = msg.toJsonObject();
+    last = json;
+    Handler<JsonObject> handler = messageHandler;
+    if (handler != null) {
+      context.dispatch(json, handler);
+    }
+  }
+
+  @Override
+  public Future<JsonObject> last() {
+    return end().map(v -> last);
+  }
+
+  @Override
+  public Future<Void> end() {
+    return endPromise.future();
+  }
+}
@@ -3,21 +3,24 @@ package io.vertx.mcp.client.impl;
 import io.vertx.core.Completable;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.mcp.client.*;
 import io.vertx.mcp.common.capabilities.ServerCapabilities;
+import io.vertx.mcp.common.metrics.McpMetrics;
 import io.vertx.mcp.common.notification.Notification;
 import io.vertx.mcp.common.request.Request;
 import io.vertx.mcp.common.result.Result;
 import io.vertx.mcp.common.rpc.JsonCodec;
+import io.vertx.mcp.common.rpc.JsonError;
 import io.vertx.mcp.common.rpc.JsonRequest;
 import io.vertx.mcp.common.rpc.JsonResponse;
+import io.vertx.mcp.common.rpc.RawJsonResponse;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -32,22 +35,34 @@ public class ClientSessionImpl implements ClientSession {
 
   private final List<ClientFeature> featureHandlers;
   private final Map<String, ClientNotificationHandler> notificationHandlers;
-  private final Map<Object, Promise<JsonObject>> pendingRequests = new ConcurrentHashMap<>();
+
+  private final ModelContextProtocolClientImpl client;
+  private final McpMetrics metrics;
 
   private ReadStream<JsonObject> readStream;
 
   public ClientSessionImpl(String id, ServerCapabilities serverCapabilities, ClientTransport transport, List<ClientFeature> featureHandlers,
     Map<String, ClientNotificationHandler> notificationHandlers) {
+    this(id, serverCapabilities, transport, featureHandlers, notificationHandlers, null);
+  }
+
+  public ClientSessionImpl(String id, ServerCapabilities serverCapabilities, ClientTransport transport, List<ClientFeature> featureHandlers,
+    Map<String, ClientNotificationHandler> notificationHandlers, ModelContextProtocolClientImpl client) {
     this.id = id;
     this.serverCapabilities = serverCapabilities;
     this.transport = transport;
     this.featureHandlers = featureHandlers;
     this.notificationHandlers = notificationHandlers;
+    this.client = client;
+    this.metrics = client != null ? client.metrics() : null;
   }
 
   public void init(ReadStream<JsonObject> readStream) {
     this.readStream = readStream;
     readStream.handler(this);
+    if (metrics != null) {
+      metrics.streamOpened();
+    }
   }
 
   @Override
@@ -60,14 +75,24 @@ public class ClientSessionImpl implements ClientSession {
 
     Optional<ClientFeature> handler = featureHandlers.stream().filter(h -> h.hasCapability(method)).findFirst();
     if (handler.isPresent()) {
-      handler.get().apply(new JsonRequest(request))
-        .onSuccess(result -> completeRequest(request.getString("id"), result))
-        .onFailure(err -> failRequest(request.getString("id"), err));
+      JsonRequest jsonRequest = new JsonRequest(request);
+      ClientFeature feature = handler.get();
+      Future<JsonObject> response = client != null ? client.receive(jsonRequest, () -> feature.apply(jsonRequest)) : feature.apply(jsonRequest);
+      if (jsonRequest.getId() != null) {
+        // The features return the whole JSON-RPC response
+        response
+          .recover(err -> Future.succeededFuture(JsonResponse.error(jsonRequest, JsonError.internalError(err.getMessage())).toJson()))
+          .onSuccess(this::respond);
+      }
       return;
     }
 
     Optional<ClientNotificationHandler> notificationHandler = Optional.ofNullable(notificationHandlers.get(method));
 
+    if (metrics != null) {
+      metrics.notificationReceived(method);
+    }
+
     if (notificationHandler.isPresent()) {
       notificationHandler.get().handle(JsonCodec.decodeNotification(method, request.getJsonObject("params")));
       return;
@@ -90,9 +115,16 @@ public class ClientSessionImpl implements ClientSession {
       return Future.failedFuture("Session is not active");
     }
 
+    if (client == null) {
+      return doSendRequest(request, request.toRequest(requestCount.incrementAndGet()));
+    }
+    return client.send(request, requestCount.incrementAndGet(), jsonRequest -> doSendRequest(request, jsonRequest));
+  }
+
+  private Future<Result> doSendRequest(Request request, JsonRequest jsonRequest) {
     Promise<Result> promise = Promise.promise();
 
-    return transport.request(this).compose(req -> req.end(request.toRequest(requestCount.incrementAndGet())).compose(v -> req.response())
+    return transport.request(this).compose(req -> req.end(jsonRequest).compose(v -> req.response())
       .onSuccess(resp -> resp
         .handler(response -> {
           JsonResponse jsonResponse = JsonResponse.fromJson(response);
@@ -107,6 +139,31 @@ public class ClientSessionImpl implements ClientSession {
       .compose(v -> promise.future()));
   }
 
+  @Override
+  public Future<Buffer> sendRawRequest(Request request) {
+    if (!active.get()) {
+      return Future.failedFuture("Session is not active");
+    }
+
+    if (client == null) {
+      return doSendRawRequest(request.toRequest(requestCount.incrementAndGet()));
+    }
+    return client.send(request, requestCount.incrementAndGet(), this::doSendRawRequest);
+  }
+
+  private Future<Buffer> doSendRawRequest(JsonRequest jsonRequest) {
+    Promise<Buffer> promise = Promise.promise();
+
+    return transport.request(this).compose(req -> req.end(jsonRequest).compose(v -> req.response())
+      .onSuccess(resp -> {
+        Object id = ModelContextProtocolClientImpl.responseId(req, jsonRequest);
+        resp
+          .rawMessageHandler(message -> ModelContextProtocolClientImpl.completeRaw(message, id, promise))
+          .exceptionHandler(promise::fail);
+      })
+      .compose(v -> promise.future()));
+  }
+
   @Override
   public Future<Void> sendNotification(Notification notification) {
     if (!active.get()) {
@@ -129,25 +186,19 @@ public class ClientSessionImpl implements ClientSession {
 
   @Override
   public void close(Completable<Void> completable) {
-    active.set(false);
-
-    pendingRequests.values().forEach(promise -> promise.fail("Session closed"));
-    pendingRequests.clear();
+    if (active.getAndSet(false) && metrics != null) {
+      if (readStream != null) {
+        metrics.streamClosed();
+      }
+      metrics.sessionClosed();
+    }
 
     transport.unsubscribe(this).onComplete(completable);
   }
 
-  private void completeRequest(Object requestId, JsonObject result) {
-    Promise<JsonObject> promise = pendingRequests.remove(requestId);
-    if (promise != null && !promise.future().isComplete()) {
-      promise.complete(result);
-    }
-  }
-
-  private void failRequest(Object requestId, Throwable error) {
-    Promise<JsonObject> promise = pendingRequests.remove(requestId);
-    if (promise != null && !promise.future().isComplete()) {
-      promise.fail(error);
+  private void respond(JsonObject response) {
+    if (active.get()) {
+      transport.request(this).compose(req -> req.endMessage(response));
     }
   }
 }
@@ -0,0 +1,85 @@
+package io.vertx.mcp.client.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.mcp.client.ClientSession;
+import io.vertx.mcp.client.CompletionDebouncer;
+import io.vertx.mcp.common.completion.Completion;
+import io.vertx.mcp.common.completion.CompletionReference;
+import io.vertx.mcp.common.request.CompleteRequest;
+import io.vertx.mcp.common.result.CompleteResult;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+public class CompletionDebouncerImpl implements CompletionDebouncer {
+
+  private static class Pending {
+    final Promise<Completion> promise = Promise.promise();
+    long timerId = -1;
+  }
+
+  private final Vertx vertx;
+  private final ClientSession session;
+  private final long delayMs;
+  private final Map<String, Pending> latest = new HashMap<>();
+
+  public CompletionDebouncerImpl(Vertx vertx, ClientSession session, long delayMs) {
+    this.vertx = vertx;
+    this.session = session;
+    this.delayMs = delayMs;
+  }
+
+  @Override
+  public Future<Completion> complete(CompleteRequest request) {
+    String key = key(request);
+    Pending pending = new Pending();
+    Pending previous;
+    synchronized (this) {
+      previous = latest.put(key, pending);
+      if (previous != null && previous.timerId >= 0) {
+        vertx.cancelTimer(previous.timerId);
+      }
+      if (delayMs > 0) {
+        pending.timerId = vertx.setTimer(delayMs, id -> send(key, pending, request));
+      }
+    }
+    if (previous != null) {
+      previous.promise.tryFail(new CancellationException("Superseded by a newer completion request"));
+    }
+    if (delayMs == 0) {
+      send(key, pending, request);
+    }
+    return pending.promise.future();
+  }
+
+  private void send(String key, Pending pending, CompleteRequest request) {
+    synchronized (this) {
+      if (latest.get(key) != pending) {
+        return;
+      }
+      pending.timerId = -1;
+    }
+    session.sendRequest(request).onComplete(ar -> {
+      synchronized (this) {
+        latest.remove(key, pending);
+      }
+      if (ar.succeeded()) {
+        pending.promise.tryComplete(((CompleteResult) ar.result()).getCompletion());
+      } else {
+        pending.promise.tryFail(ar.cause());
+      }
+    });
+  }
+
+  private static String key(CompleteRequest request) {
+    CompletionReference ref = request.getRef();
+    String argument = request.getArgument() != null ? request.getArgument().getName() : null;
+    if (ref == null) {
+      return "\n" + argument;
+    }
+    return ref.getType() + '\n' + (ref.isPromptRef() ? ref.getName() : ref.getUri()) + '\n' + argument;
+  }
+}
@@ -3,20 +3,34 @@ package io.vertx.mcp.client.impl;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.spi.tracing.SpanKind;
+import io.vertx.core.spi.tracing.TagExtractor;
+import io.vertx.core.spi.tracing.VertxTracer;
 import io.vertx.mcp.client.*;
 import io.vertx.mcp.client.feature.ProtocolClientFeature;
+import io.vertx.mcp.common.Meta;
 import io.vertx.mcp.common.capabilities.ClientCapabilities;
+import io.vertx.mcp.common.metrics.McpMetrics;
+import io.vertx.mcp.common.metrics.McpMetricsFactory;
 import io.vertx.mcp.common.notification.Notification;
 import io.vertx.mcp.common.request.Request;
 import io.vertx.mcp.common.result.Result;
 import io.vertx.mcp.common.rpc.JsonCodec;
 import io.vertx.mcp.common.rpc.JsonError;
+import io.vertx.mcp.common.rpc.JsonRequest;
+import io.vertx.mcp.common.rpc.RawJsonResponse;
+import io.vertx.mcp.common.tracing.McpTracing;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class ModelContextProtocolClientImpl implements ModelContextProtocolClient {
 
@@ -24,6 +38,8 @@ public class ModelContextProtocolClientImpl implements ModelContextProtocolClien
 
   private final ClientOptions options;
   private final ClientTransport transport;
+  private final McpMetrics metrics;
+  private final VertxTracer<Object, Object> tracer;
 
   private final List<ClientFeature> features = new ArrayList<>();
   private final Map<String, ClientNotificationHandler> notificationHandlers = new HashMap<>();
@@ -38,6 +54,8 @@ public class ModelContextProtocolClientImpl implements ModelContextProtocolClien
     this.vertx = vertx;
     this.transport = transport;
     this.options = options;
+    this.metrics = McpMetricsFactory.clientMetrics(vertx);
+    this.tracer = McpTracing.tracer(vertx);
 
     this.features.add(new ProtocolClientFeature());
   }
@@ -70,9 +88,24 @@ public class ModelContextProtocolClientImpl implements ModelContextProtocolClien
     return Map.copyOf(notificationHandlers);
   }
 
+  /**
+   * @return the client metrics, or {@code null} when metrics are disabled
+   */
+  public McpMetrics metrics() {
+    return metrics;
+  }
+
   @Override
   public Future<ClientSession> subscribe(ClientCapabilities capabilities, ClientSession session) {
-    return transport.subscribe(this, capabilities, session);
+    Future<ClientSession> subscribed = transport.subscribe(this, capabilities, session);
+    if (metrics != null && session == null) {
+      subscribed = subscribed.andThen(ar -> {
+        if (ar.succeeded()) {
+          metrics.sessionOpened();
+        }
+      });
+    }
+    return subscribed;
   }
 
   @Override
@@ -92,10 +125,85 @@ public class ModelContextProtocolClientImpl implements ModelContextProtocolClien
 
   @Override
   public Future<Result> sendRequest(Request request, ClientSession session) {
+    return send(request, requestIdGenerator.incrementAndGet(), jsonRequest -> doSendRequest(request, jsonRequest, session));
+  }
+
+  @Override
+  public Future<Buffer> sendRawRequest(Request request, ClientSession session) {
+    return send(request, requestIdGenerator.incrementAndGet(), jsonRequest -> doSendRawRequest(jsonRequest, session));
+  }
+
+  /**
+   * Sends a request to the server, recording the metrics of the request and tracing it with the trace context propagated in its {@code _meta}.
+   *
+   * @param request the request
+   * @param id the request id
+   * @param sender sends the encoded request and returns the result
+   * @return the result
+   */
+  public <T> Future<T> send(Request request, int id, Function<JsonRequest, Future<T>> sender) {
+    JsonRequest jsonRequest = request.toRequest(id);
+    String method = request.getMethod();
+
+    Future<T> result;
+    VertxTracer<Object, Object> tracer = this.tracer;
+    if (tracer != null && jsonRequest.getNamedParams() != null) {
+      ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+      Object span = tracer.sendRequest(context, SpanKind.RPC, options.getTracingPolicy(), jsonRequest, method, McpTracing.inject(jsonRequest.getNamedParams()),
+        McpTracing.REQUEST_TAGS);
+      result = sender.apply(jsonRequest).andThen(ar -> tracer.receiveResponse(context, null, span, ar.cause(), TagExtractor.empty()));
+    } else {
+      result = sender.apply(jsonRequest);
+    }
+
+    if (metrics == null) {
+      return result;
+    }
+    Object metric = metrics.requestBegin(method);
+    metrics.pendingRequestAdded();
+    return result.andThen(ar -> {
+      metrics.pendingRequestRemoved();
+      metrics.requestEnd(metric, method, errorCode(ar.cause()));
+    });
+  }
+
+  /**
+   * Handles a request received from the server, tracing it as a child of the server span propagated in its {@code _meta}.
+   *
+   * @param request the request
+   * @param handler handles the request
+   * @return the result of the handler
+   */
+  public <T> Future<T> receive(JsonRequest request, Supplier<Future<T>> handler) {
+    VertxTracer<Object, Object> tracer = this.tracer;
+    if (tracer == null) {
+      return handler.get();
+    }
+    ContextInternal context = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+    JsonObject params = request.getNamedParams();
+    Object span = tracer.receiveRequest(context, SpanKind.RPC, options.getTracingPolicy(), request, request.getMethod(),
+      McpTracing.extract(params != null ? params.getJsonObject(Meta.META_KEY) : null), McpTracing.REQUEST_TAGS);
+    Promise<T> promise = context.promise();
+    context.dispatch(v -> handler.get().onComplete(promise));
+    return promise.future().andThen(ar -> tracer.sendResponse(context, null, span, ar.cause(), TagExtractor.empty()));
+  }
+
+  /**
+   * @param failure the failure of a request, or {@code null}
+   * @return the JSON-RPC error code of the failure, {@code 0} for a successful request
+   */
+  public static int errorCode(Throwable failure) {
+    if (failure == null) {
+      return 0;
+    }
+    return failure instanceof ClientRequestException ? ((ClientRequestException) failure).getCode() : JsonError.INTERNAL_ERROR;
+  }
+
+  private Future<Result> doSendRequest(Request request, JsonRequest jsonRequest, ClientSession session) {
     Promise<Result> promise = Promise.promise();
 
     return request(session)
-      .compose(req -> req.end(request.toRequest(requestIdGenerator.incrementAndGet()))
+      .compose(req -> req.end(jsonRequest)
         .compose(v -> req.response().onSuccess(resp -> {
           resp.handler(json -> {
             if (json.containsKey("error")) {
@@ -110,6 +218,66 @@ public class ModelContextProtocolClientImpl implements ModelContextProtocolClien
       .compose(v -> promise.future());
   }
 
+  private Future<Buffer> doSendRawRequest(JsonRequest jsonRequest, ClientSession session) {
+    Promise<Buffer> promise = Promise.promise();
+
+    return request(session)
+      .compose(req -> req.end(jsonRequest)
+        .compose(v -> req.response().onSuccess(resp -> {
+          Object id = responseId(req, jsonRequest);
+          resp.rawMessageHandler(message -> completeRaw(message, id, promise));
+          resp.exceptionHandler(promise::fail);
+        }))
+      )
+      .compose(v -> promise.future());
+  }
+
+  /**
+   * Completes a raw request with the encoded result of its response, the result is a slice of the received message. The other messages of the response stream, e.g. progress
+   * notifications or requests of the server, are skipped.
+   *
+   * @param message the received message
+   * @param requestId the ID of the request on the wire, see {@link #responseId(ClientRequest, JsonRequest)}
+   * @param promise the promise of the raw request
+   */
+  public static void completeRaw(Buffer message, Object requestId, Promise<Buffer> promise) {
+    RawJsonResponse response;
+    try {
+      response = RawJsonResponse.fromBuffer(message);
+    } catch (IllegalArgumentException e) {
+      // Neither a result nor an error, not a response
+      return;
+    } catch (RuntimeException e) {
+      promise.tryFail(e);
+      return;
+    }
+    if (!sameId(response.getId(), requestId)) {
+      return;
+    }
+    if (response.isSuccess()) {
+      promise.tryComplete(response.getResult());
+    } else {
+      promise.tryFail(new ClientRequestException(response.getError()));
+    }
+  }
+
+  /**
+   * @return the ID of the response to a request once sent, a connection replaces the ID of the caller with an ID unique to the connection
+   */
+  static Object responseId(ClientRequest request, JsonRequest jsonRequest) {
+    if (request instanceof ClientConnectionRequest) {
+      return ((ClientConnectionRequest) request).wireId();
+    }
+    return jsonRequest.getId();
+  }
+
+  private static boolean sameId(Object id, Object requestId) {
+    if (id instanceof Number && requestId instanceof Number) {
+      return ((Number) id).longValue() == ((Number) requestId).longValue();
+    }
+    return id != null && id.equals(requestId);
+  }
+
   @Override
   public Future<Void> sendNotification(Notification notification, ClientSession session) {
     return request(session).compose(req -> req.end(notification.toNotification()));
@@ -17,7 +17,7 @@ public class StreamableHttpClientResponse implements ClientResponse, Handler<Buf
 
   private final ContextInternal context;
   private final ReadStream<Buffer> stream;
-  private final InboundMessageQueue<JsonObject> queue;
+  private final InboundMessageQueue<Buffer> queue;
   private final ClientRequest request;
   private final HttpClientResponse httpResponse;
   private final MessageDeframer deframer;
@@ -25,9 +25,11 @@ public class StreamableHttpClientResponse implements ClientResponse, Handler<Buf
 
   private Handler<Throwable> exceptionHandler;
   private Handler<JsonObject> messageHandler;
+  private Handler<Buffer> rawMessageHandler;
   private Handler<Void> endHandler;
   private JsonObject last;
   private ClientSession session;
+  private boolean delivering;
 
   public StreamableHttpClientResponse(
     ContextInternal context,
@@ -55,10 +57,12 @@ public class StreamableHttpClientResponse implements ClientResponse, Handler<Buf
       }
 
       @Override
-      protected void handleMessage(JsonObject msg) {
+      protected void handleMessage(Buffer msg) {
         StreamableHttpClientResponse.this.handleMessage(msg);
       }
     };
+    // The handler is set once the request is sent, the messages received before are held until then
+    this.queue.pause();
   }
 
   public void init(ClientSession session, ClientRequest request) {
@@ -118,9 +122,24 @@ public class StreamableHttpClientResponse implements ClientResponse, Handler<Buf
   @Override
   public StreamableHttpClientResponse messageHandler(Handler<JsonObject> handler) {
     messageHandler = handler;
+    startDelivery(handler);
     return this;
   }
 
+  @Override
+  public StreamableHttpClientResponse rawMessageHandler(Handler<Buffer> handler) {
+    rawMessageHandler = handler;
+    startDelivery(handler);
+    return this;
+  }
+
+  private void startDelivery(Handler<?> handler) {
+    if (handler != null && !delivering) {
+      delivering = true;
+      queue.fetch(Long.MAX_VALUE);
+    }
+  }
+
   @Override
   public StreamableHttpClientResponse handler(Handler<JsonObject> handler) {
     return messageHandler(handler);
@@ -144,8 +163,7 @@ public class StreamableHttpClientResponse implements ClientResponse, Handler<Buf
       if (ret == null) {
         break;
       } else {
-        Buffer msg = (Buffer) ret;
-        queue.write(msg.toJsonObject());
+        queue.write((Buffer) ret);
       }
     }
   }
@@ -171,11 +189,18 @@ public class StreamableHttpClientResponse implements ClientResponse, Handler<Buf
     }
   }
 
-  private void handleMessage(JsonObject msg) {
-    last = msg;
+  private void handleMessage(Buffer msg) {
+    Handler<Buffer> raw = rawMessageHandler;
+    if (raw != null) {
+      context.dispatch(msg, raw);
+      return;
+    }
+    // Messages are decoded when they are delivered, so that raw messages are never decoded
+    JsonObject json = msg.toJsonObject();
+    last = json;
     Handler<JsonObject> handler = messageHandler;
     if (handler != null) {
-      context.dispatch(msg, messageHandler);
+      context.dispatch(json, handler);
     }
   }
 
@@ -7,6 +7,7 @@ import io.vertx.core.http.*;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.mcp.client.*;
 import io.vertx.mcp.client.impl.ClientSessionImpl;
+import io.vertx.mcp.client.impl.ModelContextProtocolClientImpl;
 import io.vertx.mcp.common.Implementation;
 import io.vertx.mcp.common.capabilities.ClientCapabilities;
 import io.vertx.mcp.common.capabilities.ServerCapabilities;
@@ -39,10 +40,24 @@ public class StreamableHttpClientTransport implements ClientTransport {
   }
 
   public StreamableHttpClientTransport(Vertx vertx, String baseUrl, ClientOptions clientOptions, HttpClientOptions httpOptions) {
+    this(vertx, baseUrl, clientOptions, httpOptions, new PoolOptions());
+  }
+
+  /**
+   * Creates a transport with a configured connection pool. Every session holds a connection for its SSE stream, so the pool must be sized for the number of sessions plus the
+   * number of concurrent requests.
+   *
+   * @param vertx the Vert.x instance
+   * @param baseUrl the MCP endpoint URL
+   * @param clientOptions the client options
+   * @param httpOptions the HTTP client options
+   * @param poolOptions the connection pool options
+   */
+  public StreamableHttpClientTransport(Vertx vertx, String baseUrl, ClientOptions clientOptions, HttpClientOptions httpOptions, PoolOptions poolOptions) {
     this.vertx = vertx;
     this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
     this.clientOptions = clientOptions;
-    this.httpClient = vertx.createHttpClient(httpOptions);
+    this.httpClient = vertx.createHttpClient(httpOptions, poolOptions);
   }
 
   @Override
@@ -69,7 +84,7 @@ public class StreamableHttpClientTransport implements ClientTransport {
 
   @Override
   public Future<Void> unsubscribe(ClientSession session) {
-    return httpClient.request(HttpMethod.DELETE, baseUrl).compose(httpRequest -> {
+    return httpClient.request(new RequestOptions().setMethod(HttpMethod.DELETE).setAbsoluteURI(baseUrl)).compose(httpRequest -> {
       httpRequest.putHeader(MCP_SESSION_ID_HEADER, session.id());
       httpRequest.putHeader(MCP_PROTOCOL_VERSION_HEADER, DEFAULT_PROTOCOL_VERSION);
       return httpRequest.send();
@@ -111,7 +126,8 @@ public class StreamableHttpClientTransport implements ClientTransport {
           serverCapabilities,
           this,
           client.features(),
-          client.notificationHandlers()
+          client.notificationHandlers(),
+          client instanceof ModelContextProtocolClientImpl ? (ModelContextProtocolClientImpl) client : null
         );
 
         promise.complete(session);
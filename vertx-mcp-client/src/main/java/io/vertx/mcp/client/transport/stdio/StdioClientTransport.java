@@ -0,0 +1,172 @@
+package io.vertx.mcp.client.transport.stdio;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxException;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.client.*;
+import io.vertx.mcp.client.impl.ClientConnection;
+import io.vertx.mcp.common.capabilities.ClientCapabilities;
+import io.vertx.mcp.common.transport.stdio.StdioChannel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Stdio transport for MCP client: the client launches the server as a subprocess and exchanges newline delimited JSON-RPC messages over its standard input and output, the
+ * standard error of the server is inherited. The transport carries a single session, which ends by closing the standard input of the server.
+ *
+ * @see <a href="https://modelcontextprotocol.io/specification/2025-06-18/basic/transports#stdio">Client Transports - stdio</a>
+ */
+public class StdioClientTransport implements ClientTransport {
+
+  private static final Logger LOGGER = Logger.getLogger(StdioClientTransport.class.getName());
+
+  public static final String DEFAULT_PROTOCOL_VERSION = "2025-06-18";
+  public static final String SESSION_ID = "stdio";
+  public static final long DEFAULT_SHUTDOWN_TIMEOUT_MS = 5000;
+
+  private final Vertx vertx;
+  private final ClientOptions clientOptions;
+  private final Process process;
+  private final StdioChannel channel;
+  private final Connection connection;
+
+  /**
+   * Creates a transport launching the server with the given command.
+   *
+   * @param vertx the Vert.x instance
+   * @param command the command launching the server, e.g. {@code List.of("java", "-jar", "server.jar")}
+   * @param clientOptions the client options
+   * @throws VertxException when the server cannot be launched
+   */
+  public StdioClientTransport(Vertx vertx, List<String> command, ClientOptions clientOptions) {
+    this(vertx, launch(command), clientOptions);
+  }
+
+  /**
+   * Creates a transport over the given streams, e.g. the streams of a server launched by the application.
+   *
+   * @param vertx the Vert.x instance
+   * @param in the stream of the messages sent by the server
+   * @param out the stream of the messages sent to the server
+   * @param clientOptions the client options
+   */
+  public StdioClientTransport(Vertx vertx, InputStream in, OutputStream out, ClientOptions clientOptions) {
+    this(vertx, null, in, out, clientOptions);
+  }
+
+  private StdioClientTransport(Vertx vertx, Process process, ClientOptions clientOptions) {
+    this(vertx, process, process.getInputStream(), process.getOutputStream(), clientOptions);
+  }
+
+  private StdioClientTransport(Vertx vertx, Process process, InputStream in, OutputStream out, ClientOptions clientOptions) {
+    this.vertx = vertx;
+    this.clientOptions = clientOptions;
+    this.process = process;
+    ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+    this.channel = new StdioChannel(context, in, out);
+    this.connection = new Connection(context);
+    channel
+      .handler(connection::handleMessage)
+      .endHandler(v -> connection.handleClose("The server closed its output"))
+      .exceptionHandler(err -> LOGGER.log(Level.WARNING, "Stdio transport failure", err))
+      .start("vertx-mcp-stdio-client");
+  }
+
+  private static Process launch(List<String> command) {
+    try {
+      return new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+    } catch (IOException e) {
+      throw new VertxException("Failed to launch the server " + command, e);
+    }
+  }
+
+  @Override
+  public Future<ClientSession> subscribe(ModelContextProtocolClient client, ClientCapabilities capabilities, ClientSession session) {
+    if (session != null) {
+      return Future.succeededFuture(session);
+    }
+    return connection.initialize(client, this, SESSION_ID, DEFAULT_PROTOCOL_VERSION, capabilities, clientOptions);
+  }
+
+  /**
+   * Closes the standard input of the server, the server is expected to exit then. A launched server still running after {@link #DEFAULT_SHUTDOWN_TIMEOUT_MS} is destroyed.
+   */
+  @Override
+  public Future<Void> unsubscribe(ClientSession session) {
+    Future<Void> closed = channel.close();
+    if (process == null) {
+      return closed;
+    }
+
+    Promise<Void> exited = connection.context().promise();
+    long timer = vertx.setTimer(DEFAULT_SHUTDOWN_TIMEOUT_MS, id -> process.destroy());
+    process.onExit().whenComplete((p, err) -> {
+      vertx.cancelTimer(timer);
+      exited.tryComplete();
+    });
+    return closed.eventually(() -> exited.future());
+  }
+
+  @Override
+  public Future<ClientRequest> request() {
+    return request(null);
+  }
+
+  @Override
+  public Future<ClientRequest> request(ClientSession session) {
+    return Future.succeededFuture(connection.request(session));
+  }
+
+  /**
+   * @return the process of the launched server, or {@code null} when the transport was created over streams
+   */
+  public Process process() {
+    return process;
+  }
+
+  private class Connection extends ClientConnection {
+
+    Connection(ContextInternal context) {
+      super(context);
+    }
+
+    @Override
+    protected String path() {
+      return "stdio";
+    }
+
+    @Override
+    protected Future<Void> write(JsonObject message) {
+      return channel.write(message.toBuffer());
+    }
+
+    @Override
+    protected boolean writeQueueFull() {
+      return channel.writeQueueFull();
+    }
+
+    @Override
+    protected void drainHandler(Handler<Void> handler) {
+      context().runOnContext(v -> channel.drainHandler(handler));
+    }
+
+    @Override
+    protected void pause() {
+      channel.pause();
+    }
+
+    @Override
+    protected void resume() {
+      channel.resume();
+    }
+  }
+}
@@ -0,0 +1,200 @@
+package io.vertx.mcp.client.transport.websocket;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.WebSocket;
+import io.vertx.core.http.WebSocketClient;
+import io.vertx.core.http.WebSocketClientOptions;
+import io.vertx.core.http.WebSocketConnectOptions;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.client.*;
+import io.vertx.mcp.client.impl.ClientConnection;
+import io.vertx.mcp.common.capabilities.ClientCapabilities;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * WebSocket transport for MCP client: every session is carried by its own WebSocket connection, the JSON-RPC messages flow in both directions as WebSocket messages without
+ * any HTTP request per message. The session ends by closing the WebSocket.
+ * <p>
+ * The server checks the liveness of the client with WebSocket pings, which are answered by the WebSocket client. Compression is negotiated with the permessage-deflate
+ * extension, requested by default, and the size of the messages received is bounded by {@link WebSocketClientOptions#setMaxMessageSize(int)}.
+ */
+public class WebSocketClientTransport implements ClientTransport {
+
+  private static final Logger LOGGER = Logger.getLogger(WebSocketClientTransport.class.getName());
+
+  public static final String DEFAULT_PROTOCOL_VERSION = "2025-06-18";
+
+  private final Vertx vertx;
+  private final String url;
+  private final String path;
+  private final ClientOptions clientOptions;
+  private final WebSocketClient webSocketClient;
+  private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+  private final AtomicLong sessionIdGenerator = new AtomicLong();
+  private volatile boolean binaryMessages;
+
+  public WebSocketClientTransport(Vertx vertx, String url, ClientOptions clientOptions) {
+    this(vertx, url, clientOptions, new WebSocketClientOptions().setTryUsePerMessageCompression(true));
+  }
+
+  /**
+   * Creates a transport connecting to the given URL.
+   *
+   * @param vertx the Vert.x instance
+   * @param url the URL of the server, e.g. {@code ws://localhost:8080/mcp}
+   * @param clientOptions the client options
+   * @param webSocketClientOptions the options of the WebSocket client
+   */
+  public WebSocketClientTransport(Vertx vertx, String url, ClientOptions clientOptions, WebSocketClientOptions webSocketClientOptions) {
+    this.vertx = vertx;
+    this.url = url;
+    this.path = URI.create(url).getRawPath();
+    this.clientOptions = clientOptions;
+    this.webSocketClient = vertx.createWebSocketClient(webSocketClientOptions);
+  }
+
+  /**
+   * Set whether the messages are written as binary rather than text WebSocket messages, binary messages are written without converting them to text.
+   *
+   * @param binaryMessages whether binary messages are written
+   * @return a reference to this, so the API can be used fluently
+   */
+  public WebSocketClientTransport setBinaryMessages(boolean binaryMessages) {
+    this.binaryMessages = binaryMessages;
+    return this;
+  }
+
+  public boolean getBinaryMessages() {
+    return binaryMessages;
+  }
+
+  @Override
+  public Future<ClientSession> subscribe(ModelContextProtocolClient client, ClientCapabilities capabilities, ClientSession session) {
+    if (session != null) {
+      return Future.succeededFuture(session);
+    }
+
+    ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+    // Connected on the context, the messages of the WebSocket are received on it
+    return context.succeededFuture()
+      .compose(v -> webSocketClient.connect(new WebSocketConnectOptions().setAbsoluteURI(url)))
+      .compose(ws -> {
+        String sessionId = "websocket-" + sessionIdGenerator.incrementAndGet();
+        Connection connection = new Connection(context, ws);
+        connections.put(sessionId, connection);
+        ws.textMessageHandler(text -> connection.handleMessage(Buffer.buffer(text)));
+        ws.binaryMessageHandler(connection::handleMessage);
+        ws.drainHandler(v -> connection.drained());
+        ws.exceptionHandler(err -> LOGGER.log(Level.FINE, "WebSocket transport failure", err));
+        ws.closeHandler(v -> {
+          connections.remove(sessionId);
+          connection.handleClose("The WebSocket was closed");
+          connection.drained();
+        });
+        return connection.initialize(client, this, sessionId, DEFAULT_PROTOCOL_VERSION, capabilities, clientOptions)
+          .onFailure(err -> ws.close());
+      });
+  }
+
+  /**
+   * Closes the WebSocket of the session.
+   */
+  @Override
+  public Future<Void> unsubscribe(ClientSession session) {
+    Connection connection = connections.remove(session.id());
+    if (connection == null) {
+      return Future.succeededFuture();
+    }
+    return connection.ws.close();
+  }
+
+  @Override
+  public Future<ClientRequest> request() {
+    return request(null);
+  }
+
+  @Override
+  public Future<ClientRequest> request(ClientSession session) {
+    if (session == null) {
+      return Future.failedFuture("A WebSocket request requires a session");
+    }
+    Connection connection = connections.get(session.id());
+    if (connection == null) {
+      return Future.failedFuture("Unknown session: " + session.id());
+    }
+    return Future.succeededFuture(connection.request(session));
+  }
+
+  private class Connection extends ClientConnection {
+
+    private final WebSocket ws;
+    // Only accessed on the context of the connection
+    private List<Handler<Void>> drainHandlers;
+
+    Connection(ContextInternal context, WebSocket ws) {
+      super(context);
+      this.ws = ws;
+    }
+
+    @Override
+    protected String path() {
+      return path;
+    }
+
+    @Override
+    protected Future<Void> write(JsonObject message) {
+      return binaryMessages ? ws.writeBinaryMessage(message.toBuffer()) : ws.writeTextMessage(message.encode());
+    }
+
+    @Override
+    protected boolean writeQueueFull() {
+      return ws.writeQueueFull();
+    }
+
+    @Override
+    protected void drainHandler(Handler<Void> handler) {
+      context().runOnContext(v -> {
+        if (!ws.writeQueueFull()) {
+          handler.handle(null);
+          return;
+        }
+        if (drainHandlers == null) {
+          drainHandlers = new ArrayList<>(2);
+        }
+        drainHandlers.add(handler);
+      });
+    }
+
+    void drained() {
+      List<Handler<Void>> handlers = drainHandlers;
+      drainHandlers = null;
+      if (handlers != null) {
+        for (Handler<Void> handler : handlers) {
+          handler.handle(null);
+        }
+      }
+    }
+
+    @Override
+    protected void pause() {
+      ws.pause();
+    }
+
+    @Override
+    protected void resume() {
+      ws.resume();
+    }
+  }
+}
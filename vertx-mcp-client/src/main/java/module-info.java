@@ -11,4 +11,6 @@ module io.vertx.mcp.client {
   exports io.vertx.mcp.client;
   exports io.vertx.mcp.client.impl;
   exports io.vertx.mcp.client.transport.http;
+  exports io.vertx.mcp.client.transport.stdio;
+  exports io.vertx.mcp.client.transport.websocket;
 }
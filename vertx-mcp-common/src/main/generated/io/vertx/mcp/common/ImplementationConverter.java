@@ -0,0 +1,51 @@
+package io.vertx.mcp.common;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.Implementation}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.Implementation} original class using Vert.x codegen.
+ */
+public class ImplementationConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, Implementation obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "name":
+          if (member.getValue() instanceof String) {
+            obj.setName((String)member.getValue());
+          }
+          break;
+        case "version":
+          if (member.getValue() instanceof String) {
+            obj.setVersion((String)member.getValue());
+          }
+          break;
+        case "title":
+          if (member.getValue() instanceof String) {
+            obj.setTitle((String)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(Implementation obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(Implementation obj, java.util.Map<String, Object> json) {
+    if (obj.getName() != null) {
+      json.put("name", obj.getName());
+    }
+    if (obj.getVersion() != null) {
+      json.put("version", obj.getVersion());
+    }
+    if (obj.getTitle() != null) {
+      json.put("title", obj.getTitle());
+    }
+  }
+}
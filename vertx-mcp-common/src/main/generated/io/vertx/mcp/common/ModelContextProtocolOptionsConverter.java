@@ -0,0 +1,51 @@
+package io.vertx.mcp.common;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.ModelContextProtocolOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.ModelContextProtocolOptions} original class using Vert.x codegen.
+ */
+public class ModelContextProtocolOptionsConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, ModelContextProtocolOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "protocolVersion":
+          if (member.getValue() instanceof String) {
+            obj.setProtocolVersion((String)member.getValue());
+          }
+          break;
+        case "serverVersion":
+          if (member.getValue() instanceof String) {
+            obj.setServerVersion((String)member.getValue());
+          }
+          break;
+        case "serverName":
+          if (member.getValue() instanceof String) {
+            obj.setServerName((String)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(ModelContextProtocolOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(ModelContextProtocolOptions obj, java.util.Map<String, Object> json) {
+    if (obj.getProtocolVersion() != null) {
+      json.put("protocolVersion", obj.getProtocolVersion());
+    }
+    if (obj.getServerVersion() != null) {
+      json.put("serverVersion", obj.getServerVersion());
+    }
+    if (obj.getServerName() != null) {
+      json.put("serverName", obj.getServerName());
+    }
+  }
+}
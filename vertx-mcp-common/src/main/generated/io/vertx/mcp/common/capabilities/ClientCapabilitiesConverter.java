@@ -0,0 +1,59 @@
+package io.vertx.mcp.common.capabilities;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.capabilities.ClientCapabilities}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.capabilities.ClientCapabilities} original class using Vert.x codegen.
+ */
+public class ClientCapabilitiesConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, ClientCapabilities obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "experimental":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setExperimental(((JsonObject)member.getValue()).copy());
+          }
+          break;
+        case "roots":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setRoots(new io.vertx.mcp.common.capabilities.RootsCapability((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
+        case "sampling":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setSampling(((JsonObject)member.getValue()).copy());
+          }
+          break;
+        case "elicitation":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setElicitation(((JsonObject)member.getValue()).copy());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(ClientCapabilities obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(ClientCapabilities obj, java.util.Map<String, Object> json) {
+    if (obj.getExperimental() != null) {
+      json.put("experimental", obj.getExperimental());
+    }
+    if (obj.getRoots() != null) {
+      json.put("roots", obj.getRoots().toJson());
+    }
+    if (obj.getSampling() != null) {
+      json.put("sampling", obj.getSampling());
+    }
+    if (obj.getElicitation() != null) {
+      json.put("elicitation", obj.getElicitation());
+    }
+  }
+}
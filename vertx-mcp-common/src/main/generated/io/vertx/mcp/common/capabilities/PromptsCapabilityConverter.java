@@ -0,0 +1,35 @@
+package io.vertx.mcp.common.capabilities;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.capabilities.PromptsCapability}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.capabilities.PromptsCapability} original class using Vert.x codegen.
+ */
+public class PromptsCapabilityConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, PromptsCapability obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "listChanged":
+          if (member.getValue() instanceof Boolean) {
+            obj.setListChanged((Boolean)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(PromptsCapability obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(PromptsCapability obj, java.util.Map<String, Object> json) {
+    if (obj.getListChanged() != null) {
+      json.put("listChanged", obj.getListChanged());
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package io.vertx.mcp.common.capabilities;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.capabilities.ResourcesCapability}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.capabilities.ResourcesCapability} original class using Vert.x codegen.
+ */
+public class ResourcesCapabilityConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, ResourcesCapability obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "subscribe":
+          if (member.getValue() instanceof Boolean) {
+            obj.setSubscribe((Boolean)member.getValue());
+          }
+          break;
+        case "listChanged":
+          if (member.getValue() instanceof Boolean) {
+            obj.setListChanged((Boolean)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(ResourcesCapability obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(ResourcesCapability obj, java.util.Map<String, Object> json) {
+    if (obj.getSubscribe() != null) {
+      json.put("subscribe", obj.getSubscribe());
+    }
+    if (obj.getListChanged() != null) {
+      json.put("listChanged", obj.getListChanged());
+    }
+  }
+}
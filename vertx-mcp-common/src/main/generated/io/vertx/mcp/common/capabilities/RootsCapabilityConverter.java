@@ -0,0 +1,35 @@
+package io.vertx.mcp.common.capabilities;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.capabilities.RootsCapability}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.capabilities.RootsCapability} original class using Vert.x codegen.
+ */
+public class RootsCapabilityConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, RootsCapability obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "listChanged":
+          if (member.getValue() instanceof Boolean) {
+            obj.setListChanged((Boolean)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(RootsCapability obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(RootsCapability obj, java.util.Map<String, Object> json) {
+    if (obj.getListChanged() != null) {
+      json.put("listChanged", obj.getListChanged());
+    }
+  }
+}
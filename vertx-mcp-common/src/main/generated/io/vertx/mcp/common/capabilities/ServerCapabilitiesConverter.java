@@ -0,0 +1,75 @@
+package io.vertx.mcp.common.capabilities;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.capabilities.ServerCapabilities}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.capabilities.ServerCapabilities} original class using Vert.x codegen.
+ */
+public class ServerCapabilitiesConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, ServerCapabilities obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "experimental":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setExperimental(((JsonObject)member.getValue()).copy());
+          }
+          break;
+        case "logging":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setLogging(((JsonObject)member.getValue()).copy());
+          }
+          break;
+        case "completions":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setCompletions(((JsonObject)member.getValue()).copy());
+          }
+          break;
+        case "prompts":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setPrompts(new io.vertx.mcp.common.capabilities.PromptsCapability((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
+        case "resources":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setResources(new io.vertx.mcp.common.capabilities.ResourcesCapability((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
+        case "tools":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setTools(new io.vertx.mcp.common.capabilities.ToolsCapability((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(ServerCapabilities obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(ServerCapabilities obj, java.util.Map<String, Object> json) {
+    if (obj.getExperimental() != null) {
+      json.put("experimental", obj.getExperimental());
+    }
+    if (obj.getLogging() != null) {
+      json.put("logging", obj.getLogging());
+    }
+    if (obj.getCompletions() != null) {
+      json.put("completions", obj.getCompletions());
+    }
+    if (obj.getPrompts() != null) {
+      json.put("prompts", obj.getPrompts().toJson());
+    }
+    if (obj.getResources() != null) {
+      json.put("resources", obj.getResources().toJson());
+    }
+    if (obj.getTools() != null) {
+      json.put("tools", obj.getTools().toJson());
+    }
+  }
+}
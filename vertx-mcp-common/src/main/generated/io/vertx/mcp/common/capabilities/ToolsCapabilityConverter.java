@@ -0,0 +1,35 @@
+package io.vertx.mcp.common.capabilities;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.capabilities.ToolsCapability}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.capabilities.ToolsCapability} original class using Vert.x codegen.
+ */
+public class ToolsCapabilityConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, ToolsCapability obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "listChanged":
+          if (member.getValue() instanceof Boolean) {
+            obj.setListChanged((Boolean)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(ToolsCapability obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(ToolsCapability obj, java.util.Map<String, Object> json) {
+    if (obj.getListChanged() != null) {
+      json.put("listChanged", obj.getListChanged());
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package io.vertx.mcp.common.completion;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.completion.CompletionArgument}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.completion.CompletionArgument} original class using Vert.x codegen.
+ */
+public class CompletionArgumentConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, CompletionArgument obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "name":
+          if (member.getValue() instanceof String) {
+            obj.setName((String)member.getValue());
+          }
+          break;
+        case "value":
+          if (member.getValue() instanceof String) {
+            obj.setValue((String)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(CompletionArgument obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(CompletionArgument obj, java.util.Map<String, Object> json) {
+    if (obj.getName() != null) {
+      json.put("name", obj.getName());
+    }
+    if (obj.getValue() != null) {
+      json.put("value", obj.getValue());
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package io.vertx.mcp.common.completion;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.completion.CompletionContext}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.completion.CompletionContext} original class using Vert.x codegen.
+ */
+public class CompletionContextConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, CompletionContext obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "arguments":
+          if (member.getValue() instanceof JsonObject) {
+            java.util.Map<String, java.lang.String> map = new java.util.LinkedHashMap<>();
+            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
+              if (entry.getValue() instanceof String)
+                map.put(entry.getKey(), (String)entry.getValue());
+            });
+            obj.setArguments(map);
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(CompletionContext obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(CompletionContext obj, java.util.Map<String, Object> json) {
+    if (obj.getArguments() != null) {
+      JsonObject map = new JsonObject();
+      obj.getArguments().forEach((key, value) -> map.put(key, value));
+      json.put("arguments", map);
+    }
+  }
+}
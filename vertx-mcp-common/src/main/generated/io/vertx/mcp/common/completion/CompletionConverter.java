@@ -0,0 +1,54 @@
+package io.vertx.mcp.common.completion;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.completion.Completion}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.completion.Completion} original class using Vert.x codegen.
+ */
+public class CompletionConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, Completion obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "total":
+          if (member.getValue() instanceof Number) {
+            obj.setTotal(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "hasMore":
+          if (member.getValue() instanceof Boolean) {
+            obj.setHasMore((Boolean)member.getValue());
+          }
+          break;
+        case "values":
+          if (member.getValue() instanceof JsonArray) {
+            java.util.ArrayList<java.lang.String> list =  new java.util.ArrayList<>();
+            ((Iterable<Object>)member.getValue()).forEach( item -> {
+              if (item instanceof String)
+                list.add((String)item);
+            });
+            obj.setValues(list);
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(Completion obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(Completion obj, java.util.Map<String, Object> json) {
+    json.put("total", obj.getTotal());
+    json.put("hasMore", obj.isHasMore());
+    if (obj.getValues() != null) {
+      JsonArray array = new JsonArray();
+      obj.getValues().forEach(item -> array.add(item));
+      json.put("values", array);
+    }
+  }
+}
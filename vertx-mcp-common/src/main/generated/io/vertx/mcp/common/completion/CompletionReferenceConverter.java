@@ -0,0 +1,62 @@
+package io.vertx.mcp.common.completion;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.completion.CompletionReference}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.completion.CompletionReference} original class using Vert.x codegen.
+ */
+public class CompletionReferenceConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, CompletionReference obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "type":
+          if (member.getValue() instanceof String) {
+            obj.setType((String)member.getValue());
+          }
+          break;
+        case "name":
+          if (member.getValue() instanceof String) {
+            obj.setName((String)member.getValue());
+          }
+          break;
+        case "uri":
+          if (member.getValue() instanceof String) {
+            obj.setUri((String)member.getValue());
+          }
+          break;
+        case "promptRef":
+          break;
+        case "resourceRef":
+          break;
+        case "identifier":
+          break;
+      }
+    }
+  }
+
+   static void toJson(CompletionReference obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(CompletionReference obj, java.util.Map<String, Object> json) {
+    if (obj.getType() != null) {
+      json.put("type", obj.getType());
+    }
+    if (obj.getName() != null) {
+      json.put("name", obj.getName());
+    }
+    if (obj.getUri() != null) {
+      json.put("uri", obj.getUri());
+    }
+    json.put("promptRef", obj.isPromptRef());
+    json.put("resourceRef", obj.isResourceRef());
+    if (obj.getIdentifier() != null) {
+      json.put("identifier", obj.getIdentifier());
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package io.vertx.mcp.common.notification;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.notification.CancelledNotification}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.notification.CancelledNotification} original class using Vert.x codegen.
+ */
+public class CancelledNotificationConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, CancelledNotification obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "requestId":
+          if (member.getValue() instanceof String) {
+            obj.setRequestId((String)member.getValue());
+          }
+          break;
+        case "reason":
+          if (member.getValue() instanceof String) {
+            obj.setReason((String)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(CancelledNotification obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(CancelledNotification obj, java.util.Map<String, Object> json) {
+    if (obj.getRequestId() != null) {
+      json.put("requestId", obj.getRequestId());
+    }
+    if (obj.getReason() != null) {
+      json.put("reason", obj.getReason());
+    }
+  }
+}
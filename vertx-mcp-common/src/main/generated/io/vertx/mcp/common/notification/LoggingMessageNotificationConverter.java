@@ -0,0 +1,43 @@
+package io.vertx.mcp.common.notification;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.notification.LoggingMessageNotification}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.notification.LoggingMessageNotification} original class using Vert.x codegen.
+ */
+public class LoggingMessageNotificationConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, LoggingMessageNotification obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "logger":
+          if (member.getValue() instanceof String) {
+            obj.setLogger((String)member.getValue());
+          }
+          break;
+        case "data":
+          if (member.getValue() instanceof Object) {
+            obj.setData(member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(LoggingMessageNotification obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(LoggingMessageNotification obj, java.util.Map<String, Object> json) {
+    if (obj.getLogger() != null) {
+      json.put("logger", obj.getLogger());
+    }
+    if (obj.getData() != null) {
+      json.put("data", obj.getData());
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package io.vertx.mcp.common.notification;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.notification.ProgressNotification}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.notification.ProgressNotification} original class using Vert.x codegen.
+ */
+public class ProgressNotificationConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, ProgressNotification obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "progressToken":
+          if (member.getValue() instanceof String) {
+            obj.setProgressToken((String)member.getValue());
+          }
+          break;
+        case "progress":
+          if (member.getValue() instanceof Number) {
+            obj.setProgress(((Number)member.getValue()).doubleValue());
+          }
+          break;
+        case "total":
+          if (member.getValue() instanceof Number) {
+            obj.setTotal(((Number)member.getValue()).doubleValue());
+          }
+          break;
+        case "message":
+          if (member.getValue() instanceof String) {
+            obj.setMessage((String)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(ProgressNotification obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(ProgressNotification obj, java.util.Map<String, Object> json) {
+    if (obj.getProgressToken() != null) {
+      json.put("progressToken", obj.getProgressToken());
+    }
+    if (obj.getProgress() != null) {
+      json.put("progress", obj.getProgress());
+    }
+    if (obj.getTotal() != null) {
+      json.put("total", obj.getTotal());
+    }
+    if (obj.getMessage() != null) {
+      json.put("message", obj.getMessage());
+    }
+  }
+}
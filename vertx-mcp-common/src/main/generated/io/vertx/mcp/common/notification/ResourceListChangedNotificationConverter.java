@@ -0,0 +1,27 @@
+package io.vertx.mcp.common.notification;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.notification.ResourceListChangedNotification}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.notification.ResourceListChangedNotification} original class using Vert.x codegen.
+ */
+public class ResourceListChangedNotificationConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, ResourceListChangedNotification obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+      }
+    }
+  }
+
+   static void toJson(ResourceListChangedNotification obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(ResourceListChangedNotification obj, java.util.Map<String, Object> json) {
+  }
+}
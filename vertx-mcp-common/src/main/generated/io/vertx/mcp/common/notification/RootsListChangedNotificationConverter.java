@@ -0,0 +1,27 @@
+package io.vertx.mcp.common.notification;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.notification.RootsListChangedNotification}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.notification.RootsListChangedNotification} original class using Vert.x codegen.
+ */
+public class RootsListChangedNotificationConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, RootsListChangedNotification obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+      }
+    }
+  }
+
+   static void toJson(RootsListChangedNotification obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(RootsListChangedNotification obj, java.util.Map<String, Object> json) {
+  }
+}
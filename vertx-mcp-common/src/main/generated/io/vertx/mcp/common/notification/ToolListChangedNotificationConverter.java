@@ -0,0 +1,27 @@
+package io.vertx.mcp.common.notification;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.notification.ToolListChangedNotification}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.notification.ToolListChangedNotification} original class using Vert.x codegen.
+ */
+public class ToolListChangedNotificationConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, ToolListChangedNotification obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+      }
+    }
+  }
+
+   static void toJson(ToolListChangedNotification obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(ToolListChangedNotification obj, java.util.Map<String, Object> json) {
+  }
+}
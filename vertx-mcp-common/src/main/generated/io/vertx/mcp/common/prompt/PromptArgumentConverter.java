@@ -0,0 +1,59 @@
+package io.vertx.mcp.common.prompt;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.prompt.PromptArgument}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.prompt.PromptArgument} original class using Vert.x codegen.
+ */
+public class PromptArgumentConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, PromptArgument obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "name":
+          if (member.getValue() instanceof String) {
+            obj.setName((String)member.getValue());
+          }
+          break;
+        case "title":
+          if (member.getValue() instanceof String) {
+            obj.setTitle((String)member.getValue());
+          }
+          break;
+        case "description":
+          if (member.getValue() instanceof String) {
+            obj.setDescription((String)member.getValue());
+          }
+          break;
+        case "required":
+          if (member.getValue() instanceof Boolean) {
+            obj.setRequired((Boolean)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(PromptArgument obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(PromptArgument obj, java.util.Map<String, Object> json) {
+    if (obj.getName() != null) {
+      json.put("name", obj.getName());
+    }
+    if (obj.getTitle() != null) {
+      json.put("title", obj.getTitle());
+    }
+    if (obj.getDescription() != null) {
+      json.put("description", obj.getDescription());
+    }
+    if (obj.getRequired() != null) {
+      json.put("required", obj.getRequired());
+    }
+  }
+}
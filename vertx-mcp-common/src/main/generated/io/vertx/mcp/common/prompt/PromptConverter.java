@@ -0,0 +1,66 @@
+package io.vertx.mcp.common.prompt;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.prompt.Prompt}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.prompt.Prompt} original class using Vert.x codegen.
+ */
+public class PromptConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, Prompt obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "name":
+          if (member.getValue() instanceof String) {
+            obj.setName((String)member.getValue());
+          }
+          break;
+        case "title":
+          if (member.getValue() instanceof String) {
+            obj.setTitle((String)member.getValue());
+          }
+          break;
+        case "description":
+          if (member.getValue() instanceof String) {
+            obj.setDescription((String)member.getValue());
+          }
+          break;
+        case "arguments":
+          if (member.getValue() instanceof JsonArray) {
+            java.util.ArrayList<io.vertx.mcp.common.prompt.PromptArgument> list =  new java.util.ArrayList<>();
+            ((Iterable<Object>)member.getValue()).forEach( item -> {
+              if (item instanceof JsonObject)
+                list.add(new io.vertx.mcp.common.prompt.PromptArgument((io.vertx.core.json.JsonObject)item));
+            });
+            obj.setArguments(list);
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(Prompt obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(Prompt obj, java.util.Map<String, Object> json) {
+    if (obj.getName() != null) {
+      json.put("name", obj.getName());
+    }
+    if (obj.getTitle() != null) {
+      json.put("title", obj.getTitle());
+    }
+    if (obj.getDescription() != null) {
+      json.put("description", obj.getDescription());
+    }
+    if (obj.getArguments() != null) {
+      JsonArray array = new JsonArray();
+      obj.getArguments().forEach(item -> array.add(item.toJson()));
+      json.put("arguments", array);
+    }
+  }
+}
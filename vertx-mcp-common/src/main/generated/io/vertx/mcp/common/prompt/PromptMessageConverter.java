@@ -0,0 +1,43 @@
+package io.vertx.mcp.common.prompt;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.prompt.PromptMessage}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.prompt.PromptMessage} original class using Vert.x codegen.
+ */
+public class PromptMessageConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, PromptMessage obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "role":
+          if (member.getValue() instanceof String) {
+            obj.setRole((String)member.getValue());
+          }
+          break;
+        case "content":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setContent(((JsonObject)member.getValue()).copy());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(PromptMessage obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(PromptMessage obj, java.util.Map<String, Object> json) {
+    if (obj.getRole() != null) {
+      json.put("role", obj.getRole());
+    }
+    if (obj.getContent() != null) {
+      json.put("content", obj.getContent());
+    }
+  }
+}
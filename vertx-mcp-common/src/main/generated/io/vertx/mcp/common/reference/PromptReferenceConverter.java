@@ -0,0 +1,51 @@
+package io.vertx.mcp.common.reference;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.reference.PromptReference}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.reference.PromptReference} original class using Vert.x codegen.
+ */
+public class PromptReferenceConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, PromptReference obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "type":
+          if (member.getValue() instanceof String) {
+            obj.setType((String)member.getValue());
+          }
+          break;
+        case "name":
+          if (member.getValue() instanceof String) {
+            obj.setName((String)member.getValue());
+          }
+          break;
+        case "title":
+          if (member.getValue() instanceof String) {
+            obj.setTitle((String)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(PromptReference obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(PromptReference obj, java.util.Map<String, Object> json) {
+    if (obj.getType() != null) {
+      json.put("type", obj.getType());
+    }
+    if (obj.getName() != null) {
+      json.put("name", obj.getName());
+    }
+    if (obj.getTitle() != null) {
+      json.put("title", obj.getTitle());
+    }
+  }
+}
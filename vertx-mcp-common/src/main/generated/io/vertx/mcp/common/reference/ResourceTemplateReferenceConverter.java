@@ -0,0 +1,43 @@
+package io.vertx.mcp.common.reference;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.reference.ResourceTemplateReference}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.reference.ResourceTemplateReference} original class using Vert.x codegen.
+ */
+public class ResourceTemplateReferenceConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, ResourceTemplateReference obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "type":
+          if (member.getValue() instanceof String) {
+            obj.setType((String)member.getValue());
+          }
+          break;
+        case "uri":
+          if (member.getValue() instanceof String) {
+            obj.setUri((String)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(ResourceTemplateReference obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(ResourceTemplateReference obj, java.util.Map<String, Object> json) {
+    if (obj.getType() != null) {
+      json.put("type", obj.getType());
+    }
+    if (obj.getUri() != null) {
+      json.put("uri", obj.getUri());
+    }
+  }
+}
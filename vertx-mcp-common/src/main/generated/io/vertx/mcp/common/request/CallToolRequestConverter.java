@@ -0,0 +1,43 @@
+package io.vertx.mcp.common.request;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.request.CallToolRequest}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.request.CallToolRequest} original class using Vert.x codegen.
+ */
+public class CallToolRequestConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, CallToolRequest obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "name":
+          if (member.getValue() instanceof String) {
+            obj.setName((String)member.getValue());
+          }
+          break;
+        case "arguments":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setArguments(((JsonObject)member.getValue()).copy());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(CallToolRequest obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(CallToolRequest obj, java.util.Map<String, Object> json) {
+    if (obj.getName() != null) {
+      json.put("name", obj.getName());
+    }
+    if (obj.getArguments() != null) {
+      json.put("arguments", obj.getArguments());
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package io.vertx.mcp.common.request;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.request.CompleteRequest}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.request.CompleteRequest} original class using Vert.x codegen.
+ */
+public class CompleteRequestConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, CompleteRequest obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "ref":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setRef(new io.vertx.mcp.common.completion.CompletionReference((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
+        case "argument":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setArgument(new io.vertx.mcp.common.completion.CompletionArgument((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
+        case "context":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setContext(new io.vertx.mcp.common.completion.CompletionContext((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(CompleteRequest obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(CompleteRequest obj, java.util.Map<String, Object> json) {
+    if (obj.getRef() != null) {
+      json.put("ref", obj.getRef().toJson());
+    }
+    if (obj.getArgument() != null) {
+      json.put("argument", obj.getArgument().toJson());
+    }
+    if (obj.getContext() != null) {
+      json.put("context", obj.getContext().toJson());
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package io.vertx.mcp.common.request;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.request.CreateMessageRequest}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.request.CreateMessageRequest} original class using Vert.x codegen.
+ */
+public class CreateMessageRequestConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, CreateMessageRequest obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "messages":
+          if (member.getValue() instanceof JsonArray) {
+            java.util.ArrayList<io.vertx.mcp.common.sampling.SamplingMessage> list =  new java.util.ArrayList<>();
+            ((Iterable<Object>)member.getValue()).forEach( item -> {
+              if (item instanceof JsonObject)
+                list.add(new io.vertx.mcp.common.sampling.SamplingMessage((io.vertx.core.json.JsonObject)item));
+            });
+            obj.setMessages(list);
+          }
+          break;
+        case "modelPreferences":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setModelPreferences(new io.vertx.mcp.common.sampling.ModelPreferences((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
+        case "systemPrompt":
+          if (member.getValue() instanceof String) {
+            obj.setSystemPrompt((String)member.getValue());
+          }
+          break;
+        case "includeContext":
+          if (member.getValue() instanceof String) {
+            obj.setIncludeContext((String)member.getValue());
+          }
+          break;
+        case "temperature":
+          if (member.getValue() instanceof Number) {
+            obj.setTemperature(((Number)member.getValue()).doubleValue());
+          }
+          break;
+        case "maxTokens":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxTokens(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "stopSequences":
+          if (member.getValue() instanceof JsonArray) {
+            java.util.ArrayList<java.lang.String> list =  new java.util.ArrayList<>();
+            ((Iterable<Object>)member.getValue()).forEach( item -> {
+              if (item instanceof String)
+                list.add((String)item);
+            });
+            obj.setStopSequences(list);
+          }
+          break;
+        case "metadata":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setMetadata(((JsonObject)member.getValue()).copy());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(CreateMessageRequest obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(CreateMessageRequest obj, java.util.Map<String, Object> json) {
+    if (obj.getMessages() != null) {
+      JsonArray array = new JsonArray();
+      obj.getMessages().forEach(item -> array.add(item.toJson()));
+      json.put("messages", array);
+    }
+    if (obj.getModelPreferences() != null) {
+      json.put("modelPreferences", obj.getModelPreferences().toJson());
+    }
+    if (obj.getSystemPrompt() != null) {
+      json.put("systemPrompt", obj.getSystemPrompt());
+    }
+    if (obj.getIncludeContext() != null) {
+      json.put("includeContext", obj.getIncludeContext());
+    }
+    if (obj.getTemperature() != null) {
+      json.put("temperature", obj.getTemperature());
+    }
+    if (obj.getMaxTokens() != null) {
+      json.put("maxTokens", obj.getMaxTokens());
+    }
+    if (obj.getStopSequences() != null) {
+      JsonArray array = new JsonArray();
+      obj.getStopSequences().forEach(item -> array.add(item));
+      json.put("stopSequences", array);
+    }
+    if (obj.getMetadata() != null) {
+      json.put("metadata", obj.getMetadata());
+    }
+  }
+}
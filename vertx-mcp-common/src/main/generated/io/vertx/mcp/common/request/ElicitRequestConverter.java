@@ -0,0 +1,43 @@
+package io.vertx.mcp.common.request;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.request.ElicitRequest}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.request.ElicitRequest} original class using Vert.x codegen.
+ */
+public class ElicitRequestConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, ElicitRequest obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "message":
+          if (member.getValue() instanceof String) {
+            obj.setMessage((String)member.getValue());
+          }
+          break;
+        case "requestedSchema":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setRequestedSchema(((JsonObject)member.getValue()).copy());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(ElicitRequest obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(ElicitRequest obj, java.util.Map<String, Object> json) {
+    if (obj.getMessage() != null) {
+      json.put("message", obj.getMessage());
+    }
+    if (obj.getRequestedSchema() != null) {
+      json.put("requestedSchema", obj.getRequestedSchema());
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package io.vertx.mcp.common.request;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.request.InitializeRequest}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.request.InitializeRequest} original class using Vert.x codegen.
+ */
+public class InitializeRequestConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, InitializeRequest obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "protocolVersion":
+          if (member.getValue() instanceof String) {
+            obj.setProtocolVersion((String)member.getValue());
+          }
+          break;
+        case "capabilities":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setCapabilities(new io.vertx.mcp.common.capabilities.ClientCapabilities((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
+        case "clientInfo":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setClientInfo(new io.vertx.mcp.common.Implementation((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(InitializeRequest obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(InitializeRequest obj, java.util.Map<String, Object> json) {
+    if (obj.getProtocolVersion() != null) {
+      json.put("protocolVersion", obj.getProtocolVersion());
+    }
+    if (obj.getCapabilities() != null) {
+      json.put("capabilities", obj.getCapabilities().toJson());
+    }
+    if (obj.getClientInfo() != null) {
+      json.put("clientInfo", obj.getClientInfo().toJson());
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package io.vertx.mcp.common.request;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.request.ListResourceTemplatesRequest}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.request.ListResourceTemplatesRequest} original class using Vert.x codegen.
+ */
+public class ListResourceTemplatesRequestConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, ListResourceTemplatesRequest obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "cursor":
+          if (member.getValue() instanceof String) {
+            obj.setCursor((String)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(ListResourceTemplatesRequest obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(ListResourceTemplatesRequest obj, java.util.Map<String, Object> json) {
+    if (obj.getCursor() != null) {
+      json.put("cursor", obj.getCursor());
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package io.vertx.mcp.common.request;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.request.SetLevelRequest}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.request.SetLevelRequest} original class using Vert.x codegen.
+ */
+public class SetLevelRequestConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, SetLevelRequest obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+      }
+    }
+  }
+
+   static void toJson(SetLevelRequest obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(SetLevelRequest obj, java.util.Map<String, Object> json) {
+  }
+}
@@ -0,0 +1,35 @@
+package io.vertx.mcp.common.request;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.request.SubscribeRequest}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.request.SubscribeRequest} original class using Vert.x codegen.
+ */
+public class SubscribeRequestConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, SubscribeRequest obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "uri":
+          if (member.getValue() instanceof String) {
+            obj.setUri((String)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(SubscribeRequest obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(SubscribeRequest obj, java.util.Map<String, Object> json) {
+    if (obj.getUri() != null) {
+      json.put("uri", obj.getUri());
+    }
+  }
+}
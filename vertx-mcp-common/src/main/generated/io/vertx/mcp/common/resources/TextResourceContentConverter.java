@@ -0,0 +1,86 @@
+package io.vertx.mcp.common.resources;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.resources.TextResourceContent}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.resources.TextResourceContent} original class using Vert.x codegen.
+ */
+public class TextResourceContentConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, TextResourceContent obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "uri":
+          if (member.getValue() instanceof String) {
+            obj.setUri((String)member.getValue());
+          }
+          break;
+        case "name":
+          if (member.getValue() instanceof String) {
+            obj.setName((String)member.getValue());
+          }
+          break;
+        case "title":
+          if (member.getValue() instanceof String) {
+            obj.setTitle((String)member.getValue());
+          }
+          break;
+        case "description":
+          if (member.getValue() instanceof String) {
+            obj.setDescription((String)member.getValue());
+          }
+          break;
+        case "mimeType":
+          if (member.getValue() instanceof String) {
+            obj.setMimeType((String)member.getValue());
+          }
+          break;
+        case "annotations":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setAnnotations(new io.vertx.mcp.common.resources.ResourceAnnotations((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
+        case "text":
+          if (member.getValue() instanceof String) {
+            obj.setText((String)member.getValue());
+          }
+          break;
+        case "size":
+          break;
+      }
+    }
+  }
+
+   static void toJson(TextResourceContent obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(TextResourceContent obj, java.util.Map<String, Object> json) {
+    if (obj.getUri() != null) {
+      json.put("uri", obj.getUri());
+    }
+    if (obj.getName() != null) {
+      json.put("name", obj.getName());
+    }
+    if (obj.getTitle() != null) {
+      json.put("title", obj.getTitle());
+    }
+    if (obj.getDescription() != null) {
+      json.put("description", obj.getDescription());
+    }
+    if (obj.getMimeType() != null) {
+      json.put("mimeType", obj.getMimeType());
+    }
+    if (obj.getAnnotations() != null) {
+      json.put("annotations", obj.getAnnotations().toJson());
+    }
+    if (obj.getText() != null) {
+      json.put("text", obj.getText());
+    }
+    json.put("size", obj.getSize());
+  }
+}
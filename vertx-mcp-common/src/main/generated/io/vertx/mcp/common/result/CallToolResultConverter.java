@@ -0,0 +1,51 @@
+package io.vertx.mcp.common.result;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.result.CallToolResult}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.result.CallToolResult} original class using Vert.x codegen.
+ */
+public class CallToolResultConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, CallToolResult obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "content":
+          if (member.getValue() instanceof JsonArray) {
+            obj.setContent(((JsonArray)member.getValue()).copy());
+          }
+          break;
+        case "structuredContent":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setStructuredContent(((JsonObject)member.getValue()).copy());
+          }
+          break;
+        case "isError":
+          if (member.getValue() instanceof Boolean) {
+            obj.setIsError((Boolean)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(CallToolResult obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(CallToolResult obj, java.util.Map<String, Object> json) {
+    if (obj.getContent() != null) {
+      json.put("content", obj.getContent());
+    }
+    if (obj.getStructuredContent() != null) {
+      json.put("structuredContent", obj.getStructuredContent());
+    }
+    if (obj.getIsError() != null) {
+      json.put("isError", obj.getIsError());
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package io.vertx.mcp.common.result;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.result.CompleteResult}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.result.CompleteResult} original class using Vert.x codegen.
+ */
+public class CompleteResultConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, CompleteResult obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "completion":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setCompletion(new io.vertx.mcp.common.completion.Completion((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(CompleteResult obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(CompleteResult obj, java.util.Map<String, Object> json) {
+    if (obj.getCompletion() != null) {
+      json.put("completion", obj.getCompletion().toJson());
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package io.vertx.mcp.common.result;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.result.CreateMessageResult}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.result.CreateMessageResult} original class using Vert.x codegen.
+ */
+public class CreateMessageResultConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, CreateMessageResult obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "role":
+          if (member.getValue() instanceof String) {
+            obj.setRole((String)member.getValue());
+          }
+          break;
+        case "content":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setContent(((JsonObject)member.getValue()).copy());
+          }
+          break;
+        case "model":
+          if (member.getValue() instanceof String) {
+            obj.setModel((String)member.getValue());
+          }
+          break;
+        case "stopReason":
+          if (member.getValue() instanceof String) {
+            obj.setStopReason((String)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(CreateMessageResult obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(CreateMessageResult obj, java.util.Map<String, Object> json) {
+    if (obj.getRole() != null) {
+      json.put("role", obj.getRole());
+    }
+    if (obj.getContent() != null) {
+      json.put("content", obj.getContent());
+    }
+    if (obj.getModel() != null) {
+      json.put("model", obj.getModel());
+    }
+    if (obj.getStopReason() != null) {
+      json.put("stopReason", obj.getStopReason());
+    }
+  }
+}
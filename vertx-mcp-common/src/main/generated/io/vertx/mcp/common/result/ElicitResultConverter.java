@@ -0,0 +1,43 @@
+package io.vertx.mcp.common.result;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.result.ElicitResult}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.result.ElicitResult} original class using Vert.x codegen.
+ */
+public class ElicitResultConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, ElicitResult obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "action":
+          if (member.getValue() instanceof String) {
+            obj.setAction((String)member.getValue());
+          }
+          break;
+        case "content":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setContent(((JsonObject)member.getValue()).copy());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(ElicitResult obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(ElicitResult obj, java.util.Map<String, Object> json) {
+    if (obj.getAction() != null) {
+      json.put("action", obj.getAction());
+    }
+    if (obj.getContent() != null) {
+      json.put("content", obj.getContent());
+    }
+  }
+}
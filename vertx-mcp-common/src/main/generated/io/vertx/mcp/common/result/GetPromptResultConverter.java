@@ -0,0 +1,50 @@
+package io.vertx.mcp.common.result;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.result.GetPromptResult}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.result.GetPromptResult} original class using Vert.x codegen.
+ */
+public class GetPromptResultConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, GetPromptResult obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "description":
+          if (member.getValue() instanceof String) {
+            obj.setDescription((String)member.getValue());
+          }
+          break;
+        case "messages":
+          if (member.getValue() instanceof JsonArray) {
+            java.util.ArrayList<io.vertx.mcp.common.prompt.PromptMessage> list =  new java.util.ArrayList<>();
+            ((Iterable<Object>)member.getValue()).forEach( item -> {
+              if (item instanceof JsonObject)
+                list.add(new io.vertx.mcp.common.prompt.PromptMessage((io.vertx.core.json.JsonObject)item));
+            });
+            obj.setMessages(list);
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(GetPromptResult obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(GetPromptResult obj, java.util.Map<String, Object> json) {
+    if (obj.getDescription() != null) {
+      json.put("description", obj.getDescription());
+    }
+    if (obj.getMessages() != null) {
+      JsonArray array = new JsonArray();
+      obj.getMessages().forEach(item -> array.add(item.toJson()));
+      json.put("messages", array);
+    }
+  }
+}
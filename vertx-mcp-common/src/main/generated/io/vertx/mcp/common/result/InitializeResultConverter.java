@@ -0,0 +1,59 @@
+package io.vertx.mcp.common.result;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.result.InitializeResult}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.result.InitializeResult} original class using Vert.x codegen.
+ */
+public class InitializeResultConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, InitializeResult obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "protocolVersion":
+          if (member.getValue() instanceof String) {
+            obj.setProtocolVersion((String)member.getValue());
+          }
+          break;
+        case "capabilities":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setCapabilities(new io.vertx.mcp.common.capabilities.ServerCapabilities((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
+        case "serverInfo":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setServerInfo(new io.vertx.mcp.common.Implementation((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
+        case "instructions":
+          if (member.getValue() instanceof String) {
+            obj.setInstructions((String)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(InitializeResult obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(InitializeResult obj, java.util.Map<String, Object> json) {
+    if (obj.getProtocolVersion() != null) {
+      json.put("protocolVersion", obj.getProtocolVersion());
+    }
+    if (obj.getCapabilities() != null) {
+      json.put("capabilities", obj.getCapabilities().toJson());
+    }
+    if (obj.getServerInfo() != null) {
+      json.put("serverInfo", obj.getServerInfo().toJson());
+    }
+    if (obj.getInstructions() != null) {
+      json.put("instructions", obj.getInstructions());
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package io.vertx.mcp.common.result;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.result.ListPromptsResult}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.result.ListPromptsResult} original class using Vert.x codegen.
+ */
+public class ListPromptsResultConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, ListPromptsResult obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "nextCursor":
+          if (member.getValue() instanceof String) {
+            obj.setNextCursor((String)member.getValue());
+          }
+          break;
+        case "prompts":
+          if (member.getValue() instanceof JsonArray) {
+            java.util.ArrayList<io.vertx.mcp.common.prompt.Prompt> list =  new java.util.ArrayList<>();
+            ((Iterable<Object>)member.getValue()).forEach( item -> {
+              if (item instanceof JsonObject)
+                list.add(new io.vertx.mcp.common.prompt.Prompt((io.vertx.core.json.JsonObject)item));
+            });
+            obj.setPrompts(list);
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(ListPromptsResult obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(ListPromptsResult obj, java.util.Map<String, Object> json) {
+    if (obj.getNextCursor() != null) {
+      json.put("nextCursor", obj.getNextCursor());
+    }
+    if (obj.getPrompts() != null) {
+      JsonArray array = new JsonArray();
+      obj.getPrompts().forEach(item -> array.add(item.toJson()));
+      json.put("prompts", array);
+    }
+  }
+}
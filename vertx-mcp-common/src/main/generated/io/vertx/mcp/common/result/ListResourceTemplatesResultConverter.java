@@ -0,0 +1,50 @@
+package io.vertx.mcp.common.result;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.result.ListResourceTemplatesResult}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.result.ListResourceTemplatesResult} original class using Vert.x codegen.
+ */
+public class ListResourceTemplatesResultConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, ListResourceTemplatesResult obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "nextCursor":
+          if (member.getValue() instanceof String) {
+            obj.setNextCursor((String)member.getValue());
+          }
+          break;
+        case "resourceTemplates":
+          if (member.getValue() instanceof JsonArray) {
+            java.util.ArrayList<io.vertx.mcp.common.resources.ResourceTemplate> list =  new java.util.ArrayList<>();
+            ((Iterable<Object>)member.getValue()).forEach( item -> {
+              if (item instanceof JsonObject)
+                list.add(new io.vertx.mcp.common.resources.ResourceTemplate((io.vertx.core.json.JsonObject)item));
+            });
+            obj.setResourceTemplates(list);
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(ListResourceTemplatesResult obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(ListResourceTemplatesResult obj, java.util.Map<String, Object> json) {
+    if (obj.getNextCursor() != null) {
+      json.put("nextCursor", obj.getNextCursor());
+    }
+    if (obj.getResourceTemplates() != null) {
+      JsonArray array = new JsonArray();
+      obj.getResourceTemplates().forEach(item -> array.add(item.toJson()));
+      json.put("resourceTemplates", array);
+    }
+  }
+}
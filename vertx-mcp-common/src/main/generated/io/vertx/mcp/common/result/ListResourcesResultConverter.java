@@ -0,0 +1,43 @@
+package io.vertx.mcp.common.result;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.result.ListResourcesResult}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.result.ListResourcesResult} original class using Vert.x codegen.
+ */
+public class ListResourcesResultConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, ListResourcesResult obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "nextCursor":
+          if (member.getValue() instanceof String) {
+            obj.setNextCursor((String)member.getValue());
+          }
+          break;
+        case "resources":
+          if (member.getValue() instanceof JsonArray) {
+            obj.setResources(((JsonArray)member.getValue()).copy());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(ListResourcesResult obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(ListResourcesResult obj, java.util.Map<String, Object> json) {
+    if (obj.getNextCursor() != null) {
+      json.put("nextCursor", obj.getNextCursor());
+    }
+    if (obj.getResources() != null) {
+      json.put("resources", obj.getResources());
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package io.vertx.mcp.common.result;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.result.ListRootsResult}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.result.ListRootsResult} original class using Vert.x codegen.
+ */
+public class ListRootsResultConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, ListRootsResult obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "roots":
+          if (member.getValue() instanceof JsonArray) {
+            java.util.ArrayList<io.vertx.mcp.common.root.Root> list =  new java.util.ArrayList<>();
+            ((Iterable<Object>)member.getValue()).forEach( item -> {
+              if (item instanceof JsonObject)
+                list.add(new io.vertx.mcp.common.root.Root((io.vertx.core.json.JsonObject)item));
+            });
+            obj.setRoots(list);
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(ListRootsResult obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(ListRootsResult obj, java.util.Map<String, Object> json) {
+    if (obj.getRoots() != null) {
+      JsonArray array = new JsonArray();
+      obj.getRoots().forEach(item -> array.add(item.toJson()));
+      json.put("roots", array);
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package io.vertx.mcp.common.result;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.result.ReadResourceResult}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.result.ReadResourceResult} original class using Vert.x codegen.
+ */
+public class ReadResourceResultConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, ReadResourceResult obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "contents":
+          if (member.getValue() instanceof JsonArray) {
+            obj.setContents(((JsonArray)member.getValue()).copy());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(ReadResourceResult obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(ReadResourceResult obj, java.util.Map<String, Object> json) {
+    if (obj.getContents() != null) {
+      json.put("contents", obj.getContents());
+    }
+  }
+}
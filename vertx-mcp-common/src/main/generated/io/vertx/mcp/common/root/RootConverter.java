@@ -0,0 +1,43 @@
+package io.vertx.mcp.common.root;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.root.Root}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.root.Root} original class using Vert.x codegen.
+ */
+public class RootConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, Root obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "uri":
+          if (member.getValue() instanceof String) {
+            obj.setUri((String)member.getValue());
+          }
+          break;
+        case "name":
+          if (member.getValue() instanceof String) {
+            obj.setName((String)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(Root obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(Root obj, java.util.Map<String, Object> json) {
+    if (obj.getUri() != null) {
+      json.put("uri", obj.getUri());
+    }
+    if (obj.getName() != null) {
+      json.put("name", obj.getName());
+    }
+  }
+}
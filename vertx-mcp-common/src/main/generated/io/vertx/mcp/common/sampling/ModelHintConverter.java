@@ -0,0 +1,35 @@
+package io.vertx.mcp.common.sampling;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.sampling.ModelHint}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.sampling.ModelHint} original class using Vert.x codegen.
+ */
+public class ModelHintConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, ModelHint obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "name":
+          if (member.getValue() instanceof String) {
+            obj.setName((String)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(ModelHint obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(ModelHint obj, java.util.Map<String, Object> json) {
+    if (obj.getName() != null) {
+      json.put("name", obj.getName());
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package io.vertx.mcp.common.sampling;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.sampling.ModelPreferences}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.sampling.ModelPreferences} original class using Vert.x codegen.
+ */
+public class ModelPreferencesConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, ModelPreferences obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "hints":
+          if (member.getValue() instanceof JsonArray) {
+            java.util.ArrayList<io.vertx.mcp.common.sampling.ModelHint> list =  new java.util.ArrayList<>();
+            ((Iterable<Object>)member.getValue()).forEach( item -> {
+              if (item instanceof JsonObject)
+                list.add(new io.vertx.mcp.common.sampling.ModelHint((io.vertx.core.json.JsonObject)item));
+            });
+            obj.setHints(list);
+          }
+          break;
+        case "costPriority":
+          if (member.getValue() instanceof Number) {
+            obj.setCostPriority(((Number)member.getValue()).doubleValue());
+          }
+          break;
+        case "speedPriority":
+          if (member.getValue() instanceof Number) {
+            obj.setSpeedPriority(((Number)member.getValue()).doubleValue());
+          }
+          break;
+        case "intelligencePriority":
+          if (member.getValue() instanceof Number) {
+            obj.setIntelligencePriority(((Number)member.getValue()).doubleValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(ModelPreferences obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(ModelPreferences obj, java.util.Map<String, Object> json) {
+    if (obj.getHints() != null) {
+      JsonArray array = new JsonArray();
+      obj.getHints().forEach(item -> array.add(item.toJson()));
+      json.put("hints", array);
+    }
+    if (obj.getCostPriority() != null) {
+      json.put("costPriority", obj.getCostPriority());
+    }
+    if (obj.getSpeedPriority() != null) {
+      json.put("speedPriority", obj.getSpeedPriority());
+    }
+    if (obj.getIntelligencePriority() != null) {
+      json.put("intelligencePriority", obj.getIntelligencePriority());
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package io.vertx.mcp.common.tool;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.common.tool.Tool}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.common.tool.Tool} original class using Vert.x codegen.
+ */
+public class ToolConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, Tool obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "name":
+          if (member.getValue() instanceof String) {
+            obj.setName((String)member.getValue());
+          }
+          break;
+        case "title":
+          if (member.getValue() instanceof String) {
+            obj.setTitle((String)member.getValue());
+          }
+          break;
+        case "description":
+          if (member.getValue() instanceof String) {
+            obj.setDescription((String)member.getValue());
+          }
+          break;
+        case "inputSchema":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setInputSchema(((JsonObject)member.getValue()).copy());
+          }
+          break;
+        case "outputSchema":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setOutputSchema(((JsonObject)member.getValue()).copy());
+          }
+          break;
+        case "annotations":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setAnnotations(new io.vertx.mcp.common.tool.ToolAnnotations((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(Tool obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(Tool obj, java.util.Map<String, Object> json) {
+    if (obj.getName() != null) {
+      json.put("name", obj.getName());
+    }
+    if (obj.getTitle() != null) {
+      json.put("title", obj.getTitle());
+    }
+    if (obj.getDescription() != null) {
+      json.put("description", obj.getDescription());
+    }
+    if (obj.getInputSchema() != null) {
+      json.put("inputSchema", obj.getInputSchema());
+    }
+    if (obj.getOutputSchema() != null) {
+      json.put("outputSchema", obj.getOutputSchema());
+    }
+    if (obj.getAnnotations() != null) {
+      json.put("annotations", obj.getAnnotations().toJson());
+    }
+  }
+}
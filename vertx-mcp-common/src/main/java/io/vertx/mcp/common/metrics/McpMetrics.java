@@ -0,0 +1,139 @@
+package io.vertx.mcp.common.metrics;
+
+/**
+ * The metrics of an MCP server or client. The server and the client obtain their metrics from {@link McpMetricsFactory} when Vert.x metrics are enabled, and do not call any
+ * method otherwise.
+ * <p>
+ * The {@code begin} methods return an implementation defined object, typically a start time or a timer sample, passed back to the matching {@code end} method. All methods have
+ * an empty default implementation so that implementations only override the events they record; they can be called from any thread.
+ */
+public interface McpMetrics {
+
+  /**
+   * The method of the requests received by a server for a method it does not handle: the method sent by the client is not used, so that clients cannot create an unbounded
+   * number of meters.
+   */
+  String UNKNOWN_METHOD = "unknown";
+
+  /**
+   * Called when a JSON-RPC request is sent (client) or received (server).
+   *
+   * @param method the JSON-RPC method, or {@link #UNKNOWN_METHOD} for a method not handled by the server
+   * @return the request metric
+   */
+  default Object requestBegin(String method) {
+    return null;
+  }
+
+  /**
+   * Called when the response of a JSON-RPC request is received (client) or sent (server).
+   *
+   * @param request the request metric returned by {@link #requestBegin(String)}
+   * @param method the JSON-RPC method
+   * @param errorCode the JSON-RPC error code of the response, {@code 0} for a successful response
+   */
+  default void requestEnd(Object request, String method, int errorCode) {
+  }
+
+  /**
+   * Called when a tool handler is invoked.
+   *
+   * @param tool the tool name
+   * @return the call metric
+   */
+  default Object toolCallBegin(String tool) {
+    return null;
+  }
+
+  /**
+   * Called when a tool handler completes.
+   *
+   * @param call the call metric returned by {@link #toolCallBegin(String)}
+   * @param tool the tool name
+   * @param failed whether the tool failed
+   */
+  default void toolCallEnd(Object call, String tool, boolean failed) {
+  }
+
+  /**
+   * Called when a session is opened.
+   */
+  default void sessionOpened() {
+  }
+
+  /**
+   * Called when a session is closed.
+   */
+  default void sessionClosed() {
+  }
+
+  /**
+   * Called when an SSE stream is opened.
+   */
+  default void streamOpened() {
+  }
+
+  /**
+   * Called when an SSE stream is closed.
+   */
+  default void streamClosed() {
+  }
+
+  /**
+   * Called when messages are queued before being sent, the queue depth is the number of queued messages minus the number of dequeued messages.
+   *
+   * @param count the number of queued messages
+   */
+  default void messagesQueued(int count) {
+  }
+
+  /**
+   * Called when queued messages are taken from a queue to be sent or dropped.
+   *
+   * @param count the number of dequeued messages
+   */
+  default void messagesDequeued(int count) {
+  }
+
+  /**
+   * Called when bytes are written to a transport.
+   *
+   * @param bytes the number of bytes
+   */
+  default void bytesWritten(long bytes) {
+  }
+
+  /**
+   * Called when a request to the peer, waiting for its response, is added: server-to-client requests on a server, requests in flight on a client.
+   */
+  default void pendingRequestAdded() {
+  }
+
+  /**
+   * Called when a pending request is removed, after its response or its failure.
+   */
+  default void pendingRequestRemoved() {
+  }
+
+  /**
+   * Called when a notification is dispatched to the sessions.
+   *
+   * @param method the notification method
+   */
+  default void notificationSent(String method) {
+  }
+
+  /**
+   * Called when a notification is received.
+   *
+   * @param method the notification method
+   */
+  default void notificationReceived(String method) {
+  }
+
+  /**
+   * Called when the metrics are not used anymore.
+   */
+  default void close() {
+  }
+}
@@ -0,0 +1,66 @@
+package io.vertx.mcp.common.metrics;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.spi.metrics.VertxMetrics;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * Creates the metrics of MCP servers and clients. This is a service provider interface plugged into the Vert.x metrics SPI: MCP metrics are only created when metrics are enabled
+ * on the Vert.x instance, and are provided by the {@link VertxMetrics} of the instance when it implements this interface, or else by the first implementation found with the
+ * {@link ServiceLoader}, for instance the one of the {@code vertx-mcp-micrometer} module.
+ */
+public interface McpMetricsFactory {
+
+  /**
+   * Looks up the server metrics of a Vert.x instance.
+   *
+   * @param vertx the Vert.x instance
+   * @return the metrics, or {@code null} when metrics are disabled
+   */
+  static McpMetrics serverMetrics(Vertx vertx) {
+    McpMetricsFactory factory = lookup(vertx);
+    return factory != null ? factory.createServerMetrics(vertx) : null;
+  }
+
+  /**
+   * Looks up the client metrics of a Vert.x instance.
+   *
+   * @param vertx the Vert.x instance
+   * @return the metrics, or {@code null} when metrics are disabled
+   */
+  static McpMetrics clientMetrics(Vertx vertx) {
+    McpMetricsFactory factory = lookup(vertx);
+    return factory != null ? factory.createClientMetrics(vertx) : null;
+  }
+
+  private static McpMetricsFactory lookup(Vertx vertx) {
+    if (vertx == null || !vertx.isMetricsEnabled()) {
+      return null;
+    }
+    VertxMetrics metrics = vertx instanceof VertxInternal ? ((VertxInternal) vertx).metrics() : null;
+    if (metrics instanceof McpMetricsFactory) {
+      return (McpMetricsFactory) metrics;
+    }
+    Iterator<McpMetricsFactory> it = ServiceLoader.load(McpMetricsFactory.class).iterator();
+    return it.hasNext() ? it.next() : null;
+  }
+
+  /**
+   * Creates the metrics of a server.
+   *
+   * @param vertx the Vert.x instance of the server
+   * @return the metrics, or {@code null} to not record server metrics
+   */
+  McpMetrics createServerMetrics(Vertx vertx);
+
+  /**
+   * Creates the metrics of a client.
+   *
+   * @param vertx the Vert.x instance of the client
+   * @return the metrics, or {@code null} to not record client metrics
+   */
+  McpMetrics createClientMetrics(Vertx vertx);
+}
@@ -1,6 +1,7 @@
 package io.vertx.mcp.common.resources;
 
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.json.annotations.JsonGen;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
@@ -49,8 +50,14 @@ public class BinaryResourceContent extends Resource<BinaryResourceContent> {
   }
 
   @Override
+  @GenIgnore
   public Buffer getContent() {
-    return blob != null ? blob.copy() : null;
+    return blob;
+  }
+
+  @Override
+  public long getSize() {
+    return blob != null ? blob.length() : 0;
   }
 
   @Override
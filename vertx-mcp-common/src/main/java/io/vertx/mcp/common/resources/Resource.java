@@ -101,6 +101,12 @@ public abstract class Resource<SELF extends Resource<SELF>> implements Meta {
     this._meta = meta;
   }
 
+  /**
+   * Returns the raw bytes of this resource content. The returned buffer may share memory with the content held by this resource and must not be modified.
+   *
+   * @return the content bytes, or {@code null} when the resource has no content
+   */
+  @GenIgnore
   public abstract Buffer getContent();
 
   public long getSize() {
@@ -1,6 +1,7 @@
 package io.vertx.mcp.common.resources;
 
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.json.annotations.JsonGen;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
@@ -49,10 +50,33 @@ public class TextResourceContent extends Resource<TextResourceContent> {
   }
 
   @Override
+  @GenIgnore
   public Buffer getContent() {
     return text != null ? Buffer.buffer(text) : null;
   }
 
+  @Override
+  public long getSize() {
+    if (text == null) {
+      return 0;
+    }
+    long size = 0;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c < 0x80) {
+        size++;
+      } else if (c < 0x800) {
+        size += 2;
+      } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+        size += 4;
+        i++;
+      } else {
+        size += 3;
+      }
+    }
+    return size;
+  }
+
   @Override
   public JsonObject toJson() {
     JsonObject json = new JsonObject();
@@ -1,17 +1,28 @@
 package io.vertx.mcp.common.result;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
+import java.io.IOException;
+
 @DataObject
 @JsonGen(publicConverter = false)
 public class CallToolResult extends Result {
 
+  private static final JsonFactory FACTORY = new JsonFactory();
+
   private JsonArray content;
   private JsonObject structuredContent;
   private Boolean isError;
+  private Buffer rawStructuredContent;
+  private Buffer rawText;
 
   public CallToolResult() {
     super(null);
@@ -49,10 +60,92 @@ public class CallToolResult extends Result {
     return this;
   }
 
+  /**
+   * @return the encoded structured content, or {@code null}
+   */
+  @GenIgnore
+  public Buffer getRawStructuredContent() {
+    return rawStructuredContent;
+  }
+
+  /**
+   * Sets the structured content as an encoded JSON object, e.g. the body of an upstream JSON API. The bytes are written as is in the encoded response, without being decoded to a
+   * tree, and take precedence over {@link #setStructuredContent(JsonObject)}.
+   * <p>
+   * The content is checked to be a single JSON object, and its CR and LF characters are replaced with spaces: JSON strings cannot contain them, so they are whitespace, and a
+   * line break would split the message once framed as a server-sent event or a line of the stdio transport.
+   *
+   * @param rawStructuredContent the encoded JSON object
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalArgumentException when the content is not a single JSON object
+   */
+  @GenIgnore
+  public CallToolResult setRawStructuredContent(Buffer rawStructuredContent) {
+    this.rawStructuredContent = rawStructuredContent != null ? singleLineObject(rawStructuredContent) : null;
+    return this;
+  }
+
+  private static Buffer singleLineObject(Buffer encoded) {
+    byte[] bytes = encoded.getBytes();
+    for (int i = 0; i < bytes.length; i++) {
+      if (bytes[i] == '\n' || bytes[i] == '\r') {
+        bytes[i] = ' ';
+      }
+    }
+    try (JsonParser parser = FACTORY.createParser(bytes)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IllegalArgumentException("The raw structured content must be a JSON object");
+      }
+      parser.skipChildren();
+      if (parser.nextToken() != null) {
+        throw new IllegalArgumentException("The raw structured content must be a single JSON value");
+      }
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Invalid raw structured content: " + e.getMessage(), e);
+    }
+    return Buffer.buffer(bytes);
+  }
+
+  /**
+   * @return the UTF-8 text of the text content, or {@code null}
+   */
+  @GenIgnore
+  public Buffer getRawText() {
+    return rawText;
+  }
+
+  /**
+   * Sets the content to a single text content with the given UTF-8 text. The text is escaped from its bytes in the encoded response, without being decoded to a string, and takes
+   * precedence over {@link #setContent(JsonArray)}.
+   *
+   * @param rawText the UTF-8 text
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public CallToolResult setRawText(Buffer rawText) {
+    this.rawText = rawText;
+    return this;
+  }
+
   @Override
   public JsonObject toJson() {
     JsonObject json = new JsonObject();
-    CallToolResultConverter.toJson(this, json);
+    if (rawText == null && rawStructuredContent == null) {
+      CallToolResultConverter.toJson(this, json);
+      return json;
+    }
+    // Raw values are only decoded when the result is converted to a tree, the fields keep the order of the converter
+    JsonArray content = rawText != null ? new JsonArray().add(new JsonObject().put("type", "text").put("text", rawText.toString())) : this.content;
+    JsonObject structuredContent = rawStructuredContent != null ? new JsonObject(rawStructuredContent) : this.structuredContent;
+    if (content != null) {
+      json.put("content", content);
+    }
+    if (structuredContent != null) {
+      json.put("structuredContent", structuredContent);
+    }
+    if (isError != null) {
+      json.put("isError", isError);
+    }
     return json;
   }
 
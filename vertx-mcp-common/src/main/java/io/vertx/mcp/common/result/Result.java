@@ -19,7 +19,7 @@ public abstract class Result implements Meta {
   public abstract JsonObject toJson();
 
   public JsonResponse toResponse(JsonRequest request) {
-    return JsonResponse.success(request, toJson());
+    return JsonResponse.success(request, this);
   }
 
   @Override
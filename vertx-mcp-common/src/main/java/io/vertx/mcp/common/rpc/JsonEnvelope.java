@@ -0,0 +1,175 @@
+package io.vertx.mcp.common.rpc;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.jackson.JacksonCodec;
+
+import java.io.IOException;
+
+/**
+ * The routing fields of a JSON-RPC message: {@code jsonrpc}, {@code id}, {@code method} and {@code params.name}, read by {@link #probe(Buffer)} without decoding the rest of the
+ * message. Other values, like tool arguments, are skipped by the tokenizer without being materialized, and the probe stops as soon as the routing fields are known.
+ * <p>
+ * The probe does not validate the message: it is meant to route and admit a message before it is decoded with {@link JsonMessageDecoder}, which reports invalid messages.
+ */
+public final class JsonEnvelope {
+
+  private static final String NAME_FIELD = "name";
+
+  private final String jsonrpc;
+  private final Object id;
+  private final String method;
+  private final String name;
+  private final boolean response;
+  private final int size;
+
+  private JsonEnvelope(String jsonrpc, Object id, String method, String name, boolean response, int size) {
+    this.jsonrpc = jsonrpc;
+    this.id = id;
+    this.method = method;
+    this.name = name;
+    this.response = response;
+    this.size = size;
+  }
+
+  /**
+   * Reads the routing fields of a JSON-RPC message.
+   *
+   * @param buffer the encoded message
+   * @return the envelope of the message
+   * @throws DecodeException if the buffer is not a JSON object, or is malformed before the routing fields are read
+   */
+  public static JsonEnvelope probe(Buffer buffer) {
+    JsonParser parser = JacksonCodec.createParser(buffer);
+    try {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new DecodeException("JSON-RPC message must be an object");
+      }
+      String jsonrpc = null;
+      Object id = null;
+      boolean hasId = false;
+      String method = null;
+      String name = null;
+      boolean paramsRead = false;
+      boolean response = false;
+
+      String field;
+      while ((field = parser.nextFieldName()) != null) {
+        JsonToken token = parser.nextToken();
+        switch (field) {
+          case JsonProtocol.JSONRPC_FIELD:
+            jsonrpc = token == JsonToken.VALUE_STRING ? parser.getText() : null;
+            break;
+          case JsonProtocol.ID_FIELD:
+            hasId = true;
+            if (token == JsonToken.VALUE_STRING) {
+              id = parser.getText();
+            } else if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+              id = parser.getNumberValue();
+            }
+            break;
+          case JsonProtocol.METHOD_FIELD:
+            method = token == JsonToken.VALUE_STRING ? parser.getText() : null;
+            break;
+          case JsonProtocol.PARAMS_FIELD:
+            if (token == JsonToken.START_OBJECT) {
+              name = readName(parser);
+            }
+            paramsRead = true;
+            break;
+          case JsonProtocol.RESULT_FIELD:
+          case JsonProtocol.ERROR_FIELD:
+            response = true;
+            break;
+        }
+        skip(parser, token);
+        if (jsonrpc != null && hasId && method != null && paramsRead) {
+          // The remaining fields are not needed for routing
+          break;
+        }
+      }
+      return new JsonEnvelope(jsonrpc, id, method, name, response && method == null, buffer.length());
+    } catch (IOException e) {
+      throw new DecodeException(e.getMessage(), e);
+    } finally {
+      try {
+        parser.close();
+      } catch (IOException ignore) {
+      }
+    }
+  }
+
+  /**
+   * Reads the {@code name} field of the params object, leaving the parser on the end of the params object.
+   */
+  private static String readName(JsonParser parser) throws IOException {
+    String name = null;
+    String field;
+    while ((field = parser.nextFieldName()) != null) {
+      JsonToken token = parser.nextToken();
+      if (name == null && NAME_FIELD.equals(field) && token == JsonToken.VALUE_STRING) {
+        name = parser.getText();
+      } else {
+        skip(parser, token);
+      }
+    }
+    return name;
+  }
+
+  private static void skip(JsonParser parser, JsonToken token) throws IOException {
+    if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+      parser.skipChildren();
+    }
+  }
+
+  /**
+   * @return the JSON-RPC version, or {@code null} when absent
+   */
+  public String getJsonrpc() {
+    return jsonrpc;
+  }
+
+  /**
+   * @return the message id, or {@code null} for notifications
+   */
+  public Object getId() {
+    return id;
+  }
+
+  /**
+   * @return the method, or {@code null} for responses
+   */
+  public String getMethod() {
+    return method;
+  }
+
+  /**
+   * @return the {@code name} param of the message (the tool name of {@code tools/call}, the prompt name of {@code prompts/get}), or {@code null} when absent
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return whether the message is a response to a request sent to the peer
+   */
+  public boolean isResponse() {
+    return response;
+  }
+
+  /**
+   * @return whether the message is a notification
+   */
+  public boolean isNotification() {
+    return !response && id == null;
+  }
+
+  /**
+   * @return the size of the encoded message in bytes
+   */
+  public int size() {
+    return size;
+  }
+}
@@ -0,0 +1,274 @@
+package io.vertx.mcp.common.rpc;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.jackson.JacksonCodec;
+import io.vertx.mcp.common.Meta;
+import io.vertx.mcp.common.request.CallToolRequest;
+import io.vertx.mcp.common.request.GetPromptRequest;
+import io.vertx.mcp.common.request.PingRequest;
+import io.vertx.mcp.common.request.ReadResourceRequest;
+import io.vertx.mcp.common.request.Request;
+import io.vertx.mcp.common.request.SubscribeRequest;
+import io.vertx.mcp.common.request.UnsubscribeRequest;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Streaming decoder of JSON-RPC messages. The envelope is read with a Jackson token parser straight from the received bytes, without building a tree of the message, and the
+ * params of the frequent requests ({@code tools/call}, {@code resources/read}, ...) are decoded in the same pass into their typed {@link Request}, available with
+ * {@link JsonRequest#getRequest()}. Only opaque values, like tool arguments or {@code _meta}, are decoded as trees.
+ * <p>
+ * The named params of a request are still available with {@link JsonRequest#getNamedParams()}: they are an index of the values already decoded, shared with the typed request.
+ */
+public final class JsonMessageDecoder {
+
+  private static final Map<String, TypedReader<?>> READERS = new HashMap<>();
+
+  static {
+    register(CallToolRequest.METHOD, CallToolRequest::new, (request, field, value) -> {
+      switch (field) {
+        case "name":
+          if (value instanceof String) {
+            request.setName((String) value);
+          }
+          break;
+        case "arguments":
+          if (value instanceof JsonObject) {
+            request.setArguments((JsonObject) value);
+          }
+          break;
+      }
+    });
+    register(GetPromptRequest.METHOD, GetPromptRequest::new, (request, field, value) -> {
+      switch (field) {
+        case "name":
+          if (value instanceof String) {
+            request.setName((String) value);
+          }
+          break;
+        case "arguments":
+          if (value instanceof JsonObject) {
+            request.setArguments((JsonObject) value);
+          }
+          break;
+      }
+    });
+    register(ReadResourceRequest.METHOD, ReadResourceRequest::new, (request, field, value) -> {
+      if ("uri".equals(field) && value instanceof String) {
+        request.setUri((String) value);
+      }
+    });
+    register(SubscribeRequest.METHOD, SubscribeRequest::new, (request, field, value) -> {
+      if ("uri".equals(field) && value instanceof String) {
+        request.setUri((String) value);
+      }
+    });
+    register(UnsubscribeRequest.METHOD, UnsubscribeRequest::new, (request, field, value) -> {
+      if ("uri".equals(field) && value instanceof String) {
+        request.setUri((String) value);
+      }
+    });
+    register(PingRequest.METHOD, PingRequest::new, (request, field, value) -> {
+    });
+  }
+
+  @FunctionalInterface
+  private interface FieldSetter<R extends Request> {
+    void set(R request, String field, Object value);
+  }
+
+  private static final class TypedReader<R extends Request> {
+
+    final Supplier<R> factory;
+    final FieldSetter<R> setter;
+
+    TypedReader(Supplier<R> factory, FieldSetter<R> setter) {
+      this.factory = factory;
+      this.setter = setter;
+    }
+  }
+
+  private static <R extends Request> void register(String method, Supplier<R> factory, FieldSetter<R> setter) {
+    READERS.put(method, new TypedReader<>(factory, setter));
+  }
+
+  private JsonMessageDecoder() {
+  }
+
+  /**
+   * Decodes a JSON-RPC message.
+   *
+   * @param buffer the encoded message
+   * @return a {@link JsonRequest}, a {@link JsonNotification} or a {@link JsonResponse}
+   * @throws DecodeException if the buffer is not valid JSON
+   * @throws IllegalArgumentException if the message is not a valid JSON-RPC message
+   */
+  public static Object decode(Buffer buffer) {
+    JsonParser parser = JacksonCodec.createParser(buffer);
+    try {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new DecodeException("JSON-RPC message must be an object");
+      }
+      Object message = readMessage(parser);
+      if (parser.nextToken() != null) {
+        throw new DecodeException("Unexpected trailing token");
+      }
+      return message;
+    } catch (IOException e) {
+      throw new DecodeException(e.getMessage(), e);
+    } finally {
+      try {
+        parser.close();
+      } catch (IOException ignore) {
+      }
+    }
+  }
+
+  private static Object readMessage(JsonParser parser) throws IOException {
+    String version = null;
+    String method = null;
+    Object id = null;
+    boolean hasId = false;
+    Object params = null;
+    boolean hasParams = false;
+    Request typed = null;
+    JsonObject response = null;
+
+    String field;
+    while ((field = parser.nextFieldName()) != null) {
+      JsonToken token = parser.nextToken();
+      switch (field) {
+        case JsonProtocol.JSONRPC_FIELD:
+          version = token == JsonToken.VALUE_STRING ? parser.getText() : null;
+          skip(parser, token);
+          break;
+        case JsonProtocol.METHOD_FIELD:
+          method = token == JsonToken.VALUE_STRING ? parser.getText() : null;
+          skip(parser, token);
+          break;
+        case JsonProtocol.ID_FIELD:
+          hasId = true;
+          id = readValue(parser, token);
+          break;
+        case JsonProtocol.PARAMS_FIELD:
+          hasParams = true;
+          TypedReader<?> reader = method != null && token == JsonToken.START_OBJECT ? READERS.get(method) : null;
+          if (reader != null) {
+            JsonObject named = new JsonObject();
+            typed = readTyped(parser, reader, named);
+            params = named;
+          } else {
+            params = readValue(parser, token);
+          }
+          break;
+        case JsonProtocol.RESULT_FIELD:
+        case JsonProtocol.ERROR_FIELD:
+          if (response == null) {
+            response = new JsonObject();
+          }
+          response.put(field, readValue(parser, token));
+          break;
+        default:
+          skip(parser, token);
+          break;
+      }
+    }
+
+    if (method == null && response != null) {
+      // Responses are rare on this path, they are validated by the tree decoder
+      response.put(JsonProtocol.JSONRPC_FIELD, version);
+      if (hasId) {
+        response.put(JsonProtocol.ID_FIELD, id);
+      }
+      return JsonResponse.fromJson(response);
+    }
+
+    if (version == null || !version.equals(JsonProtocol.JSONRPC_VERSION)) {
+      throw new IllegalArgumentException("Invalid JSON-RPC version: " + version);
+    }
+    if (method == null) {
+      throw new IllegalArgumentException("Method is required");
+    }
+    if (hasParams && !(params instanceof JsonObject) && !(params instanceof JsonArray)) {
+      throw new IllegalArgumentException("Params must be an object or array");
+    }
+    if (id != null && !(id instanceof Number)) {
+      throw new IllegalArgumentException("Invalid JSON-RPC id: " + id);
+    }
+
+    if (id == null) {
+      return JsonNotification.createNotification(method, params);
+    }
+    JsonRequest request = JsonRequest.createRequest(method, params, ((Number) id).intValue());
+    if (typed != null) {
+      request.setRequest(typed);
+    }
+    return request;
+  }
+
+  private static <R extends Request> R readTyped(JsonParser parser, TypedReader<R> reader, JsonObject named) throws IOException {
+    R request = reader.factory.get();
+    JsonObject meta = null;
+    String field;
+    while ((field = parser.nextFieldName()) != null) {
+      Object value = readValue(parser, parser.nextToken());
+      named.put(field, value);
+      if (Meta.META_KEY.equals(field)) {
+        if (value instanceof JsonObject) {
+          meta = (JsonObject) value;
+        }
+      } else {
+        reader.setter.set(request, field, value);
+      }
+    }
+    // Like the JSON constructors, a request without _meta has an empty one
+    request.setMeta(meta != null ? meta : new JsonObject());
+    return request;
+  }
+
+  private static Object readValue(JsonParser parser, JsonToken token) throws IOException {
+    switch (token) {
+      case START_OBJECT:
+        JsonObject object = new JsonObject();
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+          object.put(field, readValue(parser, parser.nextToken()));
+        }
+        return object;
+      case START_ARRAY:
+        JsonArray array = new JsonArray();
+        JsonToken next;
+        while ((next = parser.nextToken()) != JsonToken.END_ARRAY) {
+          array.add(readValue(parser, next));
+        }
+        return array;
+      case VALUE_STRING:
+        return parser.getText();
+      case VALUE_NUMBER_INT:
+      case VALUE_NUMBER_FLOAT:
+        return parser.getNumberValue();
+      case VALUE_TRUE:
+        return Boolean.TRUE;
+      case VALUE_FALSE:
+        return Boolean.FALSE;
+      case VALUE_NULL:
+        return null;
+      default:
+        throw new DecodeException("Unexpected token " + token);
+    }
+  }
+
+  private static void skip(JsonParser parser, JsonToken token) throws IOException {
+    if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+      parser.skipChildren();
+    }
+  }
+}
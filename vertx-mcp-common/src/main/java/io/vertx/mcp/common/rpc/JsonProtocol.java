@@ -8,5 +8,7 @@ public class JsonProtocol {
   public static final String METHOD_FIELD = "method";
   public static final String PARAMS_FIELD = "params";
   public static final String ID_FIELD = "id";
+  public static final String RESULT_FIELD = "result";
+  public static final String ERROR_FIELD = "error";
 
 }
@@ -14,6 +14,7 @@ import io.vertx.codegen.annotations.DataObject;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.common.request.Request;
 
 /**
  * Represents a JSON-RPC 2.0 request object.
@@ -36,6 +37,8 @@ public class JsonRequest {
   private final JsonArray unamedParams;
   private final JsonObject namedParams;
 
+  private Request request;
+
   public JsonRequest(JsonObject json) {
     this.version = json.getString(JsonProtocol.JSONRPC_FIELD);
     this.method = json.getString(JsonProtocol.METHOD_FIELD);
@@ -144,6 +147,22 @@ public class JsonRequest {
     return namedParams;
   }
 
+  /**
+   * Returns the typed request, decoded along with the message by {@link JsonMessageDecoder}, or otherwise decoded from the named parameters on first access and then reused.
+   *
+   * @return the typed request, or null when the method is not a request registered in {@link JsonCodec} or the request has no named parameters
+   */
+  public Request getRequest() {
+    if (request == null && namedParams != null && JsonCodec.hasRequest(method)) {
+      request = JsonCodec.decodeRequest(method, namedParams);
+    }
+    return request;
+  }
+
+  void setRequest(Request request) {
+    this.request = request;
+  }
+
   /**
    * Converts the parameters of the JSON-RPC request to a Buffer object. If the unnamed parameters are present, their encoded value will be used to create the buffer. If the named
    * parameters are present instead, their encoded value will be used. If neither are present, an empty buffer will be returned.
@@ -11,7 +11,10 @@
 package io.vertx.mcp.common.rpc;
 
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.common.result.Result;
 
 /**
  * Represents a JSON-RPC 2.0 response object.
@@ -36,7 +39,8 @@ public class JsonResponse {
   private final String jsonrpc;
 
   private final Object id;
-  private final Object result;
+  private final Result typedResult;
+  private Object result;
   private final JsonError error;
 
   /**
@@ -47,11 +51,27 @@ public class JsonResponse {
    */
   public JsonResponse(Object result, Object id) {
     this.jsonrpc = JSONRPC_VERSION;
+    this.typedResult = null;
     this.result = result;
     this.error = null;
     this.id = id;
   }
 
+  /**
+   * Creates a new JSON-RPC success response holding a typed result, which is only converted to JSON when {@link #getResult()} or {@link #toJson()} is called, so that transports
+   * can write it straight to bytes with {@link JsonResponseEncoder}.
+   *
+   * @param result the typed result
+   * @param id the request identifier (must match the request id)
+   */
+  public JsonResponse(Result result, Object id) {
+    this.jsonrpc = JSONRPC_VERSION;
+    this.typedResult = result;
+    this.result = null;
+    this.error = null;
+    this.id = id;
+  }
+
   /**
    * Creates a new JSON-RPC error response.
    *
@@ -60,6 +80,7 @@ public class JsonResponse {
    */
   public JsonResponse(JsonError error, Object id) {
     this.jsonrpc = JSONRPC_VERSION;
+    this.typedResult = null;
     this.result = null;
     this.error = error;
     this.id = id;
@@ -76,6 +97,17 @@ public class JsonResponse {
     return new JsonResponse(result, request.getId());
   }
 
+  /**
+   * Creates a success response holding a typed result for the given request.
+   *
+   * @param request the request
+   * @param result the typed result
+   * @return a new JSON-RPC success response
+   */
+  public static JsonResponse success(JsonRequest request, Result result) {
+    return new JsonResponse(result, request.getId());
+  }
+
   /**
    * Creates an error response for the given request.
    *
@@ -87,6 +119,18 @@ public class JsonResponse {
     return new JsonResponse(error, request != null ? request.getId() : null);
   }
 
+  /**
+   * Encodes a success response around an already encoded result, avoiding the decoding and re-encoding of the result.
+   *
+   * @param id the request identifier
+   * @param result the encoded result value
+   * @return the encoded response
+   */
+  public static Buffer encodeSuccess(Object id, Buffer result) {
+    String head = "{\"" + JSONRPC_FIELD + "\":\"" + JSONRPC_VERSION + "\",\"" + ID_FIELD + "\":" + Json.encode(id) + ",\"" + RESULT_FIELD + "\":";
+    return Buffer.buffer(head.length() + result.length() + 1).appendString(head).appendBuffer(result).appendByte((byte) '}');
+  }
+
   /**
    * Creates a JSON-RPC response from a JsonObject.
    *
@@ -139,9 +183,19 @@ public class JsonResponse {
    * @return the result value (null if this is an error response)
    */
   public Object getResult() {
+    if (result == null && typedResult != null) {
+      result = typedResult.toJson();
+    }
     return result;
   }
 
+  /**
+   * @return the typed result, or null if the response was created with a JSON result or is an error response
+   */
+  public Result getTypedResult() {
+    return typedResult;
+  }
+
   /**
    * @return the error object (null if this is a success response)
    */
@@ -176,7 +230,7 @@ public class JsonResponse {
     if (error != null) {
       json.put(ERROR_FIELD, error.toJson());
     } else {
-      json.put(RESULT_FIELD, result);
+      json.put(RESULT_FIELD, getResult());
     }
 
     return json;
@@ -0,0 +1,200 @@
+package io.vertx.mcp.common.rpc;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.EncodeException;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.jackson.JacksonCodec;
+import io.vertx.mcp.common.result.CallToolResult;
+import io.vertx.mcp.common.result.EmptyResult;
+import io.vertx.mcp.common.result.ListToolsResult;
+import io.vertx.mcp.common.result.ReadResourceResult;
+import io.vertx.mcp.common.result.Result;
+import io.vertx.mcp.common.tool.Tool;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes JSON-RPC responses straight to a {@link Buffer} with a Jackson streaming generator. The envelope and the frequent result types ({@code tools/call},
+ * {@code tools/list}, {@code resources/read} and empty results) are written field by field without building a {@link JsonObject} tree, other results are converted with
+ * {@link Result#toJson()} first.
+ * <p>
+ * The output is byte for byte the output of {@code response.toJson().toBuffer()}: fields are written in the order of the generated converters and absent values are omitted.
+ * Raw values of {@link CallToolResult} are written from their bytes, without being decoded, so their formatting is kept.
+ */
+public final class JsonResponseEncoder {
+
+  private static final JsonFactory FACTORY = new JsonFactory();
+  private static final Map<Class<?>, ResultWriter<?>> WRITERS = new IdentityHashMap<>();
+
+  static {
+    register(CallToolResult.class, (result, generator) -> {
+      generator.writeStartObject();
+      if (result.getRawText() != null) {
+        Buffer text = result.getRawText();
+        generator.writeArrayFieldStart("content");
+        generator.writeStartObject();
+        generator.writeStringField("type", "text");
+        generator.writeFieldName("text");
+        generator.writeUTF8String(text.getBytes(), 0, text.length());
+        generator.writeEndObject();
+        generator.writeEndArray();
+      } else if (result.getContent() != null) {
+        generator.writeFieldName("content");
+        JacksonCodec.encodeJson(result.getContent(), generator);
+      }
+      if (result.getRawStructuredContent() != null) {
+        generator.writeFieldName("structuredContent");
+        writeRawValue(result.getRawStructuredContent(), generator);
+      } else if (result.getStructuredContent() != null) {
+        generator.writeFieldName("structuredContent");
+        JacksonCodec.encodeJson(result.getStructuredContent(), generator);
+      }
+      if (result.getIsError() != null) {
+        generator.writeBooleanField("isError", result.getIsError());
+      }
+      generator.writeEndObject();
+    });
+    register(ListToolsResult.class, (result, generator) -> {
+      generator.writeStartObject();
+      if (result.getNextCursor() != null) {
+        generator.writeStringField("nextCursor", result.getNextCursor());
+      }
+      List<Tool> tools = result.getTools();
+      if (tools != null) {
+        generator.writeArrayFieldStart("tools");
+        for (Tool tool : tools) {
+          writeTool(tool, generator);
+        }
+        generator.writeEndArray();
+      }
+      generator.writeEndObject();
+    });
+    register(ReadResourceResult.class, (result, generator) -> {
+      generator.writeStartObject();
+      if (result.getContents() != null) {
+        generator.writeFieldName("contents");
+        JacksonCodec.encodeJson(result.getContents(), generator);
+      }
+      generator.writeEndObject();
+    });
+    register(EmptyResult.class, (result, generator) -> {
+      generator.writeStartObject();
+      generator.writeEndObject();
+    });
+  }
+
+  @FunctionalInterface
+  private interface ResultWriter<R extends Result> {
+    void write(R result, JsonGenerator generator) throws IOException;
+  }
+
+  private static <R extends Result> void register(Class<R> type, ResultWriter<R> writer) {
+    WRITERS.put(type, writer);
+  }
+
+  private JsonResponseEncoder() {
+  }
+
+  /**
+   * Encodes a response.
+   *
+   * @param response the response
+   * @return the encoded response
+   * @throws EncodeException if a value cannot be encoded
+   */
+  public static Buffer encode(JsonResponse response) {
+    Buffer buffer = Buffer.buffer(256);
+    try (JsonGenerator generator = FACTORY.createGenerator(new BufferOutputStream(buffer))) {
+      generator.writeStartObject();
+      generator.writeStringField(JsonProtocol.JSONRPC_FIELD, response.getJsonrpc());
+      generator.writeFieldName(JsonProtocol.ID_FIELD);
+      JacksonCodec.encodeJson(response.getId(), generator);
+      if (response.getError() != null) {
+        generator.writeFieldName(JsonProtocol.ERROR_FIELD);
+        JacksonCodec.encodeJson(response.getError().toJson(), generator);
+      } else {
+        generator.writeFieldName(JsonProtocol.RESULT_FIELD);
+        Result typed = response.getTypedResult();
+        if (typed != null) {
+          writeResult(typed, generator);
+        } else {
+          JacksonCodec.encodeJson(response.getResult(), generator);
+        }
+      }
+      generator.writeEndObject();
+    } catch (IOException e) {
+      throw new EncodeException(e.getMessage(), e);
+    }
+    return buffer;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <R extends Result> void writeResult(R result, JsonGenerator generator) throws IOException {
+    ResultWriter<R> writer = (ResultWriter<R>) WRITERS.get(result.getClass());
+    if (writer != null) {
+      writer.write(result, generator);
+    } else {
+      JacksonCodec.encodeJson(result.toJson(), generator);
+    }
+  }
+
+  /**
+   * Writes an encoded value: the generator writes the separator preceding the value and is flushed, then the bytes are appended to the output buffer.
+   */
+  private static void writeRawValue(Buffer value, JsonGenerator generator) throws IOException {
+    generator.writeRawValue("");
+    generator.flush();
+    ((BufferOutputStream) generator.getOutputTarget()).buffer.appendBuffer(value);
+  }
+
+  private static void writeTool(Tool tool, JsonGenerator generator) throws IOException {
+    generator.writeStartObject();
+    if (tool.getName() != null) {
+      generator.writeStringField("name", tool.getName());
+    }
+    if (tool.getTitle() != null) {
+      generator.writeStringField("title", tool.getTitle());
+    }
+    if (tool.getDescription() != null) {
+      generator.writeStringField("description", tool.getDescription());
+    }
+    if (tool.getInputSchema() != null) {
+      generator.writeFieldName("inputSchema");
+      JacksonCodec.encodeJson(tool.getInputSchema(), generator);
+    }
+    if (tool.getOutputSchema() != null) {
+      generator.writeFieldName("outputSchema");
+      JacksonCodec.encodeJson(tool.getOutputSchema(), generator);
+    }
+    if (tool.getAnnotations() != null) {
+      generator.writeFieldName("annotations");
+      JacksonCodec.encodeJson(tool.getAnnotations().toJson(), generator);
+    }
+    generator.writeEndObject();
+  }
+
+  private static final class BufferOutputStream extends OutputStream {
+
+    private final Buffer buffer;
+
+    BufferOutputStream(Buffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public void write(int b) {
+      buffer.appendByte((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      buffer.appendBytes(b, off, len);
+    }
+  }
+}
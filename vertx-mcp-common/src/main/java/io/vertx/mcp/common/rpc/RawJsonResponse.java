@@ -0,0 +1,127 @@
+package io.vertx.mcp.common.rpc;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.jackson.JacksonCodec;
+
+import java.io.IOException;
+
+/**
+ * A JSON-RPC response whose result is kept encoded. The response is scanned with a Jackson token parser and its result is a slice of the received buffer, neither decoded nor
+ * copied, for clients forwarding results without reading them. The error of a failed response is decoded.
+ */
+public final class RawJsonResponse {
+
+  private final Object id;
+  private final JsonError error;
+  private final Buffer result;
+
+  private RawJsonResponse(Object id, JsonError error, Buffer result) {
+    this.id = id;
+    this.error = error;
+    this.result = result;
+  }
+
+  /**
+   * Reads a JSON-RPC response.
+   *
+   * @param buffer the encoded response
+   * @return the response, its result shares the bytes of the buffer
+   * @throws DecodeException if the buffer is not valid JSON
+   * @throws IllegalArgumentException if the message is not a JSON-RPC response
+   */
+  public static RawJsonResponse fromBuffer(Buffer buffer) {
+    JsonParser parser = JacksonCodec.createParser(buffer);
+    try {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new DecodeException("JSON-RPC message must be an object");
+      }
+      Object id = null;
+      Buffer error = null;
+      Buffer result = null;
+      String field;
+      while ((field = parser.nextFieldName()) != null) {
+        JsonToken token = parser.nextToken();
+        switch (field) {
+          case JsonProtocol.ID_FIELD:
+            if (token == JsonToken.VALUE_STRING) {
+              id = parser.getText();
+            } else if (token == JsonToken.VALUE_NUMBER_INT) {
+              id = parser.getNumberValue();
+            }
+            break;
+          case JsonProtocol.RESULT_FIELD:
+            result = slice(parser, token, buffer);
+            break;
+          case JsonProtocol.ERROR_FIELD:
+            error = slice(parser, token, buffer);
+            break;
+          default:
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+              parser.skipChildren();
+            }
+            break;
+        }
+      }
+      if (error != null) {
+        return new RawJsonResponse(id, JsonError.fromJson(new JsonObject(error)), null);
+      }
+      if (result == null) {
+        throw new IllegalArgumentException("JSON-RPC response must have a result or an error");
+      }
+      return new RawJsonResponse(id, null, result);
+    } catch (IOException e) {
+      throw new DecodeException(e.getMessage(), e);
+    } finally {
+      try {
+        parser.close();
+      } catch (IOException ignore) {
+      }
+    }
+  }
+
+  /**
+   * Slices the value of the current token, the parser is left on its last token.
+   */
+  private static Buffer slice(JsonParser parser, JsonToken token, Buffer buffer) throws IOException {
+    int start = (int) parser.currentTokenLocation().getByteOffset();
+    if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+      parser.skipChildren();
+    } else {
+      parser.finishToken();
+    }
+    int end = (int) parser.currentLocation().getByteOffset();
+    return buffer.slice(start, end);
+  }
+
+  /**
+   * @return the id of the request this response answers
+   */
+  public Object getId() {
+    return id;
+  }
+
+  /**
+   * @return the error of a failed response, otherwise {@code null}
+   */
+  public JsonError getError() {
+    return error;
+  }
+
+  /**
+   * @return the encoded result of a successful response, otherwise {@code null}
+   */
+  public Buffer getResult() {
+    return result;
+  }
+
+  /**
+   * @return whether the response is successful
+   */
+  public boolean isSuccess() {
+    return error == null;
+  }
+}
@@ -0,0 +1,202 @@
+package io.vertx.mcp.common.tracing;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.spi.tracing.TagExtractor;
+import io.vertx.core.spi.tracing.VertxTracer;
+import io.vertx.mcp.common.Meta;
+import io.vertx.mcp.common.rpc.JsonError;
+import io.vertx.mcp.common.rpc.JsonRequest;
+import io.vertx.mcp.common.rpc.JsonResponse;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Integration of MCP with the Vert.x tracing SPI. The trace context is propagated in the {@code _meta} of the requests, with the W3C {@code traceparent} and {@code tracestate}
+ * keys, in both directions: client to server requests and server to client requests.
+ * <p>
+ * Span tags follow the OpenTelemetry semantic conventions for MCP.
+ */
+public final class McpTracing {
+
+  /**
+   * The {@code _meta} key of the W3C trace context parent.
+   */
+  public static final String TRACEPARENT = "traceparent";
+
+  /**
+   * The {@code _meta} key of the W3C trace context state.
+   */
+  public static final String TRACESTATE = "tracestate";
+
+  /**
+   * The operation name of the tool handler spans, followed by the tool name.
+   */
+  public static final String EXECUTE_TOOL = "execute_tool";
+
+  /**
+   * The operation name of the resource handler spans.
+   */
+  public static final String READ_RESOURCE = "read_resource";
+
+  /**
+   * Tags of a JSON-RPC request span: the method and the request id.
+   */
+  public static final TagExtractor<JsonRequest> REQUEST_TAGS = new TagExtractor<>() {
+    @Override
+    public int len(JsonRequest request) {
+      return request.getId() != null ? 3 : 2;
+    }
+
+    @Override
+    public String name(JsonRequest request, int index) {
+      switch (index) {
+        case 0:
+          return "rpc.system";
+        case 1:
+          return "mcp.method.name";
+        case 2:
+          return "jsonrpc.request.id";
+        default:
+          throw new IndexOutOfBoundsException("Invalid tag index " + index);
+      }
+    }
+
+    @Override
+    public String value(JsonRequest request, int index) {
+      switch (index) {
+        case 0:
+          return "jsonrpc";
+        case 1:
+          return request.getMethod();
+        case 2:
+          return String.valueOf(request.getId());
+        default:
+          throw new IndexOutOfBoundsException("Invalid tag index " + index);
+      }
+    }
+  };
+
+  /**
+   * Tags of a JSON-RPC response: the error code and message of an error response, none for a successful response.
+   */
+  public static final TagExtractor<JsonResponse> RESPONSE_TAGS = new TagExtractor<>() {
+    @Override
+    public int len(JsonResponse response) {
+      return response != null && response.getError() != null ? 2 : 0;
+    }
+
+    @Override
+    public String name(JsonResponse response, int index) {
+      switch (index) {
+        case 0:
+          return "rpc.jsonrpc.error_code";
+        case 1:
+          return "rpc.jsonrpc.error_message";
+        default:
+          throw new IndexOutOfBoundsException("Invalid tag index " + index);
+      }
+    }
+
+    @Override
+    public String value(JsonResponse response, int index) {
+      JsonError error = response.getError();
+      switch (index) {
+        case 0:
+          return String.valueOf(error.getCode());
+        case 1:
+          return error.getMessage();
+        default:
+          throw new IndexOutOfBoundsException("Invalid tag index " + index);
+      }
+    }
+  };
+
+  /**
+   * Tags of a tool handler span: the tool name.
+   */
+  public static final TagExtractor<String> TOOL_TAGS = tag("gen_ai.tool.name");
+
+  /**
+   * Tags of a resource handler span: the resource URI.
+   */
+  public static final TagExtractor<String> RESOURCE_TAGS = tag("mcp.resource.uri");
+
+  private McpTracing() {
+  }
+
+  /**
+   * @param vertx the Vert.x instance
+   * @return the tracer of the Vert.x instance, or {@code null} when tracing is disabled
+   */
+  @SuppressWarnings("unchecked")
+  public static VertxTracer<Object, Object> tracer(Vertx vertx) {
+    VertxTracer<?, ?> tracer = vertx instanceof VertxInternal ? ((VertxInternal) vertx).tracer() : null;
+    return tracer == null || tracer == VertxTracer.NOOP ? null : (VertxTracer<Object, Object>) tracer;
+  }
+
+  /**
+   * Reads the trace context propagated in the {@code _meta} of a request.
+   *
+   * @param meta the {@code _meta} of the request, can be {@code null}
+   * @return the string entries of the meta
+   */
+  public static Iterable<Map.Entry<String, String>> extract(JsonObject meta) {
+    if (meta == null || meta.isEmpty()) {
+      return List.of();
+    }
+    List<Map.Entry<String, String>> headers = new ArrayList<>(2);
+    for (Map.Entry<String, Object> entry : meta) {
+      if (entry.getValue() instanceof String) {
+        headers.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), (String) entry.getValue()));
+      }
+    }
+    return headers;
+  }
+
+  /**
+   * Writes the trace context of an outgoing request to the {@code _meta} of its parameters, the {@code _meta} object is copied on the first write so that the caller's one is not modified.
+   *
+   * @param params the parameters of the request
+   * @return the consumer of the trace context entries
+   */
+  public static BiConsumer<String, String> inject(JsonObject params) {
+    return new BiConsumer<>() {
+      private JsonObject meta;
+
+      @Override
+      public void accept(String key, String value) {
+        if (meta == null) {
+          JsonObject current = params.getJsonObject(Meta.META_KEY);
+          meta = current != null ? current.copy() : new JsonObject();
+          params.put(Meta.META_KEY, meta);
+        }
+        meta.put(key, value);
+      }
+    };
+  }
+
+  private static TagExtractor<String> tag(String name) {
+    return new TagExtractor<>() {
+      @Override
+      public int len(String value) {
+        return value != null ? 1 : 0;
+      }
+
+      @Override
+      public String name(String value, int index) {
+        return name;
+      }
+
+      @Override
+      public String value(String value, int index) {
+        return value;
+      }
+    };
+  }
+}
@@ -0,0 +1,123 @@
+package io.vertx.mcp.common.transport.stdio;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Frames newline delimited messages incrementally, as the bytes are read. A message is emitted as soon as its delimiter is read, the bytes of a message split across reads are
+ * accumulated until then. A trailing {@code \r} is removed and empty lines are skipped. A message larger than the maximum message size is discarded up to its delimiter and
+ * reported to the overflow handler.
+ */
+public class LineDeframer {
+
+  private static final byte LF = '\n';
+  private static final byte CR = '\r';
+
+  private final int maxMessageSize;
+  private final Handler<Buffer> messageHandler;
+  private Handler<Long> overflowHandler;
+
+  private Buffer partial;
+  private long discarded = -1;
+
+  /**
+   * @param maxMessageSize the maximum size in bytes of a message, delimiter excluded
+   * @param messageHandler the handler receiving the messages
+   */
+  public LineDeframer(int maxMessageSize, Handler<Buffer> messageHandler) {
+    this.maxMessageSize = maxMessageSize;
+    this.messageHandler = messageHandler;
+  }
+
+  /**
+   * Set a handler called with the size of each message discarded for exceeding the maximum message size.
+   *
+   * @param handler the handler
+   * @return this deframer
+   */
+  public LineDeframer overflowHandler(Handler<Long> handler) {
+    this.overflowHandler = handler;
+    return this;
+  }
+
+  /**
+   * Frames the bytes read.
+   *
+   * @param bytes the array holding the bytes
+   * @param offset the offset of the first byte read
+   * @param length the number of bytes read
+   */
+  public void update(byte[] bytes, int offset, int length) {
+    int start = offset;
+    int end = offset + length;
+    for (int i = offset; i < end; i++) {
+      if (bytes[i] == LF) {
+        append(bytes, start, i);
+        emit();
+        start = i + 1;
+      }
+    }
+    if (start < end) {
+      append(bytes, start, end);
+    }
+  }
+
+  /**
+   * Emits the last message when the input ends without a delimiter.
+   */
+  public void end() {
+    emit();
+  }
+
+  private void append(byte[] bytes, int from, int to) {
+    int length = to - from;
+    if (discarded >= 0) {
+      discarded += length;
+      return;
+    }
+    long size = (partial == null ? 0L : partial.length()) + length;
+    if (size > maxMessageSize + 1L) {
+      // The extra byte allows for the \r of a message of the maximum size
+      discarded = size;
+      partial = null;
+      return;
+    }
+    if (length > 0) {
+      if (partial == null) {
+        partial = Buffer.buffer(length);
+      }
+      partial.appendBytes(bytes, from, length);
+    }
+  }
+
+  private void emit() {
+    if (discarded >= 0) {
+      long size = discarded;
+      discarded = -1;
+      if (overflowHandler != null) {
+        overflowHandler.handle(size);
+      }
+      return;
+    }
+    Buffer message = partial;
+    partial = null;
+    if (message == null) {
+      return;
+    }
+    int length = message.length();
+    if (message.getByte(length - 1) == CR) {
+      length--;
+      if (length == 0) {
+        return;
+      }
+      message = message.slice(0, length);
+    }
+    if (length > maxMessageSize) {
+      if (overflowHandler != null) {
+        overflowHandler.handle((long) length);
+      }
+      return;
+    }
+    messageHandler.handle(message);
+  }
+}
@@ -0,0 +1,450 @@
+package io.vertx.mcp.common.transport.stdio;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.ContextInternal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A channel exchanging newline delimited JSON-RPC messages over a pair of byte streams, typically the standard input and output of a process.
+ * <p>
+ * The JDK cannot select on the standard streams, a reader thread performs the blocking reads, frames the messages incrementally and delivers them on the context of the
+ * channel. It stops reading while the channel is paused or while too many messages wait to be delivered, the peer then blocks on a full pipe. A writer thread drains the
+ * messages written on the channel and flushes the output once per batch, the messages written while a batch is flushed are sent by the next one.
+ */
+public class StdioChannel {
+
+  private static final Logger LOGGER = Logger.getLogger(StdioChannel.class.getName());
+
+  public static final int DEFAULT_MAX_MESSAGE_SIZE = 16 * 1024 * 1024;
+  public static final int DEFAULT_WRITE_QUEUE_MAX_SIZE = 1024 * 1024;
+
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+  private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+  private static final int HIGH_WATER_MARK = 64;
+  private static final int LOW_WATER_MARK = 16;
+  private static final byte LF = '\n';
+  private static final byte SPACE = ' ';
+
+  private final ContextInternal context;
+  private final InputStream in;
+  private final OutputStream out;
+  private final LineDeframer deframer;
+
+  // Reader state, guarded by the lock
+  private final Object lock = new Object();
+  private int inFlight;
+  private boolean paused;
+
+  // Writer state
+  private final ConcurrentLinkedQueue<Write> writes = new ConcurrentLinkedQueue<>();
+  private final AtomicLong queued = new AtomicLong();
+  private volatile long writeQueueMaxSize = DEFAULT_WRITE_QUEUE_MAX_SIZE;
+  private volatile Thread writer;
+  private volatile boolean closing;
+  private volatile boolean outputClosed;
+  private final Promise<Void> closePromise;
+
+  // Accessed on the context
+  private Handler<Buffer> handler;
+  private Handler<Void> endHandler;
+  private Handler<Throwable> exceptionHandler;
+  private List<Handler<Void>> drainHandlers;
+  private boolean started;
+
+  public StdioChannel(ContextInternal context, InputStream in, OutputStream out) {
+    this(context, in, out, DEFAULT_MAX_MESSAGE_SIZE);
+  }
+
+  public StdioChannel(ContextInternal context, InputStream in, OutputStream out, int maxMessageSize) {
+    this.context = context;
+    this.in = in;
+    this.out = out;
+    this.closePromise = context.promise();
+    this.deframer = new LineDeframer(maxMessageSize, this::enqueueRead)
+      .overflowHandler(size -> context.runOnContext(v -> handleException(new IllegalStateException("Message of " + size + " bytes exceeds the maximum message size of " + maxMessageSize + " bytes"))));
+  }
+
+  /**
+   * @return the context on which the messages and events of the channel are delivered
+   */
+  public ContextInternal context() {
+    return context;
+  }
+
+  /**
+   * Set the handler receiving each message read, without its delimiter.
+   */
+  public StdioChannel handler(Handler<Buffer> handler) {
+    this.handler = handler;
+    return this;
+  }
+
+  /**
+   * Set the handler called once the input has ended.
+   */
+  public StdioChannel endHandler(Handler<Void> handler) {
+    this.endHandler = handler;
+    return this;
+  }
+
+  /**
+   * Set the handler receiving the read and write failures, and the messages discarded for their size.
+   */
+  public StdioChannel exceptionHandler(Handler<Throwable> handler) {
+    this.exceptionHandler = handler;
+    return this;
+  }
+
+  /**
+   * Starts the reader and writer threads, the handlers must be set before.
+   *
+   * @param name the name prefix of the threads
+   */
+  public synchronized StdioChannel start(String name) {
+    if (started) {
+      return this;
+    }
+    started = true;
+    Thread reader = new Thread(this::read, name + "-reader");
+    reader.setDaemon(true);
+    Thread writer = new Thread(this::write, name + "-writer");
+    writer.setDaemon(true);
+    this.writer = writer;
+    reader.start();
+    writer.start();
+    return this;
+  }
+
+  /**
+   * Stops reading until {@link #resume()} is called, the messages already read are still delivered.
+   */
+  public StdioChannel pause() {
+    synchronized (lock) {
+      paused = true;
+    }
+    return this;
+  }
+
+  public StdioChannel resume() {
+    synchronized (lock) {
+      paused = false;
+      lock.notifyAll();
+    }
+    return this;
+  }
+
+  private void read() {
+    byte[] bytes = new byte[READ_BUFFER_SIZE];
+    try {
+      while (awaitDemand()) {
+        int read = in.read(bytes);
+        if (read < 0) {
+          break;
+        }
+        deframer.update(bytes, 0, read);
+      }
+      deframer.end();
+    } catch (IOException e) {
+      if (!closing) {
+        context.runOnContext(v -> handleException(e));
+      }
+    }
+    context.runOnContext(v -> {
+      Handler<Void> h = endHandler;
+      if (h != null) {
+        h.handle(null);
+      }
+    });
+  }
+
+  private boolean awaitDemand() {
+    synchronized (lock) {
+      while (!closing && (paused || inFlight >= HIGH_WATER_MARK)) {
+        try {
+          lock.wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return false;
+        }
+      }
+      return !closing;
+    }
+  }
+
+  private void enqueueRead(Buffer message) {
+    synchronized (lock) {
+      inFlight++;
+    }
+    context.runOnContext(v -> {
+      try {
+        Handler<Buffer> h = handler;
+        if (h != null) {
+          h.handle(message);
+        }
+      } finally {
+        synchronized (lock) {
+          if (--inFlight == LOW_WATER_MARK) {
+            lock.notifyAll();
+          }
+        }
+      }
+    });
+  }
+
+  /**
+   * Writes a message, the message must not contain a line break, line breaks are replaced by spaces as JSON allows outside of strings.
+   *
+   * @param message the encoded message
+   * @return a future completed once the message has been flushed
+   */
+  public Future<Void> write(Buffer message) {
+    Promise<Void> promise = context.promise();
+    enqueueWrite(message, promise);
+    return promise.future();
+  }
+
+  /**
+   * Writes several messages, flushed together unless they exceed the size of a batch.
+   *
+   * @param messages the encoded messages
+   * @return a future completed once the messages have been flushed
+   */
+  public Future<Void> writeAll(List<Buffer> messages) {
+    if (messages.isEmpty()) {
+      return context.succeededFuture();
+    }
+    Promise<Void> promise = context.promise();
+    int last = messages.size() - 1;
+    for (int i = 0; i < last; i++) {
+      enqueueWrite(messages.get(i), null);
+    }
+    enqueueWrite(messages.get(last), promise);
+    return promise.future();
+  }
+
+  private void enqueueWrite(Buffer message, Promise<Void> promise) {
+    if (closing) {
+      if (promise != null) {
+        promise.fail("Channel closed");
+      }
+      return;
+    }
+    queued.addAndGet(message.length() + 1);
+    writes.add(new Write(message, promise));
+    if (outputClosed) {
+      // Closed between the check and the add, the writer no longer drains the queue
+      failWrites(null);
+      return;
+    }
+    LockSupport.unpark(writer);
+  }
+
+  public boolean writeQueueFull() {
+    return queued.get() >= writeQueueMaxSize;
+  }
+
+  public StdioChannel setWriteQueueMaxSize(long maxSize) {
+    this.writeQueueMaxSize = maxSize;
+    return this;
+  }
+
+  /**
+   * Adds a handler called once, when the write queue is no longer full. It is called right away when the queue is not full.
+   */
+  public StdioChannel drainHandler(Handler<Void> handler) {
+    if (!writeQueueFull()) {
+      context.runOnContext(handler);
+      return this;
+    }
+    if (drainHandlers == null) {
+      drainHandlers = new ArrayList<>(1);
+    }
+    drainHandlers.add(handler);
+    return this;
+  }
+
+  private void write() {
+    byte[] batch = new byte[WRITE_BUFFER_SIZE];
+    List<Promise<Void>> flushed = new ArrayList<>();
+    try {
+      while (true) {
+        Write write = writes.poll();
+        if (write == null) {
+          if (closing && writes.isEmpty()) {
+            break;
+          }
+          LockSupport.park(this);
+          continue;
+        }
+        int position = 0;
+        long size = 0;
+        do {
+          position = copy(write.message, batch, position);
+          if (position == batch.length) {
+            out.write(batch, 0, position);
+            position = 0;
+          }
+          batch[position++] = LF;
+          size += write.message.length() + 1;
+          if (write.promise != null) {
+            flushed.add(write.promise);
+          }
+        } while (size < WRITE_BUFFER_SIZE && (write = writes.poll()) != null);
+        out.write(batch, 0, position);
+        out.flush();
+        written(size, flushed);
+        flushed = new ArrayList<>();
+      }
+      closeOutput(null);
+    } catch (IOException e) {
+      closing = true;
+      flushed.forEach(promise -> promise.tryFail(e));
+      context.runOnContext(v -> handleException(e));
+      closeOutput(e);
+    }
+  }
+
+  /**
+   * Copies a message in the batch, writing the batch each time it is full.
+   *
+   * @return the position in the batch after the message
+   */
+  private int copy(Buffer message, byte[] batch, int position) throws IOException {
+    int length = message.length();
+    int index = 0;
+    while (index < length) {
+      if (position == batch.length) {
+        out.write(batch, 0, position);
+        position = 0;
+      }
+      int count = Math.min(length - index, batch.length - position);
+      message.getBytes(index, index + count, batch, position);
+      for (int i = position; i < position + count; i++) {
+        if (batch[i] == LF || batch[i] == '\r') {
+          batch[i] = SPACE;
+        }
+      }
+      index += count;
+      position += count;
+    }
+    return position;
+  }
+
+  private void written(long size, List<Promise<Void>> flushed) {
+    long remaining = queued.addAndGet(-size);
+    boolean drained = remaining < writeQueueMaxSize / 2 && remaining + size >= writeQueueMaxSize / 2;
+    if (!flushed.isEmpty() || drained) {
+      context.runOnContext(v -> {
+        for (Promise<Void> promise : flushed) {
+          promise.tryComplete();
+        }
+        if (!writeQueueFull()) {
+          List<Handler<Void>> handlers = drainHandlers;
+          if (handlers != null) {
+            drainHandlers = null;
+            handlers.forEach(h -> h.handle(null));
+          }
+        }
+      });
+    }
+  }
+
+  private void closeOutput(Throwable failure) {
+    // Set before the queue is drained, a write added after the drain sees it and fails itself
+    outputClosed = true;
+    try {
+      out.close();
+    } catch (IOException e) {
+      LOGGER.log(Level.FINE, "Failed to close the output", e);
+    }
+    failWrites(failure);
+    if (failure == null) {
+      closePromise.tryComplete();
+    } else {
+      closePromise.tryFail(failure);
+    }
+  }
+
+  /**
+   * Fails the writes left in the queue once the output is closed.
+   *
+   * @param failure the failure of the output, or {@code null} when the channel was closed
+   */
+  private void failWrites(Throwable failure) {
+    Write write;
+    while ((write = writes.poll()) != null) {
+      queued.addAndGet(-(write.message.length() + 1));
+      if (write.promise == null) {
+        continue;
+      }
+      if (failure != null) {
+        write.promise.tryFail(failure);
+      } else {
+        write.promise.tryFail("Channel closed");
+      }
+    }
+  }
+
+  private void handleException(Throwable failure) {
+    Handler<Throwable> h = exceptionHandler;
+    if (h != null) {
+      h.handle(failure);
+    } else {
+      LOGGER.log(Level.FINE, "Stdio channel failure", failure);
+    }
+  }
+
+  /**
+   * Closes the channel: the messages already written are flushed before the output is closed, the reader thread stops. A reader blocked on the input is released when the
+   * peer closes its end or when the process exits.
+   *
+   * @return a future completed once the output has been closed
+   */
+  public Future<Void> close() {
+    synchronized (lock) {
+      if (closing) {
+        return closePromise.future();
+      }
+      closing = true;
+      lock.notifyAll();
+    }
+    Thread w = writer;
+    if (w != null) {
+      LockSupport.unpark(w);
+    } else {
+      closeOutput(null);
+    }
+    return closePromise.future();
+  }
+
+  /**
+   * @return a future completed once the channel has been closed
+   */
+  public Future<Void> closeFuture() {
+    return closePromise.future();
+  }
+
+  private static final class Write {
+
+    final Buffer message;
+    final Promise<Void> promise;
+
+    Write(Buffer message, Promise<Void> promise) {
+      this.message = message;
+      this.promise = promise;
+    }
+  }
+}
@@ -4,12 +4,14 @@ module io.vertx.mcp.common {
 
   requires io.vertx.codegen.json;
   requires io.vertx.core;
+  requires com.fasterxml.jackson.core;
   requires java.logging;
 
   exports io.vertx.mcp.common;
   exports io.vertx.mcp.common.capabilities;
   exports io.vertx.mcp.common.content;
   exports io.vertx.mcp.common.completion;
+  exports io.vertx.mcp.common.metrics;
   exports io.vertx.mcp.common.notification;
   exports io.vertx.mcp.common.prompt;
   exports io.vertx.mcp.common.reference;
@@ -20,5 +22,9 @@ module io.vertx.mcp.common {
   exports io.vertx.mcp.common.rpc;
   exports io.vertx.mcp.common.sampling;
   exports io.vertx.mcp.common.tool;
+  exports io.vertx.mcp.common.tracing;
   exports io.vertx.mcp.common.transport;
+  exports io.vertx.mcp.common.transport.stdio;
+
+  uses io.vertx.mcp.common.metrics.McpMetricsFactory;
 }
@@ -12,6 +12,8 @@ import io.vertx.mcp.client.feature.RootsClientFeature;
 import io.vertx.mcp.client.feature.SamplingClientFeature;
 import io.vertx.mcp.client.impl.ClientFeatureBase;
 import io.vertx.mcp.client.transport.http.StreamableHttpClientTransport;
+import io.vertx.mcp.client.transport.stdio.StdioClientTransport;
+import io.vertx.mcp.client.transport.websocket.WebSocketClientTransport;
 import io.vertx.mcp.common.capabilities.ClientCapabilities;
 import io.vertx.mcp.common.capabilities.ServerCapabilities;
 import io.vertx.mcp.common.content.TextContent;
@@ -94,6 +96,21 @@ public class MCPClientExamples {
       vertx, serverUrl, clientOptions, httpOptions);
   }
 
+  public void stdioTransport(Vertx vertx) {
+    ClientOptions clientOptions = new ClientOptions();
+
+    // Launch the server as a subprocess, its standard error is inherited
+    ClientTransport transport = new StdioClientTransport(vertx,
+      List.of("java", "-jar", "weather-server.jar"), clientOptions);
+  }
+
+  public void webSocketTransport(Vertx vertx) {
+    ClientOptions clientOptions = new ClientOptions();
+
+    // Each session is carried by its own WebSocket
+    ClientTransport transport = new WebSocketClientTransport(vertx, "ws://localhost:8080/mcp", clientOptions);
+  }
+
   public void subscribe(Vertx vertx, ModelContextProtocolClient client) {
     // Define client capabilities
     ClientCapabilities capabilities = new ClientCapabilities();
@@ -150,6 +167,16 @@ public class MCPClientExamples {
       });
   }
 
+  public void callToolRaw(ModelContextProtocolClient client) {
+    CallToolRequest callRequest = new CallToolRequest()
+      .setName("weather")
+      .setArguments(new JsonObject().put("city", "Paris"));
+
+    // The result is returned as received, e.g. to forward it
+    client.sendRawRequest(callRequest)
+      .onSuccess(result -> System.out.println("Encoded result: " + result));
+  }
+
   public void readResource(ModelContextProtocolClient client) {
     // List available resources
     client.sendRequest(new ListResourcesRequest())
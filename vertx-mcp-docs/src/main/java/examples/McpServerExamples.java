@@ -3,8 +3,12 @@ package examples;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.json.JsonObject;
 import io.vertx.mcp.common.LoggingLevel;
 import io.vertx.mcp.common.Meta;
@@ -14,14 +18,27 @@ import io.vertx.mcp.common.content.TextContent;
 import io.vertx.mcp.common.notification.LoggingMessageNotification;
 import io.vertx.mcp.common.prompt.PromptMessage;
 import io.vertx.mcp.common.resources.TextResourceContent;
+import io.vertx.mcp.common.rpc.JsonError;
+import io.vertx.mcp.server.CompletionIndex;
+import io.vertx.mcp.server.FileSystemResourceProvider;
+import io.vertx.mcp.server.PromptHandler;
+import io.vertx.mcp.server.PromptTemplate;
 import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.ResourceStream;
 import io.vertx.mcp.server.ServerOptions;
 import io.vertx.mcp.server.ServerSession;
+import io.vertx.mcp.server.SessionLogHandler;
+import io.vertx.mcp.server.TemplatePromptHandler;
 import io.vertx.mcp.server.feature.*;
 import io.vertx.mcp.server.transport.http.StreamableHttpServerTransport;
+import io.vertx.mcp.server.transport.stdio.StdioServerTransport;
+import io.vertx.mcp.server.transport.websocket.WebSocketServerTransport;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
 
 import static io.vertx.json.schema.common.dsl.Schemas.*;
 
@@ -122,6 +139,19 @@ public class McpServerExamples {
     );
   }
 
+  public void addRawTool(Vertx vertx, ToolServerFeature toolFeature) {
+    HttpClient upstream = vertx.createHttpClient();
+
+    // The JSON body of the upstream API is the structured content of the result, it is not decoded by the server
+    toolFeature.addRawTool(
+      "weather",
+      objectSchema().requiredProperty("city", stringSchema()),
+      objectSchema().property("temperature", numberSchema()),
+      args -> upstream.request(HttpMethod.GET, 8081, "localhost", "/weather?city=" + args.getString("city"))
+        .compose(req -> req.send().compose(HttpClientResponse::body))
+    );
+  }
+
   public void addStaticResource(ModelContextProtocolServer mcpServer) {
     ResourceServerFeature resourceFeature = new ResourceServerFeature();
 
@@ -170,12 +200,45 @@ public class McpServerExamples {
     );
   }
 
+  public void addStreamingResource(Vertx vertx, ResourceServerFeature resourceFeature) {
+    // Stream large content instead of loading it in memory
+    resourceFeature.addStreamingResource(
+      "archive://{name}",
+      "Archive",
+      "application/zip",
+      params -> vertx.fileSystem()
+        .open("/data/archives/" + params.get("name") + ".zip", new OpenOptions().setRead(true))
+        .map(file -> new ResourceStream(file).setMimeType("application/zip"))
+    );
+  }
+
+  public void addFileSystemResources(Vertx vertx, ResourceServerFeature resourceFeature) {
+    // Serve the files of a directory under docs://<relative path>, watching for changes
+    resourceFeature.addResourceProvider(
+      FileSystemResourceProvider.create(vertx, "/srv/docs", "docs://", true)
+    );
+  }
+
   public void notifyResourceUpdated(Vertx vertx,
     ResourceServerFeature resourceFeature) {
     // When a resource changes, notify subscribed clients
     resourceFeature.notifyResourceUpdated(vertx, "config://app/settings");
   }
 
+  public void configureSessionLogging(ToolServerFeature toolFeature) {
+    // Forward the records of a library to the session calling the tool
+    Logger.getLogger("com.example.search").addHandler(new SessionLogHandler());
+
+    toolFeature.addStructuredTool("search", objectSchema(), objectSchema(), args -> {
+      ServerSession session = ServerSession.fromContext(Vertx.currentContext());
+
+      // Only warnings of the chatty search library, whatever the level set by the client
+      session.setLoggingLevel("com.example.search", LoggingLevel.WARNING);
+
+      return Future.succeededFuture(new JsonObject());
+    });
+  }
+
   public void addPrompt(ModelContextProtocolServer mcpServer) {
     PromptServerFeature promptFeature = new PromptServerFeature();
 
@@ -208,6 +271,23 @@ public class McpServerExamples {
     mcpServer.addServerFeature(promptFeature);
   }
 
+  public void addTemplatePrompt(Vertx vertx) {
+    ModelContextProtocolServer mcpServer = ModelContextProtocolServer.create(vertx, new ServerOptions()
+      .setPromptCacheSize(1000));
+
+    PromptServerFeature promptFeature = new PromptServerFeature();
+
+    // The language and code arguments are derived from the placeholders
+    promptFeature.addPrompt(TemplatePromptHandler.create(
+      "code-review",
+      "Code Review",
+      "Reviews code for best practices",
+      PromptTemplate.user("Please review this {{language}} code:\n\n{{code}}")
+    ));
+
+    mcpServer.addServerFeature(promptFeature);
+  }
+
   public void configureServerOptions() {
     ServerOptions options = new ServerOptions()
       .setServerName("my-server")
@@ -217,6 +297,17 @@ public class McpServerExamples {
       .setMaxSessions(500);
   }
 
+  public void statelessSessions(Vertx vertx) {
+    ModelContextProtocolServer mcpServer = ModelContextProtocolServer.create(vertx, new ServerOptions()
+      .setStatelessSessions(true)
+      // The same secret on every node
+      .setSessionTokenSecret(System.getenv("MCP_SESSION_TOKEN_SECRET")));
+
+    vertx.createHttpServer()
+      .requestHandler(new StreamableHttpServerTransport(vertx, mcpServer))
+      .listen(8080);
+  }
+
   public void createTransport(Vertx vertx, ModelContextProtocolServer mcpServer) {
     StreamableHttpServerTransport transport = new StreamableHttpServerTransport(vertx, mcpServer);
 
@@ -226,6 +317,44 @@ public class McpServerExamples {
       .listen(8080);
   }
 
+  public void createStdioTransport(Vertx vertx, ModelContextProtocolServer mcpServer) {
+    StdioServerTransport transport = new StdioServerTransport(vertx, mcpServer);
+
+    // The client closes the standard input of the server to end the session
+    transport
+      .closeHandler(v -> vertx.close())
+      .start();
+  }
+
+  public void createWebSocketTransport(Vertx vertx, ModelContextProtocolServer mcpServer) {
+    WebSocketServerTransport transport = new WebSocketServerTransport(vertx, mcpServer)
+      .setPingIntervalMs(30_000);
+
+    // Clients connect to ws://localhost:8080/mcp
+    vertx.createHttpServer(new HttpServerOptions().setPort(8080))
+      .webSocketHandler(transport)
+      .listen();
+  }
+
+  public void addAdmissionHandler(ModelContextProtocolServer mcpServer, Set<String> allowedTools) {
+    // Called before the params of the request are decoded
+    mcpServer.addAdmissionHandler((envelope, session) -> {
+      if ("tools/call".equals(envelope.getMethod()) && !allowedTools.contains(envelope.getName())) {
+        return JsonError.serverError(-32001, "Tool not allowed: " + envelope.getName());
+      }
+      return null;
+    });
+  }
+
+  public void sessionLifecycle(ModelContextProtocolServer mcpServer, Map<String, Object> sessionState) {
+    mcpServer.addSessionLifecycleHandler(event -> {
+      if (event.isTerminal()) {
+        // Closed or expired
+        sessionState.remove(event.session().id());
+      }
+    });
+  }
+
   public void createTransportWithCors(Vertx vertx, ModelContextProtocolServer mcpServer) {
     StreamableHttpServerTransport transport = new StreamableHttpServerTransport(vertx, mcpServer);
 
@@ -252,6 +381,23 @@ public class McpServerExamples {
       .listen(8080);
   }
 
+  public void addPromptWithCompletionIndex(PromptServerFeature promptFeature, List<String> countries, Map<String, Integer> languagePopularity) {
+    // Build the indexes once, they are immutable and can be shared
+    CompletionIndex countryIndex = CompletionIndex.of(countries);
+    CompletionIndex languageIndex = CompletionIndex.ranked(languagePopularity);
+
+    promptFeature.addPrompt(PromptHandler.create(
+      "travel-guide",
+      "Travel Guide",
+      "Writes a travel guide",
+      arraySchema().items(objectSchema()
+        .requiredProperty("country", stringSchema())
+        .requiredProperty("language", stringSchema())),
+      args -> Future.succeededFuture(new ArrayList<>()),
+      CompletionIndex.completions(Map.of("country", countryIndex, "language", languageIndex))
+    ));
+  }
+
   public void addDynamicResourceWithCompletion(
     ResourceServerFeature resourceFeature) {
     // Add a dynamic resource with completion support
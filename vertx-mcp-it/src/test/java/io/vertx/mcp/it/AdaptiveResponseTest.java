@@ -0,0 +1,129 @@
+package io.vertx.mcp.it;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.json.schema.common.dsl.Schemas;
+import io.vertx.mcp.common.notification.ProgressNotification;
+import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.ServerOptions;
+import io.vertx.mcp.server.ServerSession;
+import io.vertx.mcp.server.feature.ProtocolServerFeature;
+import io.vertx.mcp.server.feature.ToolServerFeature;
+import io.vertx.mcp.server.transport.http.StreamableHttpServerTransport;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class AdaptiveResponseTest extends HttpTransportTestBase {
+
+  private void startServer(TestContext context, ServerOptions options) {
+    ModelContextProtocolServer server = ModelContextProtocolServer.create(super.vertx, options);
+    server.addServerFeature(new ProtocolServerFeature());
+    ToolServerFeature toolFeature = new ToolServerFeature();
+    server.addServerFeature(toolFeature);
+
+    toolFeature.addStructuredTool("quick", Schemas.objectSchema(), Schemas.objectSchema(), args -> Future.succeededFuture(new JsonObject().put("done", true)));
+    toolFeature.addStructuredTool("progress", Schemas.objectSchema(), Schemas.objectSchema(), args -> {
+      ServerSession session = ServerSession.fromContext(Vertx.currentContext());
+      return session.sendNotification(new ProgressNotification().setProgressToken("p-1").setProgress(0.5))
+        .map(v -> new JsonObject().put("done", true));
+    });
+    // Pretty-printed by the upstream API
+    toolFeature.addRawTool("pretty", Schemas.objectSchema(), Schemas.objectSchema(), args -> {
+      ServerSession session = ServerSession.fromContext(Vertx.currentContext());
+      return session.sendNotification(new ProgressNotification().setProgressToken("p-1").setProgress(0.5))
+        .map(v -> Buffer.buffer("{\r\n  \"city\": \"Paris\",\n  \"tags\": [\n    \"sunny\"\n  ]\n}\n"));
+    });
+
+    super.startServer(context, server);
+  }
+
+  @Test
+  public void testQuickCallIsPlainJson(TestContext context) throws Throwable {
+    startServer(context, new ServerOptions());
+    String sessionId = initialize();
+
+    HttpClientResponse response = send(port, HttpMethod.POST, sessionId, call("quick")).await(10, TimeUnit.SECONDS);
+    Buffer body = response.body().await(10, TimeUnit.SECONDS);
+
+    context.assertEquals(200, response.statusCode());
+    context.assertEquals("application/json", response.getHeader(HttpHeaders.CONTENT_TYPE));
+    context.assertEquals(String.valueOf(body.length()), response.getHeader(HttpHeaders.CONTENT_LENGTH));
+    context.assertNull(response.getHeader(HttpHeaders.TRANSFER_ENCODING));
+    context.assertTrue(new JsonObject(body).getJsonObject("result").getJsonObject("structuredContent").getBoolean("done"));
+  }
+
+  @Test
+  public void testIntermediateMessageUpgradesToSse(TestContext context) throws Throwable {
+    startServer(context, new ServerOptions());
+    String sessionId = initialize();
+
+    HttpClientResponse response = send(port, HttpMethod.POST, sessionId, call("progress")).await(10, TimeUnit.SECONDS);
+    String body = response.body().await(10, TimeUnit.SECONDS).toString();
+
+    context.assertTrue(response.getHeader(HttpHeaders.CONTENT_TYPE).startsWith("text/event-stream"));
+    context.assertEquals("chunked", response.getHeader(HttpHeaders.TRANSFER_ENCODING));
+    context.assertTrue(body.indexOf("notifications/progress") < body.indexOf("structuredContent"));
+  }
+
+  @Test
+  public void testRawContentLineBreaksDoNotSplitEvents(TestContext context) throws Throwable {
+    startServer(context, new ServerOptions());
+    String sessionId = initialize();
+
+    HttpClientResponse response = send(port, HttpMethod.POST, sessionId, call("pretty")).await(10, TimeUnit.SECONDS);
+    String body = response.body().await(10, TimeUnit.SECONDS).toString();
+
+    context.assertTrue(response.getHeader(HttpHeaders.CONTENT_TYPE).startsWith("text/event-stream"));
+    JsonObject result = null;
+    for (String event : body.split("\n\n")) {
+      // Every event is a single data line carrying a whole message
+      context.assertTrue(event.startsWith("data: "));
+      context.assertEquals(-1, event.indexOf('\n'));
+      JsonObject message = new JsonObject(event.substring("data: ".length()));
+      if (message.containsKey("result")) {
+        result = message.getJsonObject("result");
+      }
+    }
+    context.assertNotNull(result);
+    context.assertEquals("Paris", result.getJsonObject("structuredContent").getString("city"));
+  }
+
+  @Test
+  public void testGracePeriodBuffersIntermediateMessages(TestContext context) throws Throwable {
+    startServer(context, new ServerOptions().setStreamingGracePeriodMs(1000));
+    String sessionId = initialize();
+
+    HttpClientResponse response = send(port, HttpMethod.POST, sessionId, call("progress")).await(10, TimeUnit.SECONDS);
+    Buffer body = response.body().await(10, TimeUnit.SECONDS);
+
+    context.assertTrue(response.getHeader(HttpHeaders.CONTENT_TYPE).startsWith("text/event-stream"));
+    context.assertEquals(String.valueOf(body.length()), response.getHeader(HttpHeaders.CONTENT_LENGTH));
+    context.assertNull(response.getHeader(HttpHeaders.TRANSFER_ENCODING));
+    String events = body.toString();
+    context.assertTrue(events.startsWith("data: "));
+    context.assertTrue(events.indexOf("notifications/progress") < events.indexOf("structuredContent"));
+  }
+
+  private String initialize() throws Throwable {
+    JsonObject params = new JsonObject()
+      .put("protocolVersion", "2025-06-18")
+      .put("capabilities", new JsonObject())
+      .put("clientInfo", new JsonObject().put("name", "test").put("version", "1.0"));
+    JsonObject message = new JsonObject().put("jsonrpc", "2.0").put("id", 0).put("method", "initialize").put("params", params);
+    HttpClientResponse response = send(port, HttpMethod.POST, null, message).await(10, TimeUnit.SECONDS);
+    response.body().await(10, TimeUnit.SECONDS);
+    return response.getHeader(StreamableHttpServerTransport.MCP_SESSION_ID_HEADER);
+  }
+
+  private static JsonObject call(String tool) {
+    JsonObject params = new JsonObject().put("name", tool).put("arguments", new JsonObject());
+    return new JsonObject().put("jsonrpc", "2.0").put("id", 1).put("method", "tools/call").put("params", params);
+  }
+}
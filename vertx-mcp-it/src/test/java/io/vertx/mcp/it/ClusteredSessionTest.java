@@ -0,0 +1,205 @@
+package io.vertx.mcp.it;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.json.schema.common.dsl.Schemas;
+import io.vertx.mcp.common.request.PingRequest;
+import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.ServerOptions;
+import io.vertx.mcp.server.ServerSession;
+import io.vertx.mcp.server.feature.ProtocolServerFeature;
+import io.vertx.mcp.server.feature.SessionServerFeature;
+import io.vertx.mcp.server.feature.ToolServerFeature;
+import io.vertx.mcp.server.impl.SessionManagerImpl;
+import io.vertx.mcp.server.transport.http.StreamableHttpServerTransport;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Two nodes sharing an event bus, each with its own session manager, as the nodes of a clustered Vert.x.
+ */
+public class ClusteredSessionTest extends HttpTransportTestBase {
+
+  private ToolServerFeature toolsOfA;
+  private int portOfB;
+
+  @Before
+  public void setUpNodes(TestContext context) throws Throwable {
+    ModelContextProtocolServer serverA = createServer();
+    toolsOfA = (ToolServerFeature) serverA.features().stream().filter(f -> f instanceof ToolServerFeature).findFirst().get();
+    super.startServer(context, serverA);
+
+    StreamableHttpServerTransport transportB = new StreamableHttpServerTransport(vertx, createServer());
+    portOfB = vertx.createHttpServer().requestHandler(transportB).listen(0, "localhost").await(20, TimeUnit.SECONDS).actualPort();
+  }
+
+  private ModelContextProtocolServer createServer() {
+    // Short enough for a session used through the other node only to expire during a test
+    ModelContextProtocolServer server = ModelContextProtocolServer.create(super.vertx, new ServerOptions().setSessionTimeoutMs(2000));
+    server.addServerFeature(new ProtocolServerFeature());
+    server.addServerFeature(new SessionServerFeature());
+    ToolServerFeature toolFeature = new ToolServerFeature();
+    server.addServerFeature(toolFeature);
+
+    toolFeature.addStructuredTool("whoami", Schemas.objectSchema(), Schemas.objectSchema(), args -> {
+      ServerSession session = ServerSession.fromContext(Vertx.currentContext());
+      return Future.succeededFuture(new JsonObject()
+        .put("id", session.id())
+        .put("sampling", session.clientCapabilities().getSampling() != null));
+    });
+    toolFeature.addStructuredTool("ping", Schemas.objectSchema(), Schemas.objectSchema(),
+      args -> ServerSession.fromContext(Vertx.currentContext()).sendRequest(new PingRequest()).map(result -> new JsonObject().put("pong", true)));
+    return server;
+  }
+
+  @Test
+  public void testSessionIdsAreTaggedWithTheOwningNode(TestContext context) throws Throwable {
+    String first = initialize(port);
+    String second = initialize(port);
+    String other = initialize(portOfB);
+
+    context.assertNotEquals(first, second);
+    context.assertEquals(SessionManagerImpl.ownerOf(first), SessionManagerImpl.ownerOf(second));
+    context.assertNotEquals(SessionManagerImpl.ownerOf(first), SessionManagerImpl.ownerOf(other));
+  }
+
+  @Test
+  public void testRequestIsServedByAnotherNode(TestContext context) throws Throwable {
+    String sessionId = initialize(port);
+
+    HttpClientResponse response = send(portOfB, HttpMethod.POST, sessionId, call("whoami")).await(10, TimeUnit.SECONDS);
+
+    context.assertEquals(200, response.statusCode());
+    JsonObject result = new JsonObject(response.body().await(10, TimeUnit.SECONDS)).getJsonObject("result").getJsonObject("structuredContent");
+    context.assertEquals(sessionId, result.getString("id"));
+    // Capabilities negotiated with the owning node
+    context.assertTrue(result.getBoolean("sampling"));
+  }
+
+  @Test
+  public void testSessionUsedThroughAnotherNodeDoesNotExpire(TestContext context) throws Throwable {
+    String sessionId = initialize(port);
+
+    // Longer than the session timeout, every request is served by B
+    long end = System.currentTimeMillis() + 3500;
+    while (System.currentTimeMillis() < end) {
+      context.assertEquals(200, send(portOfB, HttpMethod.POST, sessionId, call("whoami")).await(10, TimeUnit.SECONDS).statusCode());
+      Thread.sleep(250);
+    }
+  }
+
+  @Test
+  public void testUnknownSessionIsNotFound(TestContext context) throws Throwable {
+    String sessionId = initialize(port);
+    String owner = SessionManagerImpl.ownerOf(sessionId);
+
+    context.assertEquals(404, send(portOfB, HttpMethod.POST, owner + ".unknown", call("whoami")).await(10, TimeUnit.SECONDS).statusCode());
+    context.assertEquals(404, send(portOfB, HttpMethod.POST, "gone.unknown", call("whoami")).await(10, TimeUnit.SECONDS).statusCode());
+    context.assertEquals(404, send(portOfB, HttpMethod.POST, "untagged", call("whoami")).await(10, TimeUnit.SECONDS).statusCode());
+  }
+
+  @Test
+  public void testStreamIsRelayedAndClientResponseForwarded(TestContext context) throws Throwable {
+    String sessionId = initialize(port);
+    StringBuffer events = new StringBuffer();
+    openStream(portOfB, sessionId, events);
+
+    // The tool runs on B, the ping is sent by A on the stream relayed to B, and the response of the client reaches A through B
+    Future<HttpClientResponse> call = send(portOfB, HttpMethod.POST, sessionId, call("ping"));
+    Set<Object> answered = new HashSet<>();
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (!call.isComplete() && System.currentTimeMillis() < deadline) {
+      // The periodic pings of the session manager are answered as well
+      for (String event : events.toString().split("\n\n")) {
+        if (event.contains("\"method\":\"ping\"")) {
+          Object pingId = new JsonObject(event.substring(event.indexOf("data: ") + 6)).getValue("id");
+          if (answered.add(pingId)) {
+            JsonObject pong = new JsonObject().put("jsonrpc", "2.0").put("id", pingId).put("result", new JsonObject());
+            context.assertEquals(202, send(portOfB, HttpMethod.POST, sessionId, pong).await(10, TimeUnit.SECONDS).statusCode());
+          }
+        }
+      }
+      Thread.sleep(10);
+    }
+
+    String body = call.await(10, TimeUnit.SECONDS).body().await(10, TimeUnit.SECONDS).toString();
+    context.assertTrue(body.contains("\"pong\":true"));
+  }
+
+  @Test
+  public void testRequestToClientFailsWhenTheSessionCloses(TestContext context) throws Throwable {
+    String sessionId = initialize(port);
+    StringBuffer events = new StringBuffer();
+    openStream(portOfB, sessionId, events);
+
+    // The client does not answer, the request is pending on A until the session is closed
+    Future<HttpClientResponse> call = send(portOfB, HttpMethod.POST, sessionId, call("ping"));
+    awaitEvent(events, "\"method\":\"ping\"");
+    context.assertEquals(204, send(port, HttpMethod.DELETE, sessionId, new JsonObject()).await(10, TimeUnit.SECONDS).statusCode());
+
+    JsonObject result = new JsonObject(call.await(10, TimeUnit.SECONDS).body().await(10, TimeUnit.SECONDS)).getJsonObject("result");
+    context.assertTrue(result.getBoolean("isError"));
+  }
+
+  @Test
+  public void testListChangedReachesSessionsOfEveryNode(TestContext context) throws Throwable {
+    StringBuffer eventsOfA = new StringBuffer();
+    StringBuffer eventsOfB = new StringBuffer();
+    openStream(port, initialize(port), eventsOfA);
+    openStream(portOfB, initialize(portOfB), eventsOfB);
+
+    toolsOfA.addStructuredTool("added", Schemas.objectSchema(), Schemas.objectSchema(), args -> Future.succeededFuture(new JsonObject()));
+
+    awaitEvent(eventsOfA, "notifications/tools/list_changed");
+    awaitEvent(eventsOfB, "notifications/tools/list_changed");
+  }
+
+  private void openStream(int port, String sessionId, StringBuffer events) throws Throwable {
+    HttpClientResponse response = httpClient
+      .request(new RequestOptions().setMethod(HttpMethod.GET).setPort(port).setHost("localhost").setURI("/mcp"))
+      .compose(req -> req
+        .putHeader(HttpHeaders.ACCEPT, "text/event-stream")
+        .putHeader(StreamableHttpServerTransport.MCP_SESSION_ID_HEADER, sessionId)
+        .send()
+        .onSuccess(resp -> resp.handler(chunk -> events.append(chunk.toString()))))
+      .await(10, TimeUnit.SECONDS);
+    if (response.statusCode() != 200) {
+      throw new AssertionError("Stream not opened: " + response.statusCode());
+    }
+  }
+
+  private static void awaitEvent(StringBuffer events, String text) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (System.currentTimeMillis() < deadline) {
+      if (events.toString().contains(text)) {
+        return;
+      }
+      Thread.sleep(10);
+    }
+    throw new AssertionError("No event with " + text + " in " + events);
+  }
+
+  private String initialize(int port) throws Throwable {
+    JsonObject params = new JsonObject()
+      .put("protocolVersion", "2025-06-18")
+      .put("capabilities", new JsonObject().put("sampling", new JsonObject()))
+      .put("clientInfo", new JsonObject().put("name", "test").put("version", "1.0"));
+    JsonObject message = new JsonObject().put("jsonrpc", "2.0").put("id", 0).put("method", "initialize").put("params", params);
+    return send(port, HttpMethod.POST, null, message).await(10, TimeUnit.SECONDS).getHeader(StreamableHttpServerTransport.MCP_SESSION_ID_HEADER);
+  }
+
+  private static JsonObject call(String tool) {
+    JsonObject params = new JsonObject().put("name", tool).put("arguments", new JsonObject());
+    return new JsonObject().put("jsonrpc", "2.0").put("id", 1).put("method", "tools/call").put("params", params);
+  }
+}
@@ -0,0 +1,57 @@
+package io.vertx.mcp.it;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.WriteStream;
+
+import java.util.List;
+
+/**
+ * A session stream collecting the messages written by the server.
+ */
+class CollectingWriteStream implements WriteStream<JsonObject> {
+
+  private final List<JsonObject> written;
+  private boolean ended;
+
+  CollectingWriteStream(List<JsonObject> written) {
+    this.written = written;
+  }
+
+  boolean ended() {
+    return ended;
+  }
+
+  @Override
+  public WriteStream<JsonObject> exceptionHandler(Handler<Throwable> handler) {
+    return this;
+  }
+
+  @Override
+  public Future<Void> write(JsonObject data) {
+    written.add(data);
+    return Future.succeededFuture();
+  }
+
+  @Override
+  public Future<Void> end() {
+    ended = true;
+    return Future.succeededFuture();
+  }
+
+  @Override
+  public WriteStream<JsonObject> setWriteQueueMaxSize(int maxSize) {
+    return this;
+  }
+
+  @Override
+  public boolean writeQueueFull() {
+    return false;
+  }
+
+  @Override
+  public WriteStream<JsonObject> drainHandler(Handler<Void> handler) {
+    return this;
+  }
+}
@@ -1,9 +1,13 @@
 package io.vertx.mcp.it;
 
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.json.schema.common.dsl.Schemas;
 import io.vertx.mcp.client.ClientRequestException;
+import io.vertx.mcp.client.ClientSession;
+import io.vertx.mcp.client.CompletionDebouncer;
 import io.vertx.mcp.common.completion.Completion;
 import io.vertx.mcp.common.completion.CompletionArgument;
 import io.vertx.mcp.common.completion.CompletionContext;
@@ -14,6 +18,8 @@ import io.vertx.mcp.common.request.CompleteRequest;
 import io.vertx.mcp.common.resources.TextResourceContent;
 import io.vertx.mcp.common.result.CompleteResult;
 import io.vertx.mcp.common.rpc.JsonError;
+import io.vertx.mcp.server.CancellationToken;
+import io.vertx.mcp.server.CompletionIndex;
 import io.vertx.mcp.server.ModelContextProtocolServer;
 import io.vertx.mcp.server.PromptHandler;
 import io.vertx.mcp.server.feature.CompletionServerFeature;
@@ -26,7 +32,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public class CompletionServerFeatureTest extends HttpTransportTestBase {
@@ -318,4 +327,145 @@ public class CompletionServerFeatureTest extends HttpTransportTestBase {
     context.assertNotNull(values, "Should have values");
     context.assertEquals(0, values.size(), "Should be empty when no handler");
   }
+
+  @Test
+  public void testCompletionIndexOverLargeCatalog(TestContext context) throws Throwable {
+    List<String> skus = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      skus.add(String.format("SKU-%06d", i));
+    }
+
+    resourceFeature.addDynamicResource(
+      "resource://product/{sku}",
+      "product",
+      "Product",
+      "Get product by SKU",
+      params -> Future.succeededFuture(new TextResourceContent().setUri("resource://product/" + params.get("sku")).setText(params.get("sku"))),
+      CompletionIndex.completions(Map.of("sku", CompletionIndex.of(skus)))
+    );
+
+    ClientSession session = createSession().await(10, TimeUnit.SECONDS);
+
+    Completion completion = complete(session, "sku-01").await(10, TimeUnit.SECONDS);
+    context.assertEquals(10_000, completion.getTotal());
+    context.assertEquals(100, completion.getValues().size());
+    context.assertTrue(completion.isHasMore());
+    context.assertEquals("SKU-010000", completion.getValues().get(0));
+
+    // Narrowed from the previous prefix of the session
+    completion = complete(session, "sku-0123").await(10, TimeUnit.SECONDS);
+    context.assertEquals(100, completion.getTotal());
+    context.assertEquals("SKU-012300", completion.getValues().get(0));
+    context.assertEquals("SKU-012399", completion.getValues().get(99));
+    context.assertFalse(completion.isHasMore());
+
+    // Not an extension of the previous prefix
+    completion = complete(session, "SKU-09999").await(10, TimeUnit.SECONDS);
+    context.assertEquals(10, completion.getTotal());
+    context.assertEquals("SKU-099990", completion.getValues().get(0));
+
+    completion = complete(session, "nothing").await(10, TimeUnit.SECONDS);
+    context.assertEquals(0, completion.getTotal());
+    context.assertTrue(completion.getValues().isEmpty());
+  }
+
+  @Test
+  public void testRankedCompletionIndex(TestContext context) throws Throwable {
+    CompletionIndex index = CompletionIndex.ranked(Map.of("java", 10, "javascript", 50, "julia", 5, "kotlin", 100));
+
+    Completion completion = index.complete(null, "j", 2);
+    context.assertEquals(List.of("javascript", "java"), completion.getValues());
+    context.assertEquals(3, completion.getTotal());
+    context.assertTrue(completion.isHasMore());
+
+    completion = index.complete(null, "", 10);
+    context.assertEquals(List.of("kotlin", "javascript", "java", "julia"), completion.getValues());
+  }
+
+  private Future<Completion> complete(ClientSession session, String value) {
+    CompleteRequest request = new CompleteRequest()
+      .setRef(CompletionReference.resourceRef("resource://product/{sku}"))
+      .setArgument(new CompletionArgument().setName("sku").setValue(value));
+    return session.sendRequest(request)
+      .expecting(result -> result instanceof CompleteResult)
+      .map(result -> ((CompleteResult) result).getCompletion());
+  }
+
+  @Test
+  public void testSupersededCompletionIsCancelled(TestContext context) throws Throwable {
+    AtomicBoolean cancelled = new AtomicBoolean();
+    Promise<Void> slowStarted = Promise.promise();
+
+    resourceFeature.addDynamicResource(
+      "resource://city/{name}",
+      "city",
+      "City",
+      "Get city by name",
+      params -> Future.succeededFuture(new TextResourceContent().setUri("resource://city/" + params.get("name")).setText(params.get("name"))),
+      (argument, completionContext) -> {
+        Completion completion = new Completion().setValues(List.of(argument.getValue() + "-city")).setTotal(1).setHasMore(false);
+        if (!"p".equals(argument.getValue())) {
+          return Future.succeededFuture(completion);
+        }
+        CancellationToken token = CancellationToken.fromContext(Vertx.currentContext());
+        Promise<Completion> promise = Promise.promise();
+        token.onCancel(v -> cancelled.set(true));
+        vertx.setTimer(1000, id -> promise.complete(completion));
+        slowStarted.complete();
+        return promise.future();
+      }
+    );
+
+    ClientSession session = createSession().await(10, TimeUnit.SECONDS);
+    Future<Completion> slow = completeCity(session, "p");
+    slowStarted.future().await(10, TimeUnit.SECONDS);
+    Completion fast = completeCity(session, "pa").await(10, TimeUnit.SECONDS);
+
+    context.assertEquals(List.of("pa-city"), fast.getValues());
+    context.assertTrue(cancelled.get());
+
+    Completion superseded = slow.await(10, TimeUnit.SECONDS);
+    context.assertTrue(superseded.getValues().isEmpty());
+    context.assertTrue(superseded.isHasMore());
+  }
+
+  @Test
+  public void testCompletionDebouncer(TestContext context) throws Throwable {
+    AtomicInteger calls = new AtomicInteger();
+    resourceFeature.addDynamicResource(
+      "resource://city/{name}",
+      "city",
+      "City",
+      "Get city by name",
+      params -> Future.succeededFuture(new TextResourceContent().setUri("resource://city/" + params.get("name")).setText(params.get("name"))),
+      (argument, completionContext) -> {
+        calls.incrementAndGet();
+        return Future.succeededFuture(new Completion().setValues(List.of(argument.getValue() + "-city")).setTotal(1).setHasMore(false));
+      }
+    );
+
+    ClientSession session = createSession().await(10, TimeUnit.SECONDS);
+    CompletionDebouncer debouncer = CompletionDebouncer.create(vertx, session, 100);
+
+    Future<Completion> first = debouncer.complete(cityRequest("p"));
+    Future<Completion> second = debouncer.complete(cityRequest("pa"));
+    Future<Completion> third = debouncer.complete(cityRequest("par"));
+
+    context.assertEquals(List.of("par-city"), third.await(10, TimeUnit.SECONDS).getValues());
+    context.assertTrue(first.failed() && first.cause() instanceof CancellationException);
+    context.assertTrue(second.failed() && second.cause() instanceof CancellationException);
+    context.assertEquals(1, calls.get());
+  }
+
+  private static CompleteRequest cityRequest(String value) {
+    return new CompleteRequest()
+      .setRef(CompletionReference.resourceRef("resource://city/{name}"))
+      .setArgument(new CompletionArgument().setName("name").setValue(value));
+  }
+
+  private Future<Completion> completeCity(ClientSession session, String value) {
+    return session.sendRequest(cityRequest(value))
+      .expecting(result -> result instanceof CompleteResult)
+      .map(result -> ((CompleteResult) result).getCompletion());
+  }
 }
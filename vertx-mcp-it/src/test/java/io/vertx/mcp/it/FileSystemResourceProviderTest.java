@@ -0,0 +1,151 @@
+package io.vertx.mcp.it;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.mcp.client.ClientRequestException;
+import io.vertx.mcp.client.ClientSession;
+import io.vertx.mcp.common.notification.ResourceListChangedNotification;
+import io.vertx.mcp.common.notification.ResourceUpdatedNotification;
+import io.vertx.mcp.common.request.ListResourcesRequest;
+import io.vertx.mcp.common.request.ReadResourceRequest;
+import io.vertx.mcp.common.request.SubscribeRequest;
+import io.vertx.mcp.common.result.ListResourcesResult;
+import io.vertx.mcp.common.result.ReadResourceResult;
+import io.vertx.mcp.server.FileSystemResourceProvider;
+import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.feature.ProtocolServerFeature;
+import io.vertx.mcp.server.feature.ResourceServerFeature;
+import io.vertx.mcp.server.feature.SessionServerFeature;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class FileSystemResourceProviderTest extends HttpTransportTestBase {
+
+  private Path root;
+  private FileSystemResourceProvider provider;
+  private ResourceServerFeature resourceFeature;
+
+  @Before
+  public void setUpFeatures(TestContext context) throws Exception {
+    root = Files.createTempDirectory("mcp-fs");
+    Files.writeString(root.resolve("readme.md"), "# Hello\n");
+    Files.createDirectories(root.resolve("docs"));
+    Files.write(root.resolve("docs").resolve("logo.bin"), new byte[] { 0, 1, 2, (byte) 0xFF });
+
+    ModelContextProtocolServer server = ModelContextProtocolServer.create(super.vertx);
+    server.addServerFeature(new ProtocolServerFeature());
+    server.addServerFeature(new SessionServerFeature());
+    resourceFeature = new ResourceServerFeature();
+    server.addServerFeature(resourceFeature);
+
+    provider = FileSystemResourceProvider.create(vertx, root.toString(), "docs://", true);
+    resourceFeature.addResourceProvider(provider);
+
+    super.startServer(context, server);
+  }
+
+  @After
+  public void closeProvider() {
+    resourceFeature.removeResourceProvider(provider);
+  }
+
+  @Test
+  public void testListFiles(TestContext context) throws Throwable {
+    ListResourcesResult result = (ListResourcesResult) getClient().sendRequest(new ListResourcesRequest())
+      .expecting(r -> r instanceof ListResourcesResult)
+      .await(10, TimeUnit.SECONDS);
+
+    JsonArray resources = result.getResources();
+    List<String> uris = resources.stream().map(r -> ((JsonObject) r).getString("uri")).sorted().collect(Collectors.toList());
+    context.assertEquals(List.of("docs://docs/logo.bin", "docs://readme.md"), uris);
+  }
+
+  @Test
+  public void testReadTextAndBinaryFiles(TestContext context) throws Throwable {
+    ReadResourceResult result = (ReadResourceResult) getClient().sendRequest(new ReadResourceRequest(new JsonObject().put("uri", "docs://readme.md")))
+      .expecting(r -> r instanceof ReadResourceResult)
+      .await(10, TimeUnit.SECONDS);
+    JsonObject content = result.getContents().getJsonObject(0);
+    context.assertEquals("# Hello\n", content.getString("text"));
+
+    result = (ReadResourceResult) getClient().sendRequest(new ReadResourceRequest(new JsonObject().put("uri", "docs://docs/logo.bin")))
+      .expecting(r -> r instanceof ReadResourceResult)
+      .await(10, TimeUnit.SECONDS);
+    content = result.getContents().getJsonObject(0);
+    context.assertEquals("application/octet-stream", content.getString("mimeType"));
+    byte[] blob = Base64.getDecoder().decode(content.getString("blob"));
+    context.assertEquals(4, blob.length);
+    context.assertEquals((byte) 0xFF, blob[3]);
+  }
+
+  @Test
+  public void testReadOutsideRootIsRejected(TestContext context) throws Throwable {
+    Files.writeString(root.getParent().resolve(root.getFileName() + "-secret.txt"), "secret");
+    try {
+      getClient().sendRequest(new ReadResourceRequest(new JsonObject().put("uri", "docs://../" + root.getFileName() + "-secret.txt")))
+        .await(10, TimeUnit.SECONDS);
+      context.fail("Should not serve files outside the root directory");
+    } catch (ClientRequestException e) {
+      context.assertTrue(e.getMessage().contains("Resource not found"));
+    }
+  }
+
+  @Test
+  public void testSymbolicLinkOutsideRootIsRejected(TestContext context) throws Throwable {
+    Path secret = Files.writeString(root.getParent().resolve(root.getFileName() + "-linked.txt"), "secret");
+    Files.createSymbolicLink(root.resolve("link.txt"), secret);
+    // A link to a file under the root is served
+    Files.createSymbolicLink(root.resolve("readme-link.md"), root.resolve("readme.md"));
+
+    try {
+      getClient().sendRequest(new ReadResourceRequest(new JsonObject().put("uri", "docs://link.txt"))).await(10, TimeUnit.SECONDS);
+      context.fail("Should not serve the target of a link outside the root directory");
+    } catch (ClientRequestException e) {
+      context.assertTrue(e.getMessage().contains("Resource not found"));
+    }
+
+    ReadResourceResult result = (ReadResourceResult) getClient().sendRequest(new ReadResourceRequest(new JsonObject().put("uri", "docs://readme-link.md")))
+      .expecting(r -> r instanceof ReadResourceResult)
+      .await(10, TimeUnit.SECONDS);
+    context.assertEquals("# Hello\n", result.getContents().getJsonObject(0).getString("text"));
+  }
+
+  @Test
+  public void testChangesAreNotified(TestContext context) throws Throwable {
+    List<String> updated = new CopyOnWriteArrayList<>();
+    Async updatedAsync = context.async();
+    Async listChangedAsync = context.async();
+    getClient().addNotificationHandler(ResourceUpdatedNotification.METHOD, notification -> {
+      updated.add(notification.toJson().getString("uri"));
+      if (updated.contains("docs://readme.md") && !updatedAsync.isCompleted()) {
+        updatedAsync.complete();
+      }
+    });
+    getClient().addNotificationHandler(ResourceListChangedNotification.METHOD, notification -> {
+      if (!listChangedAsync.isCompleted()) {
+        listChangedAsync.complete();
+      }
+    });
+
+    ClientSession session = createSession().await(10, TimeUnit.SECONDS);
+    session.sendRequest(new SubscribeRequest().setUri("docs://readme.md")).await(10, TimeUnit.SECONDS);
+
+    Files.writeString(root.resolve("readme.md"), "# Updated\n", StandardCharsets.UTF_8);
+    updatedAsync.awaitSuccess(20_000);
+
+    Files.writeString(root.resolve("docs").resolve("new.txt"), "new");
+    listChangedAsync.awaitSuccess(20_000);
+  }
+}
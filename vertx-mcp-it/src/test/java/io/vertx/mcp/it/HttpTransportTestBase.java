@@ -3,6 +3,7 @@ package io.vertx.mcp.it;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.*;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 import io.vertx.mcp.client.ClientOptions;
@@ -36,6 +37,8 @@ public abstract class HttpTransportTestBase {
   @Before
   public void setUp(TestContext context) {
     vertx = Vertx.vertx();
+    // Kept for the whole test, Vert.x closes a client once it is garbage collected
+    httpClient = vertx.createHttpClient();
   }
 
   @After
@@ -98,4 +101,28 @@ public abstract class HttpTransportTestBase {
   protected Future<ClientSession> createSession() {
     return getClient().subscribe(new ClientCapabilities());
   }
+
+  /**
+   * Sends a raw JSON-RPC message to the MCP endpoint of a server, the body of the response is read when the response is returned.
+   *
+   * @param port the port of the server
+   * @param method the HTTP method
+   * @param sessionId the session id header, or {@code null}
+   * @param message the message, or {@code null} for a request without body
+   * @return the response
+   */
+  protected Future<HttpClientResponse> send(int port, HttpMethod method, String sessionId, JsonObject message) {
+    return httpClient
+      .request(new RequestOptions().setMethod(method).setPort(port).setHost("localhost").setURI("/mcp"))
+      .compose(req -> {
+        req.putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+          .putHeader(HttpHeaders.ACCEPT, "application/json, text/event-stream");
+        if (sessionId != null) {
+          req.putHeader(StreamableHttpServerTransport.MCP_SESSION_ID_HEADER, sessionId);
+        }
+        // Read in the callback of the response: the body future is created on demand and misses a response that ended before a later callback
+        return (message != null ? req.send(message.encode()) : req.send())
+          .compose(response -> response.body().map(body -> response));
+      });
+  }
 }
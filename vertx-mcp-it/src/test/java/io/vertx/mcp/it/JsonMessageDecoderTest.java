@@ -0,0 +1,106 @@
+package io.vertx.mcp.it;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.common.request.CallToolRequest;
+import io.vertx.mcp.common.request.InitializeRequest;
+import io.vertx.mcp.common.request.ReadResourceRequest;
+import io.vertx.mcp.common.rpc.JsonMessageDecoder;
+import io.vertx.mcp.common.rpc.JsonNotification;
+import io.vertx.mcp.common.rpc.JsonRequest;
+import io.vertx.mcp.common.rpc.JsonRequestDecoder;
+import io.vertx.mcp.common.rpc.JsonResponse;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class JsonMessageDecoderTest {
+
+  private static final JsonObject ARGUMENTS = new JsonObject()
+    .put("query", "vert.x")
+    .put("limit", 10)
+    .put("big", 12345678901L)
+    .put("ratio", 0.5)
+    .put("flags", new JsonArray().add(true).add(false).addNull().add(new JsonObject().put("nested", new JsonArray().add(1).add("two"))));
+
+  @Test
+  public void testTypedRequestIsDecodedInOnePass() {
+    JsonObject params = new JsonObject()
+      .put("name", "search")
+      .put("arguments", ARGUMENTS)
+      .put("_meta", new JsonObject().put("progressToken", "token-1"))
+      .put("extra", "kept");
+    JsonObject message = new JsonObject().put("jsonrpc", "2.0").put("id", 7).put("method", "tools/call").put("params", params);
+
+    JsonRequest request = (JsonRequest) JsonMessageDecoder.decode(message.toBuffer());
+    JsonRequest expected = JsonRequestDecoder.fromJson(new JsonObject(message.encode()));
+
+    assertEquals(expected.getId(), request.getId());
+    assertEquals(expected.getMethod(), request.getMethod());
+    assertEquals(expected.getNamedParams(), request.getNamedParams());
+
+    CallToolRequest call = (CallToolRequest) request.getRequest();
+    assertEquals("search", call.getName());
+    assertEquals(ARGUMENTS, call.getArguments());
+    assertEquals("token-1", call.getMeta().getString("progressToken"));
+    // The typed request and the named params share the decoded values
+    assertSame(call.getArguments(), request.getNamedParams().getJsonObject("arguments"));
+    assertEquals(new CallToolRequest(expected.getNamedParams()).toJson(), call.toJson());
+  }
+
+  @Test
+  public void testParamsBeforeMethodFallBackToTree() {
+    Buffer buffer = Buffer.buffer("{\"params\":{\"uri\":\"file:///a.txt\"},\"id\":1,\"method\":\"resources/read\",\"jsonrpc\":\"2.0\"}");
+
+    JsonRequest request = (JsonRequest) JsonMessageDecoder.decode(buffer);
+
+    assertEquals(new JsonObject().put("uri", "file:///a.txt"), request.getNamedParams());
+    ReadResourceRequest read = (ReadResourceRequest) request.getRequest();
+    assertEquals("file:///a.txt", read.getUri());
+    assertSame(read, request.getRequest());
+  }
+
+  @Test
+  public void testUntypedRequest() {
+    JsonObject params = new InitializeRequest().setProtocolVersion("2025-06-18").toJson();
+    JsonObject message = new JsonObject().put("jsonrpc", "2.0").put("id", 1).put("method", "initialize").put("params", params);
+
+    JsonRequest request = (JsonRequest) JsonMessageDecoder.decode(message.toBuffer());
+
+    assertEquals(params, request.getNamedParams());
+    assertEquals("2025-06-18", ((InitializeRequest) request.getRequest()).getProtocolVersion());
+  }
+
+  @Test
+  public void testNotification() {
+    Object message = JsonMessageDecoder.decode(Buffer.buffer("{\"jsonrpc\":\"2.0\",\"method\":\"notifications/initialized\"}"));
+
+    assertTrue(message instanceof JsonNotification);
+    assertNull(((JsonNotification) message).getId());
+    assertEquals(new JsonArray(), ((JsonNotification) message).getUnnamedParams());
+  }
+
+  @Test
+  public void testResponses() {
+    JsonResponse success = (JsonResponse) JsonMessageDecoder.decode(Buffer.buffer("{\"jsonrpc\":\"2.0\",\"id\":3,\"result\":{\"roots\":[]}}"));
+    assertTrue(success.isSuccess());
+    assertEquals(3, success.getId());
+    assertEquals(new JsonObject().put("roots", new JsonArray()), success.getResult());
+
+    JsonResponse error = (JsonResponse) JsonMessageDecoder.decode(Buffer.buffer("{\"jsonrpc\":\"2.0\",\"id\":4,\"error\":{\"code\":-32601,\"message\":\"Not found\"}}"));
+    assertFalse(error.isSuccess());
+    assertEquals(-32601, error.getError().getCode());
+  }
+
+  @Test
+  public void testInvalidMessages() {
+    assertThrows(IllegalArgumentException.class, () -> JsonMessageDecoder.decode(Buffer.buffer("{\"jsonrpc\":\"1.0\",\"id\":1,\"method\":\"ping\"}")));
+    assertThrows(IllegalArgumentException.class, () -> JsonMessageDecoder.decode(Buffer.buffer("{\"jsonrpc\":\"2.0\",\"id\":1}")));
+    assertThrows(IllegalArgumentException.class, () -> JsonMessageDecoder.decode(Buffer.buffer("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"ping\",\"params\":3}")));
+    assertThrows(DecodeException.class, () -> JsonMessageDecoder.decode(Buffer.buffer("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":")));
+    assertThrows(DecodeException.class, () -> JsonMessageDecoder.decode(Buffer.buffer("{\"jsonrpc\":\"2.0\",\"method\":\"ping\"} {}")));
+    assertThrows(DecodeException.class, () -> JsonMessageDecoder.decode(Buffer.buffer("[]")));
+  }
+}
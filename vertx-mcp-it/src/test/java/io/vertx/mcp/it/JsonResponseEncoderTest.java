@@ -0,0 +1,103 @@
+package io.vertx.mcp.it;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.common.completion.Completion;
+import io.vertx.mcp.common.request.CallToolRequest;
+import io.vertx.mcp.common.result.CallToolResult;
+import io.vertx.mcp.common.result.CompleteResult;
+import io.vertx.mcp.common.result.EmptyResult;
+import io.vertx.mcp.common.result.ListToolsResult;
+import io.vertx.mcp.common.result.ReadResourceResult;
+import io.vertx.mcp.common.result.Result;
+import io.vertx.mcp.common.rpc.JsonError;
+import io.vertx.mcp.common.rpc.JsonRequest;
+import io.vertx.mcp.common.rpc.JsonResponse;
+import io.vertx.mcp.common.rpc.JsonResponseEncoder;
+import io.vertx.mcp.common.tool.Tool;
+import io.vertx.mcp.common.tool.ToolAnnotations;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class JsonResponseEncoderTest {
+
+  private static final JsonRequest REQUEST = new CallToolRequest().setName("t").toRequest(42);
+
+  @Test
+  public void testCallToolResult() {
+    assertSameBytes(new CallToolResult()
+      .setContent(new JsonArray().add(new JsonObject().put("type", "text").put("text", "line 1\nline \"2\" é中 😀 </script>")))
+      .setStructuredContent(new JsonObject()
+        .put("count", 3)
+        .put("big", Long.MAX_VALUE)
+        .put("ratio", 0.1)
+        .put("none", (Object) null)
+        .put("nested", new JsonObject().put("list", new JsonArray().add(1).add(2.5).add(true).addNull())))
+      .setIsError(false));
+    assertSameBytes(new CallToolResult().setContent(new JsonArray()).setIsError(true));
+    assertSameBytes(new CallToolResult());
+  }
+
+  @Test
+  public void testListToolsResult() {
+    Tool full = new Tool()
+      .setName("search")
+      .setTitle("Search")
+      .setDescription("Searches \"things\"")
+      .setInputSchema(new JsonObject().put("type", "object").put("properties", new JsonObject().put("q", new JsonObject().put("type", "string"))))
+      .setOutputSchema(new JsonObject().put("type", "object"))
+      .setAnnotations(new ToolAnnotations().title("Search").readOnlyHint(true).openWorldHint(false));
+    Tool minimal = new Tool().setName("ping").setInputSchema(new JsonObject().put("type", "object"));
+
+    assertSameBytes(new ListToolsResult().setTools(List.of(full, minimal)).setNextCursor("cursor-1"));
+    assertSameBytes(new ListToolsResult().setTools(List.of()));
+    assertSameBytes(new ListToolsResult());
+  }
+
+  @Test
+  public void testReadResourceAndEmptyResults() {
+    assertSameBytes(new ReadResourceResult().setContents(new JsonArray()
+      .add(new JsonObject().put("uri", "file:///a.txt").put("mimeType", "text/plain").put("text", "hello"))
+      .add(new JsonObject().put("uri", "file:///b.bin").put("blob", "AAEC"))));
+    assertSameBytes(new EmptyResult());
+  }
+
+  @Test
+  public void testFallbackResult() {
+    assertSameBytes(new CompleteResult().setCompletion(new Completion().setValues(List.of("a", "b")).setTotal(2).setHasMore(false)));
+  }
+
+  @Test
+  public void testEnvelopes() {
+    assertSameBytes(new JsonResponse(new JsonObject().put("a", 1), "string-id"));
+    assertSameBytes(new JsonResponse(new JsonObject(), null));
+    assertSameBytes(new JsonResponse(new EmptyResult(), 7L));
+    assertSameBytes(JsonResponse.error(REQUEST, JsonError.invalidParams("Missing 'name' parameter")));
+    assertSameBytes(JsonResponse.error(null, JsonError.serverError(-32001, "Limit", new JsonObject().put("max", 2))));
+  }
+
+  @Test
+  public void testTypedResultIsConvertedLazily() {
+    CallToolResult result = new CallToolResult().setIsError(false);
+    JsonResponse response = result.toResponse(REQUEST);
+
+    assertSame(result, response.getTypedResult());
+    assertEquals(new JsonObject().put("isError", false), response.getResult());
+    assertSame(response.getResult(), response.getResult());
+  }
+
+  private static void assertSameBytes(Result result) {
+    assertSameBytes(result.toResponse(REQUEST));
+  }
+
+  private static void assertSameBytes(JsonResponse response) {
+    Buffer expected = response.toJson().toBuffer();
+    Buffer actual = JsonResponseEncoder.encode(response);
+    assertEquals(expected.toString(), actual.toString());
+    assertEquals(expected, actual);
+  }
+}
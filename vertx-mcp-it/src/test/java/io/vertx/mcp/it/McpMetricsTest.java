@@ -0,0 +1,191 @@
+package io.vertx.mcp.it;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.metrics.MetricsOptions;
+import io.vertx.core.spi.metrics.VertxMetrics;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.json.schema.common.dsl.Schemas;
+import io.vertx.mcp.client.ClientSession;
+import io.vertx.mcp.common.metrics.McpMetrics;
+import io.vertx.mcp.common.metrics.McpMetricsFactory;
+import io.vertx.mcp.common.request.CallToolRequest;
+import io.vertx.mcp.common.request.ListPromptsRequest;
+import io.vertx.mcp.common.rpc.JsonError;
+import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.ServerOptions;
+import io.vertx.mcp.server.feature.ProtocolServerFeature;
+import io.vertx.mcp.server.feature.SessionServerFeature;
+import io.vertx.mcp.server.feature.ToolServerFeature;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+public class McpMetricsTest extends HttpTransportTestBase {
+
+  private final RecordingMetrics serverMetrics = new RecordingMetrics();
+  private final RecordingMetrics clientMetrics = new RecordingMetrics();
+
+  @Override
+  public void setUp(TestContext context) {
+    vertx = Vertx.builder()
+      .with(new VertxOptions().setMetricsOptions(new MetricsOptions().setEnabled(true)))
+      .withMetrics(options -> new RecordingVertxMetrics())
+      .build();
+  }
+
+  private class RecordingVertxMetrics implements VertxMetrics, McpMetricsFactory {
+
+    @Override
+    public McpMetrics createServerMetrics(Vertx vertx) {
+      return serverMetrics;
+    }
+
+    @Override
+    public McpMetrics createClientMetrics(Vertx vertx) {
+      return clientMetrics;
+    }
+  }
+
+  private static class RecordingMetrics implements McpMetrics {
+
+    final List<String> requests = new CopyOnWriteArrayList<>();
+    final List<String> toolCalls = new CopyOnWriteArrayList<>();
+    final List<String> notifications = new CopyOnWriteArrayList<>();
+    final AtomicInteger sessions = new AtomicInteger();
+    final AtomicInteger streams = new AtomicInteger();
+    final AtomicInteger pending = new AtomicInteger();
+    final AtomicLong bytes = new AtomicLong();
+
+    @Override
+    public Object requestBegin(String method) {
+      return method;
+    }
+
+    @Override
+    public void requestEnd(Object request, String method, int errorCode) {
+      requests.add(request + ":" + errorCode);
+    }
+
+    @Override
+    public Object toolCallBegin(String tool) {
+      return tool;
+    }
+
+    @Override
+    public void toolCallEnd(Object call, String tool, boolean failed) {
+      toolCalls.add(call + ":" + (failed ? "failure" : "success"));
+    }
+
+    @Override
+    public void sessionOpened() {
+      sessions.incrementAndGet();
+    }
+
+    @Override
+    public void sessionClosed() {
+      sessions.decrementAndGet();
+    }
+
+    @Override
+    public void streamOpened() {
+      streams.incrementAndGet();
+    }
+
+    @Override
+    public void streamClosed() {
+      streams.decrementAndGet();
+    }
+
+    @Override
+    public void bytesWritten(long count) {
+      bytes.addAndGet(count);
+    }
+
+    @Override
+    public void pendingRequestAdded() {
+      pending.incrementAndGet();
+    }
+
+    @Override
+    public void pendingRequestRemoved() {
+      pending.decrementAndGet();
+    }
+
+    @Override
+    public void notificationReceived(String method) {
+      notifications.add(method);
+    }
+  }
+
+  @Test
+  public void testServerAndClientMetrics(TestContext context) throws Throwable {
+    ModelContextProtocolServer server = ModelContextProtocolServer.create(vertx, new ServerOptions());
+    server.addServerFeature(new ProtocolServerFeature());
+    server.addServerFeature(new SessionServerFeature());
+    ToolServerFeature toolFeature = new ToolServerFeature();
+    toolFeature.addStructuredTool("ok", Schemas.objectSchema(), Schemas.objectSchema(), args -> Future.succeededFuture(new JsonObject()));
+    toolFeature.addStructuredTool("ko", Schemas.objectSchema(), Schemas.objectSchema(), args -> Future.failedFuture("boom"));
+    server.addServerFeature(toolFeature);
+    startServer(context, server);
+
+    ClientSession session = createSession().await(10, TimeUnit.SECONDS);
+    getClient().sendRequest(new CallToolRequest(new JsonObject().put("name", "ok").put("arguments", new JsonObject())), session).await(10, TimeUnit.SECONDS);
+    try {
+      getClient().sendRequest(new CallToolRequest(new JsonObject().put("name", "ko").put("arguments", new JsonObject())), session).await(10, TimeUnit.SECONDS);
+    } catch (Exception ignore) {
+      // Recorded either way
+    }
+    try {
+      getClient().sendRequest(new ListPromptsRequest(), session).await(10, TimeUnit.SECONDS);
+      context.fail("Expected method not found");
+    } catch (Exception expected) {
+    }
+
+    waitUntil(context, () -> serverMetrics.requests.size() >= 4);
+    context.assertTrue(serverMetrics.requests.contains("initialize:0"), serverMetrics.requests.toString());
+    context.assertTrue(serverMetrics.requests.contains("tools/call:0"), serverMetrics.requests.toString());
+    // Recorded under a fixed method, the client does not choose the meters of the server
+    context.assertTrue(serverMetrics.requests.contains(McpMetrics.UNKNOWN_METHOD + ":" + JsonError.METHOD_NOT_FOUND), serverMetrics.requests.toString());
+    context.assertEquals(List.of("ok:success", "ko:failure"), serverMetrics.toolCalls);
+    context.assertEquals(1, serverMetrics.sessions.get());
+    context.assertTrue(serverMetrics.bytes.get() > 0);
+
+    context.assertTrue(clientMetrics.requests.contains("tools/call:0"), clientMetrics.requests.toString());
+    context.assertTrue(clientMetrics.requests.contains("prompts/list:" + JsonError.METHOD_NOT_FOUND), clientMetrics.requests.toString());
+    context.assertEquals(1, clientMetrics.sessions.get());
+    context.assertEquals(0, clientMetrics.pending.get());
+
+    session.close(Promise.promise());
+    waitUntil(context, () -> clientMetrics.sessions.get() == 0);
+  }
+
+  @Test
+  public void testMetricsDisabled(TestContext context) {
+    Vertx plain = Vertx.vertx();
+    try {
+      context.assertNull(McpMetricsFactory.serverMetrics(plain));
+      context.assertNull(McpMetricsFactory.clientMetrics(plain));
+    } finally {
+      plain.close();
+    }
+  }
+
+  private void waitUntil(TestContext context, BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (!condition.getAsBoolean()) {
+      if (System.currentTimeMillis() > deadline) {
+        context.fail("Timed out");
+      }
+      Thread.sleep(10);
+    }
+  }
+}
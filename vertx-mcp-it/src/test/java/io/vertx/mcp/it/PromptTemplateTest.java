@@ -0,0 +1,164 @@
+package io.vertx.mcp.it;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.json.schema.common.dsl.ArraySchemaBuilder;
+import io.vertx.mcp.common.prompt.Prompt;
+import io.vertx.mcp.common.prompt.PromptArgument;
+import io.vertx.mcp.common.prompt.PromptMessage;
+import io.vertx.mcp.common.request.GetPromptRequest;
+import io.vertx.mcp.common.request.ListPromptsRequest;
+import io.vertx.mcp.common.result.GetPromptResult;
+import io.vertx.mcp.common.result.ListPromptsResult;
+import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.PromptTemplate;
+import io.vertx.mcp.server.ServerOptions;
+import io.vertx.mcp.server.TemplatePromptHandler;
+import io.vertx.mcp.server.feature.PromptServerFeature;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+public class PromptTemplateTest extends HttpTransportTestBase {
+
+  private final AtomicInteger renders = new AtomicInteger();
+  private PromptServerFeature promptFeature;
+
+  @Before
+  public void setUpFeatures(TestContext context) {
+    ModelContextProtocolServer server = ModelContextProtocolServer.create(super.vertx, new ServerOptions().setPromptCacheSize(10));
+    promptFeature = new PromptServerFeature();
+    server.addServerFeature(promptFeature);
+
+    TemplatePromptHandler review = TemplatePromptHandler.create("code_review", "Code Review", "Reviews code",
+      PromptTemplate.user("Review this {{language}} code:\n{{code}}"),
+      PromptTemplate.assistant("Reviewing {{language}}..."));
+    promptFeature.addPrompt(counting(review));
+
+    super.startServer(context, server);
+  }
+
+  @Test
+  public void testArgumentsAreDerivedFromPlaceholders(TestContext context) throws Throwable {
+    ListPromptsResult result = (ListPromptsResult) getClient().sendRequest(new ListPromptsRequest())
+      .expecting(r -> r instanceof ListPromptsResult)
+      .await(10, TimeUnit.SECONDS);
+
+    Prompt prompt = result.getPrompts().get(0);
+    context.assertEquals("code_review", prompt.getName());
+    context.assertEquals(Set.of("language", "code"), prompt.getArguments().stream().map(PromptArgument::getName).collect(Collectors.toSet()));
+    context.assertTrue(prompt.getArguments().stream().allMatch(PromptArgument::getRequired));
+  }
+
+  @Test
+  public void testRenderingEscapesArguments(TestContext context) throws Throwable {
+    String code = "print(\"héllo\\n\")\n\t// ☃ </script>";
+    GetPromptResult result = get(new JsonObject().put("language", "python").put("code", code));
+
+    context.assertEquals("Reviews code", result.getDescription());
+    context.assertEquals(2, result.getMessages().size());
+    PromptMessage user = result.getMessages().get(0);
+    context.assertEquals("user", user.getRole());
+    context.assertEquals("text", user.getContent().getString("type"));
+    context.assertEquals("Review this python code:\n" + code, user.getContent().getString("text"));
+    PromptMessage assistant = result.getMessages().get(1);
+    context.assertEquals("assistant", assistant.getRole());
+    context.assertEquals("Reviewing python...", assistant.getContent().getString("text"));
+  }
+
+  @Test
+  public void testRenderingMatchesHandlerMessages(TestContext context) throws Throwable {
+    JsonObject arguments = new JsonObject().put("language", "java").put("code", "class A {}");
+    GetPromptResult result = get(arguments);
+
+    List<PromptMessage> messages = promptFeature.prompts().get(0).apply(arguments).await(10, TimeUnit.SECONDS);
+    context.assertEquals(messages.size(), result.getMessages().size());
+    for (int i = 0; i < messages.size(); i++) {
+      context.assertEquals(messages.get(i).toJson(), result.getMessages().get(i).toJson());
+    }
+  }
+
+  @Test
+  public void testRenderedResultsAreCached(TestContext context) throws Throwable {
+    get(new JsonObject().put("language", "java").put("code", "a"));
+    get(new JsonObject().put("language", "java").put("code", "a").put("unused", "x"));
+    context.assertEquals(1, renders.get());
+
+    get(new JsonObject().put("language", "java").put("code", "b"));
+    context.assertEquals(2, renders.get());
+
+    // Replacing a prompt invalidates the cache
+    promptFeature.addPrompt(counting(TemplatePromptHandler.create("code_review", null, null, PromptTemplate.user("Check {{code}}"))));
+    GetPromptResult result = get(new JsonObject().put("language", "java").put("code", "a"));
+    context.assertEquals(3, renders.get());
+    context.assertEquals("Check a", result.getMessages().get(0).getContent().getString("text"));
+    context.assertNull(result.getDescription());
+  }
+
+  @Test
+  public void testInvalidTemplates(TestContext context) {
+    try {
+      PromptTemplate.user("Hello {{name");
+      context.fail("Should reject an unclosed placeholder");
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      PromptTemplate.user("Hello {{ }}");
+      context.fail("Should reject an empty placeholder");
+    } catch (IllegalArgumentException expected) {
+    }
+    context.assertEquals(Set.of("name"), PromptTemplate.user("{{name}}, {{ name }}!").placeholders());
+  }
+
+  private GetPromptResult get(JsonObject arguments) throws Throwable {
+    return (GetPromptResult) getClient().sendRequest(new GetPromptRequest().setName("code_review").setArguments(arguments))
+      .expecting(r -> r instanceof GetPromptResult)
+      .await(10, TimeUnit.SECONDS);
+  }
+
+  private TemplatePromptHandler counting(TemplatePromptHandler delegate) {
+    return new TemplatePromptHandler() {
+      @Override
+      public String name() {
+        return delegate.name();
+      }
+
+      @Override
+      public String title() {
+        return delegate.title();
+      }
+
+      @Override
+      public String description() {
+        return delegate.description();
+      }
+
+      @Override
+      public ArraySchemaBuilder arguments() {
+        return delegate.arguments();
+      }
+
+      @Override
+      public List<PromptTemplate> templates() {
+        return delegate.templates();
+      }
+
+      @Override
+      public Set<String> placeholders() {
+        return delegate.placeholders();
+      }
+
+      @Override
+      public Buffer render(JsonObject arguments) {
+        renders.incrementAndGet();
+        return delegate.render(arguments);
+      }
+    };
+  }
+}
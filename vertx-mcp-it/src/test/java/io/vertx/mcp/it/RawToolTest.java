@@ -0,0 +1,156 @@
+package io.vertx.mcp.it;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.json.schema.common.dsl.Schemas;
+import io.vertx.mcp.client.ClientRequestException;
+import io.vertx.mcp.client.ClientSession;
+import io.vertx.mcp.common.capabilities.ClientCapabilities;
+import io.vertx.mcp.common.notification.ProgressNotification;
+import io.vertx.mcp.common.request.CallToolRequest;
+import io.vertx.mcp.common.request.ListToolsRequest;
+import io.vertx.mcp.common.result.CallToolResult;
+import io.vertx.mcp.common.result.ListToolsResult;
+import io.vertx.mcp.common.rpc.JsonError;
+import io.vertx.mcp.common.rpc.JsonRequest;
+import io.vertx.mcp.common.rpc.JsonResponseEncoder;
+import io.vertx.mcp.common.rpc.RawJsonResponse;
+import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.ServerSession;
+import io.vertx.mcp.server.feature.ToolServerFeature;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class RawToolTest extends HttpTransportTestBase {
+
+  // Formatted like an upstream API would, the formatting is kept by the passthrough
+  private static final String UPSTREAM = "{ \"city\": \"Paris\", \"temperature\": 21.5, \"tags\": [\"sunny\", \"\\u00e9t\\u00e9\"] }";
+  private static final String TEXT = "line \"one\"\nline two é中";
+
+  @Before
+  public void setUpFeatures(TestContext context) {
+    ModelContextProtocolServer server = ModelContextProtocolServer.create(super.vertx);
+    ToolServerFeature toolFeature = new ToolServerFeature();
+    server.addServerFeature(toolFeature);
+
+    toolFeature.addRawTool("weather", Schemas.objectSchema(), Schemas.objectSchema().property("city", Schemas.stringSchema()),
+      args -> Future.succeededFuture(Buffer.buffer(UPSTREAM)));
+    toolFeature.addRawTool("text", Schemas.objectSchema(), null, args -> Future.succeededFuture(Buffer.buffer(TEXT)));
+    toolFeature.addRawTool("failing", Schemas.objectSchema(), null, args -> Future.failedFuture("upstream unavailable"));
+    // The response is upgraded to a stream by the notification preceding it
+    toolFeature.addRawTool("progress", Schemas.objectSchema(), Schemas.objectSchema(), args -> ServerSession.fromContext(Vertx.currentContext())
+      .sendNotification(new ProgressNotification().setProgressToken("p-1").setProgress(0.5))
+      .map(v -> Buffer.buffer(UPSTREAM)));
+
+    super.startServer(context, server);
+  }
+
+  @Test
+  public void testRawStructuredContent(TestContext context) throws Throwable {
+    CallToolResult result = (CallToolResult) getClient().sendRequest(call("weather"))
+      .expecting(r -> r instanceof CallToolResult)
+      .await(10, TimeUnit.SECONDS);
+
+    context.assertEquals(new JsonObject(UPSTREAM), result.getStructuredContent());
+    context.assertFalse(result.getIsError());
+  }
+
+  @Test
+  public void testRawText(TestContext context) throws Throwable {
+    CallToolResult result = (CallToolResult) getClient().sendRequest(call("text"))
+      .expecting(r -> r instanceof CallToolResult)
+      .await(10, TimeUnit.SECONDS);
+
+    context.assertEquals(1, result.getContent().size());
+    context.assertEquals("text", result.getContent().getJsonObject(0).getString("type"));
+    context.assertEquals(TEXT, result.getContent().getJsonObject(0).getString("text"));
+  }
+
+  @Test
+  public void testRawToolsAreListedAndFailuresReported(TestContext context) throws Throwable {
+    ListToolsResult tools = (ListToolsResult) getClient().sendRequest(new ListToolsRequest())
+      .expecting(r -> r instanceof ListToolsResult)
+      .await(10, TimeUnit.SECONDS);
+    context.assertEquals(4, tools.getTools().size());
+
+    CallToolResult result = (CallToolResult) getClient().sendRequest(call("failing"))
+      .expecting(r -> r instanceof CallToolResult)
+      .await(10, TimeUnit.SECONDS);
+    context.assertTrue(result.getIsError());
+    context.assertEquals("Error: upstream unavailable", result.getContent().getJsonObject(0).getString("text"));
+  }
+
+  @Test
+  public void testRawRequestReturnsResultBytes(TestContext context) throws Throwable {
+    Buffer result = getClient().sendRawRequest(call("weather")).await(10, TimeUnit.SECONDS);
+
+    // The upstream bytes are spliced in the response and returned as received
+    context.assertTrue(result.toString().contains("\"structuredContent\":" + UPSTREAM));
+    context.assertEquals(new JsonObject(UPSTREAM), new CallToolResult(new JsonObject(result)).getStructuredContent());
+  }
+
+  @Test
+  public void testRawRequestSkipsIntermediateMessages(TestContext context) throws Throwable {
+    ClientSession session = getClient().subscribe(new ClientCapabilities()).await(10, TimeUnit.SECONDS);
+    Buffer result = session.sendRawRequest(call("progress")).await(10, TimeUnit.SECONDS);
+
+    context.assertEquals(new JsonObject(UPSTREAM), new CallToolResult(new JsonObject(result)).getStructuredContent());
+  }
+
+  @Test
+  public void testRawRequestFailure(TestContext context) throws Throwable {
+    try {
+      getClient().sendRawRequest(call("missing")).await(10, TimeUnit.SECONDS);
+      context.fail("Expected failure");
+    } catch (ClientRequestException e) {
+      context.assertEquals(JsonError.INVALID_PARAMS, e.getCode());
+    }
+  }
+
+  @Test
+  public void testEncodedRawResultMatchesTree(TestContext context) {
+    CallToolResult result = new CallToolResult().setRawText(Buffer.buffer(TEXT)).setRawStructuredContent(Buffer.buffer(UPSTREAM)).setIsError(false);
+    JsonRequest request = new CallToolRequest().setName("weather").toRequest(3);
+
+    Buffer encoded = JsonResponseEncoder.encode(result.toResponse(request));
+
+    context.assertEquals(result.toResponse(request).toJson(), new JsonObject(encoded));
+    RawJsonResponse response = RawJsonResponse.fromBuffer(encoded);
+    context.assertEquals(3, ((Number) response.getId()).intValue());
+    context.assertEquals(result.toJson(), new JsonObject(response.getResult()));
+  }
+
+  @Test
+  public void testRawStructuredContentIsChecked(TestContext context) {
+    CallToolResult result = new CallToolResult().setRawStructuredContent(Buffer.buffer("{\r\n  \"a\": [1,\n 2]\n}"));
+    context.assertEquals("{    \"a\": [1,  2] }", result.getRawStructuredContent().toString());
+
+    for (String invalid : new String[] { "[1, 2]", "{\"a\": 1} {\"b\": 2}", "{\"a\": " }) {
+      try {
+        new CallToolResult().setRawStructuredContent(Buffer.buffer(invalid));
+        context.fail("Expected failure for " + invalid);
+      } catch (IllegalArgumentException expected) {
+      }
+    }
+  }
+
+  @Test
+  public void testRawResponseError(TestContext context) {
+    RawJsonResponse response = RawJsonResponse.fromBuffer(Buffer.buffer(
+      "{\"jsonrpc\":\"2.0\",\"id\":\"r-1\",\"error\":{\"code\":-32602,\"message\":\"Invalid params\",\"data\":[1,2]}}"));
+
+    context.assertFalse(response.isSuccess());
+    context.assertEquals("r-1", response.getId());
+    context.assertEquals(JsonError.INVALID_PARAMS, response.getError().getCode());
+    context.assertNull(response.getResult());
+  }
+
+  private static CallToolRequest call(String tool) {
+    return new CallToolRequest().setName(tool).setArguments(new JsonObject());
+  }
+}
@@ -0,0 +1,122 @@
+package io.vertx.mcp.it;
+
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.json.schema.common.dsl.Schemas;
+import io.vertx.mcp.common.rpc.JsonEnvelope;
+import io.vertx.mcp.common.rpc.JsonError;
+import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.ServerOptions;
+import io.vertx.mcp.server.feature.ToolServerFeature;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RequestAdmissionTest extends HttpTransportTestBase {
+
+  private static final int MAX_REQUEST_SIZE = 1024;
+
+  private final AtomicInteger calls = new AtomicInteger();
+  private final List<JsonEnvelope> envelopes = new CopyOnWriteArrayList<>();
+
+  @Before
+  public void setUpFeatures(TestContext context) {
+    ModelContextProtocolServer server = ModelContextProtocolServer.create(super.vertx, new ServerOptions().setMaxRequestSize(MAX_REQUEST_SIZE));
+    ToolServerFeature toolFeature = new ToolServerFeature();
+    server.addServerFeature(toolFeature);
+    server.addAdmissionHandler((envelope, session) -> {
+      envelopes.add(envelope);
+      return "forbidden".equals(envelope.getName()) ? JsonError.serverError(-32001, "Forbidden") : null;
+    });
+
+    toolFeature.addStructuredTool("echo", Schemas.objectSchema(), Schemas.objectSchema(), args -> {
+      calls.incrementAndGet();
+      return Future.succeededFuture(args);
+    });
+    toolFeature.addStructuredTool("forbidden", Schemas.objectSchema(), Schemas.objectSchema(), args -> {
+      calls.incrementAndGet();
+      return Future.succeededFuture(args);
+    });
+
+    super.startServer(context, server);
+  }
+
+  @Test
+  public void testProbeReadsRoutingFields(TestContext context) {
+    JsonEnvelope request = JsonEnvelope.probe(Buffer.buffer(
+      "{\"params\":{\"arguments\":{\"a\":[1,{\"name\":\"nested\"}]},\"name\":\"echo\"},\"method\":\"tools/call\",\"id\":4,\"jsonrpc\":\"2.0\"}"));
+    context.assertEquals("2.0", request.getJsonrpc());
+    context.assertEquals(4, ((Number) request.getId()).intValue());
+    context.assertEquals("tools/call", request.getMethod());
+    context.assertEquals("echo", request.getName());
+    context.assertFalse(request.isNotification());
+    context.assertFalse(request.isResponse());
+
+    JsonEnvelope notification = JsonEnvelope.probe(Buffer.buffer("{\"jsonrpc\":\"2.0\",\"method\":\"notifications/initialized\"}"));
+    context.assertTrue(notification.isNotification());
+    context.assertNull(notification.getName());
+
+    JsonEnvelope response = JsonEnvelope.probe(Buffer.buffer("{\"jsonrpc\":\"2.0\",\"id\":\"s-1\",\"result\":{}}"));
+    context.assertTrue(response.isResponse());
+    context.assertEquals("s-1", response.getId());
+  }
+
+  @Test
+  public void testUnknownToolIsRejectedOnTheEnvelope(TestContext context) throws Throwable {
+    JsonObject response = send(port, HttpMethod.POST, null, call("missing")).compose(HttpClientResponse::body).map(JsonObject::new).await(10, TimeUnit.SECONDS);
+
+    context.assertEquals(1, response.getInteger("id"));
+    context.assertEquals(JsonError.INVALID_PARAMS, response.getJsonObject("error").getInteger("code"));
+    context.assertEquals("Tool not found: missing", response.getJsonObject("error").getString("message"));
+    // Rejected by the tool feature, before the admission handlers of the server
+    context.assertTrue(envelopes.isEmpty());
+  }
+
+  @Test
+  public void testAdmissionHandlerRejectsRequest(TestContext context) throws Throwable {
+    JsonObject rejected = send(port, HttpMethod.POST, null, call("forbidden")).compose(HttpClientResponse::body).map(JsonObject::new).await(10, TimeUnit.SECONDS);
+    context.assertEquals(-32001, rejected.getJsonObject("error").getInteger("code"));
+    context.assertEquals(0, calls.get());
+
+    JsonObject admitted = send(port, HttpMethod.POST, null, call("echo")).compose(HttpClientResponse::body).map(JsonObject::new).await(10, TimeUnit.SECONDS);
+    context.assertEquals("value", admitted.getJsonObject("result").getJsonObject("structuredContent").getString("key"));
+    context.assertEquals(1, calls.get());
+    context.assertEquals(2, envelopes.size());
+    context.assertEquals("echo", envelopes.get(1).getName());
+  }
+
+  @Test
+  public void testUnknownMethodIsRejected(TestContext context) throws Throwable {
+    JsonObject message = new JsonObject().put("jsonrpc", "2.0").put("id", 2).put("method", "unknown/method");
+    JsonObject response = send(port, HttpMethod.POST, null, message).compose(HttpClientResponse::body).map(JsonObject::new).await(10, TimeUnit.SECONDS);
+
+    context.assertEquals(2, response.getInteger("id"));
+    context.assertEquals(JsonError.METHOD_NOT_FOUND, response.getJsonObject("error").getInteger("code"));
+    context.assertTrue(envelopes.isEmpty());
+  }
+
+  @Test
+  public void testOversizedRequestIsRejected(TestContext context) throws Throwable {
+    JsonObject message = call("echo");
+    message.getJsonObject("params").getJsonObject("arguments").put("padding", "x".repeat(MAX_REQUEST_SIZE));
+
+    HttpClientResponse response = send(port, HttpMethod.POST, null, message).await(10, TimeUnit.SECONDS);
+
+    context.assertEquals(413, response.statusCode());
+    context.assertEquals(0, calls.get());
+    context.assertTrue(envelopes.isEmpty());
+  }
+
+  private static JsonObject call(String tool) {
+    JsonObject params = new JsonObject().put("name", tool).put("arguments", new JsonObject().put("key", "value"));
+    return new JsonObject().put("jsonrpc", "2.0").put("id", 1).put("method", "tools/call").put("params", params);
+  }
+}
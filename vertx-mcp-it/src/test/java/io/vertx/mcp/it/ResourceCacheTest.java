@@ -0,0 +1,119 @@
+package io.vertx.mcp.it;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.mcp.common.request.ReadResourceRequest;
+import io.vertx.mcp.common.resources.Resource;
+import io.vertx.mcp.common.resources.TextResourceContent;
+import io.vertx.mcp.common.result.ReadResourceResult;
+import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.ServerOptions;
+import io.vertx.mcp.server.feature.ResourceServerFeature;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ResourceCacheTest extends HttpTransportTestBase {
+
+  private final AtomicInteger reads = new AtomicInteger();
+  private volatile String config = "v1";
+  private ResourceServerFeature resourceFeature;
+
+  @Before
+  public void setUpFeatures(TestContext context) {
+    ModelContextProtocolServer server = ModelContextProtocolServer.create(super.vertx, new ServerOptions().setResourceCacheSize(10));
+    resourceFeature = new ResourceServerFeature();
+    server.addServerFeature(resourceFeature);
+
+    resourceFeature.addStaticResource("resource://config", () -> {
+      reads.incrementAndGet();
+      Promise<Resource> promise = Promise.promise();
+      // Complete later so that concurrent reads overlap
+      vertx.setTimer(50, id -> promise.complete(new TextResourceContent().setUri("resource://config").setName("config").setText(config)));
+      return promise.future();
+    });
+
+    super.startServer(context, server);
+  }
+
+  @Test
+  public void testReadsAreCachedUntilUpdated(TestContext context) throws Throwable {
+    JsonObject first = read(null).await(10, TimeUnit.SECONDS);
+    JsonObject second = read(null).await(10, TimeUnit.SECONDS);
+    context.assertEquals(1, reads.get());
+    context.assertEquals(first, second);
+    context.assertEquals("v1", first.getJsonArray("contents").getJsonObject(0).getString("text"));
+
+    config = "v2";
+    resourceFeature.notifyResourceUpdated(vertx, "resource://config");
+
+    JsonObject third = read(null).await(10, TimeUnit.SECONDS);
+    context.assertEquals(2, reads.get());
+    context.assertEquals("v2", third.getJsonArray("contents").getJsonObject(0).getString("text"));
+    context.assertNotEquals(version(first), version(third));
+
+    // The typed client sees a regular result
+    ReadResourceResult result = (ReadResourceResult) getClient().sendRequest(new ReadResourceRequest(new JsonObject().put("uri", "resource://config")))
+      .expecting(r -> r instanceof ReadResourceResult)
+      .await(10, TimeUnit.SECONDS);
+    context.assertEquals("v2", new TextResourceContent(result.getContents().getJsonObject(0)).getText());
+  }
+
+  @Test
+  public void testConcurrentMissesAreCoalesced(TestContext context) throws Throwable {
+    List<Future<JsonObject>> results = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      results.add(read(null));
+    }
+    Future.all(results).await(10, TimeUnit.SECONDS);
+    context.assertEquals(1, reads.get());
+  }
+
+  @Test
+  public void testConditionalRead(TestContext context) throws Throwable {
+    JsonObject first = read(null).await(10, TimeUnit.SECONDS);
+    String version = version(first);
+    context.assertNotNull(version);
+
+    JsonObject unchanged = read(version).await(10, TimeUnit.SECONDS);
+    context.assertTrue(unchanged.getJsonArray("contents").isEmpty());
+    context.assertTrue(unchanged.getJsonObject("_meta").getBoolean(ResourceServerFeature.UNCHANGED_META_KEY));
+
+    config = "v2";
+    resourceFeature.notifyResourceUpdated(vertx, "resource://config");
+
+    JsonObject changed = read(version).await(10, TimeUnit.SECONDS);
+    context.assertEquals("v2", changed.getJsonArray("contents").getJsonObject(0).getString("text"));
+    context.assertNull(changed.getJsonObject("_meta").getValue(ResourceServerFeature.UNCHANGED_META_KEY));
+  }
+
+  private static String version(JsonObject result) {
+    return result.getJsonObject("_meta").getString(ResourceServerFeature.VERSION_META_KEY);
+  }
+
+  private Future<JsonObject> read(String knownVersion) {
+    JsonObject params = new JsonObject().put("uri", "resource://config");
+    if (knownVersion != null) {
+      params.put("_meta", new JsonObject().put(ResourceServerFeature.VERSION_META_KEY, knownVersion));
+    }
+    JsonObject request = new JsonObject().put("jsonrpc", "2.0").put("id", 1).put("method", ReadResourceRequest.METHOD).put("params", params);
+
+    return send(port, HttpMethod.POST, null, request)
+      .compose(HttpClientResponse::body)
+      .map(body -> {
+        String text = body.toString().trim();
+        if (text.startsWith("data:")) {
+          text = text.substring(5).trim();
+        }
+        return new JsonObject(text).getJsonObject("result");
+      });
+  }
+}
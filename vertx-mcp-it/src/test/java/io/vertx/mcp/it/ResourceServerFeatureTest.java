@@ -1,6 +1,8 @@
 package io.vertx.mcp.it;
 
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.OpenOptions;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.TestContext;
@@ -15,11 +17,17 @@ import io.vertx.mcp.common.result.ListResourcesResult;
 import io.vertx.mcp.common.result.ReadResourceResult;
 import io.vertx.mcp.common.rpc.JsonError;
 import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.ResourceStream;
 import io.vertx.mcp.server.feature.ResourceServerFeature;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 public class ResourceServerFeatureTest extends HttpTransportTestBase {
@@ -397,4 +405,108 @@ public class ResourceServerFeatureTest extends HttpTransportTestBase {
     List<ResourceTemplate> templates = result.getResourceTemplates();
     context.assertEquals(3, templates.size(), "Should have 3 templates");
   }
+
+  @Test
+  public void testLiteralTemplateTakesPrecedence(TestContext context) throws Throwable {
+    resourceFeature.addDynamicResource("resource://user/{id}", params ->
+      Future.succeededFuture(new TextResourceContent().setUri("resource://user/" + params.get("id")).setName("user").setText("user " + params.get("id")))
+    );
+    resourceFeature.addDynamicResource("resource://user/me", params ->
+      Future.succeededFuture(new TextResourceContent().setUri("resource://user/me").setName("me").setText("current user"))
+    );
+
+    ReadResourceResult result = (ReadResourceResult) getClient().sendRequest(new ReadResourceRequest(new JsonObject().put("uri", "resource://user/me")))
+      .expecting(r -> r instanceof ReadResourceResult)
+      .await(10, TimeUnit.SECONDS);
+    context.assertEquals("current user", new TextResourceContent(result.getContents().getJsonObject(0)).getText());
+
+    result = (ReadResourceResult) getClient().sendRequest(new ReadResourceRequest(new JsonObject().put("uri", "resource://user/42")))
+      .expecting(r -> r instanceof ReadResourceResult)
+      .await(10, TimeUnit.SECONDS);
+    context.assertEquals("user 42", new TextResourceContent(result.getContents().getJsonObject(0)).getText());
+  }
+
+  @Test
+  public void testReservedExpansionTemplate(TestContext context) throws Throwable {
+    resourceFeature.addDynamicResource("file:///{+path}", params ->
+      Future.succeededFuture(new TextResourceContent().setUri("file:///" + params.get("path")).setName("file").setText(params.get("path")))
+    );
+
+    ReadResourceResult result = (ReadResourceResult) getClient().sendRequest(new ReadResourceRequest(new JsonObject().put("uri", "file:///docs/guide/intro.md")))
+      .expecting(r -> r instanceof ReadResourceResult)
+      .await(10, TimeUnit.SECONDS);
+    context.assertEquals("docs/guide/intro.md", new TextResourceContent(result.getContents().getJsonObject(0)).getText());
+  }
+
+  @Test
+  public void testQueryAndPercentEncodedTemplateVariables(TestContext context) throws Throwable {
+    resourceFeature.addDynamicResource("resource://search/{term}{?limit,offset}", params ->
+      Future.succeededFuture(new TextResourceContent()
+        .setUri("resource://search/" + params.get("term"))
+        .setName("search")
+        .setText(params.get("term") + "|" + params.get("limit") + "|" + params.get("offset")))
+    );
+
+    ReadResourceResult result = (ReadResourceResult) getClient().sendRequest(new ReadResourceRequest(new JsonObject().put("uri", "resource://search/hello%20world?offset=5&limit=10")))
+      .expecting(r -> r instanceof ReadResourceResult)
+      .await(10, TimeUnit.SECONDS);
+    context.assertEquals("hello world|10|5", new TextResourceContent(result.getContents().getJsonObject(0)).getText());
+  }
+
+  @Test
+  public void testInvalidTemplateRejected(TestContext context) {
+    try {
+      resourceFeature.addDynamicResource("resource://user/{id", params -> Future.succeededFuture());
+      context.fail("Should have rejected the template");
+    } catch (IllegalArgumentException expected) {
+      context.assertTrue(resourceFeature.dynamicResources().isEmpty());
+    }
+  }
+
+  @Test
+  public void testReadStreamingBinaryResource(TestContext context) throws Throwable {
+    byte[] data = new byte[100_000];
+    new Random(42).nextBytes(data);
+    Path file = Files.createTempFile("mcp-stream", ".bin");
+    Files.write(file, data);
+
+    resourceFeature.addStreamingResource("resource://blob/{name}", "blob", "application/octet-stream", params ->
+      vertx.fileSystem().open(file.toString(), new OpenOptions().setRead(true))
+        .map(asyncFile -> new ResourceStream(asyncFile.setReadBufferSize(1000)).setMimeType("application/octet-stream"))
+    );
+
+    ReadResourceResult result = (ReadResourceResult) getClient().sendRequest(new ReadResourceRequest(new JsonObject().put("uri", "resource://blob/data")))
+      .expecting(r -> r instanceof ReadResourceResult)
+      .await(10, TimeUnit.SECONDS);
+
+    JsonObject content = result.getContents().getJsonObject(0);
+    context.assertEquals("resource://blob/data", content.getString("uri"));
+    context.assertEquals("application/octet-stream", content.getString("mimeType"));
+    context.assertTrue(Buffer.buffer(data).equals(Buffer.buffer(Base64.getDecoder().decode(content.getString("blob")))), "Blob should round-trip");
+  }
+
+  @Test
+  public void testReadStreamingTextResource(TestContext context) throws Throwable {
+    String text = "line \"one\"\n\ttab \\ back\u0001 caf\u00e9 \u6f22\u5b57\n".repeat(500);
+    Path file = Files.createTempFile("mcp-stream", ".txt");
+    Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+
+    resourceFeature.addStreamingResource("resource://text/{name}", "text", "text/plain", params ->
+      vertx.fileSystem().open(file.toString(), new OpenOptions().setRead(true))
+        .map(asyncFile -> new ResourceStream(asyncFile.setReadBufferSize(777)).setText(true).setMimeType("text/plain"))
+    );
+
+    ReadResourceResult result = (ReadResourceResult) getClient().sendRequest(new ReadResourceRequest(new JsonObject().put("uri", "resource://text/notes")))
+      .expecting(r -> r instanceof ReadResourceResult)
+      .await(10, TimeUnit.SECONDS);
+
+    TextResourceContent content = new TextResourceContent(result.getContents().getJsonObject(0));
+    context.assertEquals("resource://text/notes", content.getUri());
+    context.assertEquals(text, content.getText());
+
+    ListResourceTemplatesResult templates = (ListResourceTemplatesResult) getClient().sendRequest(new ListResourceTemplatesRequest())
+      .expecting(r -> r instanceof ListResourceTemplatesResult)
+      .await(10, TimeUnit.SECONDS);
+    context.assertEquals(1, templates.getResourceTemplates().size());
+  }
 }
@@ -0,0 +1,98 @@
+package io.vertx.mcp.it;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.mcp.client.ClientRequestException;
+import io.vertx.mcp.client.ClientSession;
+import io.vertx.mcp.common.notification.ResourceUpdatedNotification;
+import io.vertx.mcp.common.request.SubscribeRequest;
+import io.vertx.mcp.common.request.UnsubscribeRequest;
+import io.vertx.mcp.common.resources.TextResourceContent;
+import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.ServerOptions;
+import io.vertx.mcp.server.feature.ProtocolServerFeature;
+import io.vertx.mcp.server.feature.ResourceServerFeature;
+import io.vertx.mcp.server.feature.SessionServerFeature;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+public class ResourceSubscriptionTest extends HttpTransportTestBase {
+
+  private ResourceServerFeature resourceFeature;
+  private SessionServerFeature sessionFeature;
+
+  @Before
+  public void setUpFeatures(TestContext context) {
+    ModelContextProtocolServer server = ModelContextProtocolServer.create(super.vertx, new ServerOptions().setMaxSubscriptionsPerSession(2));
+
+    server.addServerFeature(new ProtocolServerFeature());
+    sessionFeature = new SessionServerFeature();
+    server.addServerFeature(sessionFeature);
+    resourceFeature = new ResourceServerFeature();
+    server.addServerFeature(resourceFeature);
+
+    resourceFeature.addStaticResource("resource://config", () ->
+      Future.succeededFuture(new TextResourceContent().setUri("resource://config").setName("config").setText("config")));
+    resourceFeature.addStaticResource("resource://status", () ->
+      Future.succeededFuture(new TextResourceContent().setUri("resource://status").setName("status").setText("status")));
+    resourceFeature.addDynamicResource("resource://user/{id}", params ->
+      Future.succeededFuture(new TextResourceContent().setUri("resource://user/" + params.get("id")).setName("user").setText("user")));
+
+    super.startServer(context, server);
+  }
+
+  @Test
+  public void testExactAndTemplateSubscriptionsReceiveUpdates(TestContext context) throws Throwable {
+    List<String> updated = new CopyOnWriteArrayList<>();
+    Async async = context.async(2);
+    getClient().addNotificationHandler(ResourceUpdatedNotification.METHOD, notification -> {
+      updated.add(notification.toJson().getString("uri"));
+      async.countDown();
+    });
+
+    ClientSession session = createSession().await(10, TimeUnit.SECONDS);
+    session.sendRequest(new SubscribeRequest().setUri("resource://config")).await(10, TimeUnit.SECONDS);
+    session.sendRequest(new SubscribeRequest().setUri("resource://user/{id}")).await(10, TimeUnit.SECONDS);
+
+    context.assertEquals(2, sessionFeature.getSubscriptions(session.id()).size());
+    context.assertTrue(sessionFeature.isSubscribed(session.id(), "resource://config"));
+
+    resourceFeature.notifyResourceUpdated(vertx, "resource://status");
+    resourceFeature.notifyResourceUpdated(vertx, "resource://config");
+    resourceFeature.notifyResourceUpdated(vertx, "resource://user/42");
+
+    async.awaitSuccess(10_000);
+    context.assertTrue(updated.contains("resource://config"));
+    context.assertTrue(updated.contains("resource://user/42"));
+    context.assertFalse(updated.contains("resource://status"));
+  }
+
+  @Test
+  public void testSubscriptionLimitPerSession(TestContext context) throws Throwable {
+    ClientSession session = createSession().await(10, TimeUnit.SECONDS);
+    session.sendRequest(new SubscribeRequest().setUri("resource://config")).await(10, TimeUnit.SECONDS);
+    session.sendRequest(new SubscribeRequest().setUri("resource://user/1")).await(10, TimeUnit.SECONDS);
+
+    // Re-subscribing to an existing URI does not count against the limit
+    session.sendRequest(new SubscribeRequest().setUri("resource://config")).await(10, TimeUnit.SECONDS);
+
+    try {
+      session.sendRequest(new SubscribeRequest().setUri("resource://status")).await(10, TimeUnit.SECONDS);
+      context.fail("Should have rejected the subscription");
+    } catch (ClientRequestException e) {
+      context.assertEquals(-32001, e.getCode());
+    }
+
+    session.sendRequest(new UnsubscribeRequest(new JsonObject().put("uri", "resource://config"))).await(10, TimeUnit.SECONDS);
+    session.sendRequest(new SubscribeRequest().setUri("resource://status")).await(10, TimeUnit.SECONDS);
+
+    context.assertTrue(sessionFeature.isSubscribed(session.id(), "resource://status"));
+    context.assertFalse(sessionFeature.isSubscribed(session.id(), "resource://config"));
+  }
+}
@@ -0,0 +1,101 @@
+package io.vertx.mcp.it;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.common.notification.Notification;
+import io.vertx.mcp.common.notification.ResourceListChangedNotification;
+import io.vertx.mcp.common.notification.ResourceUpdatedNotification;
+import io.vertx.mcp.server.ServerNotification;
+import io.vertx.mcp.server.ServerOptions;
+import io.vertx.mcp.server.SessionManager;
+import io.vertx.mcp.server.impl.EncodedNotification;
+import io.vertx.mcp.server.impl.ServerNotificationCodec;
+import io.vertx.mcp.server.impl.SessionManagerImpl;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class ServerNotificationCodecTest {
+
+  private final ServerNotificationCodec codec = new ServerNotificationCodec();
+
+  @Test
+  public void testWireRoundTrip() {
+    EncodedNotification sent = EncodedNotification.encode(new ResourceUpdatedNotification().setUri("file:///é.txt"), false);
+    Buffer buffer = Buffer.buffer("prefix");
+    codec.encodeToWire(buffer, sent);
+
+    EncodedNotification received = codec.decodeFromWire(6, buffer);
+
+    assertFalse(received.isBroadcast());
+    assertEquals(ResourceUpdatedNotification.METHOD, received.method());
+    assertEquals(sent.encoded(), received.encoded());
+    Notification notification = received.decode();
+    assertTrue(notification instanceof ResourceUpdatedNotification);
+    assertEquals("file:///é.txt", ((ResourceUpdatedNotification) notification).getUri());
+  }
+
+  @Test
+  public void testBroadcastFlagIsEncoded() {
+    Buffer buffer = Buffer.buffer();
+    codec.encodeToWire(buffer, EncodedNotification.encode(new ResourceListChangedNotification(), true));
+
+    EncodedNotification received = codec.decodeFromWire(0, buffer);
+
+    assertTrue(received.isBroadcast());
+    assertTrue(received.decode() instanceof ResourceListChangedNotification);
+  }
+
+  @Test
+  public void testNotificationIsEncodedOnce() {
+    EncodedNotification notification = EncodedNotification.encode(new ResourceUpdatedNotification().setUri("file:///a.txt"), false);
+
+    assertEquals(new ResourceUpdatedNotification().setUri("file:///a.txt").toNotification().toJson(), new JsonObject(notification.encoded()));
+  }
+
+  @Test
+  public void testLocalDeliveryPassesTheNotificationByReference() throws Exception {
+    Vertx vertx = Vertx.vertx();
+    try {
+      ServerNotificationCodec.register(vertx);
+      // Registering twice, as several servers of a Vert.x instance do, is harmless
+      ServerNotificationCodec.register(vertx);
+
+      CompletableFuture<EncodedNotification> delivered = new CompletableFuture<>();
+      vertx.eventBus().<EncodedNotification> consumer(SessionManager.NOTIFICATION_ADDRESS, message -> delivered.complete(message.body()))
+        .completion().await(10, TimeUnit.SECONDS);
+
+      EncodedNotification sent = EncodedNotification.encode(new ResourceListChangedNotification(), true);
+      vertx.eventBus().publish(SessionManager.NOTIFICATION_ADDRESS, sent);
+
+      assertSame(sent, delivered.get(10, TimeUnit.SECONDS));
+    } finally {
+      vertx.close().await(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  public void testUnsupportedNotificationsAreIgnored() throws Exception {
+    Vertx vertx = Vertx.vertx();
+    try {
+      List<Throwable> failures = new CopyOnWriteArrayList<>();
+      vertx.exceptionHandler(failures::add);
+      new SessionManagerImpl(vertx, new ServerOptions());
+
+      vertx.eventBus().publish(SessionManager.NOTIFICATION_ADDRESS, "not a notification");
+      // Targeted, but published without a session id
+      vertx.eventBus().publish(SessionManager.NOTIFICATION_ADDRESS, new ServerNotification().setNotification(new ResourceListChangedNotification()).toJson());
+      Thread.sleep(100);
+
+      assertEquals(List.of(), failures);
+    } finally {
+      vertx.close().await(10, TimeUnit.SECONDS);
+    }
+  }
+}
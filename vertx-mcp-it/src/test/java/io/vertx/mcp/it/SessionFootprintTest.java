@@ -0,0 +1,105 @@
+package io.vertx.mcp.it;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.common.LoggingLevel;
+import io.vertx.mcp.common.capabilities.ClientCapabilities;
+import io.vertx.mcp.common.request.PingRequest;
+import io.vertx.mcp.common.rpc.JsonResponse;
+import io.vertx.mcp.server.ServerOptions;
+import io.vertx.mcp.server.ServerSession;
+import io.vertx.mcp.server.impl.ServerSessionImpl;
+import io.vertx.mcp.server.impl.SessionManagerImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class SessionFootprintTest {
+
+  private Vertx vertx;
+  private SessionManagerImpl sessionManager;
+
+  @Before
+  public void setUp() {
+    vertx = Vertx.vertx();
+    sessionManager = new SessionManagerImpl(vertx, new ServerOptions().setStreamingEnabled(true));
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    vertx.close().await(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testEqualCapabilitiesAreShared() {
+    ServerSession first = sessionManager.createSession(new ClientCapabilities().setSampling(new JsonObject()));
+    ServerSession second = sessionManager.createSession(new ClientCapabilities().setSampling(new JsonObject()));
+    ServerSession other = sessionManager.createSession(new ClientCapabilities().setElicitation(new JsonObject()));
+
+    assertSame(first.clientCapabilities(), second.clientCapabilities());
+    assertNotSame(first.clientCapabilities(), other.clientCapabilities());
+    assertNull(sessionManager.createSession(null).clientCapabilities());
+  }
+
+  @Test
+  public void testSharedCapabilitiesAreReadOnly() {
+    ClientCapabilities declared = new ClientCapabilities().setSampling(new JsonObject());
+    ServerSession first = sessionManager.createSession(declared);
+    ServerSession second = sessionManager.createSession(new ClientCapabilities().setSampling(new JsonObject()));
+
+    // Neither the declaration, nor the capabilities of a session, change the capabilities of the other sessions
+    declared.setElicitation(new JsonObject());
+    first.clientCapabilities().getSampling().put("tools", true);
+    assertThrows(UnsupportedOperationException.class, () -> first.clientCapabilities().setRoots(null));
+
+    assertNull(second.clientCapabilities().getElicitation());
+    assertEquals(new JsonObject(), second.clientCapabilities().getSampling());
+  }
+
+  @Test
+  public void testPendingRequestsAreReleased() throws Exception {
+    ServerSessionImpl session = (ServerSessionImpl) sessionManager.createSession(new ClientCapabilities());
+    List<JsonObject> written = new ArrayList<>();
+    session.init(new CollectingWriteStream(written));
+
+    assertEquals(0, session.pendingRequestCount());
+    Future<JsonObject> first = session.sendRequest(new PingRequest());
+    Future<JsonObject> second = session.sendRequest(new PingRequest());
+    assertEquals(2, session.pendingRequestCount());
+    assertEquals(2, written.size());
+    assertNotEquals(written.get(0).getValue("id"), written.get(1).getValue("id"));
+
+    assertTrue(session.completeRequest(response(written.get(0))));
+    assertTrue(session.completeRequest(response(written.get(1))));
+    assertFalse(session.completeRequest(response(written.get(1))));
+
+    assertEquals(0, session.pendingRequestCount());
+    first.await(10, TimeUnit.SECONDS);
+    second.await(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testLoggingLevelsAreIndependent() {
+    ServerSession first = sessionManager.createSession(null);
+    ServerSession second = sessionManager.createSession(null);
+
+    first.setLoggingLevel(LoggingLevel.DEBUG);
+    first.setLoggingLevel("a.b", LoggingLevel.ERROR);
+
+    assertEquals(LoggingLevel.DEBUG, first.getLoggingLevel());
+    assertEquals(LoggingLevel.ERROR, first.getLoggingLevel("a.b.c"));
+    assertEquals(LoggingLevel.INFO, second.getLoggingLevel());
+    assertEquals(LoggingLevel.INFO, second.getLoggingLevel("a.b.c"));
+  }
+
+  private static JsonResponse response(JsonObject request) {
+    return JsonResponse.fromJson(new JsonObject().put("jsonrpc", "2.0").put("id", request.getValue("id")).put("result", new JsonObject()));
+  }
+}
@@ -0,0 +1,118 @@
+package io.vertx.mcp.it;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.mcp.client.ClientSession;
+import io.vertx.mcp.common.notification.InitializedNotification;
+import io.vertx.mcp.common.request.PingRequest;
+import io.vertx.mcp.common.request.SubscribeRequest;
+import io.vertx.mcp.common.resources.TextResourceContent;
+import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.ServerOptions;
+import io.vertx.mcp.server.SessionEvent;
+import io.vertx.mcp.server.feature.ProtocolServerFeature;
+import io.vertx.mcp.server.feature.ResourceServerFeature;
+import io.vertx.mcp.server.feature.SessionServerFeature;
+import io.vertx.mcp.server.impl.ServerSessionImpl;
+import io.vertx.mcp.server.impl.SessionManagerImpl;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+public class SessionLifecycleTest extends HttpTransportTestBase {
+
+  private final List<SessionEvent.Type> events = new CopyOnWriteArrayList<>();
+  private SessionServerFeature sessionFeature;
+  private ResourceServerFeature resourceFeature;
+
+  private void startServer(TestContext context, ServerOptions options) {
+    ModelContextProtocolServer server = ModelContextProtocolServer.create(vertx, options);
+    server.addServerFeature(new ProtocolServerFeature());
+    sessionFeature = new SessionServerFeature();
+    server.addServerFeature(sessionFeature);
+    resourceFeature = new ResourceServerFeature();
+    server.addServerFeature(resourceFeature);
+    resourceFeature.addStaticResource("resource://config", () ->
+      Future.succeededFuture(new TextResourceContent().setUri("resource://config").setName("config").setText("config")));
+
+    // A failing handler does not prevent the other handlers from releasing the session
+    server.addSessionLifecycleHandler(event -> {
+      throw new IllegalStateException("Failing handler");
+    });
+    server.addSessionLifecycleHandler(event -> events.add(event.type()));
+
+    super.startServer(context, server);
+  }
+
+  @Test
+  public void testClosedSessionIsReleased(TestContext context) throws Throwable {
+    startServer(context, new ServerOptions());
+
+    ClientSession session = createSession().await(10, TimeUnit.SECONDS);
+    session.sendNotification(new InitializedNotification()).await(10, TimeUnit.SECONDS);
+    session.sendRequest(new SubscribeRequest().setUri("resource://config")).await(10, TimeUnit.SECONDS);
+
+    context.assertEquals(1, sessionFeature.getSessionCount());
+    context.assertTrue(sessionFeature.isSubscribed(session.id(), "resource://config"));
+
+    Promise<Void> closed = Promise.promise();
+    session.close(closed);
+    closed.future().await(10, TimeUnit.SECONDS);
+
+    context.assertEquals(List.of(SessionEvent.Type.CREATED, SessionEvent.Type.INITIALIZED, SessionEvent.Type.CLOSED), events);
+    context.assertEquals(0, sessionFeature.getSessionCount());
+    context.assertTrue(resourceFeature.subscriptions(session.id()).isEmpty());
+  }
+
+  @Test
+  public void testUnusedSessionExpires(TestContext context) throws Throwable {
+    // Longer than the time between the creation of the session and its first request, even on a loaded machine
+    startServer(context, new ServerOptions().setSessionTimeoutMs(1000));
+
+    ClientSession session = createSession().await(10, TimeUnit.SECONDS);
+    session.sendRequest(new SubscribeRequest().setUri("resource://config")).await(10, TimeUnit.SECONDS);
+    context.assertEquals(1, sessionFeature.getSessionCount());
+
+    Async expired = context.async();
+    vertx.setPeriodic(50, id -> {
+      if (events.contains(SessionEvent.Type.EXPIRED)) {
+        vertx.cancelTimer(id);
+        expired.complete();
+      }
+    });
+    expired.awaitSuccess(10_000);
+
+    context.assertEquals(0, sessionFeature.getSessionCount());
+    context.assertTrue(resourceFeature.subscriptions(session.id()).isEmpty());
+  }
+
+  @Test
+  public void testRemovedSessionFailsPendingRequests(TestContext context) throws Throwable {
+    List<SessionEvent.Type> managerEvents = new ArrayList<>();
+    SessionManagerImpl sessionManager = new SessionManagerImpl(vertx, new ServerOptions().setStreamingEnabled(true), null, event -> managerEvents.add(event.type()));
+
+    ServerSessionImpl session = (ServerSessionImpl) sessionManager.createSession(null);
+    CollectingWriteStream stream = new CollectingWriteStream(new ArrayList<>());
+    session.init(stream);
+    Future<JsonObject> pending = session.sendRequest(new PingRequest());
+
+    sessionManager.removeSession(session.id());
+
+    context.assertTrue(pending.failed());
+    context.assertEquals(0, session.pendingRequestCount());
+    context.assertFalse(session.isActive());
+    context.assertTrue(stream.ended());
+    context.assertEquals(0, sessionManager.getSessionCount());
+    context.assertEquals(List.of(SessionEvent.Type.CREATED, SessionEvent.Type.CLOSED), managerEvents);
+
+    // Removing a session twice emits a single event
+    sessionManager.removeSession(session.id());
+    context.assertEquals(2, managerEvents.size());
+  }
+}
@@ -0,0 +1,136 @@
+package io.vertx.mcp.it;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.json.schema.common.dsl.Schemas;
+import io.vertx.mcp.client.ClientSession;
+import io.vertx.mcp.common.LoggingLevel;
+import io.vertx.mcp.common.notification.LoggingMessageNotification;
+import io.vertx.mcp.common.request.CallToolRequest;
+import io.vertx.mcp.common.result.CallToolResult;
+import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.ServerOptions;
+import io.vertx.mcp.server.ServerSession;
+import io.vertx.mcp.server.SessionLogHandler;
+import io.vertx.mcp.server.feature.LoggingServerFeature;
+import io.vertx.mcp.server.feature.ProtocolServerFeature;
+import io.vertx.mcp.server.feature.SessionServerFeature;
+import io.vertx.mcp.server.feature.ToolServerFeature;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+public class SessionLoggingTest extends HttpTransportTestBase {
+
+  private static final int RATE_LIMIT = 10;
+
+  private ToolServerFeature toolFeature;
+  private final List<LoggingMessageNotification> messages = new CopyOnWriteArrayList<>();
+
+  @Before
+  public void setUpFeatures(TestContext context) {
+    ModelContextProtocolServer server = ModelContextProtocolServer.create(super.vertx, new ServerOptions().setLogRateLimit(RATE_LIMIT));
+    server.addServerFeature(new ProtocolServerFeature());
+    server.addServerFeature(new LoggingServerFeature());
+    server.addServerFeature(new SessionServerFeature());
+    toolFeature = new ToolServerFeature();
+    server.addServerFeature(toolFeature);
+
+    super.startServer(context, server);
+  }
+
+  @Test
+  public void testExcessMessagesAreDroppedAndReported(TestContext context) throws Throwable {
+    callTool(session -> {
+      for (int i = 0; i < 50; i++) {
+        session.info("chatty", "line " + i);
+      }
+    }, m -> m.getLevel() == LoggingLevel.WARNING);
+
+    List<LoggingMessageNotification> lines = messages.subList(0, messages.size() - 1);
+    context.assertEquals(RATE_LIMIT, lines.size());
+    for (int i = 0; i < lines.size(); i++) {
+      context.assertEquals("line " + i, lines.get(i).getData());
+    }
+    LoggingMessageNotification summary = messages.get(messages.size() - 1);
+    context.assertEquals(LoggingLevel.WARNING, summary.getLevel());
+    context.assertEquals("Dropped 40 log messages", summary.getData());
+  }
+
+  @Test
+  public void testLoggerHierarchyLevels(TestContext context) throws Throwable {
+    callTool(session -> {
+      session.setLoggingLevel(LoggingLevel.DEBUG);
+      session.setLoggingLevel("com.example", LoggingLevel.WARNING);
+      session.setLoggingLevel("com.example.tools", LoggingLevel.INFO);
+
+      session.debug("com.example.db", "hidden");
+      session.warning("com.example.db", "shown by parent");
+      session.info("com.example.tools.search", "shown by child");
+      session.debug("com.example.tools", "hidden");
+      session.debug("other", "shown by root");
+      session.info("done", "done");
+    }, m -> "done".equals(m.getLogger()));
+
+    context.assertEquals(List.of("shown by parent", "shown by child", "shown by root", "done"), messages.stream().map(LoggingMessageNotification::getData).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void testJavaUtilLoggingBridge(TestContext context) throws Throwable {
+    Logger logger = Logger.getLogger("com.example.bridge");
+    SessionLogHandler handler = new SessionLogHandler();
+    logger.addHandler(handler);
+    logger.setUseParentHandlers(false);
+    try {
+      callTool(session -> {
+        logger.log(Level.WARNING, "Disk {0} is full", "sda");
+        logger.log(Level.FINE, "Not sent at the default level");
+        logger.log(Level.SEVERE, "Failure", new IllegalStateException("boom"));
+      }, m -> m.getLevel() == LoggingLevel.ERROR);
+    } finally {
+      logger.removeHandler(handler);
+      logger.setUseParentHandlers(true);
+    }
+
+    context.assertEquals(2, messages.size());
+    context.assertEquals("com.example.bridge", messages.get(0).getLogger());
+    context.assertEquals(LoggingLevel.WARNING, messages.get(0).getLevel());
+    context.assertEquals("Disk sda is full", messages.get(0).getData());
+    JsonObject error = (JsonObject) messages.get(1).getData();
+    context.assertEquals("Failure", error.getString("message"));
+    context.assertTrue(error.getString("error").contains("boom"));
+  }
+
+  private void callTool(Consumer<ServerSession> body, Predicate<LoggingMessageNotification> last) throws Throwable {
+    Promise<Void> received = Promise.promise();
+    getClient().addNotificationHandler(LoggingMessageNotification.METHOD, notification -> {
+      LoggingMessageNotification message = new LoggingMessageNotification(notification.toJson());
+      messages.add(message);
+      if (last.test(message)) {
+        received.tryComplete();
+      }
+    });
+
+    toolFeature.addStructuredTool("log", Schemas.objectSchema(), Schemas.objectSchema(), args -> {
+      body.accept(ServerSession.fromContext(Vertx.currentContext()));
+      return Future.succeededFuture(new JsonObject());
+    });
+
+    ClientSession session = createSession().await(10, TimeUnit.SECONDS);
+    getClient().sendRequest(new CallToolRequest(new JsonObject().put("name", "log").put("arguments", new JsonObject())), session)
+      .expecting(r -> r instanceof CallToolResult)
+      .await(10, TimeUnit.SECONDS);
+    received.future().await(10, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,210 @@
+package io.vertx.mcp.it;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.json.schema.common.dsl.Schemas;
+import io.vertx.mcp.common.notification.ProgressNotification;
+import io.vertx.mcp.common.request.PingRequest;
+import io.vertx.mcp.common.rpc.JsonError;
+import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.ServerOptions;
+import io.vertx.mcp.server.ServerSession;
+import io.vertx.mcp.server.feature.LoggingServerFeature;
+import io.vertx.mcp.server.feature.ProtocolServerFeature;
+import io.vertx.mcp.server.feature.SessionServerFeature;
+import io.vertx.mcp.server.feature.ToolServerFeature;
+import io.vertx.mcp.server.impl.StatelessServerSession;
+import io.vertx.mcp.server.transport.http.StreamableHttpServerTransport;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class StatelessSessionTest extends HttpTransportTestBase {
+
+  private static final String SECRET = "a secret shared by the nodes";
+
+  // Another node of the cluster, sharing the secret
+  private int otherPort;
+
+  @Before
+  public void setUpNodes(TestContext context) throws Throwable {
+    super.startServer(context, createServer(SECRET));
+    otherPort = startNode(createServer(SECRET));
+  }
+
+  private ModelContextProtocolServer createServer(String secret) {
+    return createServer(secret, ServerOptions.DEFAULT_SESSION_TOKEN_LIFETIME_MS);
+  }
+
+  private ModelContextProtocolServer createServer(String secret, long tokenLifetimeMs) {
+    ModelContextProtocolServer server = ModelContextProtocolServer.create(super.vertx,
+      new ServerOptions().setStatelessSessions(true).setSessionTokenSecret(secret).setSessionTokenLifetimeMs(tokenLifetimeMs));
+    server.addServerFeature(new ProtocolServerFeature());
+    server.addServerFeature(new SessionServerFeature());
+    server.addServerFeature(new LoggingServerFeature());
+    ToolServerFeature toolFeature = new ToolServerFeature();
+    server.addServerFeature(toolFeature);
+
+    toolFeature.addStructuredTool("whoami", Schemas.objectSchema(), Schemas.objectSchema(), args -> {
+      StatelessServerSession session = (StatelessServerSession) ServerSession.fromContext(Vertx.currentContext());
+      return Future.succeededFuture(new JsonObject()
+        .put("level", session.getLoggingLevel().getValue())
+        .put("protocolVersion", session.getProtocolVersion())
+        .put("sampling", session.clientCapabilities().getSampling() != null));
+    });
+    toolFeature.addStructuredTool("progress", Schemas.objectSchema(), Schemas.objectSchema(), args -> {
+      ServerSession session = ServerSession.fromContext(Vertx.currentContext());
+      return session.sendNotification(new ProgressNotification().setProgressToken("p-1").setProgress(0.5))
+        .map(v -> new JsonObject().put("done", true));
+    });
+    toolFeature.addStructuredTool("ping", Schemas.objectSchema(), Schemas.objectSchema(),
+      args -> ServerSession.fromContext(Vertx.currentContext()).sendRequest(new PingRequest()));
+    return server;
+  }
+
+  private int startNode(ModelContextProtocolServer server) throws Throwable {
+    StreamableHttpServerTransport transport = new StreamableHttpServerTransport(vertx, server);
+    HttpServer httpServer = vertx.createHttpServer().requestHandler(transport);
+    return httpServer.listen(0, "localhost").await(20, TimeUnit.SECONDS).actualPort();
+  }
+
+  @Test
+  public void testAnyNodeServesTheSession(TestContext context) throws Throwable {
+    String token = initialize(port);
+
+    HttpClientResponse response = send(otherPort, HttpMethod.POST, token, call("whoami")).await(10, TimeUnit.SECONDS);
+    JsonObject state = structuredContent(response);
+
+    context.assertEquals(200, response.statusCode());
+    context.assertEquals("info", state.getString("level"));
+    context.assertEquals("2025-06-18", state.getString("protocolVersion"));
+    context.assertTrue(state.getBoolean("sampling"));
+    context.assertEquals(token, response.getHeader(StreamableHttpServerTransport.MCP_SESSION_ID_HEADER));
+  }
+
+  @Test
+  public void testForgedTokenIsRejected(TestContext context) throws Throwable {
+    String token = initialize(port);
+    int dot = token.lastIndexOf('.');
+    String forged = (token.charAt(0) == 'e' ? 'f' : 'e') + token.substring(1, dot) + token.substring(dot);
+
+    context.assertEquals(404, send(port, HttpMethod.POST, forged, call("whoami")).await(10, TimeUnit.SECONDS).statusCode());
+    context.assertEquals(404, send(port, HttpMethod.POST, "not-a-token", call("whoami")).await(10, TimeUnit.SECONDS).statusCode());
+
+    // A node with another secret does not serve the session
+    int foreignPort = startNode(createServer("another secret"));
+    context.assertEquals(404, send(foreignPort, HttpMethod.POST, token, call("whoami")).await(10, TimeUnit.SECONDS).statusCode());
+  }
+
+  @Test
+  public void testTokenExpires(TestContext context) throws Throwable {
+    int shortLivedPort = startNode(createServer(SECRET, 1000));
+    String token = initialize(shortLivedPort);
+
+    Thread.sleep(1500);
+
+    context.assertEquals(404, send(shortLivedPort, HttpMethod.POST, token, call("whoami")).await(10, TimeUnit.SECONDS).statusCode());
+  }
+
+  @Test
+  public void testTokenIsRenewedWhileUsed(TestContext context) throws Throwable {
+    int shortLivedPort = startNode(createServer(SECRET, 1000));
+    String token = initialize(shortLivedPort);
+
+    // Longer than the token lifetime, the latest token received is sent
+    long end = System.currentTimeMillis() + 2500;
+    boolean renewed = false;
+    while (System.currentTimeMillis() < end) {
+      HttpClientResponse response = send(shortLivedPort, HttpMethod.POST, token, call("whoami")).await(10, TimeUnit.SECONDS);
+      context.assertEquals(200, response.statusCode());
+      String next = response.getHeader(StreamableHttpServerTransport.MCP_SESSION_ID_HEADER);
+      renewed |= !next.equals(token);
+      token = next;
+      Thread.sleep(200);
+    }
+    context.assertTrue(renewed);
+  }
+
+  @Test
+  public void testSecretIsNotLogged(TestContext context) {
+    ServerOptions options = new ServerOptions().setStatelessSessions(true).setSessionTokenSecret(SECRET);
+
+    context.assertFalse(options.toString().contains(SECRET));
+    // Still read from JSON
+    context.assertEquals(SECRET, new ServerOptions(new JsonObject().put("sessionTokenSecret", SECRET)).getSessionTokenSecret());
+  }
+
+  @Test
+  public void testLoggingLevelIsCarriedByTheToken(TestContext context) throws Throwable {
+    String token = initialize(port);
+
+    JsonObject setLevel = new JsonObject().put("jsonrpc", "2.0").put("id", 2).put("method", "logging/setLevel")
+      .put("params", new JsonObject().put("level", "error"));
+    HttpClientResponse response = send(port, HttpMethod.POST, token, setLevel).await(10, TimeUnit.SECONDS);
+    String reissued = response.getHeader(StreamableHttpServerTransport.MCP_SESSION_ID_HEADER);
+    context.assertNotEquals(token, reissued);
+
+    JsonObject state = structuredContent(send(otherPort, HttpMethod.POST, reissued, call("whoami")).await(10, TimeUnit.SECONDS));
+    context.assertEquals("error", state.getString("level"));
+    context.assertEquals("2025-06-18", state.getString("protocolVersion"));
+
+    // The previous token still carries the previous level
+    state = structuredContent(send(otherPort, HttpMethod.POST, token, call("whoami")).await(10, TimeUnit.SECONDS));
+    context.assertEquals("info", state.getString("level"));
+  }
+
+  @Test
+  public void testNotificationsAreSentOnTheResponse(TestContext context) throws Throwable {
+    String token = initialize(port);
+
+    HttpClientResponse response = send(otherPort, HttpMethod.POST, token, call("progress")).await(10, TimeUnit.SECONDS);
+    String body = response.body().await(10, TimeUnit.SECONDS).toString();
+
+    context.assertTrue(response.getHeader(HttpHeaders.CONTENT_TYPE).startsWith("text/event-stream"));
+    context.assertTrue(body.indexOf("notifications/progress") < body.indexOf("structuredContent"));
+  }
+
+  @Test
+  public void testStatefulFeaturesAreDisabled(TestContext context) throws Throwable {
+    String token = initialize(port);
+
+    context.assertEquals(405, send(port, HttpMethod.GET, token, null).await(10, TimeUnit.SECONDS).statusCode());
+    context.assertEquals(405, send(port, HttpMethod.DELETE, token, null).await(10, TimeUnit.SECONDS).statusCode());
+
+    JsonObject subscribe = new JsonObject().put("jsonrpc", "2.0").put("id", 3).put("method", "resources/subscribe")
+      .put("params", new JsonObject().put("uri", "file:///data"));
+    JsonObject error = send(port, HttpMethod.POST, token, subscribe).await(10, TimeUnit.SECONDS).body()
+      .map(JsonObject::new).await(10, TimeUnit.SECONDS).getJsonObject("error");
+    context.assertEquals(JsonError.METHOD_NOT_ALLOWED, error.getInteger("code"));
+
+    JsonObject result = send(port, HttpMethod.POST, token, call("ping")).await(10, TimeUnit.SECONDS).body()
+      .map(JsonObject::new).await(10, TimeUnit.SECONDS).getJsonObject("result");
+    context.assertTrue(result.getBoolean("isError"));
+  }
+
+  private String initialize(int port) throws Throwable {
+    JsonObject params = new JsonObject()
+      .put("protocolVersion", "2025-06-18")
+      .put("capabilities", new JsonObject().put("sampling", new JsonObject()))
+      .put("clientInfo", new JsonObject().put("name", "test").put("version", "1.0"));
+    JsonObject message = new JsonObject().put("jsonrpc", "2.0").put("id", 0).put("method", "initialize").put("params", params);
+    HttpClientResponse response = send(port, HttpMethod.POST, null, message).await(10, TimeUnit.SECONDS);
+    return response.getHeader(StreamableHttpServerTransport.MCP_SESSION_ID_HEADER);
+  }
+
+  private static JsonObject call(String tool) {
+    JsonObject params = new JsonObject().put("name", tool).put("arguments", new JsonObject());
+    return new JsonObject().put("jsonrpc", "2.0").put("id", 1).put("method", "tools/call").put("params", params);
+  }
+
+  private static JsonObject structuredContent(HttpClientResponse response) throws Throwable {
+    return new JsonObject(response.body().await(10, TimeUnit.SECONDS)).getJsonObject("result").getJsonObject("structuredContent");
+  }
+}
@@ -0,0 +1,46 @@
+package io.vertx.mcp.it;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.common.dsl.Schemas;
+import io.vertx.mcp.common.request.ListRootsRequest;
+import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.ServerSession;
+import io.vertx.mcp.server.feature.ProtocolServerFeature;
+import io.vertx.mcp.server.feature.SessionServerFeature;
+import io.vertx.mcp.server.feature.ToolServerFeature;
+import io.vertx.mcp.server.transport.stdio.StdioServerTransport;
+
+/**
+ * A server on the standard streams, launched as a subprocess by {@link StdioTransportTest}. It exits once its input ends.
+ */
+public class StdioServerMain {
+
+  public static void main(String[] args) {
+    Vertx vertx = Vertx.vertx();
+    ModelContextProtocolServer server = ModelContextProtocolServer.create(vertx);
+    server.addServerFeature(new ProtocolServerFeature());
+    server.addServerFeature(new SessionServerFeature());
+
+    ToolServerFeature toolFeature = new ToolServerFeature();
+    toolFeature.addStructuredTool("multiply",
+      Schemas.objectSchema().requiredProperty("x", Schemas.numberSchema()).requiredProperty("y", Schemas.numberSchema()),
+      Schemas.objectSchema().property("product", Schemas.numberSchema()),
+      arguments -> Future.succeededFuture(new JsonObject().put("product", arguments.getInteger("x") * arguments.getInteger("y"))));
+    // Round trip of a request initiated by the server
+    toolFeature.addStructuredTool("roots", Schemas.objectSchema(), Schemas.objectSchema().property("count", Schemas.numberSchema()),
+      arguments -> ServerSession.fromContext(Vertx.currentContext())
+        .sendRequest(new ListRootsRequest())
+        .map(result -> new JsonObject().put("count", result.getJsonArray("roots").size())));
+    server.addServerFeature(toolFeature);
+
+    StdioServerTransport transport = new StdioServerTransport(vertx, server);
+    // Printed on the standard error, the standard output carries the messages
+    System.out.println("Server started");
+
+    transport
+      .closeHandler(v -> vertx.close())
+      .start();
+  }
+}
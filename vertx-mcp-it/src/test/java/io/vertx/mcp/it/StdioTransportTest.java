@@ -0,0 +1,125 @@
+package io.vertx.mcp.it;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.client.ClientOptions;
+import io.vertx.mcp.client.ClientSession;
+import io.vertx.mcp.client.ModelContextProtocolClient;
+import io.vertx.mcp.client.feature.RootsClientFeature;
+import io.vertx.mcp.client.transport.stdio.StdioClientTransport;
+import io.vertx.mcp.common.capabilities.ClientCapabilities;
+import io.vertx.mcp.common.capabilities.RootsCapability;
+import io.vertx.mcp.common.notification.InitializedNotification;
+import io.vertx.mcp.common.request.CallToolRequest;
+import io.vertx.mcp.common.result.CallToolResult;
+import io.vertx.mcp.common.root.Root;
+import io.vertx.mcp.common.transport.stdio.LineDeframer;
+import io.vertx.mcp.common.transport.stdio.StdioChannel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class StdioTransportTest {
+
+  private Vertx vertx;
+
+  @Before
+  public void setUp() {
+    vertx = Vertx.vertx();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    vertx.close().await(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testServerSubprocess() throws Exception {
+    List<String> command = List.of(
+      Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+      "-cp", System.getProperty("java.class.path"),
+      StdioServerMain.class.getName());
+
+    ClientOptions options = new ClientOptions().setStreamingEnabled(true);
+    StdioClientTransport transport = new StdioClientTransport(vertx, command, options);
+    ModelContextProtocolClient client = ModelContextProtocolClient.create(vertx, transport, options);
+    client.addClientFeature(new RootsClientFeature()
+      .addRoot(new Root().setName("workspace").setUri("file:///workspace"))
+      .addRoot(new Root().setName("projects").setUri("file:///projects")));
+
+    ClientSession session = client.subscribe(new ClientCapabilities().setRoots(new RootsCapability())).await(30, TimeUnit.SECONDS);
+    assertNotNull(session.serverCapabilities().getTools());
+    session.sendNotification(new InitializedNotification()).await(10, TimeUnit.SECONDS);
+
+    CallToolResult product = (CallToolResult) session.sendRequest(new CallToolRequest(new JsonObject()
+      .put("name", "multiply")
+      .put("arguments", new JsonObject().put("x", 6).put("y", 7)))).await(10, TimeUnit.SECONDS);
+    assertEquals(42, (int) product.getStructuredContent().getInteger("product"));
+
+    // The server waits for the response of the client to its request
+    CallToolResult roots = (CallToolResult) session.sendRequest(new CallToolRequest(new JsonObject()
+      .put("name", "roots")
+      .put("arguments", new JsonObject()))).await(10, TimeUnit.SECONDS);
+    assertEquals(2, (int) roots.getStructuredContent().getInteger("count"));
+
+    // The server exits once its input is closed
+    Promise<Void> closed = Promise.promise();
+    session.close(closed);
+    closed.future().await(10, TimeUnit.SECONDS);
+    assertTrue(transport.process().waitFor(10, TimeUnit.SECONDS));
+    assertEquals(0, transport.process().exitValue());
+  }
+
+  @Test
+  public void testLineFraming() {
+    List<String> messages = new ArrayList<>();
+    List<Long> overflows = new ArrayList<>();
+    LineDeframer deframer = new LineDeframer(16, buffer -> messages.add(buffer.toString()))
+      .overflowHandler(overflows::add);
+
+    // Messages split across reads, with CRLF delimiters and empty lines
+    update(deframer, "{\"a\"");
+    update(deframer, ":1}\r");
+    update(deframer, "\n\n\r\n{\"b\":2}\n{\"c\"");
+    assertEquals(List.of("{\"a\":1}", "{\"b\":2}"), messages);
+
+    // A message larger than the maximum is discarded up to its delimiter
+    update(deframer, ":3}\n{\"d\":\"0123456789\"");
+    update(deframer, "0123456789}\n{\"e\":5}");
+    assertEquals(List.of("{\"a\":1}", "{\"b\":2}", "{\"c\":3}"), messages);
+    assertEquals(List.of(28L), overflows);
+
+    // The last message may end without a delimiter
+    deframer.end();
+    assertEquals("{\"e\":5}", messages.get(messages.size() - 1));
+  }
+
+  @Test
+  public void testWritesLeftAtCloseAreFailed() throws Exception {
+    // Never started, the output is closed without any writer thread draining the queue
+    StdioChannel channel = new StdioChannel((ContextInternal) vertx.getOrCreateContext(), new ByteArrayInputStream(new byte[0]), new ByteArrayOutputStream());
+    Future<Void> pending = channel.write(Buffer.buffer("{}"));
+    channel.close().await(10, TimeUnit.SECONDS);
+
+    assertTrue(pending.failed());
+    assertTrue(channel.write(Buffer.buffer("{}")).failed());
+  }
+
+  private static void update(LineDeframer deframer, String chunk) {
+    byte[] bytes = Buffer.buffer(chunk).getBytes();
+    deframer.update(bytes, 0, bytes.length);
+  }
+}
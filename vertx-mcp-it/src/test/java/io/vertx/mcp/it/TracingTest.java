@@ -0,0 +1,221 @@
+package io.vertx.mcp.it;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.spi.context.storage.ContextLocal;
+import io.vertx.core.spi.tracing.SpanKind;
+import io.vertx.core.spi.tracing.TagExtractor;
+import io.vertx.core.spi.tracing.VertxTracer;
+import io.vertx.core.tracing.TracingPolicy;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.json.schema.common.dsl.Schemas;
+import io.vertx.mcp.client.ClientOptions;
+import io.vertx.mcp.client.ClientSession;
+import io.vertx.mcp.client.ModelContextProtocolClient;
+import io.vertx.mcp.client.feature.RootsClientFeature;
+import io.vertx.mcp.client.transport.http.StreamableHttpClientTransport;
+import io.vertx.mcp.common.capabilities.ClientCapabilities;
+import io.vertx.mcp.common.request.CallToolRequest;
+import io.vertx.mcp.common.request.ListRootsRequest;
+import io.vertx.mcp.common.tracing.McpTracing;
+import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.ServerOptions;
+import io.vertx.mcp.server.ServerSession;
+import io.vertx.mcp.server.feature.ProtocolServerFeature;
+import io.vertx.mcp.server.feature.SessionServerFeature;
+import io.vertx.mcp.server.feature.ToolServerFeature;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+public class TracingTest extends HttpTransportTestBase {
+
+  private final FakeTracer tracer = new FakeTracer();
+
+  @Override
+  public void setUp(TestContext context) {
+    vertx = Vertx.builder().withTracer(options -> tracer).build();
+  }
+
+  static class Span {
+
+    final String kind;
+    final String operation;
+    final String traceId;
+    final String id;
+    final String parentId;
+    final Map<String, String> tags;
+    volatile boolean finished;
+
+    Span(String kind, String operation, String traceId, String parentId, Map<String, String> tags) {
+      this.kind = kind;
+      this.operation = operation;
+      this.traceId = traceId != null ? traceId : UUID.randomUUID().toString().replace("-", "");
+      this.id = UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+      this.parentId = parentId;
+      this.tags = tags;
+    }
+
+    @Override
+    public String toString() {
+      return kind + " " + operation;
+    }
+  }
+
+  /**
+   * A tracer propagating W3C trace parents and keeping the active span in the context, like the Vert.x OpenTelemetry tracer.
+   */
+  static class FakeTracer implements VertxTracer<Span, Span> {
+
+    // Registered when the class is loaded, before the Vert.x instance of the test is created
+    static final ContextLocal<Span> ACTIVE_SPAN = ContextLocal.registerLocal(Span.class);
+
+    final List<Span> spans = new CopyOnWriteArrayList<>();
+
+    @Override
+    public <R> Span receiveRequest(Context context, SpanKind kind, TracingPolicy policy, R request, String operation, Iterable<Map.Entry<String, String>> headers,
+      TagExtractor<R> tagExtractor) {
+      if (policy == TracingPolicy.IGNORE) {
+        return null;
+      }
+      String traceparent = null;
+      for (Map.Entry<String, String> header : headers) {
+        if (header.getKey().equalsIgnoreCase(McpTracing.TRACEPARENT)) {
+          traceparent = header.getValue();
+        }
+      }
+      if (traceparent == null && policy == TracingPolicy.PROPAGATE) {
+        return null;
+      }
+      String[] parts = traceparent != null ? traceparent.split("-") : null;
+      Span span = new Span("server", operation, parts != null ? parts[1] : null, parts != null ? parts[2] : null, tagExtractor.extract(request));
+      context.putLocal(ACTIVE_SPAN, span);
+      spans.add(span);
+      return span;
+    }
+
+    @Override
+    public <R> void sendResponse(Context context, R response, Span payload, Throwable failure, TagExtractor<R> tagExtractor) {
+      if (payload != null) {
+        payload.finished = true;
+      }
+    }
+
+    @Override
+    public <R> Span sendRequest(Context context, SpanKind kind, TracingPolicy policy, R request, String operation, BiConsumer<String, String> headers,
+      TagExtractor<R> tagExtractor) {
+      if (policy == TracingPolicy.IGNORE) {
+        return null;
+      }
+      Span active = context.getLocal(ACTIVE_SPAN);
+      if (active == null && policy == TracingPolicy.PROPAGATE) {
+        return null;
+      }
+      Span span = new Span("client", operation, active != null ? active.traceId : null, active != null ? active.id : null, tagExtractor.extract(request));
+      headers.accept(McpTracing.TRACEPARENT, "00-" + span.traceId + "-" + span.id + "-01");
+      spans.add(span);
+      return span;
+    }
+
+    @Override
+    public <R> void receiveResponse(Context context, R response, Span payload, Throwable failure, TagExtractor<R> tagExtractor) {
+      if (payload != null) {
+        payload.finished = true;
+      }
+    }
+
+    Span find(String kind, String operation) {
+      return findOptional(s -> s.kind.equals(kind) && s.operation.equals(operation)).orElseThrow(() -> new AssertionError("No " + kind + " span " + operation + " in " + spans));
+    }
+
+    Optional<Span> findOptional(Predicate<Span> predicate) {
+      return spans.stream().filter(predicate).findFirst();
+    }
+  }
+
+  private ModelContextProtocolClient createClient(TracingPolicy policy) {
+    ClientOptions clientOptions = new ClientOptions().setStreamingEnabled(true).setTracingPolicy(policy);
+    client = ModelContextProtocolClient.create(vertx, new StreamableHttpClientTransport(vertx, "http://localhost:" + port + "/mcp", clientOptions), clientOptions);
+    client.addClientFeature(new RootsClientFeature());
+    return client;
+  }
+
+  private void startServer(TestContext context) {
+    ModelContextProtocolServer server = ModelContextProtocolServer.create(vertx, new ServerOptions());
+    server.addServerFeature(new ProtocolServerFeature());
+    server.addServerFeature(new SessionServerFeature());
+    ToolServerFeature toolFeature = new ToolServerFeature();
+    toolFeature.addStructuredTool("roots", Schemas.objectSchema(), Schemas.objectSchema(), args -> {
+      ServerSession.fromContext(Vertx.currentContext()).sendRequest(new ListRootsRequest());
+      return Future.succeededFuture(new JsonObject());
+    });
+    server.addServerFeature(toolFeature);
+    startServer(context, server);
+  }
+
+  @Test
+  public void testTraceIsPropagatedInBothDirections(TestContext context) throws Throwable {
+    startServer(context);
+    ModelContextProtocolClient client = createClient(TracingPolicy.ALWAYS);
+    ClientSession session = client.subscribe(new ClientCapabilities()).await(10, TimeUnit.SECONDS);
+
+    CallToolRequest request = new CallToolRequest(new JsonObject().put("name", "roots").put("arguments", new JsonObject()).put("_meta", new JsonObject().put("key", "value")));
+    client.sendRequest(request, session).await(10, TimeUnit.SECONDS);
+    waitFor(context, () -> tracer.findOptional(s -> s.kind.equals("server") && s.operation.equals("roots/list") && s.finished).isPresent());
+
+    Span clientCall = tracer.find("client", "tools/call");
+    Span serverCall = tracer.find("server", "tools/call");
+    Span tool = tracer.find("client", McpTracing.EXECUTE_TOOL + " roots");
+    Span serverRequest = tracer.find("client", "roots/list");
+    Span clientHandler = tracer.find("server", "roots/list");
+
+    context.assertNull(clientCall.parentId);
+    context.assertEquals(clientCall.id, serverCall.parentId);
+    context.assertEquals(serverCall.id, tool.parentId);
+    context.assertEquals(serverCall.id, serverRequest.parentId);
+    context.assertEquals(serverRequest.id, clientHandler.parentId);
+    for (Span span : List.of(serverCall, tool, serverRequest, clientHandler)) {
+      context.assertEquals(clientCall.traceId, span.traceId);
+    }
+
+    context.assertTrue(clientCall.finished);
+    context.assertTrue(serverCall.finished);
+    context.assertTrue(tool.finished);
+    context.assertEquals("tools/call", serverCall.tags.get("mcp.method.name"));
+    context.assertEquals("roots", tool.tags.get("gen_ai.tool.name"));
+
+    // The trace context is written to a copy of the caller's _meta
+    context.assertEquals(new JsonObject().put("key", "value"), request.getMeta());
+  }
+
+  @Test
+  public void testPropagatePolicyDoesNotStartTraces(TestContext context) throws Throwable {
+    startServer(context);
+    ModelContextProtocolClient client = createClient(TracingPolicy.PROPAGATE);
+    ClientSession session = client.subscribe(new ClientCapabilities()).await(10, TimeUnit.SECONDS);
+
+    client.sendRequest(new CallToolRequest(new JsonObject().put("name", "roots").put("arguments", new JsonObject())), session).await(10, TimeUnit.SECONDS);
+
+    context.assertFalse(tracer.findOptional(s -> s.operation.equals("tools/call")).isPresent(), tracer.spans.toString());
+  }
+
+  private void waitFor(TestContext context, BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (!condition.getAsBoolean()) {
+      if (System.currentTimeMillis() > deadline) {
+        context.fail("Timed out: " + tracer.spans);
+      }
+      Thread.sleep(10);
+    }
+  }
+}
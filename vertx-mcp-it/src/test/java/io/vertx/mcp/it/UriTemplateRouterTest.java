@@ -0,0 +1,64 @@
+package io.vertx.mcp.it;
+
+import io.vertx.mcp.server.impl.UriTemplateRouter;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class UriTemplateRouterTest {
+
+  @Test
+  public void testRemovalKeepsTheOtherTemplates() {
+    UriTemplateRouter<String> router = new UriTemplateRouter<>();
+    router.add("file:///users/{id}", "user");
+    router.add("file:///users/{id}/posts/{post}", "post");
+    router.add("file:///users/me", "me");
+
+    assertEquals("user", router.remove("file:///users/{id}"));
+    assertNull(router.remove("file:///users/{id}"));
+
+    assertNull(router.match("file:///users/42"));
+    assertEquals("post", router.match("file:///users/42/posts/7").value());
+    assertEquals("7", router.match("file:///users/42/posts/7").variables().get("post"));
+    assertEquals("me", router.match("file:///users/me").value());
+
+    router.remove("file:///users/{id}/posts/{post}");
+    router.remove("file:///users/me");
+    assertNull(router.match("file:///users/me"));
+
+    // The pruned paths are built again
+    router.add("file:///users/{id}", "again");
+    assertEquals("again", router.match("file:///users/42").value());
+  }
+
+  @Test
+  public void testReplacementKeepsThePrecedence() {
+    UriTemplateRouter<String> router = new UriTemplateRouter<>();
+    router.add("file:///{name}", "first");
+    router.add("file:///{+path}", "second");
+    router.add("file:///{name}", "replaced");
+
+    assertEquals("replaced", router.match("file:///a").value());
+    assertEquals("second", router.match("file:///a/b").value());
+
+    List<String> matches = new ArrayList<>();
+    router.forEachMatch("file:///a", matches::add);
+    assertEquals(List.of("replaced", "second"), matches);
+  }
+
+  @Test
+  public void testLookupOfTheShapeAfterRemoval() {
+    UriTemplateRouter<String> router = new UriTemplateRouter<>();
+    router.add("file:///users/{id}", "id");
+    router.add("file:///users/{name}", "name");
+
+    assertEquals("id", router.lookupTemplate("file:///users/{other}"));
+    router.remove("file:///users/{id}");
+    assertEquals("name", router.lookupTemplate("file:///users/{other}"));
+    router.remove("file:///users/{name}");
+    assertNull(router.lookupTemplate("file:///users/{other}"));
+  }
+}
@@ -0,0 +1,165 @@
+package io.vertx.mcp.it;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.WebSocket;
+import io.vertx.core.http.WebSocketClient;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.common.dsl.Schemas;
+import io.vertx.mcp.client.ClientOptions;
+import io.vertx.mcp.client.ClientSession;
+import io.vertx.mcp.client.ModelContextProtocolClient;
+import io.vertx.mcp.client.feature.RootsClientFeature;
+import io.vertx.mcp.client.transport.websocket.WebSocketClientTransport;
+import io.vertx.mcp.common.capabilities.ClientCapabilities;
+import io.vertx.mcp.common.capabilities.RootsCapability;
+import io.vertx.mcp.common.notification.InitializedNotification;
+import io.vertx.mcp.common.request.CallToolRequest;
+import io.vertx.mcp.common.request.ListRootsRequest;
+import io.vertx.mcp.common.result.CallToolResult;
+import io.vertx.mcp.common.root.Root;
+import io.vertx.mcp.common.rpc.JsonError;
+import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.ServerOptions;
+import io.vertx.mcp.server.ServerSession;
+import io.vertx.mcp.server.SessionEvent;
+import io.vertx.mcp.server.feature.ProtocolServerFeature;
+import io.vertx.mcp.server.feature.SessionServerFeature;
+import io.vertx.mcp.server.feature.ToolServerFeature;
+import io.vertx.mcp.server.impl.ServerSessionImpl;
+import io.vertx.mcp.server.transport.websocket.WebSocketServerTransport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class WebSocketTransportTest {
+
+  private Vertx vertx;
+  private HttpServer httpServer;
+  private WebSocketServerTransport transport;
+  private int port;
+  private final List<SessionEvent> events = new CopyOnWriteArrayList<>();
+
+  @Before
+  public void setUp() throws Exception {
+    vertx = Vertx.vertx();
+    ModelContextProtocolServer server = ModelContextProtocolServer.create(vertx, new ServerOptions().setMaxRequestSize(1024));
+    server.addServerFeature(new ProtocolServerFeature());
+    server.addServerFeature(new SessionServerFeature());
+    server.addSessionLifecycleHandler(events::add);
+
+    ToolServerFeature toolFeature = new ToolServerFeature();
+    toolFeature.addStructuredTool("multiply",
+      Schemas.objectSchema().requiredProperty("x", Schemas.numberSchema()).requiredProperty("y", Schemas.numberSchema()),
+      Schemas.objectSchema().property("product", Schemas.numberSchema()),
+      arguments -> Future.succeededFuture(new JsonObject().put("product", arguments.getInteger("x") * arguments.getInteger("y"))));
+    // Round trip of a request initiated by the server
+    toolFeature.addStructuredTool("roots", Schemas.objectSchema(), Schemas.objectSchema().property("count", Schemas.numberSchema()),
+      arguments -> ServerSession.fromContext(Vertx.currentContext())
+        .sendRequest(new ListRootsRequest())
+        .map(result -> new JsonObject().put("count", result.getJsonArray("roots").size())));
+    server.addServerFeature(toolFeature);
+
+    transport = new WebSocketServerTransport(vertx, server).setPingIntervalMs(100);
+    httpServer = vertx.createHttpServer(new HttpServerOptions().setHost("localhost").setPort(0))
+      .webSocketHandler(transport);
+    port = httpServer.listen().await(20, TimeUnit.SECONDS).actualPort();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    vertx.close().await(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testTextMessages() throws Exception {
+    testSession(false);
+  }
+
+  @Test
+  public void testBinaryMessages() throws Exception {
+    testSession(true);
+  }
+
+  private void testSession(boolean binary) throws Exception {
+    ClientOptions options = new ClientOptions().setStreamingEnabled(true);
+    WebSocketClientTransport clientTransport = new WebSocketClientTransport(vertx, "ws://localhost:" + port + "/mcp", options)
+      .setBinaryMessages(binary);
+    ModelContextProtocolClient client = ModelContextProtocolClient.create(vertx, clientTransport, options);
+    client.addClientFeature(new RootsClientFeature()
+      .addRoot(new Root().setName("workspace").setUri("file:///workspace"))
+      .addRoot(new Root().setName("projects").setUri("file:///projects")));
+
+    ClientSession session = client.subscribe(new ClientCapabilities().setRoots(new RootsCapability())).await(10, TimeUnit.SECONDS);
+    assertNotNull(session.serverCapabilities().getTools());
+    session.sendNotification(new InitializedNotification()).await(10, TimeUnit.SECONDS);
+
+    // The WebSocket pings keep the session alive, the session manager does not ping it
+    assertEquals(1, transport.getSessionManager().getSessionCount());
+    assertEquals(SessionEvent.Type.CREATED, events.get(0).type());
+    assertTrue(((ServerSessionImpl) events.get(0).session()).isKeptAlive());
+
+    CallToolResult product = (CallToolResult) session.sendRequest(new CallToolRequest(new JsonObject()
+      .put("name", "multiply")
+      .put("arguments", new JsonObject().put("x", 6).put("y", 7)))).await(10, TimeUnit.SECONDS);
+    assertEquals(42, (int) product.getStructuredContent().getInteger("product"));
+
+    // Several pings are answered in the meantime
+    Thread.sleep(500);
+
+    // The server waits for the response of the client to its request
+    CallToolResult roots = (CallToolResult) session.sendRequest(new CallToolRequest(new JsonObject()
+      .put("name", "roots")
+      .put("arguments", new JsonObject()))).await(10, TimeUnit.SECONDS);
+    assertEquals(2, (int) roots.getStructuredContent().getInteger("count"));
+
+    // Closing the WebSocket ends the session
+    Promise<Void> closed = Promise.promise();
+    session.close(closed);
+    closed.future().await(10, TimeUnit.SECONDS);
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (!events.get(events.size() - 1).isTerminal() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(SessionEvent.Type.CLOSED, events.get(events.size() - 1).type());
+    assertEquals(0, transport.getSessionManager().getSessionCount());
+  }
+
+  @Test
+  public void testMessageTooLarge() throws Exception {
+    WebSocketClient webSocketClient = vertx.createWebSocketClient();
+    WebSocket ws = webSocketClient.connect(port, "localhost", "/mcp").await(10, TimeUnit.SECONDS);
+    Promise<JsonObject> reply = Promise.promise();
+    ws.textMessageHandler(text -> reply.tryComplete(new JsonObject(text)));
+
+    JsonObject request = new JsonObject()
+      .put("jsonrpc", "2.0")
+      .put("id", 1)
+      .put("method", "ping")
+      .put("params", new JsonObject().put("padding", "x".repeat(2048)));
+    ws.writeTextMessage(request.encode());
+
+    JsonObject error = reply.future().await(10, TimeUnit.SECONDS).getJsonObject("error");
+    assertEquals(JsonError.INVALID_REQUEST, (int) error.getInteger("code"));
+  }
+
+  @Test
+  public void testUnknownPath() throws Exception {
+    WebSocketClient webSocketClient = vertx.createWebSocketClient();
+    Promise<Short> closed = Promise.promise();
+    // Connected on a context, the close handler is set before the close frame is received
+    vertx.runOnContext(v -> webSocketClient.connect(port, "localhost", "/other")
+      .onSuccess(ws -> ws.closeHandler(c -> closed.complete(ws.closeStatusCode())))
+      .onFailure(closed::fail));
+    assertEquals(1008, (int) closed.future().await(10, TimeUnit.SECONDS));
+  }
+}
@@ -0,0 +1,330 @@
+package io.vertx.mcp.it.load;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.PoolOptions;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.common.dsl.Schemas;
+import io.vertx.mcp.client.ClientOptions;
+import io.vertx.mcp.client.ClientSession;
+import io.vertx.mcp.client.ModelContextProtocolClient;
+import io.vertx.mcp.client.transport.http.StreamableHttpClientTransport;
+import io.vertx.mcp.common.capabilities.ClientCapabilities;
+import io.vertx.mcp.common.completion.Completion;
+import io.vertx.mcp.common.completion.CompletionArgument;
+import io.vertx.mcp.common.completion.CompletionReference;
+import io.vertx.mcp.common.notification.ResourceUpdatedNotification;
+import io.vertx.mcp.common.request.CallToolRequest;
+import io.vertx.mcp.common.request.CompleteRequest;
+import io.vertx.mcp.common.request.ReadResourceRequest;
+import io.vertx.mcp.common.request.Request;
+import io.vertx.mcp.common.request.SubscribeRequest;
+import io.vertx.mcp.common.resources.TextResourceContent;
+import io.vertx.mcp.common.result.CallToolResult;
+import io.vertx.mcp.common.result.CompleteResult;
+import io.vertx.mcp.common.result.ReadResourceResult;
+import io.vertx.mcp.common.result.Result;
+import io.vertx.mcp.server.DynamicResourceHandler;
+import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.ServerOptions;
+import io.vertx.mcp.server.feature.CompletionServerFeature;
+import io.vertx.mcp.server.feature.ProtocolServerFeature;
+import io.vertx.mcp.server.feature.ResourceServerFeature;
+import io.vertx.mcp.server.feature.SessionServerFeature;
+import io.vertx.mcp.server.feature.ToolServerFeature;
+import io.vertx.mcp.server.transport.http.StreamableHttpServerTransport;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A load generator driving an in-process server over the Streamable HTTP transports. The harness initializes {@link LoadOptions#getSessions()} sessions, each holding its SSE
+ * stream open and subscribed to some resources, then every session sends a weighted mix of {@code tools/call}, {@code resources/read} and {@code completion/complete} requests in a
+ * closed loop while the server periodically publishes resource updates, and reports throughput, latency percentiles, notification throughput, and heap and GC statistics.
+ * <p>
+ * Run it with {@code mvn -pl vertx-mcp-it test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=io.vertx.mcp.it.load.LoadHarness -Dload.sessions=50000}, the
+ * {@code load.*} system properties configuring the run as described by {@link LoadOptions}. Large runs need a raised file descriptor limit, and past about 28k sessions more
+ * local ports than a single loopback address provides.
+ */
+public class LoadHarness {
+
+  public static final String TOOL = "echo";
+  public static final String RESOURCE_PREFIX = "resource://load/";
+  public static final String TEMPLATE = RESOURCE_PREFIX + "item/{id}";
+
+  private static final String TOOLS_CALL = "tools/call";
+  private static final String RESOURCES_READ = "resources/read";
+  private static final String COMPLETION_COMPLETE = "completion/complete";
+
+  private final Vertx vertx;
+  private final LoadOptions options;
+  private final String payload;
+  private final List<String> completions = IntStream.range(0, 20).mapToObj(i -> "item-" + i).collect(Collectors.toList());
+
+  private ResourceServerFeature resourceFeature;
+  private HttpServer httpServer;
+
+  public LoadHarness(Vertx vertx, LoadOptions options) {
+    this.vertx = vertx;
+    this.options = options;
+    this.payload = "x".repeat(options.getPayloadSize());
+  }
+
+  public static void main(String[] args) throws Exception {
+    LoadOptions options = LoadOptions.fromSystemProperties();
+    Vertx vertx = Vertx.vertx();
+    try {
+      System.out.println(new LoadHarness(vertx, options).run());
+    } finally {
+      vertx.close().await(30, TimeUnit.SECONDS);
+    }
+  }
+
+  /**
+   * Runs the load, blocking the calling thread until the measurement ends. The calling thread must not be a Vert.x thread.
+   *
+   * @return the report
+   */
+  public LoadReport run() throws Exception {
+    LoadReport report = new LoadReport(options);
+    report.latencies.put(TOOLS_CALL, new LatencyHistogram());
+    report.latencies.put(RESOURCES_READ, new LatencyHistogram());
+    report.latencies.put(COMPLETION_COMPLETE, new LatencyHistogram());
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    report.heapMax = memory.getHeapMemoryUsage().getMax();
+
+    int port = startServer();
+    try {
+      AtomicLong notifications = new AtomicLong();
+      ModelContextProtocolClient client = createClient(port);
+      client.addNotificationHandler(ResourceUpdatedNotification.METHOD, notification -> notifications.incrementAndGet());
+
+      report.heapBaseline = usedHeapAfterGc(memory);
+      List<ClientSession> sessions = connect(client, report);
+      report.heapConnected = usedHeapAfterGc(memory);
+
+      long periodic = options.getNotificationIntervalMs() > 0 ? vertx.setPeriodic(options.getNotificationIntervalMs(), id -> {
+        for (int i = 0; i < options.getResources(); i++) {
+          resourceFeature.notifyResourceUpdated(vertx, RESOURCE_PREFIX + i);
+        }
+      }) : -1;
+
+      long start = System.nanoTime();
+      long recordFrom = start + TimeUnit.MILLISECONDS.toNanos(options.getWarmupMs());
+      long stopAt = recordFrom + TimeUnit.MILLISECONDS.toNanos(options.getDurationMs());
+      AtomicLong errors = new AtomicLong();
+      List<Future<Void>> loops = new ArrayList<>();
+      for (ClientSession session : sessions) {
+        for (int i = 0; i < options.getConcurrency(); i++) {
+          Promise<Void> done = Promise.promise();
+          loop(session, report, errors, recordFrom, stopAt, done);
+          loops.add(done.future());
+        }
+      }
+
+      sleepUntil(recordFrom);
+      long notificationsBefore = notifications.get();
+      long[] gcBefore = gcStats();
+      sleepUntil(stopAt);
+      report.notifications = notifications.get() - notificationsBefore;
+      long[] gcAfter = gcStats();
+      report.gcCount = gcAfter[0] - gcBefore[0];
+      report.gcTimeMs = gcAfter[1] - gcBefore[1];
+      report.measuredNanos = stopAt - recordFrom;
+      report.heapAfter = memory.getHeapMemoryUsage().getUsed();
+
+      if (periodic >= 0) {
+        vertx.cancelTimer(periodic);
+      }
+      Future.join(loops).await(30, TimeUnit.SECONDS);
+      report.errors = errors.get();
+    } finally {
+      httpServer.close().await(30, TimeUnit.SECONDS);
+    }
+    return report;
+  }
+
+  private int startServer() throws Exception {
+    ModelContextProtocolServer server = ModelContextProtocolServer.create(vertx, new ServerOptions()
+      .setMaxSessions(Math.max(ServerOptions.DEFAULT_MAX_SESSIONS, options.getSessions()))
+      .setMaxSubscriptionsPerSession(Math.max(ServerOptions.DEFAULT_MAX_SUBSCRIPTIONS_PER_SESSION, options.getSubscriptionsPerSession())));
+
+    server.addServerFeature(new ProtocolServerFeature());
+    server.addServerFeature(new SessionServerFeature());
+    server.addServerFeature(new CompletionServerFeature());
+
+    ToolServerFeature toolFeature = new ToolServerFeature();
+    toolFeature.addStructuredTool(TOOL, Schemas.objectSchema().requiredProperty("text", Schemas.stringSchema()),
+      Schemas.objectSchema().requiredProperty("text", Schemas.stringSchema()), args -> Future.succeededFuture(new JsonObject().put("text", args.getString("text"))));
+    server.addServerFeature(toolFeature);
+
+    resourceFeature = new ResourceServerFeature();
+    for (int i = 0; i < options.getResources(); i++) {
+      String uri = RESOURCE_PREFIX + i;
+      TextResourceContent content = new TextResourceContent().setUri(uri).setName("load-" + i).setText(payload);
+      resourceFeature.addStaticResource(uri, () -> Future.succeededFuture(content));
+    }
+    resourceFeature.addDynamicResource(DynamicResourceHandler.create(TEMPLATE, "item", null, null,
+      params -> Future.succeededFuture(new TextResourceContent().setUri(RESOURCE_PREFIX + "item/" + params.get("id")).setName("item").setText(payload)),
+      (argument, context) -> {
+        String prefix = argument.getValue() != null ? argument.getValue() : "";
+        List<String> values = completions.stream().filter(value -> value.startsWith(prefix)).collect(Collectors.toList());
+        return Future.succeededFuture(new Completion().setValues(values).setTotal(values.size()).setHasMore(false));
+      }));
+    server.addServerFeature(resourceFeature);
+
+    httpServer = vertx.createHttpServer(new HttpServerOptions().setPort(0).setHost("localhost"))
+      .requestHandler(new StreamableHttpServerTransport(vertx, server));
+    return httpServer.listen().await(30, TimeUnit.SECONDS).actualPort();
+  }
+
+  private ModelContextProtocolClient createClient(int port) {
+    ClientOptions clientOptions = new ClientOptions()
+      .setClientName("vertx-mcp-load")
+      .setClientVersion("1.0.0")
+      .setStreamingEnabled(true);
+    // One connection per SSE stream plus one per request in flight
+    PoolOptions poolOptions = new PoolOptions().setHttp1MaxSize(options.getSessions() * (1 + options.getConcurrency()) + options.getConnectParallelism());
+    StreamableHttpClientTransport transport = new StreamableHttpClientTransport(vertx, "http://localhost:" + port + "/mcp", clientOptions, new HttpClientOptions(), poolOptions);
+    return ModelContextProtocolClient.create(vertx, transport, clientOptions);
+  }
+
+  private List<ClientSession> connect(ModelContextProtocolClient client, LoadReport report) throws Exception {
+    List<ClientSession> sessions = new ArrayList<>();
+    AtomicInteger next = new AtomicInteger();
+    AtomicLong failures = new AtomicLong();
+    List<Future<Void>> chains = new ArrayList<>();
+    for (int i = 0; i < Math.min(options.getConnectParallelism(), options.getSessions()); i++) {
+      Promise<Void> done = Promise.promise();
+      connectNext(client, next, sessions, report.connects, failures, done);
+      chains.add(done.future());
+    }
+    Future.join(chains).await(Math.max(60, options.getSessions() / 100), TimeUnit.SECONDS);
+    report.connectFailures = failures.get();
+    return sessions;
+  }
+
+  private void connectNext(ModelContextProtocolClient client, AtomicInteger next, List<ClientSession> sessions, LatencyHistogram latency, AtomicLong failures,
+    Promise<Void> done) {
+    int index = next.getAndIncrement();
+    if (index >= options.getSessions()) {
+      done.complete();
+      return;
+    }
+    long start = System.nanoTime();
+    client.subscribe(new ClientCapabilities())
+      .compose(session -> subscribe(session, index).map(session))
+      .onComplete(ar -> {
+        if (ar.succeeded()) {
+          latency.record(System.nanoTime() - start);
+          synchronized (sessions) {
+            sessions.add(ar.result());
+          }
+        } else {
+          failures.incrementAndGet();
+        }
+        connectNext(client, next, sessions, latency, failures, done);
+      });
+  }
+
+  private Future<Void> subscribe(ClientSession session, int index) {
+    int count = Math.min(options.getSubscriptionsPerSession(), options.getResources());
+    List<Future<Result>> subscriptions = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      subscriptions.add(session.sendRequest(new SubscribeRequest().setUri(RESOURCE_PREFIX + (index + i) % options.getResources())));
+    }
+    return Future.all(subscriptions).mapEmpty();
+  }
+
+  private void loop(ClientSession session, LoadReport report, AtomicLong errors, long recordFrom, long stopAt, Promise<Void> done) {
+    long start = System.nanoTime();
+    if (start >= stopAt) {
+      done.complete();
+      return;
+    }
+
+    String method = pickMethod();
+    Request request;
+    Predicate<Result> expected;
+    switch (method) {
+      case TOOLS_CALL:
+        request = new CallToolRequest(new JsonObject().put("name", TOOL).put("arguments", new JsonObject().put("text", payload)));
+        expected = result -> result instanceof CallToolResult;
+        break;
+      case RESOURCES_READ:
+        request = new ReadResourceRequest().setUri(RESOURCE_PREFIX + ThreadLocalRandom.current().nextInt(options.getResources()));
+        expected = result -> result instanceof ReadResourceResult;
+        break;
+      default:
+        request = new CompleteRequest()
+          .setRef(CompletionReference.resourceRef(TEMPLATE))
+          .setArgument(new CompletionArgument().setName("id").setValue("item-1"));
+        expected = result -> result instanceof CompleteResult;
+        break;
+    }
+
+    session.sendRequest(request).expecting(expected::test).onComplete(ar -> {
+      if (start >= recordFrom && start < stopAt) {
+        if (ar.succeeded()) {
+          report.latencies.get(method).record(System.nanoTime() - start);
+        } else {
+          errors.incrementAndGet();
+        }
+      }
+      if (ar.succeeded()) {
+        loop(session, report, errors, recordFrom, stopAt, done);
+      } else {
+        // A request failing synchronously must not recurse
+        vertx.runOnContext(v -> loop(session, report, errors, recordFrom, stopAt, done));
+      }
+    });
+  }
+
+  private String pickMethod() {
+    int total = options.getToolCallWeight() + options.getResourceReadWeight() + options.getCompletionWeight();
+    int pick = ThreadLocalRandom.current().nextInt(total);
+    if (pick < options.getToolCallWeight()) {
+      return TOOLS_CALL;
+    }
+    if (pick < options.getToolCallWeight() + options.getResourceReadWeight()) {
+      return RESOURCES_READ;
+    }
+    return COMPLETION_COMPLETE;
+  }
+
+  private static long usedHeapAfterGc(MemoryMXBean memory) {
+    System.gc();
+    return memory.getHeapMemoryUsage().getUsed();
+  }
+
+  private static long[] gcStats() {
+    long count = 0;
+    long time = 0;
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      count += Math.max(0, gc.getCollectionCount());
+      time += Math.max(0, gc.getCollectionTime());
+    }
+    return new long[] { count, time };
+  }
+
+  private static void sleepUntil(long nanoTime) throws InterruptedException {
+    long remaining = nanoTime - System.nanoTime();
+    if (remaining > 0) {
+      TimeUnit.NANOSECONDS.sleep(remaining);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package io.vertx.mcp.it.load;
+
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(VertxUnitRunner.class)
+public class LoadHarnessTest {
+
+  private Vertx vertx;
+
+  @Before
+  public void setUp(TestContext context) {
+    vertx = Vertx.vertx();
+  }
+
+  @After
+  public void tearDown(TestContext context) {
+    vertx.close().onComplete(context.asyncAssertSuccess());
+  }
+
+  @Test
+  public void testSmallRun(TestContext context) throws Exception {
+    LoadReport report = new LoadHarness(vertx, new LoadOptions()
+      .setSessions(8)
+      .setConcurrency(2)
+      .setWarmupMs(300)
+      .setDurationMs(1_000)
+      .setResources(4)
+      .setSubscriptionsPerSession(2)
+      .setNotificationIntervalMs(100))
+      .run();
+
+    context.assertEquals(8L, report.sessions());
+    context.assertEquals(0L, report.connectFailures());
+    context.assertEquals(0L, report.errors());
+    report.latencies().forEach((method, histogram) -> context.assertTrue(histogram.count() > 0, method));
+    context.assertTrue(report.notifications() > 0);
+    context.assertTrue(report.latencies().get("tools/call").percentile(50) <= report.latencies().get("tools/call").percentile(99.9));
+  }
+
+  @Test
+  public void testHistogramPercentiles(TestContext context) {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 10_000; i++) {
+      histogram.record(i * 1_000L);
+    }
+    context.assertEquals(10_000L, histogram.count());
+    assertWithin(context, 5_000, histogram.percentile(50));
+    assertWithin(context, 9_900, histogram.percentile(99));
+    assertWithin(context, 9_990, histogram.percentile(99.9));
+    assertWithin(context, 10_000, histogram.percentile(100));
+  }
+
+  private static void assertWithin(TestContext context, long expected, long actual) {
+    context.assertTrue(actual >= expected && actual <= expected * 1.02, "Expected ~" + expected + " but was " + actual);
+  }
+}
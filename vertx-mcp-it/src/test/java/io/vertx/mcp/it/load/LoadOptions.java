@@ -0,0 +1,191 @@
+package io.vertx.mcp.it.load;
+
+/**
+ * Configuration of a {@link LoadHarness} run. Every option can be set with a {@code load.<name>} system property, e.g. {@code -Dload.sessions=50000}.
+ */
+public class LoadOptions {
+
+  private int sessions = 100;
+  private int concurrency = 1;
+  private int connectParallelism = 64;
+  private long warmupMs = 2_000;
+  private long durationMs = 10_000;
+  private int toolCallWeight = 6;
+  private int resourceReadWeight = 3;
+  private int completionWeight = 1;
+  private int resources = 16;
+  private int subscriptionsPerSession = 2;
+  private long notificationIntervalMs = 1_000;
+  private int payloadSize = 64;
+
+  /**
+   * @return options read from the {@code load.*} system properties, falling back to the defaults
+   */
+  public static LoadOptions fromSystemProperties() {
+    LoadOptions options = new LoadOptions();
+    options.sessions = Integer.getInteger("load.sessions", options.sessions);
+    options.concurrency = Integer.getInteger("load.concurrency", options.concurrency);
+    options.connectParallelism = Integer.getInteger("load.connectParallelism", options.connectParallelism);
+    options.warmupMs = Long.getLong("load.warmupMs", options.warmupMs);
+    options.durationMs = Long.getLong("load.durationMs", options.durationMs);
+    options.toolCallWeight = Integer.getInteger("load.toolCallWeight", options.toolCallWeight);
+    options.resourceReadWeight = Integer.getInteger("load.resourceReadWeight", options.resourceReadWeight);
+    options.completionWeight = Integer.getInteger("load.completionWeight", options.completionWeight);
+    options.resources = Integer.getInteger("load.resources", options.resources);
+    options.subscriptionsPerSession = Integer.getInteger("load.subscriptionsPerSession", options.subscriptionsPerSession);
+    options.notificationIntervalMs = Long.getLong("load.notificationIntervalMs", options.notificationIntervalMs);
+    options.payloadSize = Integer.getInteger("load.payloadSize", options.payloadSize);
+    return options;
+  }
+
+  /**
+   * @return the number of sessions, each holding an SSE stream open for the whole run
+   */
+  public int getSessions() {
+    return sessions;
+  }
+
+  public LoadOptions setSessions(int sessions) {
+    this.sessions = sessions;
+    return this;
+  }
+
+  /**
+   * @return the number of requests each session keeps in flight, sessions send their next request as soon as a response is received
+   */
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  public LoadOptions setConcurrency(int concurrency) {
+    this.concurrency = concurrency;
+    return this;
+  }
+
+  /**
+   * @return the number of sessions initialized at the same time while ramping up
+   */
+  public int getConnectParallelism() {
+    return connectParallelism;
+  }
+
+  public LoadOptions setConnectParallelism(int connectParallelism) {
+    this.connectParallelism = connectParallelism;
+    return this;
+  }
+
+  /**
+   * @return the duration of the warmup, whose requests are not recorded
+   */
+  public long getWarmupMs() {
+    return warmupMs;
+  }
+
+  public LoadOptions setWarmupMs(long warmupMs) {
+    this.warmupMs = warmupMs;
+    return this;
+  }
+
+  /**
+   * @return the duration of the measurement
+   */
+  public long getDurationMs() {
+    return durationMs;
+  }
+
+  public LoadOptions setDurationMs(long durationMs) {
+    this.durationMs = durationMs;
+    return this;
+  }
+
+  /**
+   * @return the relative weight of {@code tools/call} requests in the mix
+   */
+  public int getToolCallWeight() {
+    return toolCallWeight;
+  }
+
+  public LoadOptions setToolCallWeight(int toolCallWeight) {
+    this.toolCallWeight = toolCallWeight;
+    return this;
+  }
+
+  /**
+   * @return the relative weight of {@code resources/read} requests in the mix
+   */
+  public int getResourceReadWeight() {
+    return resourceReadWeight;
+  }
+
+  public LoadOptions setResourceReadWeight(int resourceReadWeight) {
+    this.resourceReadWeight = resourceReadWeight;
+    return this;
+  }
+
+  /**
+   * @return the relative weight of {@code completion/complete} requests in the mix
+   */
+  public int getCompletionWeight() {
+    return completionWeight;
+  }
+
+  public LoadOptions setCompletionWeight(int completionWeight) {
+    this.completionWeight = completionWeight;
+    return this;
+  }
+
+  /**
+   * @return the number of resources registered on the server
+   */
+  public int getResources() {
+    return resources;
+  }
+
+  public LoadOptions setResources(int resources) {
+    this.resources = resources;
+    return this;
+  }
+
+  /**
+   * @return the number of resources each session subscribes to
+   */
+  public int getSubscriptionsPerSession() {
+    return subscriptionsPerSession;
+  }
+
+  public LoadOptions setSubscriptionsPerSession(int subscriptionsPerSession) {
+    this.subscriptionsPerSession = subscriptionsPerSession;
+    return this;
+  }
+
+  /**
+   * @return the interval at which the server publishes an update of every resource, {@code 0} to disable notifications
+   */
+  public long getNotificationIntervalMs() {
+    return notificationIntervalMs;
+  }
+
+  public LoadOptions setNotificationIntervalMs(long notificationIntervalMs) {
+    this.notificationIntervalMs = notificationIntervalMs;
+    return this;
+  }
+
+  /**
+   * @return the size in characters of the tool arguments and of the resource contents
+   */
+  public int getPayloadSize() {
+    return payloadSize;
+  }
+
+  public LoadOptions setPayloadSize(int payloadSize) {
+    this.payloadSize = payloadSize;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "sessions=" + sessions + ", concurrency=" + concurrency + ", warmup=" + warmupMs + "ms, duration=" + durationMs + "ms, mix=tools:" + toolCallWeight
+      + "/resources:" + resourceReadWeight + "/completions:" + completionWeight + ", subscriptions=" + subscriptionsPerSession + "/" + resources
+      + ", notificationInterval=" + notificationIntervalMs + "ms, payload=" + payloadSize;
+  }
+}
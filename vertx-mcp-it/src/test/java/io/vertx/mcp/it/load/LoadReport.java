@@ -0,0 +1,141 @@
+package io.vertx.mcp.it.load;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The outcome of a {@link LoadHarness} run: request throughput and latency percentiles per method, notification throughput, and heap and GC statistics of the JVM running both
+ * the server and the load generator.
+ */
+public class LoadReport {
+
+  final LoadOptions options;
+  final Map<String, LatencyHistogram> latencies = new LinkedHashMap<>();
+  final LatencyHistogram connects = new LatencyHistogram();
+  long connectFailures;
+  long errors;
+  long notifications;
+  long measuredNanos;
+  long heapBaseline;
+  long heapConnected;
+  long heapAfter;
+  long heapMax;
+  long gcCount;
+  long gcTimeMs;
+
+  LoadReport(LoadOptions options) {
+    this.options = options;
+  }
+
+  /**
+   * @return the options of the run
+   */
+  public LoadOptions options() {
+    return options;
+  }
+
+  /**
+   * @return the sessions initialized, holding an SSE stream open
+   */
+  public long sessions() {
+    return connects.count();
+  }
+
+  /**
+   * @return the sessions which failed to initialize or subscribe
+   */
+  public long connectFailures() {
+    return connectFailures;
+  }
+
+  /**
+   * @return the latencies of session initialization, including the resource subscriptions
+   */
+  public LatencyHistogram connectLatency() {
+    return connects;
+  }
+
+  /**
+   * @return the latencies of the successful requests per method, recorded during the measurement
+   */
+  public Map<String, LatencyHistogram> latencies() {
+    return latencies;
+  }
+
+  /**
+   * @return the number of successful requests recorded during the measurement
+   */
+  public long requests() {
+    return latencies.values().stream().mapToLong(LatencyHistogram::count).sum();
+  }
+
+  /**
+   * @return the number of failed requests during the measurement
+   */
+  public long errors() {
+    return errors;
+  }
+
+  /**
+   * @return the number of notifications received by the clients during the measurement
+   */
+  public long notifications() {
+    return notifications;
+  }
+
+  /**
+   * @return the successful requests per second
+   */
+  public double throughput() {
+    return perSecond(requests());
+  }
+
+  /**
+   * @return the notifications received per second
+   */
+  public double notificationRate() {
+    return perSecond(notifications);
+  }
+
+  /**
+   * @return the heap retained per session, measured after a full GC once every session is initialized
+   */
+  public long heapPerSession() {
+    long sessions = sessions();
+    return sessions == 0 ? 0 : Math.max(0, heapConnected - heapBaseline) / sessions;
+  }
+
+  /**
+   * @return the number of collections during the measurement
+   */
+  public long gcCount() {
+    return gcCount;
+  }
+
+  /**
+   * @return the time spent in collections during the measurement, in milliseconds
+   */
+  public long gcTimeMs() {
+    return gcTimeMs;
+  }
+
+  private double perSecond(long count) {
+    return measuredNanos == 0 ? 0 : count * 1_000_000_000d / measuredNanos;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("Load: ").append(options).append('\n');
+    sb.append(String.format("Sessions: %d connected, %d failed, connect p50=%dus p99=%dus%n", sessions(), connectFailures, connects.percentile(50), connects.percentile(99)));
+    sb.append(String.format("Requests: %d ok, %d errors, %.1f req/s over %.1fs%n", requests(), errors, throughput(), measuredNanos / 1e9));
+    sb.append(String.format("%-20s %10s %10s %10s %10s %10s %10s%n", "method", "count", "mean(us)", "p50(us)", "p99(us)", "p999(us)", "max(us)"));
+    latencies.forEach((method, histogram) -> sb.append(String.format("%-20s %10d %10.0f %10d %10d %10d %10d%n", method, histogram.count(), histogram.mean(),
+      histogram.percentile(50), histogram.percentile(99), histogram.percentile(99.9), histogram.percentile(100))));
+    sb.append(String.format("Notifications: %d received, %.1f/s%n", notifications, notificationRate()));
+    sb.append(String.format("Heap: %d KB baseline, %d KB with sessions (%d bytes/session), %d KB after run, %d KB max%n", heapBaseline / 1024, heapConnected / 1024,
+      heapPerSession(), heapAfter / 1024, heapMax / 1024));
+    sb.append(String.format("GC: %d collections, %d ms%n", gcCount, gcTimeMs));
+    return sb.toString();
+  }
+}
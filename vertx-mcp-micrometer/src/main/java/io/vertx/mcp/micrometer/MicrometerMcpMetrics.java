@@ -0,0 +1,152 @@
+package io.vertx.mcp.micrometer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.mcp.common.metrics.McpMetrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Micrometer implementation of {@link McpMetrics}, see {@link MicrometerMcpMetricsFactory} for the recorded meters.
+ */
+public class MicrometerMcpMetrics implements McpMetrics {
+
+  private final MeterRegistry registry;
+  private final String prefix;
+
+  private final Map<String, Timer> requestTimers = new ConcurrentHashMap<>();
+  private final Map<String, Timer> toolTimers = new ConcurrentHashMap<>();
+  private final Map<String, Counter> notificationCounters = new ConcurrentHashMap<>();
+  private final Counter bytesWritten;
+  private final AtomicLong sessions;
+  private final AtomicLong streams;
+  private final AtomicLong queued;
+  private final AtomicLong pendingRequests;
+
+  public MicrometerMcpMetrics(MeterRegistry registry, String prefix) {
+    this.registry = registry;
+    this.prefix = prefix;
+    this.bytesWritten = Counter.builder(prefix + ".outbound.bytes").baseUnit("bytes").register(registry);
+    Gauges gauges = MicrometerMcpMetricsFactory.gauges(registry, prefix);
+    this.sessions = gauges.sessions;
+    this.streams = gauges.streams;
+    this.queued = gauges.queued;
+    this.pendingRequests = gauges.pendingRequests;
+  }
+
+  /**
+   * The values of the gauges of a registry and prefix, shared by all the servers or all the clients recording to the registry: a registry keeps the first value registered
+   * for a gauge name, and only holds it weakly.
+   */
+  static final class Gauges {
+
+    final AtomicLong sessions = new AtomicLong();
+    final AtomicLong streams = new AtomicLong();
+    final AtomicLong queued = new AtomicLong();
+    final AtomicLong pendingRequests = new AtomicLong();
+
+    Gauges(MeterRegistry registry, String prefix) {
+      registry.gauge(prefix + ".sessions.active", sessions);
+      registry.gauge(prefix + ".streams.active", streams);
+      registry.gauge(prefix + ".outbound.queued", queued);
+      registry.gauge(prefix + ".requests.pending", pendingRequests);
+    }
+  }
+
+  @Override
+  public Object requestBegin(String method) {
+    return Timer.start(registry);
+  }
+
+  @Override
+  public void requestEnd(Object request, String method, int errorCode) {
+    String error = errorCode == 0 ? "none" : Integer.toString(errorCode);
+    Timer timer = requestTimers.computeIfAbsent(method + ' ' + error, key -> Timer.builder(prefix + ".requests")
+      .tag("method", String.valueOf(method))
+      .tag("error", error)
+      .publishPercentileHistogram()
+      .register(registry));
+    ((Timer.Sample) request).stop(timer);
+  }
+
+  @Override
+  public Object toolCallBegin(String tool) {
+    return Timer.start(registry);
+  }
+
+  @Override
+  public void toolCallEnd(Object call, String tool, boolean failed) {
+    String outcome = failed ? "failure" : "success";
+    Timer timer = toolTimers.computeIfAbsent(tool + ' ' + outcome, key -> Timer.builder(prefix + ".tool.calls")
+      .tag("tool", tool)
+      .tag("outcome", outcome)
+      .publishPercentileHistogram()
+      .register(registry));
+    ((Timer.Sample) call).stop(timer);
+  }
+
+  @Override
+  public void sessionOpened() {
+    sessions.incrementAndGet();
+  }
+
+  @Override
+  public void sessionClosed() {
+    sessions.decrementAndGet();
+  }
+
+  @Override
+  public void streamOpened() {
+    streams.incrementAndGet();
+  }
+
+  @Override
+  public void streamClosed() {
+    streams.decrementAndGet();
+  }
+
+  @Override
+  public void messagesQueued(int count) {
+    queued.addAndGet(count);
+  }
+
+  @Override
+  public void messagesDequeued(int count) {
+    queued.addAndGet(-count);
+  }
+
+  @Override
+  public void bytesWritten(long bytes) {
+    bytesWritten.increment(bytes);
+  }
+
+  @Override
+  public void pendingRequestAdded() {
+    pendingRequests.incrementAndGet();
+  }
+
+  @Override
+  public void pendingRequestRemoved() {
+    pendingRequests.decrementAndGet();
+  }
+
+  @Override
+  public void notificationSent(String method) {
+    notification(method, "sent").increment();
+  }
+
+  @Override
+  public void notificationReceived(String method) {
+    notification(method, "received").increment();
+  }
+
+  private Counter notification(String method, String direction) {
+    return notificationCounters.computeIfAbsent(method + ' ' + direction, key -> Counter.builder(prefix + ".notifications")
+      .tag("method", String.valueOf(method))
+      .tag("direction", direction)
+      .register(registry));
+  }
+}
@@ -0,0 +1,80 @@
+package io.vertx.mcp.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.vertx.core.Vertx;
+import io.vertx.mcp.common.metrics.McpMetrics;
+import io.vertx.mcp.common.metrics.McpMetricsFactory;
+import io.vertx.micrometer.backends.BackendRegistries;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link McpMetricsFactory} recording MCP metrics with Micrometer. This factory is discovered with the {@link java.util.ServiceLoader} when the module is on the class path and
+ * Vert.x metrics are enabled, and records to the default registry of Vert.x Micrometer Metrics, or to the Micrometer global registry when there is none.
+ * <p>
+ * Server metrics are prefixed with {@code mcp.server} and client metrics with {@code mcp.client}:
+ * <ul>
+ *   <li>{@code requests}: timer of the JSON-RPC requests, tagged with {@code method} ({@code unknown} for a method not handled by the server) and {@code error} (the JSON-RPC error code, or {@code none})</li>
+ *   <li>{@code tool.calls}: timer of the tool calls, tagged with {@code tool} and {@code outcome} ({@code success} or {@code failure})</li>
+ *   <li>{@code sessions.active}, {@code streams.active}: gauges of the open sessions and SSE streams</li>
+ *   <li>{@code outbound.queued}: gauge of the messages queued before being sent</li>
+ *   <li>{@code outbound.bytes}: counter of the bytes written</li>
+ *   <li>{@code requests.pending}: gauge of the requests waiting for a response from the peer</li>
+ *   <li>{@code notifications}: counter of the notifications, tagged with {@code method} and {@code direction} ({@code sent} or {@code received})</li>
+ * </ul>
+ */
+public class MicrometerMcpMetricsFactory implements McpMetricsFactory {
+
+  // The factory is loaded again for each server and client, the gauges are shared across the instances and dropped with their registry
+  private static final Map<MeterRegistry, Map<String, MicrometerMcpMetrics.Gauges>> GAUGES = Collections.synchronizedMap(new WeakHashMap<>());
+
+  private final MeterRegistry registry;
+
+  /**
+   * Creates a factory recording to the default Vert.x Micrometer registry, or else to the global registry.
+   */
+  public MicrometerMcpMetricsFactory() {
+    this(null);
+  }
+
+  /**
+   * Creates a factory recording to a registry.
+   *
+   * @param registry the registry, or {@code null} to use the default Vert.x Micrometer registry, or else the global registry
+   */
+  public MicrometerMcpMetricsFactory(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  public McpMetrics createServerMetrics(Vertx vertx) {
+    return new MicrometerMcpMetrics(registry(), "mcp.server");
+  }
+
+  @Override
+  public McpMetrics createClientMetrics(Vertx vertx) {
+    return new MicrometerMcpMetrics(registry(), "mcp.client");
+  }
+
+  /**
+   * @param registry the registry
+   * @param prefix the prefix of the meters
+   * @return the gauges of the registry and prefix, registered by the first call
+   */
+  static MicrometerMcpMetrics.Gauges gauges(MeterRegistry registry, String prefix) {
+    return GAUGES.computeIfAbsent(registry, key -> new ConcurrentHashMap<>())
+      .computeIfAbsent(prefix, key -> new MicrometerMcpMetrics.Gauges(registry, prefix));
+  }
+
+  private MeterRegistry registry() {
+    if (registry != null) {
+      return registry;
+    }
+    MeterRegistry defaultRegistry = BackendRegistries.getDefaultNow();
+    return defaultRegistry != null ? defaultRegistry : Metrics.globalRegistry;
+  }
+}
@@ -0,0 +1,10 @@
+module io.vertx.mcp.micrometer {
+  requires io.vertx.core;
+  requires io.vertx.mcp.common;
+  requires io.vertx.metrics.micrometer;
+  requires micrometer.core;
+
+  exports io.vertx.mcp.micrometer;
+
+  provides io.vertx.mcp.common.metrics.McpMetricsFactory with io.vertx.mcp.micrometer.MicrometerMcpMetricsFactory;
+}
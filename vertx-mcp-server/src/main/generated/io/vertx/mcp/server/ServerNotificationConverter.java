@@ -0,0 +1,41 @@
+package io.vertx.mcp.server;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.server.ServerNotification}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.server.ServerNotification} original class using Vert.x codegen.
+ */
+public class ServerNotificationConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, ServerNotification obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "notification":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setNotification(((JsonObject)member.getValue()).copy());
+          }
+          break;
+        case "broadcast":
+          if (member.getValue() instanceof Boolean) {
+            obj.setBroadcast((Boolean)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(ServerNotification obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(ServerNotification obj, java.util.Map<String, Object> json) {
+    if (obj.getNotification() != null) {
+      json.put("notification", obj.getNotification());
+    }
+    json.put("broadcast", obj.isBroadcast());
+  }
+}
@@ -0,0 +1,143 @@
+package io.vertx.mcp.server;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.mcp.server.ServerOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.mcp.server.ServerOptions} original class using Vert.x codegen.
+ */
+public class ServerOptionsConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, ServerOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "serverName":
+          if (member.getValue() instanceof String) {
+            obj.setServerName((String)member.getValue());
+          }
+          break;
+        case "serverVersion":
+          if (member.getValue() instanceof String) {
+            obj.setServerVersion((String)member.getValue());
+          }
+          break;
+        case "streamingEnabled":
+          if (member.getValue() instanceof Boolean) {
+            obj.setStreamingEnabled((Boolean)member.getValue());
+          }
+          break;
+        case "sessionTimeoutMs":
+          if (member.getValue() instanceof Number) {
+            obj.setSessionTimeoutMs(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "maxSessions":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxSessions(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "maxSubscriptionsPerSession":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxSubscriptionsPerSession(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "resourceCacheSize":
+          if (member.getValue() instanceof Number) {
+            obj.setResourceCacheSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "promptCacheSize":
+          if (member.getValue() instanceof Number) {
+            obj.setPromptCacheSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "logBufferSize":
+          if (member.getValue() instanceof Number) {
+            obj.setLogBufferSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "logBatchSize":
+          if (member.getValue() instanceof Number) {
+            obj.setLogBatchSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "logFlushIntervalMs":
+          if (member.getValue() instanceof Number) {
+            obj.setLogFlushIntervalMs(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "logRateLimit":
+          if (member.getValue() instanceof Number) {
+            obj.setLogRateLimit(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "maxRequestSize":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxRequestSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "streamingGracePeriodMs":
+          if (member.getValue() instanceof Number) {
+            obj.setStreamingGracePeriodMs(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "statelessSessions":
+          if (member.getValue() instanceof Boolean) {
+            obj.setStatelessSessions((Boolean)member.getValue());
+          }
+          break;
+        case "sessionTokenSecret":
+          if (member.getValue() instanceof String) {
+            obj.setSessionTokenSecret((String)member.getValue());
+          }
+          break;
+        case "sessionTokenLifetimeMs":
+          if (member.getValue() instanceof Number) {
+            obj.setSessionTokenLifetimeMs(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "tracingPolicy":
+          if (member.getValue() instanceof String) {
+            obj.setTracingPolicy(io.vertx.core.tracing.TracingPolicy.valueOf((String)member.getValue()));
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(ServerOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(ServerOptions obj, java.util.Map<String, Object> json) {
+    if (obj.getServerName() != null) {
+      json.put("serverName", obj.getServerName());
+    }
+    if (obj.getServerVersion() != null) {
+      json.put("serverVersion", obj.getServerVersion());
+    }
+    json.put("streamingEnabled", obj.getStreamingEnabled());
+    json.put("sessionTimeoutMs", obj.getSessionTimeoutMs());
+    json.put("maxSessions", obj.getMaxSessions());
+    json.put("maxSubscriptionsPerSession", obj.getMaxSubscriptionsPerSession());
+    json.put("resourceCacheSize", obj.getResourceCacheSize());
+    json.put("promptCacheSize", obj.getPromptCacheSize());
+    json.put("logBufferSize", obj.getLogBufferSize());
+    json.put("logBatchSize", obj.getLogBatchSize());
+    json.put("logFlushIntervalMs", obj.getLogFlushIntervalMs());
+    json.put("logRateLimit", obj.getLogRateLimit());
+    json.put("maxRequestSize", obj.getMaxRequestSize());
+    json.put("streamingGracePeriodMs", obj.getStreamingGracePeriodMs());
+    json.put("statelessSessions", obj.getStatelessSessions());
+    if (obj.getSessionTokenSecret() != null) {
+      json.put("sessionTokenSecret", obj.getSessionTokenSecret());
+    }
+    json.put("sessionTokenLifetimeMs", obj.getSessionTokenLifetimeMs());
+    if (obj.getTracingPolicy() != null) {
+      json.put("tracingPolicy", obj.getTracingPolicy().name());
+    }
+  }
+}
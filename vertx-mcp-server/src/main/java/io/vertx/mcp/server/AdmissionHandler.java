@@ -0,0 +1,24 @@
+package io.vertx.mcp.server;
+
+import io.vertx.mcp.common.rpc.JsonEnvelope;
+import io.vertx.mcp.common.rpc.JsonError;
+
+/**
+ * Decides whether a request is processed, before its params are decoded. Admission handlers run on the {@link JsonEnvelope} of the request, which only carries its routing fields
+ * ({@code method}, {@code id}, {@code params.name}) and its size, so that authorization, rate limiting or routing checks reject a request without paying for its arguments.
+ * <p>
+ * Server features implementing this interface are queried for the methods they handle, and handlers added with {@link ModelContextProtocolServer#addAdmissionHandler} are
+ * queried for every request.
+ */
+@FunctionalInterface
+public interface AdmissionHandler {
+
+  /**
+   * Admits or rejects a request.
+   *
+   * @param envelope the envelope of the request
+   * @param session the session of the request, or {@code null} when the request has no session
+   * @return {@code null} to admit the request, or the error returned to the client
+   */
+  JsonError admit(JsonEnvelope envelope, ServerSession session);
+}
@@ -0,0 +1,37 @@
+package io.vertx.mcp.server;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+
+/**
+ * Signals that the result of a request is no longer needed, for instance a {@code completion/complete} request superseded by a newer one for the same argument. Long running
+ * handlers should check it, or register a handler, to stop work whose result would be discarded.
+ */
+@VertxGen
+public interface CancellationToken {
+
+  String MCP_CANCELLATION_CONTEXT_KEY = "mcp.cancellation";
+
+  /**
+   * Retrieve the cancellation token of the current request from the Vert.x context.
+   *
+   * @param context the Vert.x context
+   * @return the token, or null if the request cannot be cancelled
+   */
+  static CancellationToken fromContext(Context context) {
+    return context.get(MCP_CANCELLATION_CONTEXT_KEY);
+  }
+
+  /**
+   * @return whether the request has been cancelled
+   */
+  boolean isCancelled();
+
+  /**
+   * Registers a handler called once when the request is cancelled, immediately if it is already cancelled.
+   *
+   * @param handler the handler
+   */
+  void onCancel(Handler<Void> handler);
+}
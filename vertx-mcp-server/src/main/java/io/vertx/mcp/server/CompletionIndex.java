@@ -0,0 +1,281 @@
+package io.vertx.mcp.server;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.mcp.common.completion.Completion;
+import io.vertx.mcp.common.completion.CompletionArgument;
+import io.vertx.mcp.common.completion.CompletionContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.BiFunction;
+
+/**
+ * An immutable index of completion values answering prefix queries without scanning the whole value set. Values are kept in a case-insensitively sorted array so the values
+ * matching a prefix form a contiguous range found by binary search; values without rank are returned in alphabetical order, ranked values are returned by descending rank using
+ * a top-K selection that either scans the matching range or walks the values by rank, whichever is cheaper for the size of the range.
+ * <p>
+ * As completion requests are sent on every keystroke, the index remembers the last range resolved for each session: when the new prefix extends the previous one, the binary
+ * search is narrowed to that range.
+ *
+ * @version 2025-06-18
+ * @see <a href="https://modelcontextprotocol.io/specification/2025-06-18/server/utilities/completion">Server Utilities - Completion</a>
+ */
+public final class CompletionIndex {
+
+  /**
+   * The maximum number of values of a completion result = {@code 100}
+   */
+  public static final int MAX_VALUES = 100;
+
+  private static final int MAX_TRACKED_SESSIONS = 1024;
+
+  private final String[] keys;
+  private final String[] values;
+  private final double[] ranks;
+  private final int[] byRank;
+  private final Map<String, Narrowing> sessions = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Narrowing> eldest) {
+      return size() > MAX_TRACKED_SESSIONS;
+    }
+  };
+
+  private static final class Narrowing {
+    final String prefix;
+    final int from;
+    final int to;
+
+    Narrowing(String prefix, int from, int to) {
+      this.prefix = prefix;
+      this.from = from;
+      this.to = to;
+    }
+  }
+
+  /**
+   * Creates an index of values returned in alphabetical order.
+   *
+   * @param values the values, duplicates are ignored
+   * @return the index
+   */
+  public static CompletionIndex of(Collection<String> values) {
+    Map<String, Double> map = new HashMap<>(values.size() * 2);
+    for (String value : values) {
+      map.put(value, 0d);
+    }
+    return new CompletionIndex(map, false);
+  }
+
+  /**
+   * Creates an index of values returned by descending rank, for instance a popularity or a recency score.
+   *
+   * @param rankedValues the values with their rank
+   * @return the index
+   */
+  public static CompletionIndex ranked(Map<String, ? extends Number> rankedValues) {
+    Map<String, Double> map = new HashMap<>(rankedValues.size() * 2);
+    rankedValues.forEach((value, rank) -> map.put(value, rank.doubleValue()));
+    return new CompletionIndex(map, true);
+  }
+
+  /**
+   * Creates a completion function serving each argument from its own index, suitable for {@link PromptHandler#create} and {@link DynamicResourceHandler#create}. Arguments
+   * without index complete to an empty result.
+   *
+   * @param indexes the indexes keyed by argument name
+   * @return the completion function
+   */
+  public static BiFunction<CompletionArgument, CompletionContext, Future<Completion>> completions(Map<String, CompletionIndex> indexes) {
+    Map<String, CompletionIndex> copy = Map.copyOf(indexes);
+    return (argument, context) -> {
+      CompletionIndex index = copy.get(argument.getName());
+      if (index == null) {
+        return Future.succeededFuture(new Completion().setValues(new ArrayList<>()).setTotal(0).setHasMore(false));
+      }
+      return Future.succeededFuture(index.complete(argument.getValue()));
+    };
+  }
+
+  private CompletionIndex(Map<String, Double> rankedValues, boolean ranked) {
+    int n = rankedValues.size();
+    Integer[] order = new Integer[n];
+    String[] originals = rankedValues.keySet().toArray(new String[0]);
+    String[] lowered = new String[n];
+    for (int i = 0; i < n; i++) {
+      lowered[i] = originals[i].toLowerCase(Locale.ROOT);
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> {
+      int cmp = lowered[a].compareTo(lowered[b]);
+      return cmp != 0 ? cmp : originals[a].compareTo(originals[b]);
+    });
+
+    keys = new String[n];
+    values = new String[n];
+    ranks = ranked ? new double[n] : null;
+    for (int i = 0; i < n; i++) {
+      keys[i] = lowered[order[i]];
+      values[i] = originals[order[i]];
+      if (ranked) {
+        ranks[i] = rankedValues.get(values[i]);
+      }
+    }
+
+    if (ranked) {
+      Integer[] positions = new Integer[n];
+      for (int i = 0; i < n; i++) {
+        positions[i] = i;
+      }
+      Arrays.sort(positions, this::compareRank);
+      byRank = new int[n];
+      for (int i = 0; i < n; i++) {
+        byRank[i] = positions[i];
+      }
+    } else {
+      byRank = null;
+    }
+  }
+
+  /**
+   * @return the number of indexed values
+   */
+  public int size() {
+    return values.length;
+  }
+
+  /**
+   * Completes a prefix with at most {@link #MAX_VALUES} values, narrowing from the previous query of the session bound to the current Vert.x context if any.
+   *
+   * @param prefix the prefix typed so far, matched case-insensitively
+   * @return the completion
+   */
+  public Completion complete(String prefix) {
+    ServerSession session = Vertx.currentContext() != null ? ServerSession.fromContext(Vertx.currentContext()) : null;
+    return complete(session != null ? session.id() : null, prefix, MAX_VALUES);
+  }
+
+  /**
+   * Completes a prefix.
+   *
+   * @param sessionId the session sending the query, used to narrow from its previous query, or {@code null}
+   * @param prefix the prefix typed so far, matched case-insensitively
+   * @param limit the maximum number of values to return
+   * @return the completion, whose total is the number of matching values
+   */
+  public Completion complete(String sessionId, String prefix, int limit) {
+    String key = prefix == null ? "" : prefix.toLowerCase(Locale.ROOT);
+
+    int from = 0;
+    int to = keys.length;
+    if (sessionId != null) {
+      Narrowing previous;
+      synchronized (sessions) {
+        previous = sessions.get(sessionId);
+      }
+      if (previous != null && key.startsWith(previous.prefix)) {
+        from = previous.from;
+        to = previous.to;
+      }
+    }
+
+    int lo = lowerBound(key, from, to);
+    int hi = endOfPrefix(key, lo, to);
+
+    if (sessionId != null) {
+      synchronized (sessions) {
+        sessions.put(sessionId, new Narrowing(key, lo, hi));
+      }
+    }
+
+    List<String> result = topK(lo, hi, Math.max(0, limit));
+    return new Completion().setValues(result).setTotal(hi - lo).setHasMore(hi - lo > result.size());
+  }
+
+  private int lowerBound(String key, int from, int to) {
+    int lo = from;
+    int hi = to;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (keys[mid].compareTo(key) < 0) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo;
+  }
+
+  private int endOfPrefix(String key, int from, int to) {
+    // Keys starting with the prefix form a contiguous run from the lower bound
+    int lo = from;
+    int hi = to;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (keys[mid].startsWith(key)) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo;
+  }
+
+  private List<String> topK(int lo, int hi, int k) {
+    int count = Math.min(k, hi - lo);
+    List<String> result = new ArrayList<>(count);
+    if (count == 0) {
+      return result;
+    }
+    if (ranks == null) {
+      result.addAll(Arrays.asList(values).subList(lo, lo + count));
+      return result;
+    }
+
+    int range = hi - lo;
+    int[] selected;
+    if ((long) k * values.length < (long) range * range) {
+      // Dense range: the first k values by rank falling in the range are found after about k * n / range steps
+      selected = new int[count];
+      int found = 0;
+      for (int i = 0; i < byRank.length && found < count; i++) {
+        int position = byRank[i];
+        if (position >= lo && position < hi) {
+          selected[found++] = position;
+        }
+      }
+    } else {
+      // Sparse range: keep the k best values of the range in a min-heap
+      PriorityQueue<Integer> heap = new PriorityQueue<>(count, (a, b) -> compareRank(b, a));
+      for (int position = lo; position < hi; position++) {
+        if (heap.size() < count) {
+          heap.add(position);
+        } else if (compareRank(position, heap.peek()) < 0) {
+          heap.poll();
+          heap.add(position);
+        }
+      }
+      selected = new int[heap.size()];
+      for (int i = selected.length - 1; i >= 0; i--) {
+        selected[i] = heap.poll();
+      }
+    }
+
+    for (int position : selected) {
+      result.add(values[position]);
+    }
+    return result;
+  }
+
+  private int compareRank(int a, int b) {
+    int cmp = Double.compare(ranks[b], ranks[a]);
+    return cmp != 0 ? cmp : Integer.compare(a, b);
+  }
+}
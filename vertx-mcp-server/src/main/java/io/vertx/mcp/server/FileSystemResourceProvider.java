@@ -0,0 +1,55 @@
+package io.vertx.mcp.server;
+
+import io.vertx.core.Vertx;
+import io.vertx.mcp.server.impl.FileSystemResourceProviderImpl;
+
+import java.nio.file.Path;
+
+/**
+ * A {@link ResourceProvider} exposing a directory tree as resources. Each regular file below the root directory is served under the URI template {@code <uriPrefix>{+path}}, where
+ * {@code path} is the path of the file relative to the root.
+ * <p>
+ * Files are streamed from disk in bounded chunks instead of being loaded on the heap, the tree is only walked when resources are listed, and, when watching is enabled, changes
+ * to the tree are reported to subscribers with {@code notifications/resources/updated} and to every session with {@code notifications/resources/list_changed}.
+ */
+public interface FileSystemResourceProvider extends ResourceProvider {
+
+  /**
+   * Creates a watching provider for the given directory, serving files under the {@code file:} URI of the directory.
+   *
+   * @param vertx the Vert.x instance
+   * @param root the root directory
+   * @return the provider
+   */
+  static FileSystemResourceProvider create(Vertx vertx, String root) {
+    Path path = Path.of(root).toAbsolutePath().normalize();
+    String prefix = path.toUri().toString();
+    return create(vertx, root, prefix.endsWith("/") ? prefix : prefix + "/", true);
+  }
+
+  /**
+   * Creates a provider for the given directory.
+   *
+   * @param vertx the Vert.x instance
+   * @param root the root directory
+   * @param uriPrefix the prefix of the resource URIs, the relative path of a file is appended to it
+   * @param watch whether to watch the directory tree for changes
+   * @return the provider
+   */
+  static FileSystemResourceProvider create(Vertx vertx, String root, String uriPrefix, boolean watch) {
+    return new FileSystemResourceProviderImpl(vertx, Path.of(root), uriPrefix, watch);
+  }
+
+  /**
+   * @return the root directory
+   */
+  Path root();
+
+  /**
+   * Computes the resource URI of a file.
+   *
+   * @param file a file below the root directory
+   * @return the resource URI
+   */
+  String uriOf(Path file);
+}
@@ -24,6 +24,36 @@ public interface Logging {
    */
   void setLoggingLevel(LoggingLevel level);
 
+  /**
+   * Retrieves the effective log level of a logger, that is the level of the logger or of its closest configured ancestor in the dot separated logger name hierarchy, or the
+   * default log level.
+   * <p>
+   * The default implementation has no logger levels and returns the default log level.
+   *
+   * @param logger the name of the logger
+   * @return the effective log level
+   */
+  default LoggingLevel getLoggingLevel(String logger) {
+    return getLoggingLevel();
+  }
+
+  /**
+   * Sets the log level of a logger and of its descendants in the dot separated logger name hierarchy, e.g. setting the level of {@code com.example} applies to
+   * {@code com.example.tools} unless it has its own level.
+   *
+   * <p>
+   * The default implementation has no logger levels: it sets the default log level for a {@code null} logger, and ignores the levels of the named loggers, which keep the
+   * default log level.
+   *
+   * @param logger the name of the logger
+   * @param level the logging level, or {@code null} to inherit the level of the parent logger again
+   */
+  default void setLoggingLevel(String logger, LoggingLevel level) {
+    if (logger == null && level != null) {
+      setLoggingLevel(level);
+    }
+  }
+
   /**
    * Logs a message with a specific logging level, logger identifier, and additional data.
    *
@@ -1,6 +1,7 @@
 package io.vertx.mcp.server;
 
 import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -57,6 +58,28 @@ public interface ModelContextProtocolServer extends Handler<ServerRequest> {
   @Fluent
   ModelContextProtocolServer addServerFeature(ServerFeature feature);
 
+  /**
+   * Adds an admission handler, called for every request before its params are decoded. Handlers are called in the order they were added, after the server features, and the first
+   * rejection is returned to the client.
+   *
+   * @param handler the admission handler
+   * @return the current instance of {@code ModelContextProtocolServer}, allowing for method chaining
+   */
+  @GenIgnore
+  @Fluent
+  ModelContextProtocolServer addAdmissionHandler(AdmissionHandler handler);
+
+  /**
+   * Adds a session lifecycle handler, called when a session kept by the server is created, initialized, closed or expired. Handlers are called in the order they were added,
+   * after the server features.
+   *
+   * @param handler the session lifecycle handler
+   * @return the current instance of {@code ModelContextProtocolServer}, allowing for method chaining
+   */
+  @GenIgnore
+  @Fluent
+  ModelContextProtocolServer addSessionLifecycleHandler(SessionLifecycleHandler handler);
+
   /**
    * Retrieves the list of server features registered with the server. Each server feature represents a specific capability supported by the server, such as tools, resources, or
    * prompts.
@@ -0,0 +1,180 @@
+package io.vertx.mcp.server;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A prompt message whose text contains {@code {{name}}} placeholders substituted with prompt arguments. The text is parsed once into literal segments, stored already JSON
+ * escaped, and placeholders, so rendering a message only escapes the argument values and concatenates bytes.
+ *
+ * @version 2025-06-18
+ * @see <a href="https://modelcontextprotocol.io/specification/2025-06-18/server/prompts#promptmessage">Server Features - Prompts - PromptMessage</a>
+ */
+public final class PromptTemplate {
+
+  private static final Buffer TEXT_SUFFIX = Buffer.buffer("\"}}");
+
+  private final String role;
+  private final String text;
+  private final Buffer prefix;
+  private final Object[] segments;
+  private final Set<String> placeholders;
+
+  private static final class Literal {
+
+    final String raw;
+    final Buffer escaped;
+
+    Literal(String raw) {
+      this.raw = raw;
+      this.escaped = escape(raw);
+    }
+  }
+
+  /**
+   * Compiles a user message template.
+   *
+   * @param text the template text
+   * @return the compiled template
+   * @throws IllegalArgumentException if a placeholder is not closed or has an empty name
+   */
+  public static PromptTemplate user(String text) {
+    return compile("user", text);
+  }
+
+  /**
+   * Compiles an assistant message template.
+   *
+   * @param text the template text
+   * @return the compiled template
+   * @throws IllegalArgumentException if a placeholder is not closed or has an empty name
+   */
+  public static PromptTemplate assistant(String text) {
+    return compile("assistant", text);
+  }
+
+  /**
+   * Compiles a message template.
+   *
+   * @param role the role of the message ({@code "user"} or {@code "assistant"})
+   * @param text the template text, where {@code {{name}}} is replaced by the value of the {@code name} argument
+   * @return the compiled template
+   * @throws IllegalArgumentException if a placeholder is not closed or has an empty name
+   */
+  public static PromptTemplate compile(String role, String text) {
+    if (role == null || text == null) {
+      throw new IllegalArgumentException("Role and text must not be null");
+    }
+    return new PromptTemplate(role, text);
+  }
+
+  private PromptTemplate(String role, String text) {
+    List<Object> parsed = new ArrayList<>();
+    Set<String> names = new LinkedHashSet<>();
+    int pos = 0;
+    while (pos < text.length()) {
+      int open = text.indexOf("{{", pos);
+      if (open < 0) {
+        break;
+      }
+      int close = text.indexOf("}}", open + 2);
+      if (close < 0) {
+        throw new IllegalArgumentException("Unclosed placeholder at index " + open + " in prompt template: " + text);
+      }
+      String name = text.substring(open + 2, close).trim();
+      if (name.isEmpty()) {
+        throw new IllegalArgumentException("Empty placeholder at index " + open + " in prompt template: " + text);
+      }
+      if (open > pos) {
+        parsed.add(new Literal(text.substring(pos, open)));
+      }
+      parsed.add(name);
+      names.add(name);
+      pos = close + 2;
+    }
+    if (pos < text.length()) {
+      parsed.add(new Literal(text.substring(pos)));
+    }
+
+    this.role = role;
+    this.text = text;
+    this.prefix = Buffer.buffer("{\"role\":" + Json.encode(role) + ",\"content\":{\"type\":\"text\",\"text\":\"");
+    this.segments = parsed.toArray();
+    this.placeholders = Collections.unmodifiableSet(names);
+  }
+
+  /**
+   * @return the role of the message
+   */
+  public String role() {
+    return role;
+  }
+
+  /**
+   * @return the template text
+   */
+  public String text() {
+    return text;
+  }
+
+  /**
+   * @return the names of the placeholders, in order of first appearance
+   */
+  public Set<String> placeholders() {
+    return placeholders;
+  }
+
+  /**
+   * Renders the text of the message.
+   *
+   * @param arguments the prompt arguments, missing arguments render as an empty string
+   * @return the rendered text
+   */
+  public String render(JsonObject arguments) {
+    StringBuilder sb = new StringBuilder(text.length() + 32);
+    for (Object segment : segments) {
+      if (segment instanceof Literal) {
+        sb.append(((Literal) segment).raw);
+      } else {
+        Object value = arguments != null ? arguments.getValue((String) segment) : null;
+        if (value != null) {
+          sb.append(value);
+        }
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Renders the message as an encoded {@code PromptMessage} with text content.
+   *
+   * @param arguments the prompt arguments, missing arguments render as an empty string
+   * @param buffer the buffer the encoded message is appended to
+   */
+  public void renderTo(JsonObject arguments, Buffer buffer) {
+    buffer.appendBuffer(prefix);
+    for (Object segment : segments) {
+      if (segment instanceof Literal) {
+        buffer.appendBuffer(((Literal) segment).escaped);
+      } else {
+        Object value = arguments != null ? arguments.getValue((String) segment) : null;
+        if (value != null) {
+          buffer.appendBuffer(escape(value.toString()));
+        }
+      }
+    }
+    buffer.appendBuffer(TEXT_SUFFIX);
+  }
+
+  private static Buffer escape(String s) {
+    String encoded = Json.encode(s);
+    return Buffer.buffer(encoded.substring(1, encoded.length() - 1));
+  }
+}
@@ -0,0 +1,89 @@
+package io.vertx.mcp.server;
+
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.common.dsl.ObjectSchemaBuilder;
+import io.vertx.mcp.common.tool.Tool;
+
+import java.util.function.Function;
+
+/**
+ * Represents a handler of tools returning an already encoded result, e.g. tools proxying an upstream JSON API. The returned bytes are written as is in the response, without being
+ * decoded or re-encoded by the server: a tool with an output schema returns an encoded JSON object, written as its structured content, and a tool without output schema returns
+ * UTF-8 text, written as a text content.
+ *
+ * @version 2025-06-18
+ * @see <a href="https://modelcontextprotocol.io/specification/2025-06-18/server/tools#tool">Server Features - Tools - Tool</a>
+ */
+public interface RawToolHandler extends ServerFeatureHandler<JsonObject, Future<Buffer>, Tool> {
+
+  static RawToolHandler create(String name, ObjectSchemaBuilder inputSchema, ObjectSchemaBuilder outputSchema, Function<JsonObject, Future<Buffer>> function) {
+    return create(name, null, null, inputSchema, outputSchema, function);
+  }
+
+  static RawToolHandler create(String name, String title, String description, ObjectSchemaBuilder inputSchema, ObjectSchemaBuilder outputSchema,
+    Function<JsonObject, Future<Buffer>> function) {
+    if (inputSchema == null) {
+      throw new IllegalArgumentException("Input schema must not be null");
+    }
+
+    return new RawToolHandler() {
+      @Override
+      public String name() {
+        return name;
+      }
+
+      @Override
+      public String title() {
+        return title;
+      }
+
+      @Override
+      public String description() {
+        return description;
+      }
+
+      @Override
+      public ObjectSchemaBuilder inputSchema() {
+        return inputSchema;
+      }
+
+      @Override
+      public ObjectSchemaBuilder outputSchema() {
+        return outputSchema;
+      }
+
+      @Override
+      public Future<Buffer> apply(JsonObject input) {
+        return function.apply(input);
+      }
+    };
+  }
+
+  @Override
+  default Tool toFeature() {
+    Tool tool = new Tool()
+      .setName(name())
+      .setInputSchema(inputSchema().toJson());
+
+    if (title() != null) {
+      tool.setTitle(title());
+    }
+    if (description() != null) {
+      tool.setDescription(description());
+    }
+    if (outputSchema() != null) {
+      tool.setOutputSchema(outputSchema().toJson());
+    }
+
+    return tool;
+  }
+
+  ObjectSchemaBuilder inputSchema();
+
+  /**
+   * @return the output schema of the structured content, or {@code null} when the tool returns text
+   */
+  ObjectSchemaBuilder outputSchema();
+}
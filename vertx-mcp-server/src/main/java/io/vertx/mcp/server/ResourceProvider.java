@@ -0,0 +1,38 @@
+package io.vertx.mcp.server;
+
+import io.vertx.core.Future;
+import io.vertx.mcp.common.resources.Resource;
+import io.vertx.mcp.server.feature.ResourceServerFeature;
+
+import java.util.List;
+
+/**
+ * A source of resources backed by an external store, such as a directory tree or a database. A provider serves reads as a {@link StreamingResourceHandler} under its URI template
+ * and enumerates its resources on demand when a client lists them, so nothing is loaded or cached at registration time.
+ *
+ * @version 2025-06-18
+ * @see <a href="https://modelcontextprotocol.io/specification/2025-06-18/server/resources">Server Features - Resources</a>
+ */
+public interface ResourceProvider extends StreamingResourceHandler {
+
+  /**
+   * Lists the resources currently available from this provider. Only descriptive fields (URI, name, MIME type...) are expected to be set on the returned resources.
+   *
+   * @return a future resolving to the available resources
+   */
+  Future<List<Resource>> listResources();
+
+  /**
+   * Called when the provider is registered with a resource feature, providers that observe their store use the feature to notify subscribers of changes.
+   *
+   * @param feature the resource feature the provider is registered with
+   */
+  default void init(ResourceServerFeature feature) {
+  }
+
+  /**
+   * Releases the resources held by the provider, called when the provider is removed from its resource feature.
+   */
+  default void close() {
+  }
+}
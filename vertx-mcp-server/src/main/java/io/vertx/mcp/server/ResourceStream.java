@@ -0,0 +1,110 @@
+package io.vertx.mcp.server;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+
+/**
+ * The content of a resource produced as a stream of bytes instead of being materialized in memory. The server encodes the stream into the {@code resources/read} response as it
+ * flows: binary content is base64 encoded chunk by chunk into the {@code blob} field, text content (which must be UTF-8) is JSON escaped into the {@code text} field. Back pressure
+ * from the client connection is propagated to the content stream.
+ *
+ * @version 2025-06-18
+ * @see <a href="https://modelcontextprotocol.io/specification/2025-06-18/server/resources#reading-resources">Server Features - Resources - Reading Resources</a>
+ */
+public class ResourceStream {
+
+  private final ReadStream<Buffer> content;
+  private String uri;
+  private String mimeType;
+  private boolean text;
+  private JsonObject meta;
+
+  /**
+   * Creates a resource stream for the given content.
+   *
+   * @param content the stream of content bytes
+   */
+  public ResourceStream(ReadStream<Buffer> content) {
+    this.content = content;
+  }
+
+  /**
+   * @return the stream of content bytes
+   */
+  public ReadStream<Buffer> getContent() {
+    return content;
+  }
+
+  /**
+   * @return the URI of the resource, defaults to the requested URI when {@code null}
+   */
+  public String getUri() {
+    return uri;
+  }
+
+  /**
+   * Sets the URI of the resource.
+   *
+   * @param uri the resource URI
+   * @return this instance for method chaining
+   */
+  public ResourceStream setUri(String uri) {
+    this.uri = uri;
+    return this;
+  }
+
+  /**
+   * @return the MIME type of the resource
+   */
+  public String getMimeType() {
+    return mimeType;
+  }
+
+  /**
+   * Sets the MIME type of the resource.
+   *
+   * @param mimeType the MIME type
+   * @return this instance for method chaining
+   */
+  public ResourceStream setMimeType(String mimeType) {
+    this.mimeType = mimeType;
+    return this;
+  }
+
+  /**
+   * @return whether the content is UTF-8 text rather than binary data
+   */
+  public boolean isText() {
+    return text;
+  }
+
+  /**
+   * Sets whether the content is UTF-8 text, sent in the {@code text} field, rather than binary data sent base64 encoded in the {@code blob} field.
+   *
+   * @param text {@code true} for text content
+   * @return this instance for method chaining
+   */
+  public ResourceStream setText(boolean text) {
+    this.text = text;
+    return this;
+  }
+
+  /**
+   * @return the {@code _meta} object of the resource contents
+   */
+  public JsonObject getMeta() {
+    return meta;
+  }
+
+  /**
+   * Sets the {@code _meta} object of the resource contents.
+   *
+   * @param meta the metadata
+   * @return this instance for method chaining
+   */
+  public ResourceStream setMeta(JsonObject meta) {
+    this.meta = meta;
+    return this;
+  }
+}
@@ -13,6 +13,7 @@ package io.vertx.mcp.server;
 import io.vertx.codegen.annotations.DataObject;
 import io.vertx.codegen.json.annotations.JsonGen;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.tracing.TracingPolicy;
 
 /**
  * Configuration for a Model Context Protocol server.
@@ -46,11 +47,84 @@ public class ServerOptions {
    */
   public static final int DEFAULT_MAX_SESSIONS = 1000;
 
+  /**
+   * The default maximum number of resource subscriptions per session = {@code 100}
+   */
+  public static final int DEFAULT_MAX_SUBSCRIPTIONS_PER_SESSION = 100;
+
+  /**
+   * The default maximum number of cached resource read results = {@code 0} (caching disabled)
+   */
+  public static final int DEFAULT_RESOURCE_CACHE_SIZE = 0;
+
+  /**
+   * The default maximum number of cached template prompt results = {@code 0} (caching disabled)
+   */
+  public static final int DEFAULT_PROMPT_CACHE_SIZE = 0;
+
+  /**
+   * The default capacity of the log message buffer of a session = {@code 1024}
+   */
+  public static final int DEFAULT_LOG_BUFFER_SIZE = 1024;
+
+  /**
+   * The default number of buffered log messages triggering a flush = {@code 64}
+   */
+  public static final int DEFAULT_LOG_BATCH_SIZE = 64;
+
+  /**
+   * The default maximum delay in milliseconds before buffered log messages are flushed = {@code 20}
+   */
+  public static final long DEFAULT_LOG_FLUSH_INTERVAL_MS = 20;
+
+  /**
+   * The default maximum number of log messages per second sent to a session = {@code 100}
+   */
+  public static final int DEFAULT_LOG_RATE_LIMIT = 100;
+
+  /**
+   * The default maximum size of a request body = {@code 0} (limit disabled)
+   */
+  public static final int DEFAULT_MAX_REQUEST_SIZE = 0;
+
+  /**
+   * The default grace period before a response is upgraded to an SSE stream = {@code 0}, the response is upgraded by the first message written before the final response
+   */
+  public static final long DEFAULT_STREAMING_GRACE_PERIOD_MS = 0;
+
+  /**
+   * The default stateless sessions mode = {@code false}
+   */
+  public static final boolean DEFAULT_STATELESS_SESSIONS = false;
+
+  /**
+   * The default lifetime of a stateless session token in milliseconds = {@code 30 minutes}
+   */
+  public static final long DEFAULT_SESSION_TOKEN_LIFETIME_MS = 30 * 60 * 1000L;
+
+  /**
+   * The default tracing policy = {@link TracingPolicy#PROPAGATE}
+   */
+  public static final TracingPolicy DEFAULT_TRACING_POLICY = TracingPolicy.PROPAGATE;
+
   private String serverName;
   private String serverVersion;
   private boolean streamingEnabled;
   private long sessionTimeoutMs;
   private int maxSessions;
+  private int maxSubscriptionsPerSession;
+  private int resourceCacheSize;
+  private int promptCacheSize;
+  private int logBufferSize;
+  private int logBatchSize;
+  private long logFlushIntervalMs;
+  private int logRateLimit;
+  private int maxRequestSize;
+  private long streamingGracePeriodMs;
+  private boolean statelessSessions;
+  private String sessionTokenSecret;
+  private long sessionTokenLifetimeMs;
+  private TracingPolicy tracingPolicy;
 
   public ServerOptions() {
     serverName = DEFAULT_SERVER_NAME;
@@ -58,6 +132,18 @@ public class ServerOptions {
     streamingEnabled = DEFAULT_STREAMING_ENABLED;
     sessionTimeoutMs = DEFAULT_SESSION_TIMEOUT_MS;
     maxSessions = DEFAULT_MAX_SESSIONS;
+    maxSubscriptionsPerSession = DEFAULT_MAX_SUBSCRIPTIONS_PER_SESSION;
+    resourceCacheSize = DEFAULT_RESOURCE_CACHE_SIZE;
+    promptCacheSize = DEFAULT_PROMPT_CACHE_SIZE;
+    logBufferSize = DEFAULT_LOG_BUFFER_SIZE;
+    logBatchSize = DEFAULT_LOG_BATCH_SIZE;
+    logFlushIntervalMs = DEFAULT_LOG_FLUSH_INTERVAL_MS;
+    logRateLimit = DEFAULT_LOG_RATE_LIMIT;
+    maxRequestSize = DEFAULT_MAX_REQUEST_SIZE;
+    streamingGracePeriodMs = DEFAULT_STREAMING_GRACE_PERIOD_MS;
+    statelessSessions = DEFAULT_STATELESS_SESSIONS;
+    sessionTokenLifetimeMs = DEFAULT_SESSION_TOKEN_LIFETIME_MS;
+    tracingPolicy = DEFAULT_TRACING_POLICY;
   }
 
   public ServerOptions(ServerOptions other) {
@@ -66,6 +152,19 @@ public class ServerOptions {
     streamingEnabled = other.streamingEnabled;
     sessionTimeoutMs = other.sessionTimeoutMs;
     maxSessions = other.maxSessions;
+    maxSubscriptionsPerSession = other.maxSubscriptionsPerSession;
+    resourceCacheSize = other.resourceCacheSize;
+    promptCacheSize = other.promptCacheSize;
+    logBufferSize = other.logBufferSize;
+    logBatchSize = other.logBatchSize;
+    logFlushIntervalMs = other.logFlushIntervalMs;
+    logRateLimit = other.logRateLimit;
+    maxRequestSize = other.maxRequestSize;
+    streamingGracePeriodMs = other.streamingGracePeriodMs;
+    statelessSessions = other.statelessSessions;
+    sessionTokenSecret = other.sessionTokenSecret;
+    sessionTokenLifetimeMs = other.sessionTokenLifetimeMs;
+    tracingPolicy = other.tracingPolicy;
   }
 
   public ServerOptions(JsonObject json) {
@@ -205,11 +304,341 @@ public class ServerOptions {
   }
 
   /**
-   * @return a JSON representation of options
+   * Gets the maximum number of resource subscriptions a single session may hold.
+   *
+   * @return the maximum number of subscriptions per session
+   */
+  public int getMaxSubscriptionsPerSession() {
+    return maxSubscriptionsPerSession;
+  }
+
+  /**
+   * Sets the maximum number of resource subscriptions a single session may hold.
+   * <p>
+   * Subscribe requests beyond this limit are rejected, which bounds the memory and fan-out cost a single client can impose on resource update notifications.
+   *
+   * @param maxSubscriptionsPerSession the maximum number of subscriptions, must be positive
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalArgumentException if the value is not positive
+   */
+  public ServerOptions setMaxSubscriptionsPerSession(int maxSubscriptionsPerSession) {
+    if (maxSubscriptionsPerSession <= 0) {
+      throw new IllegalArgumentException("Max subscriptions per session must be positive");
+    }
+    this.maxSubscriptionsPerSession = maxSubscriptionsPerSession;
+    return this;
+  }
+
+  /**
+   * Gets the maximum number of resource read results kept in the resource cache.
+   *
+   * @return the resource cache size, {@code 0} when caching is disabled
+   */
+  public int getResourceCacheSize() {
+    return resourceCacheSize;
+  }
+
+  /**
+   * Sets the maximum number of resource read results kept in the resource cache.
+   * <p>
+   * When enabled, the encoded results of static and dynamic resources are cached by URI until {@code notifyResourceUpdated} is called for them, so handlers must notify every
+   * change of their content. Clients can send the version of the content they hold in the request {@code _meta} to get an empty result when it is still current.
+   *
+   * @param resourceCacheSize the maximum number of cached results, {@code 0} disables caching
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalArgumentException if the value is negative
+   */
+  public ServerOptions setResourceCacheSize(int resourceCacheSize) {
+    if (resourceCacheSize < 0) {
+      throw new IllegalArgumentException("Resource cache size must not be negative");
+    }
+    this.resourceCacheSize = resourceCacheSize;
+    return this;
+  }
+
+  /**
+   * Gets the maximum number of rendered template prompt results kept in the prompt cache.
+   *
+   * @return the prompt cache size, {@code 0} when caching is disabled
+   */
+  public int getPromptCacheSize() {
+    return promptCacheSize;
+  }
+
+  /**
+   * Sets the maximum number of rendered template prompt results kept in the prompt cache.
+   * <p>
+   * When enabled, the encoded {@code prompts/get} results of {@link TemplatePromptHandler template prompts} are cached by prompt name and argument values, so a repeated request
+   * is answered without rendering the templates again.
+   *
+   * @param promptCacheSize the maximum number of cached results, {@code 0} disables caching
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalArgumentException if the value is negative
+   */
+  public ServerOptions setPromptCacheSize(int promptCacheSize) {
+    if (promptCacheSize < 0) {
+      throw new IllegalArgumentException("Prompt cache size must not be negative");
+    }
+    this.promptCacheSize = promptCacheSize;
+    return this;
+  }
+
+  /**
+   * Gets the capacity of the log message buffer of a session.
+   *
+   * @return the log buffer size
+   */
+  public int getLogBufferSize() {
+    return logBufferSize;
+  }
+
+  /**
+   * Sets the capacity of the log message buffer of a session, rounded up to a power of two. Log messages are buffered and sent to the client asynchronously, messages logged while
+   * the buffer is full are dropped and reported by a warning message.
+   *
+   * @param logBufferSize the log buffer size
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalArgumentException if the value is not positive
+   */
+  public ServerOptions setLogBufferSize(int logBufferSize) {
+    if (logBufferSize <= 0) {
+      throw new IllegalArgumentException("Log buffer size must be positive");
+    }
+    this.logBufferSize = logBufferSize;
+    return this;
+  }
+
+  /**
+   * Gets the number of buffered log messages triggering a flush.
+   *
+   * @return the log batch size
+   */
+  public int getLogBatchSize() {
+    return logBatchSize;
+  }
+
+  /**
+   * Sets the number of buffered log messages triggering a flush before the flush interval has elapsed.
+   *
+   * @param logBatchSize the log batch size
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalArgumentException if the value is not positive
+   */
+  public ServerOptions setLogBatchSize(int logBatchSize) {
+    if (logBatchSize <= 0) {
+      throw new IllegalArgumentException("Log batch size must be positive");
+    }
+    this.logBatchSize = logBatchSize;
+    return this;
+  }
+
+  /**
+   * Gets the maximum delay before buffered log messages are flushed.
+   *
+   * @return the log flush interval in milliseconds
+   */
+  public long getLogFlushIntervalMs() {
+    return logFlushIntervalMs;
+  }
+
+  /**
+   * Sets the maximum delay before buffered log messages are flushed. The messages buffered during the interval are sent to the client in a single write.
+   *
+   * @param logFlushIntervalMs the log flush interval in milliseconds, {@code 0} flushes as soon as possible
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalArgumentException if the value is negative
+   */
+  public ServerOptions setLogFlushIntervalMs(long logFlushIntervalMs) {
+    if (logFlushIntervalMs < 0) {
+      throw new IllegalArgumentException("Log flush interval must not be negative");
+    }
+    this.logFlushIntervalMs = logFlushIntervalMs;
+    return this;
+  }
+
+  /**
+   * Gets the maximum number of log messages per second sent to a session.
+   *
+   * @return the log rate limit, {@code 0} when unlimited
+   */
+  public int getLogRateLimit() {
+    return logRateLimit;
+  }
+
+  /**
+   * Sets the maximum number of log messages per second sent to a session, bursts up to this number are allowed. Messages exceeding the limit are dropped and reported by a warning
+   * message.
+   *
+   * @param logRateLimit the log rate limit, {@code 0} disables rate limiting
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalArgumentException if the value is negative
+   */
+  public ServerOptions setLogRateLimit(int logRateLimit) {
+    if (logRateLimit < 0) {
+      throw new IllegalArgumentException("Log rate limit must not be negative");
+    }
+    this.logRateLimit = logRateLimit;
+    return this;
+  }
+
+  /**
+   * Gets the maximum size of a request body.
+   *
+   * @return the maximum request size in bytes, {@code 0} when unlimited
+   */
+  public int getMaxRequestSize() {
+    return maxRequestSize;
+  }
+
+  /**
+   * Sets the maximum size of a request body. Larger requests are rejected with a {@code 413} status as soon as their size is known, before they are buffered or decoded. The
+   * limit applies to the messages of every transport, it is disabled by default.
+   *
+   * @param maxRequestSize the maximum request size in bytes, {@code 0} disables the limit
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalArgumentException if the value is negative
+   */
+  public ServerOptions setMaxRequestSize(int maxRequestSize) {
+    if (maxRequestSize < 0) {
+      throw new IllegalArgumentException("Max request size must not be negative");
+    }
+    this.maxRequestSize = maxRequestSize;
+    return this;
+  }
+
+  /**
+   * Gets the grace period before a response is upgraded to an SSE stream.
+   *
+   * @return the grace period in milliseconds
+   */
+  public long getStreamingGracePeriodMs() {
+    return streamingGracePeriodMs;
+  }
+
+  /**
+   * Sets the grace period before a response is upgraded to an SSE stream. Responses are sent as plain JSON with a content length unless messages, like progress notifications,
+   * are written before the final response. Messages written during the grace period are buffered: when the final response is ready before the period elapses, they are sent
+   * with it in a single body, otherwise the response is upgraded to an SSE stream when the period elapses.
+   *
+   * @param streamingGracePeriodMs the grace period in milliseconds, {@code 0} upgrades the response on the first message
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalArgumentException if the value is negative
+   */
+  public ServerOptions setStreamingGracePeriodMs(long streamingGracePeriodMs) {
+    if (streamingGracePeriodMs < 0) {
+      throw new IllegalArgumentException("Streaming grace period must not be negative");
+    }
+    this.streamingGracePeriodMs = streamingGracePeriodMs;
+    return this;
+  }
+
+  /**
+   * Gets whether sessions are stateless.
+   *
+   * @return true if the session state is carried by signed session tokens instead of being kept by the server
+   */
+  public boolean getStatelessSessions() {
+    return statelessSessions;
+  }
+
+  /**
+   * Sets whether sessions are stateless. The {@code Mcp-Session-Id} of a stateless session is a token signed with the {@link #setSessionTokenSecret(String) session token
+   * secret}, holding the client capabilities, the protocol version and the logging level of the session, so any server sharing the secret serves any request of the session
+   * without a lookup.
+   * <p>
+   * Features needing server state are disabled: resource subscriptions, requests sent to the client, and the {@code GET} and {@code DELETE} endpoints of the session.
+   * Notifications and log messages are still sent on the response of the request being processed.
+   *
+   * @param statelessSessions true to enable stateless sessions
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ServerOptions setStatelessSessions(boolean statelessSessions) {
+    this.statelessSessions = statelessSessions;
+    return this;
+  }
+
+  /**
+   * Gets the secret signing the tokens of stateless sessions.
+   *
+   * @return the secret, or {@code null} when not set
+   */
+  public String getSessionTokenSecret() {
+    return sessionTokenSecret;
+  }
+
+  /**
+   * Sets the secret signing the tokens of stateless sessions with HMAC-SHA256, it must be shared by all the servers serving the sessions. The secret is read from the JSON
+   * form of the options but never written to it.
+   *
+   * @param sessionTokenSecret the secret
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalArgumentException if the secret is empty
+   */
+  public ServerOptions setSessionTokenSecret(String sessionTokenSecret) {
+    if (sessionTokenSecret != null && sessionTokenSecret.isEmpty()) {
+      throw new IllegalArgumentException("Session token secret must not be empty");
+    }
+    this.sessionTokenSecret = sessionTokenSecret;
+    return this;
+  }
+
+  /**
+   * Gets the lifetime of the tokens of stateless sessions.
+   *
+   * @return the lifetime in milliseconds
+   */
+  public long getSessionTokenLifetimeMs() {
+    return sessionTokenLifetimeMs;
+  }
+
+  /**
+   * Sets the lifetime of the tokens of stateless sessions. A token cannot be revoked, it expires this time after being issued; a session in use is given a new token once
+   * half of this time has elapsed.
+   *
+   * @param sessionTokenLifetimeMs the lifetime in milliseconds, must be positive
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalArgumentException if the lifetime is not positive
+   */
+  public ServerOptions setSessionTokenLifetimeMs(long sessionTokenLifetimeMs) {
+    if (sessionTokenLifetimeMs <= 0) {
+      throw new IllegalArgumentException("Session token lifetime must be positive");
+    }
+    this.sessionTokenLifetimeMs = sessionTokenLifetimeMs;
+    return this;
+  }
+
+  /**
+   * Gets the tracing policy of the server.
+   *
+   * @return the tracing policy
+   */
+  public TracingPolicy getTracingPolicy() {
+    return tracingPolicy;
+  }
+
+  /**
+   * Sets the tracing policy of the server, used when a tracer is configured on the Vert.x instance. With {@link TracingPolicy#PROPAGATE} a request is only traced when it carries a trace context in its {@code _meta}, so the sampling decision of the client, or of the tracer, bounds the tracing overhead; {@link TracingPolicy#ALWAYS} starts a trace for every request and {@link TracingPolicy#IGNORE} disables tracing.
+   *
+   * @param tracingPolicy the tracing policy
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalArgumentException if the policy is null
+   */
+  public ServerOptions setTracingPolicy(TracingPolicy tracingPolicy) {
+    if (tracingPolicy == null) {
+      throw new IllegalArgumentException("Tracing policy must not be null");
+    }
+    this.tracingPolicy = tracingPolicy;
+    return this;
+  }
+
+  /**
+   * @return a JSON representation of options, without the {@link #getSessionTokenSecret() session token secret}
    */
   public JsonObject toJson() {
     JsonObject json = new JsonObject();
     ServerOptionsConverter.toJson(this, json);
+    // The options are logged with toString(), the secret must not be
+    json.remove("sessionTokenSecret");
     return json;
   }
 
@@ -3,11 +3,17 @@ package io.vertx.mcp.server;
 import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.core.streams.WriteStream;
 import io.vertx.mcp.common.rpc.JsonResponse;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Represents the server response in a JSON-RPC framework. This interface extends {@link WriteStream} and provides mechanisms for writing and managing JSON-RPC responses and
  * notifications.
@@ -54,6 +60,33 @@ public interface ServerResponse extends WriteStream<JsonObject> {
     return write(data.toJson());
   }
 
+  /**
+   * Writes a JSON-RPC message that has already been encoded, e.g. a notification encoded once for all the sessions. Transports write the bytes as they are, the default
+   * implementation decodes the message.
+   *
+   * @param message the encoded JSON-RPC message, not modified
+   * @return a future that completes when the write operation has finished
+   */
+  @GenIgnore
+  default Future<Void> write(Buffer message) {
+    return write(new JsonObject(message));
+  }
+
+  /**
+   * Writes several messages at once. Transports supporting it send them in a single write so that they are flushed together, the default implementation writes them one by one.
+   *
+   * @param messages the messages to write
+   * @return a future that completes when all the messages have been written
+   */
+  @GenIgnore
+  default Future<Void> writeAll(List<JsonObject> messages) {
+    List<Future<Void>> writes = new ArrayList<>(messages.size());
+    for (JsonObject message : messages) {
+      writes.add(write(message));
+    }
+    return Future.all(writes).mapEmpty();
+  }
+
   /**
    * Ends the response by sending the JSON-RPC response content to the client. This method converts the given {@link JsonResponse} object to a {@link JsonObject} and delegates to
    * the overloaded {@code end} method.
@@ -64,5 +97,32 @@ public interface ServerResponse extends WriteStream<JsonObject> {
   default Future<Void> end(JsonResponse response) {
     return end(response.toJson());
   }
-}
 
+  /**
+   * Ends the response with a JSON-RPC message that has already been encoded, sparing the transport a round trip through {@link JsonObject}.
+   *
+   * @param message the encoded JSON-RPC message
+   * @return a {@link Future} that completes when the response has been sent
+   */
+  @GenIgnore
+  default Future<Void> end(Buffer message) {
+    return end(new JsonObject(message));
+  }
+
+  /**
+   * Ends the response with a JSON-RPC message whose encoded bytes are produced by the given stream. Transports supporting it write the bytes as they arrive and apply back
+   * pressure to the stream, the default implementation aggregates the message in memory.
+   *
+   * @param message the stream of the encoded JSON-RPC message bytes
+   * @return a {@link Future} that completes when the response has been sent
+   */
+  @GenIgnore
+  default Future<Void> end(ReadStream<Buffer> message) {
+    Promise<Void> promise = Promise.promise();
+    Buffer aggregated = Buffer.buffer();
+    message.exceptionHandler(promise::tryFail);
+    message.endHandler(v -> end(aggregated).onComplete(promise));
+    message.handler(aggregated::appendBuffer);
+    return promise.future();
+  }
+}
@@ -35,7 +35,7 @@ public interface ServerSession extends Logging, Closeable {
   String id();
 
   /**
-   * Gets the client capabilities negotiated during initialization.
+   * Gets the client capabilities negotiated during initialization. They are read-only, sessions declaring the same capabilities can share a single instance.
    *
    * @return client capabilities
    */
@@ -0,0 +1,48 @@
+package io.vertx.mcp.server;
+
+/**
+ * An event of the lifecycle of a session kept by the server: a session is {@link Type#CREATED created} by an {@code initialize} request, {@link Type#INITIALIZED initialized}
+ * by the {@code notifications/initialized} notification of the client, and then either {@link Type#CLOSED closed}, when the client or the server terminates it, or
+ * {@link Type#EXPIRED expired}, when it was not used for the {@link ServerOptions#getSessionTimeoutMs() session timeout}.
+ * <p>
+ * Every created session ends with exactly one {@code CLOSED} or {@code EXPIRED} event, emitted by the node owning the session once the session is removed and closed, so that
+ * handlers release the state they keep for the session.
+ */
+public final class SessionEvent {
+
+  /**
+   * The type of a session event.
+   */
+  public enum Type {
+    CREATED, INITIALIZED, CLOSED, EXPIRED
+  }
+
+  private final Type type;
+  private final ServerSession session;
+
+  public SessionEvent(Type type, ServerSession session) {
+    this.type = type;
+    this.session = session;
+  }
+
+  /**
+   * @return the type of the event
+   */
+  public Type type() {
+    return type;
+  }
+
+  /**
+   * @return the session
+   */
+  public ServerSession session() {
+    return session;
+  }
+
+  /**
+   * @return whether the session ended with this event, closed or expired
+   */
+  public boolean isTerminal() {
+    return type == Type.CLOSED || type == Type.EXPIRED;
+  }
+}
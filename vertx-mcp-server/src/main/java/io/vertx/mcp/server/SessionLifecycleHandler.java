@@ -0,0 +1,19 @@
+package io.vertx.mcp.server;
+
+/**
+ * Receives the lifecycle events of the sessions kept by the server, so that the state kept for a session, e.g. its subscriptions or its counters, is released when the session
+ * ends.
+ * <p>
+ * Server features implementing this interface receive the events of every session, as do handlers added with {@link ModelContextProtocolServer#addSessionLifecycleHandler}.
+ * Stateless sessions, carried by a token, have no lifecycle and emit no event.
+ */
+@FunctionalInterface
+public interface SessionLifecycleHandler {
+
+  /**
+   * Handles a session event. A failing handler does not prevent the other handlers from receiving the event.
+   *
+   * @param event the event
+   */
+  void handle(SessionEvent event);
+}
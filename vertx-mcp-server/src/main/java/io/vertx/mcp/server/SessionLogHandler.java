@@ -0,0 +1,107 @@
+package io.vertx.mcp.server;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.common.LoggingLevel;
+
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * A {@code java.util.logging} handler forwarding log records to MCP sessions as {@code notifications/message}, so that the logs of the libraries used by tools reach the client.
+ * SLF4J loggers can be forwarded too by binding SLF4J to {@code java.util.logging} with {@code slf4j-jdk14}.
+ * <p>
+ * Records are sent to the given session, or by default to the session of the request being handled by the current Vert.x context; records logged outside a request are ignored.
+ * The logger name of a record is kept, so the per-logger levels of {@link Logging#setLoggingLevel(String, LoggingLevel)} apply.
+ *
+ * @version 2025-06-18
+ * @see <a href="https://modelcontextprotocol.io/specification/2025-06-18/server/utilities/logging">Server Utilities - Logging</a>
+ */
+public class SessionLogHandler extends Handler {
+
+  private static final ThreadLocal<Boolean> PUBLISHING = new ThreadLocal<>();
+
+  private final ServerSession session;
+
+  /**
+   * Creates a handler forwarding records to the session of the current request.
+   */
+  public SessionLogHandler() {
+    this(null);
+  }
+
+  /**
+   * Creates a handler forwarding records to a session.
+   *
+   * @param session the session, or {@code null} for the session of the current request
+   */
+  public SessionLogHandler(ServerSession session) {
+    this.session = session;
+    setFormatter(new SimpleFormatter());
+  }
+
+  /**
+   * Maps a {@code java.util.logging} level to an MCP logging level.
+   *
+   * @param level the level
+   * @return the MCP logging level
+   */
+  public static LoggingLevel toLoggingLevel(Level level) {
+    int value = level.intValue();
+    if (value >= Level.SEVERE.intValue()) {
+      return LoggingLevel.ERROR;
+    }
+    if (value >= Level.WARNING.intValue()) {
+      return LoggingLevel.WARNING;
+    }
+    if (value >= Level.INFO.intValue()) {
+      return LoggingLevel.INFO;
+    }
+    if (value >= Level.CONFIG.intValue()) {
+      return LoggingLevel.NOTICE;
+    }
+    return LoggingLevel.DEBUG;
+  }
+
+  @Override
+  public void publish(LogRecord record) {
+    if (!isLoggable(record) || PUBLISHING.get() != null) {
+      return;
+    }
+
+    ServerSession target = session;
+    if (target == null) {
+      Context context = Vertx.currentContext();
+      target = context != null ? ServerSession.fromContext(context) : null;
+    }
+    if (target == null) {
+      return;
+    }
+
+    // Logging by the session itself must not loop back
+    PUBLISHING.set(Boolean.TRUE);
+    try {
+      String message = getFormatter().formatMessage(record);
+      Object data = message;
+      if (record.getThrown() != null) {
+        data = new JsonObject().put("message", message).put("error", record.getThrown().toString());
+      }
+      target.log(toLoggingLevel(record.getLevel()), record.getLoggerName(), data);
+    } catch (Exception e) {
+      reportError(null, e, 0);
+    } finally {
+      PUBLISHING.remove();
+    }
+  }
+
+  @Override
+  public void flush() {
+  }
+
+  @Override
+  public void close() {
+  }
+}
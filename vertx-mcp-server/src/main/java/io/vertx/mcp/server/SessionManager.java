@@ -22,6 +22,17 @@ public interface SessionManager {
    */
   ServerSession createSession(ClientCapabilities capabilities);
 
+  /**
+   * Create and register a new session.
+   *
+   * @param capabilities the client capabilities
+   * @param protocolVersion the protocol version requested by the client
+   * @return the created session
+   */
+  default ServerSession createSession(ClientCapabilities capabilities, String protocolVersion) {
+    return createSession(capabilities);
+  }
+
   /**
    * Get an existing session by ID.
    *
@@ -0,0 +1,85 @@
+package io.vertx.mcp.server;
+
+import io.vertx.core.Future;
+import io.vertx.mcp.common.resources.ResourceTemplate;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Represents a handler providing resources whose content is streamed rather than held in memory, such as large files or proxied downloads. Like a {@link DynamicResourceHandler}
+ * it is registered under a URI template and receives the extracted template variables.
+ *
+ * @version 2025-06-18
+ * @see <a href="https://modelcontextprotocol.io/specification/2025-06-18/server/resources#resourcetemplate">Server Features - Resources - Resource Template</a>
+ */
+public interface StreamingResourceHandler extends ServerFeatureHandler<Map<String, String>, Future<ResourceStream>, ResourceTemplate> {
+
+  static StreamingResourceHandler create(String uri, String name, String title, String description, String mimeType,
+    Function<Map<String, String>, Future<ResourceStream>> resourceFunction) {
+    return new StreamingResourceHandler() {
+      @Override
+      public String uri() {
+        return uri;
+      }
+
+      @Override
+      public String name() {
+        return name;
+      }
+
+      @Override
+      public String title() {
+        return title;
+      }
+
+      @Override
+      public String description() {
+        return description;
+      }
+
+      @Override
+      public String mimeType() {
+        return mimeType;
+      }
+
+      @Override
+      public Future<ResourceStream> apply(Map<String, String> params) {
+        return resourceFunction.apply(params);
+      }
+    };
+  }
+
+  @Override
+  default ResourceTemplate toFeature() {
+    ResourceTemplate template = new ResourceTemplate().setUriTemplate(uri()).setName(name() != null ? name() : uri());
+
+    if (title() != null) {
+      template.setTitle(title());
+    }
+    if (description() != null) {
+      template.setDescription(description());
+    }
+    if (mimeType() != null) {
+      template.setMimeType(mimeType());
+    }
+
+    return template;
+  }
+
+  /**
+   * Retrieves the URI template under which the resources are served.
+   *
+   * @return the URI template
+   */
+  String uri();
+
+  /**
+   * Retrieves the MIME type of the resources, if known in advance.
+   *
+   * @return the MIME type or {@code null}
+   */
+  default String mimeType() {
+    return null;
+  }
+}
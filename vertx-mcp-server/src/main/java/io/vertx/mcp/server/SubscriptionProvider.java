@@ -2,6 +2,8 @@ package io.vertx.mcp.server;
 
 import io.vertx.core.Future;
 
+import java.util.Set;
+
 /**
  * Interface for server features that support resource subscriptions. Features implementing this interface can validate subscription requests and notify when resources change.
  *
@@ -23,6 +25,7 @@ public interface SubscriptionProvider {
    *
    * @param sessionId the session ID
    * @param uri the resource URI
+   * @throws IllegalStateException if the session already holds the maximum number of subscriptions
    */
   void subscribe(String sessionId, String uri);
 
@@ -33,4 +36,25 @@ public interface SubscriptionProvider {
    * @param uri the resource URI
    */
   void unsubscribe(String sessionId, String uri);
+
+  /**
+   * Called when a session goes away, removing all of its subscriptions.
+   *
+   * @param sessionId the session ID
+   */
+  default void unsubscribeAll(String sessionId) {
+    for (String uri : Set.copyOf(subscriptions(sessionId))) {
+      unsubscribe(sessionId, uri);
+    }
+  }
+
+  /**
+   * Returns the resource URIs a session is currently subscribed to.
+   *
+   * @param sessionId the session ID
+   * @return the subscribed URIs, never {@code null}
+   */
+  default Set<String> subscriptions(String sessionId) {
+    return Set.of();
+  }
 }
@@ -0,0 +1,144 @@
+package io.vertx.mcp.server;
+
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.common.dsl.ArraySchemaBuilder;
+import io.vertx.json.schema.common.dsl.ObjectSchemaBuilder;
+import io.vertx.json.schema.common.dsl.Schemas;
+import io.vertx.mcp.common.content.TextContent;
+import io.vertx.mcp.common.prompt.PromptMessage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link PromptHandler} defined by {@link PromptTemplate message templates} instead of code. The prompt server feature renders its {@code prompts/get} result directly to
+ * bytes, and caches rendered results when {@link ServerOptions#setPromptCacheSize(int)} is set.
+ *
+ * @version 2025-06-18
+ * @see <a href="https://modelcontextprotocol.io/specification/2025-06-18/server/prompts#getting-a-prompt">Server Features - Prompts - Getting a Prompt</a>
+ */
+public interface TemplatePromptHandler extends PromptHandler {
+
+  /**
+   * Creates a template prompt whose arguments are the placeholders of its messages, all required strings.
+   *
+   * @param name the name of the prompt
+   * @param title the title of the prompt
+   * @param description the description of the prompt
+   * @param messages the message templates
+   * @return the prompt handler
+   */
+  static TemplatePromptHandler create(String name, String title, String description, PromptTemplate... messages) {
+    return create(name, title, description, null, messages);
+  }
+
+  /**
+   * Creates a template prompt.
+   *
+   * @param name the name of the prompt
+   * @param title the title of the prompt
+   * @param description the description of the prompt
+   * @param arguments the argument schema, or {@code null} to declare every placeholder as a required string argument
+   * @param messages the message templates
+   * @return the prompt handler
+   */
+  @GenIgnore
+  static TemplatePromptHandler create(String name, String title, String description, ArraySchemaBuilder arguments, PromptTemplate... messages) {
+    List<PromptTemplate> templates = List.of(messages);
+    Set<String> placeholders = new LinkedHashSet<>();
+    for (PromptTemplate template : templates) {
+      placeholders.addAll(template.placeholders());
+    }
+    ArraySchemaBuilder schema = arguments;
+    if (schema == null) {
+      ObjectSchemaBuilder item = Schemas.objectSchema();
+      for (String placeholder : placeholders) {
+        item.requiredProperty(placeholder, Schemas.stringSchema());
+      }
+      schema = Schemas.arraySchema().items(item);
+    }
+    ArraySchemaBuilder argumentSchema = schema;
+    Buffer head = Buffer.buffer((description != null ? "{\"description\":" + Json.encode(description) + "," : "{") + "\"messages\":[");
+
+    return new TemplatePromptHandler() {
+      @Override
+      public String name() {
+        return name;
+      }
+
+      @Override
+      public String title() {
+        return title;
+      }
+
+      @Override
+      public String description() {
+        return description;
+      }
+
+      @Override
+      public ArraySchemaBuilder arguments() {
+        return argumentSchema;
+      }
+
+      @Override
+      public List<PromptTemplate> templates() {
+        return templates;
+      }
+
+      @Override
+      public Set<String> placeholders() {
+        return placeholders;
+      }
+
+      @Override
+      public Buffer render(JsonObject arguments) {
+        Buffer buffer = Buffer.buffer(head.length() + 256);
+        buffer.appendBuffer(head);
+        for (int i = 0; i < templates.size(); i++) {
+          if (i > 0) {
+            buffer.appendByte((byte) ',');
+          }
+          templates.get(i).renderTo(arguments, buffer);
+        }
+        return buffer.appendString("]}");
+      }
+    };
+  }
+
+  /**
+   * @return the message templates
+   */
+  @GenIgnore
+  List<PromptTemplate> templates();
+
+  /**
+   * @return the names of the placeholders of all the messages
+   */
+  @GenIgnore
+  Set<String> placeholders();
+
+  /**
+   * Renders the encoded {@code prompts/get} result.
+   *
+   * @param arguments the prompt arguments
+   * @return the encoded result
+   */
+  @GenIgnore
+  Buffer render(JsonObject arguments);
+
+  @Override
+  default Future<List<PromptMessage>> apply(JsonObject arguments) {
+    List<PromptMessage> messages = new ArrayList<>(templates().size());
+    for (PromptTemplate template : templates()) {
+      messages.add(new PromptMessage().setRole(template.role()).setContent(new TextContent(template.render(arguments)).toJson()));
+    }
+    return Future.succeededFuture(messages);
+  }
+}
@@ -11,30 +11,58 @@ import io.vertx.mcp.common.result.CompleteResult;
 import io.vertx.mcp.common.rpc.JsonError;
 import io.vertx.mcp.common.rpc.JsonRequest;
 import io.vertx.mcp.common.rpc.JsonResponse;
+import io.vertx.mcp.server.CancellationToken;
+import io.vertx.mcp.server.CompletionIndex;
 import io.vertx.mcp.server.CompletionProvider;
 import io.vertx.mcp.server.ServerFeature;
 import io.vertx.mcp.server.ServerRequest;
+import io.vertx.mcp.server.ServerSession;
+import io.vertx.mcp.server.SessionEvent;
+import io.vertx.mcp.server.SessionLifecycleHandler;
+import io.vertx.mcp.server.impl.CancellationTokenImpl;
 import io.vertx.mcp.server.impl.ServerFeatureBase;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 /**
  * The CompletionServerFeature class implements the ServerFeatureBase and provides functionality to handle completion/complete requests. It delegates completion requests to
  * appropriate completion providers based on the reference type.
+ * <p>
+ * Clients send a completion request per keystroke: within a session, a request for a given reference and argument supersedes the previous one still in progress. The superseded
+ * request is cancelled through its {@link CancellationToken} and answered with an empty completion flagged with {@code hasMore}, without serializing the provider result. The
+ * requests still in progress when their session ends are cancelled too.
  *
  * @version 2025-06-18
  * @see <a href="https://modelcontextprotocol.io/specification/2025-06-18/server/utilities/completion">Server Utilities - Completion</a>
  */
-public class CompletionServerFeature extends ServerFeatureBase {
+public class CompletionServerFeature extends ServerFeatureBase implements SessionLifecycleHandler {
+
+  private final Map<String, CancellationTokenImpl> inProgress = new ConcurrentHashMap<>();
 
   @Override
   public Map<String, BiFunction<ServerRequest, JsonRequest, Future<JsonResponse>>> getHandlers() {
     return Map.of("completion/complete", this::handleComplete);
   }
 
+  @Override
+  public void handle(SessionEvent event) {
+    if (!event.isTerminal()) {
+      return;
+    }
+    String prefix = event.session().id() + '\n';
+    inProgress.entrySet().removeIf(entry -> {
+      if (entry.getKey().startsWith(prefix)) {
+        entry.getValue().cancel();
+        return true;
+      }
+      return false;
+    });
+  }
+
   private Future<JsonResponse> handleComplete(ServerRequest serverRequest, JsonRequest request) {
     JsonObject params = request.getNamedParams();
     if (params == null) {
@@ -44,7 +72,7 @@ public class CompletionServerFeature extends ServerFeatureBase {
     }
 
     // Parse the request
-    CompleteRequest completeRequest = new CompleteRequest(params);
+    CompleteRequest completeRequest = (CompleteRequest) request.getRequest();
 
     // Validate ref (required)
     CompletionReference ref = completeRequest.getRef();
@@ -112,24 +140,57 @@ public class CompletionServerFeature extends ServerFeatureBase {
         .setTotal(0)
         .setHasMore(false);
       CompleteResult result = new CompleteResult().setCompletion(emptyCompletion);
-      return Future.succeededFuture(JsonResponse.success(request, result.toJson()));
+      return Future.succeededFuture(result.toResponse(request));
+    }
+
+    // Supersede the previous request of the session for the same argument
+    ServerSession session = serverRequest.session();
+    String supersedingKey = session != null ? session.id() + '\n' + refType + '\n' + refIdentifier + '\n' + argument.getName() : null;
+    CancellationTokenImpl token = new CancellationTokenImpl();
+    if (supersedingKey != null) {
+      CancellationTokenImpl previous = inProgress.put(supersedingKey, token);
+      if (previous != null) {
+        previous.cancel();
+      }
+    }
+    serverRequest.context().put(CancellationToken.MCP_CANCELLATION_CONTEXT_KEY, token);
+
+    Future<Completion> completionFuture;
+    try {
+      completionFuture = provider.handleCompletion(refType, refIdentifier, argument, context);
+    } catch (Exception e) {
+      completionFuture = Future.failedFuture(e);
     }
 
     // Delegate to the provider
-    return provider.handleCompletion(refType, refIdentifier, argument, context)
+    return completionFuture
+      .eventually(() -> {
+        if (supersedingKey != null) {
+          inProgress.remove(supersedingKey, token);
+        }
+        return Future.succeededFuture();
+      })
       .compose(completion -> {
-        // Ensure completion values don't exceed 100 items
-        if (completion.getValues() != null && completion.getValues().size() > 100) {
-          List<String> truncated = completion.getValues().subList(0, 100);
+        if (token.isCancelled()) {
+          // The client has already sent a newer request and will ignore this result
+          completion = new Completion().setValues(new ArrayList<>()).setTotal(0).setHasMore(true);
+        }
+        // Ensure completion values don't exceed 100 items, providers backed by a CompletionIndex are already bounded
+        if (completion.getValues() != null && completion.getValues().size() > CompletionIndex.MAX_VALUES) {
+          List<String> truncated = completion.getValues().subList(0, CompletionIndex.MAX_VALUES);
           completion.setValues(truncated);
           completion.setHasMore(true);
         }
         CompleteResult result = new CompleteResult().setCompletion(completion);
-        return Future.succeededFuture(JsonResponse.success(request, result.toJson()));
+        return Future.succeededFuture(result.toResponse(request));
       })
-      .recover(err -> Future.succeededFuture(
-        JsonResponse.error(request, JsonError.internalError(err.getMessage()))
-      ));
+      .recover(err -> {
+        if (token.isCancelled()) {
+          Completion superseded = new Completion().setValues(new ArrayList<>()).setTotal(0).setHasMore(true);
+          return Future.succeededFuture(new CompleteResult().setCompletion(superseded).toResponse(request));
+        }
+        return Future.succeededFuture(JsonResponse.error(request, JsonError.internalError(err.getMessage())));
+      });
   }
 
   private CompletionProvider findCompletionProvider(String refType) {
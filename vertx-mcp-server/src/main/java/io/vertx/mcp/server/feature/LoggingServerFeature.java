@@ -36,7 +36,7 @@ public class LoggingServerFeature extends ServerFeatureBase {
       );
     }
 
-    SetLevelRequest setLevelRequest = new SetLevelRequest(params);
+    SetLevelRequest setLevelRequest = (SetLevelRequest) request.getRequest();
 
     if (setLevelRequest.getLevel() == null) {
       return Future.succeededFuture(
@@ -1,6 +1,9 @@
 package io.vertx.mcp.server.feature;
 
 import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.json.schema.common.dsl.ArraySchemaBuilder;
 import io.vertx.mcp.common.completion.Completion;
@@ -12,16 +15,22 @@ import io.vertx.mcp.common.prompt.PromptMessage;
 import io.vertx.mcp.common.request.GetPromptRequest;
 import io.vertx.mcp.common.result.GetPromptResult;
 import io.vertx.mcp.common.result.ListPromptsResult;
+import io.vertx.mcp.common.rpc.JsonEnvelope;
 import io.vertx.mcp.common.rpc.JsonError;
 import io.vertx.mcp.common.rpc.JsonRequest;
 import io.vertx.mcp.common.rpc.JsonResponse;
+import io.vertx.mcp.server.AdmissionHandler;
 import io.vertx.mcp.server.CompletionProvider;
+import io.vertx.mcp.server.ModelContextProtocolServer;
 import io.vertx.mcp.server.PromptHandler;
 import io.vertx.mcp.server.ServerRequest;
+import io.vertx.mcp.server.ServerSession;
+import io.vertx.mcp.server.TemplatePromptHandler;
 import io.vertx.mcp.server.impl.ServerFeatureBase;
 import io.vertx.mcp.server.impl.ServerFeatureStorage;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -35,9 +44,22 @@ import java.util.function.Function;
  * @version 2025-06-18
  * @see <a href="https://modelcontextprotocol.io/specification/2025-06-18/server/prompts">Server Features - Prompts</a>
  */
-public class PromptServerFeature extends ServerFeatureBase implements CompletionProvider {
+public class PromptServerFeature extends ServerFeatureBase implements CompletionProvider, AdmissionHandler {
 
   private final ServerFeatureStorage<PromptHandler> prompts = new ServerFeatureStorage<>(this::getVertx, PromptListChangedNotification.METHOD);
+  private volatile Map<String, Buffer> cache;
+
+  @Override
+  public void init(ModelContextProtocolServer server, Vertx vertx) {
+    super.init(server, vertx);
+    int cacheSize = server.getOptions().getPromptCacheSize();
+    cache = cacheSize > 0 ? new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Buffer> eldest) {
+        return size() > cacheSize;
+      }
+    } : null;
+  }
 
   @Override
   public Map<String, BiFunction<ServerRequest, JsonRequest, Future<JsonResponse>>> getHandlers() {
@@ -52,6 +74,16 @@ public class PromptServerFeature extends ServerFeatureBase implements Completion
     return Set.of(PromptListChangedNotification.METHOD);
   }
 
+  @Override
+  public JsonError admit(JsonEnvelope envelope, ServerSession session) {
+    // Unknown prompts are rejected before their arguments are decoded
+    String promptName = envelope.getName();
+    if (GetPromptRequest.METHOD.equals(envelope.getMethod()) && promptName != null && !promptName.isEmpty() && !prompts.containsKey(promptName)) {
+      return JsonError.invalidParams("Prompt not found: " + promptName);
+    }
+    return null;
+  }
+
   @Override
   public Future<Completion> handleCompletion(String refType, String refName, CompletionArgument argument, CompletionContext context) {
     // Find the prompt
@@ -93,7 +125,7 @@ public class PromptServerFeature extends ServerFeatureBase implements Completion
 
     // TODO: Handle cursor/pagination
 
-    return Future.succeededFuture(JsonResponse.success(request, result.toJson()));
+    return Future.succeededFuture(result.toResponse(request));
   }
 
   private Future<JsonResponse> handleGetPrompt(ServerRequest serverRequest, JsonRequest request) {
@@ -105,7 +137,7 @@ public class PromptServerFeature extends ServerFeatureBase implements Completion
       );
     }
 
-    GetPromptRequest getRequest = new GetPromptRequest(params);
+    GetPromptRequest getRequest = (GetPromptRequest) request.getRequest();
     String promptName = getRequest.getName();
     JsonObject arguments = getRequest.getArguments();
 
@@ -128,10 +160,40 @@ public class PromptServerFeature extends ServerFeatureBase implements Completion
       arguments = new JsonObject();
     }
 
+    // Template prompts are rendered straight to the encoded result
+    if (registration instanceof TemplatePromptHandler) {
+      Buffer result = renderTemplate((TemplatePromptHandler) registration, arguments);
+      return serverRequest.response().end(JsonResponse.encodeSuccess(request.getId(), result)).map(v -> null);
+    }
+
     // Execute the handler
     return executePrompt(request, registration, arguments);
   }
 
+  private Buffer renderTemplate(TemplatePromptHandler handler, JsonObject arguments) {
+    Map<String, Buffer> cache = this.cache;
+    if (cache == null) {
+      return handler.render(arguments);
+    }
+    // Only the placeholder values affect the rendering
+    JsonArray values = new JsonArray().add(handler.name());
+    for (String placeholder : handler.placeholders()) {
+      values.add(arguments.getValue(placeholder));
+    }
+    String key = values.encode();
+    Buffer result;
+    synchronized (cache) {
+      result = cache.get(key);
+    }
+    if (result == null) {
+      result = handler.render(arguments);
+      synchronized (cache) {
+        cache.put(key, result);
+      }
+    }
+    return result;
+  }
+
   private Future<JsonResponse> executePrompt(JsonRequest request, PromptHandler handler, JsonObject arguments) {
     return handler.apply(arguments).compose(messages -> {
       GetPromptResult result = new GetPromptResult().setMessages(messages);
@@ -140,7 +202,7 @@ public class PromptServerFeature extends ServerFeatureBase implements Completion
         result.setDescription(handler.description());
       }
 
-      return Future.succeededFuture(JsonResponse.success(request, result.toJson()));
+      return Future.succeededFuture(result.toResponse(request));
     }).recover(err -> Future.succeededFuture(
       JsonResponse.error(request, JsonError.internalError(err.getMessage()))
     ));
@@ -199,6 +261,13 @@ public class PromptServerFeature extends ServerFeatureBase implements Completion
     }
 
     prompts.put(handler.name(), handler);
+
+    Map<String, Buffer> cache = this.cache;
+    if (cache != null) {
+      synchronized (cache) {
+        cache.clear();
+      }
+    }
   }
 
   /**
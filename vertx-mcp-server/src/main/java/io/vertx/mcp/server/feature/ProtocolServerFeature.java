@@ -54,8 +54,8 @@ public class ProtocolServerFeature extends ServerFeatureBase {
       if (featureCapabilities.stream().anyMatch(cap -> cap.startsWith("resources/"))) {
         ResourcesCapability resourcesCap = new ResourcesCapability();
 
-        // Subscribe capability requires sessions
-        if (getServer().getOptions().getStreamingEnabled()) {
+        // Subscribe capability requires sessions kept by the server
+        if (getServer().getOptions().getStreamingEnabled() && !getServer().getOptions().getStatelessSessions()) {
           resourcesCap.setSubscribe(true);
         }
 
@@ -79,7 +79,7 @@ public class ProtocolServerFeature extends ServerFeatureBase {
         .setVersion(getServer().getOptions().getServerVersion()))
       .setCapabilities(capabilities);
 
-    return Future.succeededFuture(JsonResponse.success(request, result.toJson()));
+    return Future.succeededFuture(result.toResponse(request));
   }
 
   private Future<JsonResponse> handlePing(ServerRequest serverRequest, JsonRequest request) {
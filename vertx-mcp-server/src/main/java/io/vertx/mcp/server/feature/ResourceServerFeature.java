@@ -2,14 +2,17 @@ package io.vertx.mcp.server.feature;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.common.Meta;
 import io.vertx.mcp.common.completion.Completion;
 import io.vertx.mcp.common.completion.CompletionArgument;
 import io.vertx.mcp.common.completion.CompletionContext;
 import io.vertx.mcp.common.notification.ResourceListChangedNotification;
 import io.vertx.mcp.common.notification.ResourceUpdatedNotification;
+import io.vertx.mcp.common.request.ReadResourceRequest;
 import io.vertx.mcp.common.resources.Resource;
 import io.vertx.mcp.common.resources.ResourceTemplate;
 import io.vertx.mcp.common.result.ListResourceTemplatesResult;
@@ -18,20 +21,24 @@ import io.vertx.mcp.common.result.ReadResourceResult;
 import io.vertx.mcp.common.rpc.JsonError;
 import io.vertx.mcp.common.rpc.JsonRequest;
 import io.vertx.mcp.common.rpc.JsonResponse;
+import io.vertx.mcp.common.tracing.McpTracing;
 import io.vertx.mcp.server.*;
+import io.vertx.mcp.server.impl.EncodedNotification;
+import io.vertx.mcp.server.impl.ResourceCache;
+import io.vertx.mcp.server.impl.ResourceContentStream;
 import io.vertx.mcp.server.impl.ServerFeatureBase;
 import io.vertx.mcp.server.impl.ServerFeatureStorage;
+import io.vertx.mcp.server.impl.SubscriptionIndex;
+import io.vertx.mcp.server.impl.UriTemplateRouter;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * The ResourceServerFeature class implements the ServerFeatureBase and provides functionality to handle JSON-RPC requests related to resource management. This includes listing
@@ -42,9 +49,31 @@ import java.util.regex.Pattern;
  */
 public class ResourceServerFeature extends ServerFeatureBase implements CompletionProvider, SubscriptionProvider {
 
+  /**
+   * The {@code _meta} key carrying the version of the content of a read resource. A client sending it back in the {@code _meta} of a {@code resources/read} request receives an
+   * empty result flagged with {@link #UNCHANGED_META_KEY} when its copy is still current.
+   */
+  public static final String VERSION_META_KEY = "io.vertx.mcp/version";
+
+  /**
+   * The {@code _meta} key flagging a {@code resources/read} result whose content is unchanged from the version sent by the client.
+   */
+  public static final String UNCHANGED_META_KEY = "io.vertx.mcp/unchanged";
+
   private final ServerFeatureStorage<StaticResourceHandler> staticHandlers = new ServerFeatureStorage<>(this::getVertx, ResourceListChangedNotification.METHOD);
   private final ServerFeatureStorage<DynamicResourceHandler> dynamicHandlers = new ServerFeatureStorage<>(this::getVertx, ResourceListChangedNotification.METHOD);
-  private final Map<String, Set<String>> subscriptions = new ConcurrentHashMap<>();
+  private final ServerFeatureStorage<StreamingResourceHandler> streamingHandlers = new ServerFeatureStorage<>(this::getVertx, ResourceListChangedNotification.METHOD);
+  private final UriTemplateRouter<ServerFeatureHandler<Map<String, String>, ?, ResourceTemplate>> templates = new UriTemplateRouter<>();
+  private final SubscriptionIndex subscriptions = new SubscriptionIndex();
+  private final List<ResourceProvider> providers = new CopyOnWriteArrayList<>();
+  private volatile ResourceCache cache;
+
+  @Override
+  public void init(ModelContextProtocolServer server, Vertx vertx) {
+    super.init(server, vertx);
+    int cacheSize = server.getOptions().getResourceCacheSize();
+    cache = cacheSize > 0 ? new ResourceCache(cacheSize) : null;
+  }
 
   @Override
   public Map<String, BiFunction<ServerRequest, JsonRequest, Future<JsonResponse>>> getHandlers() {
@@ -62,18 +91,12 @@ public class ResourceServerFeature extends ServerFeatureBase implements Completi
 
   @Override
   public Future<Completion> handleCompletion(String refType, String refName, CompletionArgument argument, CompletionContext context) {
-    // For completion, refName is the URI template itself (e.g., "resource://user/{id}")
-    // Find the handler with matching template
-    for (DynamicResourceHandler handler : dynamicHandlers.values()) {
-      String handlerTemplate = handler.uri();
-
-      // Direct template match or pattern match for completion
-      if (handlerTemplate.equals(refName) || templateMatchesPattern(refName, handlerTemplate)) {
-        // Delegate to the handler's completion function
-        Future<Completion> completionFuture = handler.completion(argument, context);
-        if (completionFuture != null) {
-          return completionFuture;
-        }
+    // For completion, refName is the URI template itself (e.g., "resource://user/{id}"), matched structurally against the registered templates
+    ServerFeatureHandler<Map<String, String>, ?, ResourceTemplate> handler = templates.lookupTemplate(refName);
+    if (handler instanceof DynamicResourceHandler) {
+      Future<Completion> completionFuture = ((DynamicResourceHandler) handler).completion(argument, context);
+      if (completionFuture != null) {
+        return completionFuture;
       }
     }
 
@@ -84,16 +107,6 @@ public class ResourceServerFeature extends ServerFeatureBase implements Completi
       .setHasMore(false));
   }
 
-  /**
-   * Checks if two URI templates could match the same pattern. This compares the structure of templates for completion purposes.
-   */
-  private boolean templateMatchesPattern(String template1, String template2) {
-    // Normalize both templates by replacing variables with a placeholder
-    String normalized1 = template1.replaceAll("\\{[^}]+\\}", "{var}");
-    String normalized2 = template2.replaceAll("\\{[^}]+\\}", "{var}");
-    return normalized1.equals(normalized2);
-  }
-
   @Override
   public Set<String> getCompletionCapabilities() {
     return Set.of("ref/resource");
@@ -101,70 +114,63 @@ public class ResourceServerFeature extends ServerFeatureBase implements Completi
 
   @Override
   public Future<Boolean> validateSubscription(String uri) {
-    // Check if URI matches any static resource
-    for (StaticResourceHandler handler : staticHandlers.values()) {
-      if (handler.uri().equals(uri)) {
-        return Future.succeededFuture(true);
-      }
-    }
+    return Future.succeededFuture(staticHandlers.containsKey(uri) || templates.match(uri) != null);
+  }
 
-    // Check if URI matches any dynamic resource template
-    for (DynamicResourceHandler handler : dynamicHandlers.values()) {
-      if (matchesTemplate(uri, handler.uri())) {
-        return Future.succeededFuture(true);
-      }
+  @Override
+  public void subscribe(String sessionId, String uri) {
+    int limit = getServer() != null ? getServer().getOptions().getMaxSubscriptionsPerSession() : ServerOptions.DEFAULT_MAX_SUBSCRIPTIONS_PER_SESSION;
+    if (!subscriptions.subscribe(sessionId, uri, limit)) {
+      throw new IllegalStateException("Maximum subscription limit reached");
     }
+  }
 
-    return Future.succeededFuture(false);
+  @Override
+  public void unsubscribe(String sessionId, String uri) {
+    subscriptions.unsubscribe(sessionId, uri);
   }
 
   @Override
-  public void subscribe(String sessionId, String uri) {
-    subscriptions.computeIfAbsent(sessionId, k -> ConcurrentHashMap.newKeySet()).add(uri);
+  public void unsubscribeAll(String sessionId) {
+    subscriptions.unsubscribeAll(sessionId);
   }
 
   @Override
-  public void unsubscribe(String sessionId, String uri) {
-    Set<String> sessionSubs = subscriptions.get(sessionId);
-    if (sessionSubs != null) {
-      sessionSubs.remove(uri);
-      if (sessionSubs.isEmpty()) {
-        subscriptions.remove(sessionId);
-      }
-    }
+  public Set<String> subscriptions(String sessionId) {
+    return subscriptions.subscriptions(sessionId);
   }
 
   /**
-   * Notifies all subscribed sessions that a resource has been updated. This sends a ResourceUpdatedNotification to each session that is subscribed to the given URI.
+   * Notifies all subscribed sessions that a resource has been updated. This sends a ResourceUpdatedNotification to each session that is subscribed to the given URI, either
+   * directly or through a subscribed URI template.
    *
    * @param vertx the Vertx instance to use for event bus communication
    * @param uri the URI of the resource that was updated
    */
   public void notifyResourceUpdated(Vertx vertx, String uri) {
-    ResourceUpdatedNotification notification = new ResourceUpdatedNotification().setUri(uri);
-
-    // Find all sessions subscribed to this URI and notify them
-    for (Map.Entry<String, Set<String>> entry : subscriptions.entrySet()) {
-      String sessionId = entry.getKey();
-      Set<String> subscribedUris = entry.getValue();
-
-      // Check if this session is subscribed to the URI (exact match or template match)
-      boolean isSubscribed = subscribedUris.contains(uri);
-      if (!isSubscribed) {
-        // Check for template matches
-        for (String subscribedUri : subscribedUris) {
-          if (matchesTemplate(uri, subscribedUri)) {
-            isSubscribed = true;
-            break;
-          }
-        }
-      }
-
-      if (isSubscribed) {
-        DeliveryOptions options = new DeliveryOptions().addHeader("Mcp-Session-Id", sessionId);
-        vertx.eventBus().send(SessionManager.NOTIFICATION_ADDRESS, notification.toNotification().toJson(), options);
-      }
+    ResourceCache c = cache;
+    if (c != null) {
+      c.invalidate(uri);
     }
+
+    // Encoded once for all the subscribers
+    EncodedNotification notification = EncodedNotification.encode(new ResourceUpdatedNotification().setUri(uri), false);
+
+    subscriptions.forEachSubscriber(uri, sessionId -> {
+      DeliveryOptions options = new DeliveryOptions().addHeader("Mcp-Session-Id", sessionId);
+      vertx.eventBus().publish(SessionManager.NOTIFICATION_ADDRESS, notification, options);
+    });
+  }
+
+  /**
+   * Notifies every session that the list of resources has changed. Registering or removing handlers sends this notification automatically, resource providers call it when
+   * their underlying store changes.
+   *
+   * @param vertx the Vertx instance to use for event bus communication
+   */
+  public void notifyResourceListChanged(Vertx vertx) {
+    EncodedNotification notification = EncodedNotification.encode(new ResourceListChangedNotification(), true);
+    vertx.eventBus().publish(SessionManager.NOTIFICATION_ADDRESS, notification);
   }
 
   private Future<JsonResponse> handleListResources(ServerRequest serverRequest, JsonRequest request) {
@@ -174,52 +180,62 @@ public class ResourceServerFeature extends ServerFeatureBase implements Completi
       resources.add(handler.toFeature().toJson());
     }
 
-    ListResourcesResult result = new ListResourcesResult().setResources(resources);
+    if (providers.isEmpty()) {
+      ListResourcesResult result = new ListResourcesResult().setResources(resources);
+      return Future.succeededFuture(result.toResponse(request));
+    }
+
+    List<Future<List<Resource>>> listings = new ArrayList<>(providers.size());
+    for (ResourceProvider provider : providers) {
+      listings.add(provider.listResources());
+    }
 
-    return Future.succeededFuture(JsonResponse.success(request, result.toJson()));
+    return Future.all(listings)
+      .map(v -> {
+        for (Future<List<Resource>> listing : listings) {
+          for (Resource resource : listing.result()) {
+            resources.add(resource.toJson());
+          }
+        }
+        ListResourcesResult result = new ListResourcesResult().setResources(resources);
+        return result.toResponse(request);
+      })
+      .recover(err -> Future.succeededFuture(
+        JsonResponse.error(request, JsonError.internalError(err.getMessage()))
+      ));
   }
 
   private Future<JsonResponse> handleReadResource(ServerRequest serverRequest, JsonRequest request) {
-    JsonObject params = request.getNamedParams();
-    if (params == null || !params.containsKey("uri")) {
+    ReadResourceRequest readRequest = (ReadResourceRequest) request.getRequest();
+    String uri = readRequest != null ? readRequest.getUri() : null;
+    if (uri == null) {
       return Future.succeededFuture(
         JsonResponse.error(request, JsonError.invalidParams("Missing 'uri' parameter"))
       );
     }
 
-    String uri = params.getString("uri");
+    StaticResourceHandler staticHandler = staticHandlers.get(uri);
+    if (staticHandler != null) {
+      return readResource(serverRequest, request, uri, () -> trace(serverRequest, McpTracing.READ_RESOURCE, uri, McpTracing.RESOURCE_TAGS, () -> staticHandler.apply(null)));
+    }
 
-    // Try static resources first
-    for (StaticResourceHandler handler : staticHandlers.values()) {
-      if (handler.uri().equals(uri)) {
-        return handler.apply(null)
-          .compose(resource -> {
-            JsonArray contents = new JsonArray().add(resource.toJson());
-            ReadResourceResult result = new ReadResourceResult().setContents(contents);
-            return Future.succeededFuture(JsonResponse.success(request, result.toJson()));
-          })
-          .recover(err -> Future.succeededFuture(
-            JsonResponse.error(request, JsonError.internalError(err.getMessage()))
-          ));
-      }
+    UriTemplateRouter.Match<ServerFeatureHandler<Map<String, String>, ?, ResourceTemplate>> match = templates.match(uri);
+    if (match != null && match.value() instanceof StreamingResourceHandler) {
+      StreamingResourceHandler handler = (StreamingResourceHandler) match.value();
+      return trace(serverRequest, McpTracing.READ_RESOURCE, uri, McpTracing.RESOURCE_TAGS, () -> handler.apply(match.variables()))
+        .compose(resource -> serverRequest.response()
+          .end(new ResourceContentStream(request.getId(), uri, resource))
+          .<JsonResponse>map(v -> null)
+          .recover(err -> Future.succeededFuture()))
+        .recover(err -> Future.succeededFuture(
+          JsonResponse.error(request, JsonError.internalError(err.getMessage()))
+        ));
     }
 
-    for (DynamicResourceHandler handler : dynamicHandlers.values()) {
-      String template = handler.uri();
-
-      if (matchesTemplate(uri, template)) {
-        Map<String, String> uriParams = extractTemplateVariables(uri, template);
-
-        return handler.apply(uriParams)
-          .compose(resource -> {
-            JsonArray contents = new JsonArray().add(resource.toJson());
-            ReadResourceResult result = new ReadResourceResult().setContents(contents);
-            return Future.succeededFuture(JsonResponse.success(request, result.toJson()));
-          })
-          .recover(err -> Future.succeededFuture(
-            JsonResponse.error(request, JsonError.internalError(err.getMessage()))
-          ));
-      }
+    if (match != null) {
+      DynamicResourceHandler handler = (DynamicResourceHandler) match.value();
+      Map<String, String> variables = match.variables();
+      return readResource(serverRequest, request, uri, () -> trace(serverRequest, McpTracing.READ_RESOURCE, uri, McpTracing.RESOURCE_TAGS, () -> handler.apply(variables)));
     }
 
     return Future.succeededFuture(
@@ -227,97 +243,48 @@ public class ResourceServerFeature extends ServerFeatureBase implements Completi
     );
   }
 
+  private Future<JsonResponse> readResource(ServerRequest serverRequest, JsonRequest request, String uri, Supplier<Future<Resource>> loader) {
+    ResourceCache c = cache;
+    if (c == null) {
+      return loader.get()
+        .compose(resource -> {
+          JsonArray contents = new JsonArray().add(resource.toJson());
+          ReadResourceResult result = new ReadResourceResult().setContents(contents);
+          return Future.succeededFuture(result.toResponse(request));
+        })
+        .recover(err -> Future.succeededFuture(
+          JsonResponse.error(request, JsonError.internalError(err.getMessage()))
+        ));
+    }
+
+    JsonObject meta = request.getNamedParams().getJsonObject(Meta.META_KEY);
+    String knownVersion = meta != null ? meta.getString(VERSION_META_KEY) : null;
+
+    return c.get(uri, () -> loader.get().map(resource -> new JsonArray().add(resource.toJson()).toBuffer()))
+      .compose(entry -> {
+        Buffer result = entry.version().equals(knownVersion) ? ResourceCache.unchanged(entry.version()) : entry.result();
+        return serverRequest.response()
+          .end(JsonResponse.encodeSuccess(request.getId(), result))
+          .<JsonResponse>map(v -> null)
+          .recover(err -> Future.succeededFuture());
+      }, err -> Future.succeededFuture(
+        JsonResponse.error(request, JsonError.internalError(err.getMessage()))
+      ));
+  }
+
   private Future<JsonResponse> handleListResourceTemplates(ServerRequest serverRequest, JsonRequest request) {
     List<ResourceTemplate> templates = new ArrayList<>();
 
     for (DynamicResourceHandler handler : dynamicHandlers.values()) {
       templates.add(handler.toFeature());
     }
-
-    ListResourceTemplatesResult result = new ListResourceTemplatesResult().setResourceTemplates(templates);
-
-    return Future.succeededFuture(JsonResponse.success(request, result.toJson()));
-  }
-
-  /**
-   * Converts a URI template to a regex pattern for matching. Template variables like {id} are converted to named capture groups.
-   *
-   * @param template the URI template
-   * @return the compiled regex pattern
-   */
-  private Pattern templateToPattern(String template) {
-    // Escape regex special characters except { and }
-    String regex = template
-      .replace(".", "\\.")
-      .replace("?", "\\?")
-      .replace("+", "\\+")
-      .replace("*", "\\*")
-      .replace("[", "\\[")
-      .replace("]", "\\]")
-      .replace("(", "\\(")
-      .replace(")", "\\)")
-      .replace("^", "\\^")
-      .replace("$", "\\$")
-      .replace("|", "\\|");
-
-    // Replace {varname} with named capture groups
-    regex = regex.replaceAll("\\{([^}]+)\\}", "(?<$1>[^/]+)");
-
-    return Pattern.compile("^" + regex + "$");
-  }
-
-  /**
-   * Utility method to check if a URI matches a URI template pattern. Template variables are denoted by curly braces, e.g., "resource://user/{id}"
-   *
-   * @param uri the URI to match
-   * @param template the URI template pattern
-   * @return true if the URI matches the template pattern
-   */
-  private boolean matchesTemplate(String uri, String template) {
-    try {
-      Pattern pattern = templateToPattern(template);
-      return pattern.matcher(uri).matches();
-    } catch (Exception e) {
-      return false;
+    for (StreamingResourceHandler handler : streamingHandlers.values()) {
+      templates.add(handler.toFeature());
     }
-  }
 
-  /**
-   * Extracts template variables from a URI given a template pattern. For example, given URI "resource://user/123" and template "resource://user/{id}", returns {"id": "123"}
-   *
-   * @param uri the URI to extract variables from
-   * @param template the URI template pattern
-   * @return map of variable names to their values
-   */
-  private Map<String, String> extractTemplateVariables(String uri, String template) {
-    Map<String, String> variables = new java.util.HashMap<>();
-
-    try {
-      Pattern pattern = templateToPattern(template);
-      Matcher matcher = pattern.matcher(uri);
-
-      if (matcher.matches()) {
-        // Extract all named groups
-        Pattern varPattern = Pattern.compile("\\{([^}]+)\\}");
-        Matcher varMatcher = varPattern.matcher(template);
-
-        while (varMatcher.find()) {
-          String varName = varMatcher.group(1);
-          try {
-            String value = matcher.group(varName);
-            if (value != null) {
-              variables.put(varName, value);
-            }
-          } catch (IllegalArgumentException e) {
-            // Group not found, skip
-          }
-        }
-      }
-    } catch (Exception e) {
-      // Return empty map on error
-    }
+    ListResourceTemplatesResult result = new ListResourceTemplatesResult().setResourceTemplates(templates);
 
-    return variables;
+    return Future.succeededFuture(result.toResponse(request));
   }
 
   /**
@@ -443,11 +410,63 @@ public class ResourceServerFeature extends ServerFeatureBase implements Completi
    * Registers a dynamic resource handler that provides resources based on URI patterns.
    *
    * @param handler the dynamic resource handler to be added. The handler contains the URI pattern and logic for producing resources dynamically based on extracted URI variables.
+   * @throws IllegalArgumentException if the handler URI is not a valid RFC 6570 URI template
    */
   public void addDynamicResource(DynamicResourceHandler handler) {
+    templates.add(handler.uri(), handler);
     dynamicHandlers.put(handler.uri(), handler);
   }
 
+  /**
+   * Adds a streaming resource to the resource server. The content of a streaming resource is never held in memory: it is encoded into the response as it is read, with back
+   * pressure from the client connection, which makes it suitable for large or binary resources.
+   *
+   * @param uri the URI template of the resource
+   * @param name the name of the resource
+   * @param mimeType the MIME type of the resource, or {@code null} if unknown
+   * @param resourceFunction a function that takes a map of template variables and returns a future resolving to the resource stream
+   */
+  public void addStreamingResource(String uri, String name, String mimeType, Function<Map<String, String>, Future<ResourceStream>> resourceFunction) {
+    addStreamingResource(StreamingResourceHandler.create(uri, name, null, null, mimeType, resourceFunction));
+  }
+
+  /**
+   * Registers a streaming resource handler.
+   *
+   * @param handler the streaming resource handler to be added
+   * @throws IllegalArgumentException if the handler URI is not a valid RFC 6570 URI template
+   */
+  public void addStreamingResource(StreamingResourceHandler handler) {
+    templates.add(handler.uri(), handler);
+    streamingHandlers.put(handler.uri(), handler);
+  }
+
+  /**
+   * Registers a resource provider. Reads are served by the provider under its URI template, its resources are enumerated when clients list resources, and the provider is
+   * initialized with this feature so it can notify changes of its underlying store.
+   *
+   * @param provider the resource provider to be added
+   * @throws IllegalArgumentException if the provider URI is not a valid RFC 6570 URI template
+   */
+  public void addResourceProvider(ResourceProvider provider) {
+    addStreamingResource(provider);
+    providers.add(provider);
+    provider.init(this);
+  }
+
+  /**
+   * Removes a resource provider and closes it.
+   *
+   * @param provider the resource provider to be removed
+   */
+  public void removeResourceProvider(ResourceProvider provider) {
+    if (providers.remove(provider)) {
+      templates.remove(provider.uri());
+      streamingHandlers.remove(provider.uri());
+      provider.close();
+    }
+  }
+
   /**
    * Retrieves a list of static resource handlers managed by this feature.
    *
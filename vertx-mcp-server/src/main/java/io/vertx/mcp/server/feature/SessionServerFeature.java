@@ -13,21 +13,21 @@ import io.vertx.mcp.server.impl.ServerFeatureBase;
 
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 
 /**
  * The SessionServerFeature class implements the ServerFeatureBase and provides functionality to handle JSON-RPC requests related to session management. This includes handling
  * subscriptions, unsubscriptions, and session notifications for SSE connections.
+ * <p>
+ * The feature counts the live sessions from their lifecycle events, and removes the subscriptions of a session when it is closed or expires.
  *
  * @version 2025-06-18
  * @see <a href="https://modelcontextprotocol.io/specification/2025-06-18/basic/transports#session-management">Server Features - Sessions</a>
  */
-public class SessionServerFeature extends ServerFeatureBase {
+public class SessionServerFeature extends ServerFeatureBase implements SessionLifecycleHandler {
 
   private final AtomicInteger sessionCount = new AtomicInteger(0);
-  private final Map<String, Set<String>> subscriptions = new ConcurrentHashMap<>();
 
   @Override
   public Map<String, BiFunction<ServerRequest, JsonRequest, Future<JsonResponse>>> getHandlers() {
@@ -39,7 +39,8 @@ public class SessionServerFeature extends ServerFeatureBase {
   }
 
   private Future<JsonResponse> handleSubscribe(ServerRequest serverRequest, JsonRequest request) {
-    if (!getServer().getOptions().getStreamingEnabled()) {
+    // Subscriptions are kept by the server, not by the token of stateless sessions
+    if (!getServer().getOptions().getStreamingEnabled() || getServer().getOptions().getStatelessSessions()) {
       return Future.succeededFuture(
         JsonResponse.error(request, JsonError.methodNotAllowed())
       );
@@ -53,8 +54,8 @@ public class SessionServerFeature extends ServerFeatureBase {
       );
     }
 
-    SubscribeRequest subscribe = new SubscribeRequest(request.getNamedParams());
-    if (subscribe.getUri() == null || subscribe.getUri().isEmpty()) {
+    SubscribeRequest subscribe = (SubscribeRequest) request.getRequest();
+    if (subscribe == null || subscribe.getUri() == null || subscribe.getUri().isEmpty()) {
       return Future.succeededFuture(
         JsonResponse.error(request, JsonError.invalidParams("Missing 'uri' parameter"))
       );
@@ -76,9 +77,13 @@ public class SessionServerFeature extends ServerFeatureBase {
         );
       }
 
-      subscriptions.computeIfAbsent(session.id(), k -> ConcurrentHashMap.newKeySet()).add(uri);
-
-      provider.subscribe(session.id(), uri);
+      try {
+        provider.subscribe(session.id(), uri);
+      } catch (IllegalStateException e) {
+        return Future.succeededFuture(
+          JsonResponse.error(request, JsonError.serverError(-32001, e.getMessage()))
+        );
+      }
 
       return Future.succeededFuture(new EmptyResult().toResponse(request));
     });
@@ -94,7 +99,7 @@ public class SessionServerFeature extends ServerFeatureBase {
   }
 
   private Future<JsonResponse> handleUnsubscribe(ServerRequest serverRequest, JsonRequest request) {
-    if (!getServer().getOptions().getStreamingEnabled()) {
+    if (!getServer().getOptions().getStreamingEnabled() || getServer().getOptions().getStatelessSessions()) {
       return Future.succeededFuture(
         JsonResponse.error(request, JsonError.methodNotAllowed())
       );
@@ -108,8 +113,8 @@ public class SessionServerFeature extends ServerFeatureBase {
       );
     }
 
-    UnsubscribeRequest unsubscribe = new UnsubscribeRequest(request.getNamedParams());
-    if (unsubscribe.getUri() == null || unsubscribe.getUri().isEmpty()) {
+    UnsubscribeRequest unsubscribe = (UnsubscribeRequest) request.getRequest();
+    if (unsubscribe == null || unsubscribe.getUri() == null || unsubscribe.getUri().isEmpty()) {
       return Future.succeededFuture(
         JsonResponse.error(request, JsonError.invalidParams("Missing 'uri' parameter"))
       );
@@ -117,17 +122,9 @@ public class SessionServerFeature extends ServerFeatureBase {
 
     String uri = unsubscribe.getUri();
 
-    Set<String> sessionSubs = subscriptions.get(session.id());
-    if (sessionSubs != null) {
-      sessionSubs.remove(uri);
-      if (sessionSubs.isEmpty()) {
-        subscriptions.remove(session.id());
-      }
-
-      SubscriptionProvider provider = findSubscriptionProvider();
-      if (provider != null) {
-        provider.unsubscribe(session.id(), uri);
-      }
+    SubscriptionProvider provider = findSubscriptionProvider();
+    if (provider != null) {
+      provider.unsubscribe(session.id(), uri);
     }
 
     return Future.succeededFuture(new EmptyResult().toResponse(request));
@@ -148,14 +145,13 @@ public class SessionServerFeature extends ServerFeatureBase {
       );
     }
 
-    if (sessionCount.get() >= getServer().getOptions().getMaxSessions()) {
+    // The session is already counted since its creation
+    if (sessionCount.get() > getServer().getOptions().getMaxSessions()) {
       return Future.succeededFuture(
         JsonResponse.error(request, JsonError.serverError(-32001, "Maximum session limit reached"))
       );
     }
 
-    sessionCount.incrementAndGet();
-
     return Future.succeededFuture(new EmptyResult().toResponse(request));
   }
 
@@ -167,8 +163,7 @@ public class SessionServerFeature extends ServerFeatureBase {
    * @return true if subscribed
    */
   public boolean isSubscribed(String sessionId, String uri) {
-    Set<String> sessionSubs = subscriptions.get(sessionId);
-    return sessionSubs != null && sessionSubs.contains(uri);
+    return getSubscriptions(sessionId).contains(uri);
   }
 
   /**
@@ -178,21 +173,40 @@ public class SessionServerFeature extends ServerFeatureBase {
    * @return set of subscribed URIs
    */
   public Set<String> getSubscriptions(String sessionId) {
-    return subscriptions.getOrDefault(sessionId, Set.of());
+    SubscriptionProvider provider = findSubscriptionProvider();
+    return provider != null ? provider.subscriptions(sessionId) : Set.of();
+  }
+
+  @Override
+  public void handle(SessionEvent event) {
+    switch (event.type()) {
+      case CREATED:
+        sessionCount.incrementAndGet();
+        break;
+      case CLOSED:
+      case EXPIRED:
+        sessionCount.decrementAndGet();
+        removeSession(event.session().id());
+        break;
+      default:
+        break;
+    }
   }
 
   /**
-   * Remove all subscriptions for a session (typically when session closes).
+   * Remove all subscriptions for a session, done when the session is closed or expires.
    *
    * @param sessionId the session ID
    */
   public void removeSession(String sessionId) {
-    subscriptions.remove(sessionId);
-    sessionCount.decrementAndGet();
+    SubscriptionProvider provider = findSubscriptionProvider();
+    if (provider != null) {
+      provider.unsubscribeAll(sessionId);
+    }
   }
 
   /**
-   * Gets the current number of active sessions.
+   * Gets the current number of live sessions, created and not yet closed or expired.
    *
    * @return the session count
    */
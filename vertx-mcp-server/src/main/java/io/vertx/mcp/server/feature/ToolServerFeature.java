@@ -1,19 +1,26 @@
 package io.vertx.mcp.server.feature;
 
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.json.schema.common.dsl.ObjectSchemaBuilder;
 import io.vertx.mcp.common.content.Content;
+import io.vertx.mcp.common.metrics.McpMetrics;
 import io.vertx.mcp.common.notification.ToolListChangedNotification;
 import io.vertx.mcp.common.request.CallToolRequest;
 import io.vertx.mcp.common.result.CallToolResult;
 import io.vertx.mcp.common.result.ListToolsResult;
+import io.vertx.mcp.common.rpc.JsonEnvelope;
 import io.vertx.mcp.common.rpc.JsonError;
 import io.vertx.mcp.common.rpc.JsonRequest;
 import io.vertx.mcp.common.rpc.JsonResponse;
 import io.vertx.mcp.common.tool.Tool;
+import io.vertx.mcp.common.tracing.McpTracing;
+import io.vertx.mcp.server.AdmissionHandler;
+import io.vertx.mcp.server.RawToolHandler;
 import io.vertx.mcp.server.ServerRequest;
+import io.vertx.mcp.server.ServerSession;
 import io.vertx.mcp.server.StructuredToolHandler;
 import io.vertx.mcp.server.UnstructuredToolHandler;
 import io.vertx.mcp.server.impl.ServerFeatureBase;
@@ -25,6 +32,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * The ToolServerFeature class implements the ServerFeatureBase and provides functionality to handle JSON-RPC requests related to tool management. This includes listing available
@@ -33,10 +41,11 @@ import java.util.function.Function;
  * @version 2025-06-18
  * @see <a href="https://modelcontextprotocol.io/specification/2025-06-18/server/tools">Server Features - Tools</a>
  */
-public class ToolServerFeature extends ServerFeatureBase {
+public class ToolServerFeature extends ServerFeatureBase implements AdmissionHandler {
 
   private final ServerFeatureStorage<StructuredToolHandler> structuredTools = new ServerFeatureStorage<>(this::getVertx, ToolListChangedNotification.METHOD);
   private final ServerFeatureStorage<UnstructuredToolHandler> unstructuredTools = new ServerFeatureStorage<>(this::getVertx, ToolListChangedNotification.METHOD);
+  private final ServerFeatureStorage<RawToolHandler> rawTools = new ServerFeatureStorage<>(this::getVertx, ToolListChangedNotification.METHOD);
 
   @Override
   public Map<String, BiFunction<ServerRequest, JsonRequest, Future<JsonResponse>>> getHandlers() {
@@ -51,6 +60,17 @@ public class ToolServerFeature extends ServerFeatureBase {
     return Set.of(ToolListChangedNotification.METHOD);
   }
 
+  @Override
+  public JsonError admit(JsonEnvelope envelope, ServerSession session) {
+    // Calls of unknown tools are rejected before their arguments are decoded
+    String toolName = envelope.getName();
+    if (CallToolRequest.METHOD.equals(envelope.getMethod()) && toolName != null && !toolName.isEmpty() && !structuredTools.containsKey(toolName)
+      && !unstructuredTools.containsKey(toolName) && !rawTools.containsKey(toolName)) {
+      return JsonError.invalidParams("Tool not found: " + toolName);
+    }
+    return null;
+  }
+
   private Future<JsonResponse> handleListTools(ServerRequest serverRequest, JsonRequest request) {
     List<Tool> toolsList = new ArrayList<>();
 
@@ -62,8 +82,12 @@ public class ToolServerFeature extends ServerFeatureBase {
       toolsList.add(handler.toFeature());
     }
 
+    for (RawToolHandler handler : rawTools.values()) {
+      toolsList.add(handler.toFeature());
+    }
+
     ListToolsResult result = new ListToolsResult().setTools(toolsList);
-    return Future.succeededFuture(JsonResponse.success(request, result.toJson()));
+    return Future.succeededFuture(result.toResponse(request));
   }
 
   private Future<JsonResponse> handleCallTool(ServerRequest serverRequest, JsonRequest request) {
@@ -75,7 +99,7 @@ public class ToolServerFeature extends ServerFeatureBase {
       );
     }
 
-    CallToolRequest callRequest = new CallToolRequest(params);
+    CallToolRequest callRequest = (CallToolRequest) request.getRequest();
     String toolName = callRequest.getName();
     JsonObject arguments = callRequest.getArguments();
 
@@ -90,21 +114,48 @@ public class ToolServerFeature extends ServerFeatureBase {
       arguments = new JsonObject();
     }
 
+    Supplier<Future<CallToolResult>> call = toolCall(toolName, arguments);
+    if (call == null) {
+      return Future.succeededFuture(
+        JsonResponse.error(request, JsonError.invalidParams("Tool not found: " + toolName))
+      );
+    }
+
+    return trace(serverRequest, McpTracing.EXECUTE_TOOL, true, toolName, McpTracing.TOOL_TAGS, () -> measure(toolName, call)).map(result -> result.toResponse(request));
+  }
+
+  /**
+   * @return the execution of the tool, or {@code null} when no tool has this name
+   */
+  private Supplier<Future<CallToolResult>> toolCall(String toolName, JsonObject arguments) {
     // Check structured tools first
     StructuredToolHandler structuredHandler = structuredTools.get(toolName);
     if (structuredHandler != null) {
-      return executeStructuredTool(structuredHandler, arguments).map(result -> result.toResponse(request));
+      return () -> executeStructuredTool(structuredHandler, arguments);
     }
 
     // Check unstructured tools
     UnstructuredToolHandler unstructuredHandler = unstructuredTools.get(toolName);
     if (unstructuredHandler != null) {
-      return executeUnstructuredTool(unstructuredHandler, arguments).map(result -> result.toResponse(request));
+      return () -> executeUnstructuredTool(unstructuredHandler, arguments);
     }
 
-    return Future.succeededFuture(
-      JsonResponse.error(request, JsonError.invalidParams("Tool not found: " + toolName))
-    );
+    // Check raw tools
+    RawToolHandler rawHandler = rawTools.get(toolName);
+    if (rawHandler != null) {
+      return () -> executeRawTool(rawHandler, arguments);
+    }
+
+    return null;
+  }
+
+  private Future<CallToolResult> measure(String toolName, Supplier<Future<CallToolResult>> call) {
+    McpMetrics metrics = metrics();
+    if (metrics == null) {
+      return call.get();
+    }
+    Object metric = metrics.toolCallBegin(toolName);
+    return call.get().andThen(ar -> metrics.toolCallEnd(metric, toolName, ar.failed() || Boolean.TRUE.equals(ar.result().getIsError())));
   }
 
   private Future<CallToolResult> executeStructuredTool(StructuredToolHandler handler, JsonObject arguments) {
@@ -132,6 +183,16 @@ public class ToolServerFeature extends ServerFeatureBase {
       );
   }
 
+  private Future<CallToolResult> executeRawTool(RawToolHandler handler, JsonObject arguments) {
+    boolean structured = handler.outputSchema() != null;
+    return handler.apply(arguments)
+      .map(encoded -> structured ? new CallToolResult().setRawStructuredContent(encoded).setIsError(false) : new CallToolResult().setRawText(encoded).setIsError(false))
+      .recover(err -> Future.succeededFuture(new CallToolResult()
+        .setContent(new JsonArray().add(new JsonObject().put("type", "text").put("text", "Error: " + err.getMessage())))
+        .setIsError(true))
+      );
+  }
+
   /**
    * Adds a structured tool handler with just name and schema information.
    *
@@ -242,6 +303,35 @@ public class ToolServerFeature extends ServerFeatureBase {
     unstructuredTools.put(handler.name(), handler);
   }
 
+  /**
+   * Adds a raw tool handler, returning an encoded result written as is in the response.
+   *
+   * @param name the tool name
+   * @param inputSchema the input schema
+   * @param outputSchema the output schema of the encoded structured content, or {@code null} when the handler returns UTF-8 text
+   * @param handler the handler function
+   */
+  public void addRawTool(String name, ObjectSchemaBuilder inputSchema, ObjectSchemaBuilder outputSchema, Function<JsonObject, Future<Buffer>> handler) {
+    this.addRawTool(RawToolHandler.create(name, inputSchema, outputSchema, handler));
+  }
+
+  /**
+   * Adds a raw tool handler.
+   *
+   * @param handler the raw tool handler
+   * @throws IllegalArgumentException if the handler is null or has an invalid name
+   */
+  public void addRawTool(RawToolHandler handler) {
+    if (handler == null) {
+      throw new IllegalArgumentException("Handler must not be null");
+    }
+    if (handler.name() == null || handler.name().isEmpty()) {
+      throw new IllegalArgumentException("Tool name must not be null or empty");
+    }
+
+    rawTools.put(handler.name(), handler);
+  }
+
   /**
    * Retrieves a list of structured tool handlers managed by this feature.
    *
@@ -259,4 +349,13 @@ public class ToolServerFeature extends ServerFeatureBase {
   public List<UnstructuredToolHandler> unstructuredTools() {
     return new ArrayList<>(this.unstructuredTools.values());
   }
+
+  /**
+   * Retrieves a list of raw tool handlers managed by this feature.
+   *
+   * @return a list of {@link RawToolHandler} instances representing the raw tools.
+   */
+  public List<RawToolHandler> rawTools() {
+    return new ArrayList<>(this.rawTools.values());
+  }
 }
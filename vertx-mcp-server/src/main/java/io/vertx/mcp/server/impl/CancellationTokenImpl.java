@@ -0,0 +1,55 @@
+package io.vertx.mcp.server.impl;
+
+import io.vertx.core.Handler;
+import io.vertx.mcp.server.CancellationToken;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CancellationTokenImpl implements CancellationToken {
+
+  private volatile boolean cancelled;
+  private List<Handler<Void>> handlers;
+
+  @Override
+  public boolean isCancelled() {
+    return cancelled;
+  }
+
+  @Override
+  public void onCancel(Handler<Void> handler) {
+    synchronized (this) {
+      if (!cancelled) {
+        if (handlers == null) {
+          handlers = new ArrayList<>(1);
+        }
+        handlers.add(handler);
+        return;
+      }
+    }
+    handler.handle(null);
+  }
+
+  /**
+   * Cancels the request and calls the registered handlers.
+   *
+   * @return {@code true} if this call cancelled the request
+   */
+  public boolean cancel() {
+    List<Handler<Void>> toCall;
+    synchronized (this) {
+      if (cancelled) {
+        return false;
+      }
+      cancelled = true;
+      toCall = handlers;
+      handlers = null;
+    }
+    if (toCall != null) {
+      for (Handler<Void> handler : toCall) {
+        handler.handle(null);
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,77 @@
+package io.vertx.mcp.server.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.common.notification.Notification;
+import io.vertx.mcp.common.rpc.JsonCodec;
+import io.vertx.mcp.common.rpc.JsonNotification;
+import io.vertx.mcp.server.ServerNotification;
+
+/**
+ * A notification published to the sessions on the {@link io.vertx.mcp.server.SessionManager#NOTIFICATION_ADDRESS notification address}, encoded once by the publisher: the
+ * sessions write the encoded JSON-RPC notification as is, instead of encoding it again for each session.
+ * <p>
+ * Instances are immutable, so a single instance is safely handed over to all the consumers of the address within the JVM; the encoded bytes must not be modified.
+ */
+public final class EncodedNotification {
+
+  private final String method;
+  private final Buffer encoded;
+  private final boolean broadcast;
+
+  EncodedNotification(String method, Buffer encoded, boolean broadcast) {
+    this.method = method;
+    this.encoded = encoded;
+    this.broadcast = broadcast;
+  }
+
+  /**
+   * @param notification the notification
+   * @param broadcast whether the notification is sent to all the sessions
+   * @return the encoded notification
+   */
+  public static EncodedNotification encode(Notification notification, boolean broadcast) {
+    return encode(notification.toNotification(), broadcast);
+  }
+
+  /**
+   * @param notification the JSON-RPC notification
+   * @param broadcast whether the notification is sent to all the sessions
+   * @return the encoded notification
+   */
+  public static EncodedNotification encode(JsonNotification notification, boolean broadcast) {
+    return new EncodedNotification(notification.getMethod(), notification.toJson().toBuffer(), broadcast);
+  }
+
+  /**
+   * @param notification a notification published in its JSON form
+   * @return the encoded notification, or {@code null} when it carries no notification
+   */
+  public static EncodedNotification encode(ServerNotification notification) {
+    JsonObject json = notification.getNotification();
+    return json != null ? encode(new JsonNotification(json), notification.isBroadcast()) : null;
+  }
+
+  public String method() {
+    return method;
+  }
+
+  /**
+   * @return the encoded JSON-RPC notification
+   */
+  public Buffer encoded() {
+    return encoded;
+  }
+
+  public boolean isBroadcast() {
+    return broadcast;
+  }
+
+  /**
+   * @return a new instance of the notification decoded from its encoded form
+   */
+  public Notification decode() {
+    JsonNotification notification = new JsonNotification(new JsonObject(encoded));
+    return JsonCodec.decodeNotification(notification.getMethod(), notification.getNamedParams());
+  }
+}
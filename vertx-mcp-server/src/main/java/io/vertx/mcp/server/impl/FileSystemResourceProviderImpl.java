@@ -0,0 +1,296 @@
+package io.vertx.mcp.server.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.mcp.common.resources.BinaryResourceContent;
+import io.vertx.mcp.common.resources.Resource;
+import io.vertx.mcp.common.resources.TextResourceContent;
+import io.vertx.mcp.server.FileSystemResourceProvider;
+import io.vertx.mcp.server.ResourceStream;
+import io.vertx.mcp.server.feature.ResourceServerFeature;
+
+import java.io.IOException;
+import java.net.URLConnection;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class FileSystemResourceProviderImpl implements FileSystemResourceProvider {
+
+  private static final Logger LOGGER = Logger.getLogger(FileSystemResourceProviderImpl.class.getName());
+
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+  private static final Set<String> TEXT_EXTENSIONS = Set.of(
+    "txt", "md", "adoc", "rst", "csv", "log", "json", "xml", "yaml", "yml", "toml", "properties", "html", "css", "js", "ts", "java", "kt", "scala", "groovy", "py", "rb", "go", "rs",
+    "c", "h", "cpp", "hpp", "cs", "sh", "sql", "gradle"
+  );
+
+  private final Vertx vertx;
+  private final Path root;
+  private final String uriPrefix;
+  private final boolean watch;
+  private final Map<WatchKey, Path> watchedDirs = new ConcurrentHashMap<>();
+  private volatile WatchService watchService;
+  private volatile ResourceServerFeature feature;
+
+  public FileSystemResourceProviderImpl(Vertx vertx, Path root, String uriPrefix, boolean watch) {
+    this.vertx = vertx;
+    this.root = root.toAbsolutePath().normalize();
+    this.uriPrefix = uriPrefix;
+    this.watch = watch;
+  }
+
+  @Override
+  public String uri() {
+    return uriPrefix + "{+path}";
+  }
+
+  @Override
+  public String name() {
+    return root.getFileName() != null ? root.getFileName().toString() : root.toString();
+  }
+
+  @Override
+  public String title() {
+    return null;
+  }
+
+  @Override
+  public String description() {
+    return "Files under " + root;
+  }
+
+  @Override
+  public Path root() {
+    return root;
+  }
+
+  @Override
+  public String uriOf(Path file) {
+    Path relative = root.relativize(file.toAbsolutePath().normalize());
+    StringBuilder uri = new StringBuilder(uriPrefix);
+    for (int i = 0; i < relative.getNameCount(); i++) {
+      if (i > 0) {
+        uri.append('/');
+      }
+      uri.append(URLEncoder.encode(relative.getName(i).toString(), StandardCharsets.UTF_8).replace("+", "%20"));
+    }
+    return uri.toString();
+  }
+
+  @Override
+  public Future<ResourceStream> apply(Map<String, String> params) {
+    String relative = params.get("path");
+    Path file = relative == null ? null : root.resolve(relative).normalize();
+    if (file == null || !file.startsWith(root) || file.equals(root)) {
+      return Future.failedFuture("Resource not found: " + uriPrefix + relative);
+    }
+
+    return vertx.executeBlocking(() -> {
+        // A symbolic link under the root can point anywhere on disk, the file it resolves to must be under the root as well
+        Path real = file.toRealPath();
+        return real.startsWith(root.toRealPath()) && Files.isRegularFile(real) ? real : null;
+      }, false)
+      .recover(err -> Future.succeededFuture())
+      .compose(real -> {
+        if (real == null) {
+          return Future.failedFuture("Resource not found: " + uriOf(file));
+        }
+        return vertx.fileSystem().open(real.toString(), new OpenOptions().setRead(true).setWrite(false).setCreate(false));
+      })
+      .map(asyncFile -> new ResourceStream(asyncFile.setReadBufferSize(READ_BUFFER_SIZE))
+        .setUri(uriOf(file))
+        .setMimeType(mimeTypeOf(file))
+        .setText(isText(file)));
+  }
+
+  @Override
+  public Future<List<Resource>> listResources() {
+    return vertx.executeBlocking(() -> {
+      List<Resource> resources = new ArrayList<>();
+      if (!Files.isDirectory(root)) {
+        return resources;
+      }
+      Files.walkFileTree(root, new SimpleFileVisitor<>() {
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+          if (attrs.isRegularFile()) {
+            Resource resource = isText(file) ? new TextResourceContent() : new BinaryResourceContent();
+            resource.setUri(uriOf(file)).setName(root.relativize(file).toString()).setMimeType(mimeTypeOf(file));
+            resources.add(resource);
+          }
+          return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException exc) {
+          return FileVisitResult.CONTINUE;
+        }
+      });
+      return resources;
+    }, false);
+  }
+
+  @Override
+  public void init(ResourceServerFeature feature) {
+    this.feature = feature;
+    if (watch && watchService == null) {
+      startWatching();
+    }
+  }
+
+  @Override
+  public void close() {
+    WatchService service = watchService;
+    watchService = null;
+    if (service != null) {
+      try {
+        service.close();
+      } catch (IOException e) {
+        LOGGER.log(Level.FINE, "Failed to close the watch service of " + root, e);
+      }
+    }
+    watchedDirs.clear();
+  }
+
+  private void startWatching() {
+    try {
+      watchService = FileSystems.getDefault().newWatchService();
+      registerTree(root);
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Unable to watch " + root + ", resource changes will not be notified", e);
+      close();
+      return;
+    }
+    Thread thread = new Thread(this::watchLoop, "vertx-mcp-fs-watcher-" + name());
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private void registerTree(Path dir) throws IOException {
+    WatchService service = watchService;
+    if (service == null || !Files.isDirectory(dir)) {
+      return;
+    }
+    Files.walkFileTree(dir, new SimpleFileVisitor<>() {
+      @Override
+      public FileVisitResult preVisitDirectory(Path d, BasicFileAttributes attrs) throws IOException {
+        WatchKey key = d.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+        watchedDirs.put(key, d);
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult visitFileFailed(Path file, IOException exc) {
+        return FileVisitResult.CONTINUE;
+      }
+    });
+  }
+
+  private void watchLoop() {
+    while (true) {
+      WatchService service = watchService;
+      if (service == null) {
+        return;
+      }
+      WatchKey key;
+      try {
+        key = service.take();
+      } catch (InterruptedException | ClosedWatchServiceException e) {
+        return;
+      }
+
+      // Drain the events already queued so a burst of changes results in a single list_changed notification
+      Set<String> updated = new LinkedHashSet<>();
+      boolean listChanged = false;
+      while (key != null) {
+        listChanged |= processEvents(key, updated);
+        key = service.poll();
+      }
+
+      ResourceServerFeature f = feature;
+      if (f != null) {
+        for (String uri : updated) {
+          f.notifyResourceUpdated(vertx, uri);
+        }
+        if (listChanged) {
+          f.notifyResourceListChanged(vertx);
+        }
+      }
+    }
+  }
+
+  private boolean processEvents(WatchKey key, Set<String> updated) {
+    Path dir = watchedDirs.get(key);
+    boolean listChanged = false;
+    for (WatchEvent<?> event : key.pollEvents()) {
+      WatchEvent.Kind<?> kind = event.kind();
+      if (kind == StandardWatchEventKinds.OVERFLOW || dir == null) {
+        listChanged = true;
+        continue;
+      }
+      Path child = dir.resolve((Path) event.context());
+      if (kind == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(child)) {
+        try {
+          registerTree(child);
+        } catch (IOException e) {
+          LOGGER.log(Level.FINE, "Unable to watch " + child, e);
+        }
+        listChanged = true;
+        continue;
+      }
+      if (kind != StandardWatchEventKinds.ENTRY_MODIFY) {
+        listChanged = true;
+      }
+      if (!Files.isDirectory(child)) {
+        updated.add(uriOf(child));
+      }
+    }
+    if (!key.reset()) {
+      watchedDirs.remove(key);
+    }
+    return listChanged;
+  }
+
+  private static String mimeTypeOf(Path file) {
+    String fileName = file.getFileName().toString();
+    String mimeType = URLConnection.guessContentTypeFromName(fileName);
+    if (mimeType != null) {
+      return mimeType;
+    }
+    return TEXT_EXTENSIONS.contains(extensionOf(fileName)) ? "text/plain" : "application/octet-stream";
+  }
+
+  private static boolean isText(Path file) {
+    String fileName = file.getFileName().toString();
+    if (TEXT_EXTENSIONS.contains(extensionOf(fileName))) {
+      return true;
+    }
+    String mimeType = URLConnection.guessContentTypeFromName(fileName);
+    return mimeType != null && (mimeType.startsWith("text/") || mimeType.endsWith("/json") || mimeType.endsWith("/xml"));
+  }
+
+  private static String extensionOf(String fileName) {
+    int idx = fileName.lastIndexOf('.');
+    return idx < 0 ? "" : fileName.substring(idx + 1).toLowerCase();
+  }
+}
@@ -0,0 +1,133 @@
+package io.vertx.mcp.server.impl;
+
+import io.vertx.mcp.common.LoggingLevel;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable snapshot of the logging levels of a session: a root level and per-logger levels inherited along the dot separated logger name hierarchy, e.g. {@code a.b.c} inherits
+ * the level of {@code a.b}, then of {@code a}, then the root level.
+ * <p>
+ * The effective level of every configured logger and of every logger already seen is resolved when the snapshot is built, so that filtering a message is a single map lookup, and
+ * messages below the lowest configured level are rejected without any lookup.
+ */
+public final class LoggerLevels {
+
+  private static final int MAX_RESOLVED = 1024;
+
+  private final LoggingLevel root;
+  private final Map<String, LoggingLevel> configured;
+  private final Map<String, LoggingLevel> resolved = new ConcurrentHashMap<>();
+  private final LoggingLevel min;
+
+  public LoggerLevels(LoggingLevel root) {
+    this(root, Map.of(), null);
+  }
+
+  private LoggerLevels(LoggingLevel root, Map<String, LoggingLevel> configured, Collection<String> known) {
+    this.root = root;
+    this.configured = configured;
+
+    LoggingLevel lowest = root;
+    for (LoggingLevel level : configured.values()) {
+      if (level.ordinal() < lowest.ordinal()) {
+        lowest = level;
+      }
+    }
+    this.min = lowest;
+
+    for (String logger : configured.keySet()) {
+      resolved.put(logger, resolve(logger));
+    }
+    if (known != null) {
+      for (String logger : known) {
+        if (resolved.size() >= MAX_RESOLVED) {
+          break;
+        }
+        resolved.computeIfAbsent(logger, this::resolve);
+      }
+    }
+  }
+
+  /**
+   * @return the root level
+   */
+  public LoggingLevel root() {
+    return root;
+  }
+
+  /**
+   * Returns a snapshot with a different root level.
+   *
+   * @param level the root level
+   * @return the new snapshot
+   */
+  public LoggerLevels withRoot(LoggingLevel level) {
+    return new LoggerLevels(level, configured, resolved.keySet());
+  }
+
+  /**
+   * Returns a snapshot with the level of a logger and its descendants changed.
+   *
+   * @param logger the logger name
+   * @param level the level, or {@code null} to inherit the level of the parent logger again
+   * @return the new snapshot
+   */
+  public LoggerLevels with(String logger, LoggingLevel level) {
+    Map<String, LoggingLevel> copy = new HashMap<>(configured);
+    if (level != null) {
+      copy.put(logger, level);
+    } else {
+      copy.remove(logger);
+    }
+    return new LoggerLevels(root, Map.copyOf(copy), resolved.keySet());
+  }
+
+  /**
+   * @param logger the logger name, or {@code null} for the root logger
+   * @return the effective level of the logger
+   */
+  public LoggingLevel levelOf(String logger) {
+    if (logger == null || configured.isEmpty()) {
+      return root;
+    }
+    LoggingLevel level = resolved.get(logger);
+    if (level == null) {
+      level = resolve(logger);
+      if (resolved.size() < MAX_RESOLVED) {
+        resolved.put(logger, level);
+      }
+    }
+    return level;
+  }
+
+  /**
+   * @param level the level of the message
+   * @param logger the logger name, or {@code null} for the root logger
+   * @return whether the message should be sent
+   */
+  public boolean isEnabled(LoggingLevel level, String logger) {
+    if (!level.shouldLog(min)) {
+      return false;
+    }
+    return level.shouldLog(levelOf(logger));
+  }
+
+  private LoggingLevel resolve(String logger) {
+    String name = logger;
+    while (true) {
+      LoggingLevel level = configured.get(name);
+      if (level != null) {
+        return level;
+      }
+      int idx = name.lastIndexOf('.');
+      if (idx < 0) {
+        return root;
+      }
+      name = name.substring(0, idx);
+    }
+  }
+}
@@ -1,24 +1,40 @@
 package io.vertx.mcp.server.impl;
 
 import io.vertx.core.Vertx;
+import io.vertx.mcp.common.metrics.McpMetrics;
+import io.vertx.mcp.common.metrics.McpMetricsFactory;
+import io.vertx.mcp.common.notification.InitializedNotification;
+import io.vertx.mcp.common.request.InitializeRequest;
+import io.vertx.mcp.common.rpc.JsonEnvelope;
 import io.vertx.mcp.common.rpc.JsonError;
 import io.vertx.mcp.common.rpc.JsonNotification;
 import io.vertx.mcp.common.rpc.JsonRequest;
 import io.vertx.mcp.common.rpc.JsonResponse;
+import io.vertx.mcp.server.AdmissionHandler;
 import io.vertx.mcp.server.ModelContextProtocolServer;
 import io.vertx.mcp.server.ServerFeature;
 import io.vertx.mcp.server.ServerOptions;
 import io.vertx.mcp.server.ServerRequest;
+import io.vertx.mcp.server.ServerSession;
+import io.vertx.mcp.server.SessionEvent;
+import io.vertx.mcp.server.SessionLifecycleHandler;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class ModelContextProtocolServerImpl implements ModelContextProtocolServer {
 
+  private static final Logger LOGGER = Logger.getLogger(ModelContextProtocolServerImpl.class.getName());
+
   private final Vertx vertx;
   private final List<ServerFeature> features = new ArrayList<>();
+  private final List<AdmissionHandler> admissionHandlers = new CopyOnWriteArrayList<>();
+  private final List<SessionLifecycleHandler> sessionLifecycleHandlers = new CopyOnWriteArrayList<>();
   private final ServerOptions options;
+  private final McpMetrics metrics;
 
   /**
    * Creates a new MCP server instance with default options.
@@ -35,6 +51,9 @@ public class ModelContextProtocolServerImpl implements ModelContextProtocolServe
   public ModelContextProtocolServerImpl(Vertx vertx, ServerOptions options) {
     this.vertx = vertx;
     this.options = options;
+    this.metrics = McpMetricsFactory.serverMetrics(vertx);
+    // Features publish their notifications as soon as they are added
+    ServerNotificationCodec.register(vertx);
   }
 
   @Override
@@ -44,24 +63,130 @@ public class ModelContextProtocolServerImpl implements ModelContextProtocolServe
       String method = jsonRequest.getMethod();
       boolean isNotification = jsonRequest instanceof JsonNotification;
 
-      Optional<ServerFeature> feature = features.stream().filter(f -> f.hasCapability(method)).findFirst();
+      if (isNotification && InitializedNotification.METHOD.equals(method)) {
+        initialized(request.session());
+      }
+
+      ServerFeature feature = feature(method);
 
-      if (feature.isEmpty()) {
+      if (feature == null) {
+        if (metrics != null) {
+          metrics.requestEnd(metrics.requestBegin(McpMetrics.UNKNOWN_METHOD), McpMetrics.UNKNOWN_METHOD, JsonError.METHOD_NOT_FOUND);
+        }
         request.response().end(JsonResponse.error(jsonRequest, JsonError.methodNotFound(method)));
         return;
       }
 
       if (isNotification) {
         request.response().end();
-        feature.get().handle(request);
+        feature.handle(request);
       }
 
-      feature.get().handle(request);
+      feature.handle(request);
     } catch (Exception e) {
       request.response().end(new JsonResponse(JsonError.invalidRequest(e.getMessage()), null));
     }
   }
 
+  /**
+   * Admits a request before its params are decoded: the method must be handled by a feature, the feature admits the request when it is an {@link AdmissionHandler}, and then the
+   * admission handlers of the server.
+   *
+   * @param envelope the envelope of the request
+   * @param session the session of the request, can be null
+   * @return {@code null} when the request is admitted, otherwise the error returned to the client
+   */
+  public JsonError admit(JsonEnvelope envelope, ServerSession session) {
+    String method = envelope.getMethod();
+    ServerFeature feature = feature(method);
+
+    JsonError error;
+    if (feature == null) {
+      // The transport creates the session of an initialize request even when no feature handles it
+      error = InitializeRequest.METHOD.equals(method) ? null : JsonError.methodNotFound(method);
+    } else if (feature instanceof AdmissionHandler) {
+      error = ((AdmissionHandler) feature).admit(envelope, session);
+    } else {
+      error = null;
+    }
+    if (error == null) {
+      // Iterates a snapshot of the handlers, a handler can be added while requests are admitted on the event loops
+      for (AdmissionHandler handler : admissionHandlers) {
+        error = handler.admit(envelope, session);
+        if (error != null) {
+          break;
+        }
+      }
+    }
+
+    if (error != null && metrics != null) {
+      String metricMethod = feature != null ? method : McpMetrics.UNKNOWN_METHOD;
+      metrics.requestEnd(metrics.requestBegin(metricMethod), metricMethod, error.getCode());
+    }
+    return error;
+  }
+
+  private void initialized(ServerSession session) {
+    if (session instanceof ServerSessionImpl) {
+      sessionEvent(new SessionEvent(SessionEvent.Type.INITIALIZED, session));
+    } else if (session instanceof RemoteServerSession) {
+      // Emitted by the node owning the session
+      ((RemoteServerSession) session).initialized();
+    }
+  }
+
+  /**
+   * Dispatches a session lifecycle event to the features handling it, and then to the session lifecycle handlers of the server.
+   *
+   * @param event the event
+   */
+  public void sessionEvent(SessionEvent event) {
+    for (ServerFeature feature : features) {
+      if (feature instanceof SessionLifecycleHandler) {
+        dispatch((SessionLifecycleHandler) feature, event);
+      }
+    }
+    for (SessionLifecycleHandler handler : sessionLifecycleHandlers) {
+      dispatch(handler, event);
+    }
+  }
+
+  private void dispatch(SessionLifecycleHandler handler, SessionEvent event) {
+    try {
+      handler.handle(event);
+    } catch (Exception e) {
+      // The state of the session is still released by the other handlers
+      LOGGER.log(Level.WARNING, "Session lifecycle handler failed on " + event.type() + " of session " + event.session().id(), e);
+    }
+  }
+
+  private ServerFeature feature(String method) {
+    for (ServerFeature feature : features) {
+      if (feature.hasCapability(method)) {
+        return feature;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public ModelContextProtocolServer addAdmissionHandler(AdmissionHandler handler) {
+    if (handler == null) {
+      throw new IllegalArgumentException("Handler must not be null");
+    }
+    this.admissionHandlers.add(handler);
+    return this;
+  }
+
+  @Override
+  public ModelContextProtocolServer addSessionLifecycleHandler(SessionLifecycleHandler handler) {
+    if (handler == null) {
+      throw new IllegalArgumentException("Handler must not be null");
+    }
+    this.sessionLifecycleHandlers.add(handler);
+    return this;
+  }
+
   @Override
   public ModelContextProtocolServer addServerFeature(ServerFeature feature) {
     if (this.features.stream().anyMatch(f -> feature.getCapabilities().stream().anyMatch(f::hasCapability))) {
@@ -84,4 +209,11 @@ public class ModelContextProtocolServerImpl implements ModelContextProtocolServe
   public ServerOptions getOptions() {
     return options;
   }
+
+  /**
+   * @return the server metrics, or {@code null} when metrics are disabled
+   */
+  public McpMetrics metrics() {
+    return metrics;
+  }
 }
@@ -0,0 +1,75 @@
+package io.vertx.mcp.server.impl;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.common.capabilities.ClientCapabilities;
+import io.vertx.mcp.common.capabilities.RootsCapability;
+
+/**
+ * A snapshot of client capabilities shared by the sessions declaring the same capabilities: the setters throw {@link UnsupportedOperationException} and the getters return
+ * copies, so a session cannot change the capabilities of the other sessions.
+ */
+final class ReadOnlyClientCapabilities extends ClientCapabilities {
+
+  private final boolean readOnly;
+
+  ReadOnlyClientCapabilities(JsonObject json) {
+    super(json);
+    // The converter sets the fields through the setters
+    readOnly = true;
+  }
+
+  @Override
+  public JsonObject getExperimental() {
+    return copy(super.getExperimental());
+  }
+
+  @Override
+  public ClientCapabilities setExperimental(JsonObject experimental) {
+    checkWritable();
+    return super.setExperimental(experimental);
+  }
+
+  @Override
+  public RootsCapability getRoots() {
+    RootsCapability roots = super.getRoots();
+    return roots != null ? new RootsCapability(roots.toJson()) : null;
+  }
+
+  @Override
+  public ClientCapabilities setRoots(RootsCapability roots) {
+    checkWritable();
+    return super.setRoots(roots);
+  }
+
+  @Override
+  public JsonObject getSampling() {
+    return copy(super.getSampling());
+  }
+
+  @Override
+  public ClientCapabilities setSampling(JsonObject sampling) {
+    checkWritable();
+    return super.setSampling(sampling);
+  }
+
+  @Override
+  public JsonObject getElicitation() {
+    return copy(super.getElicitation());
+  }
+
+  @Override
+  public ClientCapabilities setElicitation(JsonObject elicitation) {
+    checkWritable();
+    return super.setElicitation(elicitation);
+  }
+
+  private void checkWritable() {
+    if (readOnly) {
+      throw new UnsupportedOperationException("The client capabilities of a session are read-only");
+    }
+  }
+
+  private static JsonObject copy(JsonObject json) {
+    return json != null ? json.copy() : null;
+  }
+}
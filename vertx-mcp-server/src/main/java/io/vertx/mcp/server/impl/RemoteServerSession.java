@@ -0,0 +1,225 @@
+package io.vertx.mcp.server.impl;
+
+import io.vertx.core.Completable;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.mcp.common.LoggingLevel;
+import io.vertx.mcp.common.capabilities.ClientCapabilities;
+import io.vertx.mcp.common.notification.LoggingMessageNotification;
+import io.vertx.mcp.common.notification.Notification;
+import io.vertx.mcp.common.request.Request;
+import io.vertx.mcp.common.rpc.JsonNotification;
+import io.vertx.mcp.common.rpc.JsonRequest;
+import io.vertx.mcp.common.rpc.JsonResponse;
+import io.vertx.mcp.server.ServerSession;
+
+/**
+ * A session owned by another node of the cluster, serving a request received by this node. The request is processed by this node, the operations needing the state of the
+ * session are forwarded to the owning node over the event bus: requests to the client, whose response is awaited by the owning node and sent back when received, changes of the logging level, and the
+ * stream of the session, relayed by the owning node to this node when the client opens it here.
+ * <p>
+ * Notifications and log messages sent while processing the request are written to the response of the request, as long as it is open.
+ */
+public class RemoteServerSession implements ServerSession {
+
+  static final String DESCRIBE = "describe";
+  static final String REQUEST = "request";
+  static final String NOTIFY = "notify";
+  static final String RESPONSE = "response";
+  static final String LEVEL = "level";
+  static final String STREAM = "stream";
+  static final String CLOSE = "close";
+  static final String INITIALIZED = "initialized";
+
+  private final SessionManagerImpl manager;
+  private final String id;
+  private final ClientCapabilities capabilities;
+  private LoggerLevels levels;
+  private WriteStream<JsonObject> stream;
+  private MessageConsumer<JsonObject> streamConsumer;
+
+  RemoteServerSession(SessionManagerImpl manager, String id, ClientCapabilities capabilities, LoggingLevel level) {
+    this.manager = manager;
+    this.id = id;
+    this.capabilities = capabilities;
+    this.levels = new LoggerLevels(level != null ? level : LoggingLevel.INFO);
+  }
+
+  /**
+   * Sets the response of the request being processed, receiving the notifications and log messages.
+   *
+   * @param stream the response
+   */
+  public void init(WriteStream<JsonObject> stream) {
+    this.stream = stream;
+  }
+
+  /**
+   * Makes a stream opened on this node the stream of the session: the owning node relays the messages of the session to this node, until the stream is closed.
+   *
+   * @param stream the stream opened by the client
+   * @return a future completed when the owning node relays the stream
+   */
+  public Future<Void> forwardStream(WriteStream<JsonObject> stream) {
+    this.stream = stream;
+    String address = manager.streamAddress();
+    MessageConsumer<JsonObject> consumer = manager.vertx().eventBus().consumer(address);
+    streamConsumer = consumer;
+    consumer.handler(message -> {
+      boolean end = message.headers().contains(RemoteSessionStream.END_HEADER);
+      Future<Void> written = end ? stream.end() : stream.write(message.body());
+      written.onComplete(ar -> {
+        if (ar.succeeded()) {
+          message.reply(null);
+          if (end) {
+            consumer.unregister();
+          }
+        } else {
+          // The stream is closed, the owning node fails to write the next messages
+          consumer.unregister();
+          message.fail(410, ar.cause().getMessage());
+        }
+      });
+    });
+    return consumer.completion()
+      .compose(v -> manager.forward(SessionManagerImpl.operation(STREAM, id).put("address", address)))
+      .onFailure(err -> consumer.unregister())
+      .mapEmpty();
+  }
+
+  /**
+   * Stops relaying the stream of the session to this node, once the client closed the stream.
+   */
+  public void streamClosed() {
+    MessageConsumer<JsonObject> consumer = streamConsumer;
+    if (consumer != null) {
+      streamConsumer = null;
+      consumer.unregister();
+    }
+  }
+
+  /**
+   * Completes a request pending on the owning node with the response received from the client.
+   *
+   * @param response the response of the client
+   * @return a future failed when no request is pending with the id of the response
+   */
+  public Future<Void> forwardResponse(JsonResponse response) {
+    return manager.forward(SessionManagerImpl.operation(RESPONSE, id).put("response", response.toJson())).mapEmpty();
+  }
+
+  @Override
+  public String id() {
+    return id;
+  }
+
+  @Override
+  public ClientCapabilities clientCapabilities() {
+    return capabilities;
+  }
+
+  @Override
+  public Future<JsonObject> sendRequest(Request request) {
+    // The owning node sends the request on the stream of the session, awaits the response and sends its result to the reply address, without any event bus timeout
+    JsonRequest jsonRequest = request.toRequest(0);
+    String address = manager.replyAddress();
+    Promise<JsonObject> promise = Promise.promise();
+    MessageConsumer<JsonObject> consumer = manager.vertx().eventBus().consumer(address);
+    consumer.handler(message -> {
+      consumer.unregister();
+      JsonObject reply = message.body();
+      if (reply.containsKey("failure")) {
+        promise.tryFail(reply.getString("failure"));
+      } else {
+        promise.tryComplete(reply.getJsonObject("result"));
+      }
+    });
+    return consumer.completion()
+      .compose(v -> manager.forward(SessionManagerImpl.operation(REQUEST, id)
+        .put("method", jsonRequest.getMethod())
+        .put("params", jsonRequest.getNamedParams())
+        .put("address", address)))
+      .onFailure(err -> {
+        consumer.unregister();
+        promise.tryFail(err);
+      })
+      .compose(v -> promise.future());
+  }
+
+  @Override
+  public Future<Void> sendNotification(Notification notification) {
+    if (isStreaming()) {
+      return stream.write(notification.toNotification().toJson());
+    }
+    JsonNotification jsonNotification = notification.toNotification();
+    return manager.forward(SessionManagerImpl.operation(NOTIFY, id).put("method", jsonNotification.getMethod()).put("params", jsonNotification.getNamedParams()))
+      .mapEmpty();
+  }
+
+  @Override
+  public LoggingLevel getLoggingLevel() {
+    return levels.root();
+  }
+
+  @Override
+  public void setLoggingLevel(LoggingLevel level) {
+    setLoggingLevel(null, level);
+  }
+
+  @Override
+  public LoggingLevel getLoggingLevel(String logger) {
+    return levels.levelOf(logger);
+  }
+
+  @Override
+  public void setLoggingLevel(String logger, LoggingLevel level) {
+    if (logger == null) {
+      if (level == null) {
+        return;
+      }
+      levels = levels.withRoot(level);
+    } else {
+      levels = levels.with(logger, level);
+    }
+    JsonObject operation = SessionManagerImpl.operation(LEVEL, id).put("logger", logger);
+    if (level != null) {
+      operation.put("level", level.getValue());
+    }
+    manager.forward(operation);
+  }
+
+  @Override
+  public void log(LoggingLevel level, String logger, Object data) {
+    if (level == null || !isStreaming() || !levels.isEnabled(level, logger)) {
+      return;
+    }
+    stream.write(new LoggingMessageNotification().setLevel(level).setLogger(logger).setData(data).toNotification().toJson());
+  }
+
+  /**
+   * Tells the owning node that the client initialized the session.
+   *
+   * @return a future completed when the owning node handled the event
+   */
+  public Future<Void> initialized() {
+    return manager.forward(SessionManagerImpl.operation(INITIALIZED, id)).mapEmpty();
+  }
+
+  @Override
+  public void close(Completable<Void> completable) {
+    manager.forward(SessionManagerImpl.operation(CLOSE, id)).<Void> mapEmpty().onComplete(completable);
+  }
+
+  @Override
+  public boolean isStreaming() {
+    return stream != null;
+  }
+
+  @Override
+  public boolean isActive() {
+    return true;
+  }
+}
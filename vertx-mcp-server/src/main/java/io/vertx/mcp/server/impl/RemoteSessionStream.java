@@ -0,0 +1,55 @@
+package io.vertx.mcp.server.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.WriteStream;
+
+/**
+ * The stream of a session opened on another node: the messages are sent over the event bus to the node holding the HTTP response, which acknowledges them once written. A
+ * write fails when the response is closed, the node no longer handling the address of the stream.
+ */
+class RemoteSessionStream implements WriteStream<JsonObject> {
+
+  static final String END_HEADER = "mcp.end";
+
+  private final Vertx vertx;
+  private final String address;
+
+  RemoteSessionStream(Vertx vertx, String address) {
+    this.vertx = vertx;
+    this.address = address;
+  }
+
+  @Override
+  public WriteStream<JsonObject> exceptionHandler(Handler<Throwable> handler) {
+    return this;
+  }
+
+  @Override
+  public Future<Void> write(JsonObject data) {
+    return vertx.eventBus().request(address, data).mapEmpty();
+  }
+
+  @Override
+  public Future<Void> end() {
+    return vertx.eventBus().request(address, null, new DeliveryOptions().addHeader(END_HEADER, "true")).mapEmpty();
+  }
+
+  @Override
+  public WriteStream<JsonObject> setWriteQueueMaxSize(int maxSize) {
+    return this;
+  }
+
+  @Override
+  public boolean writeQueueFull() {
+    return false;
+  }
+
+  @Override
+  public WriteStream<JsonObject> drainHandler(Handler<Void> handler) {
+    return this;
+  }
+}
@@ -0,0 +1,163 @@
+package io.vertx.mcp.server.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.common.Meta;
+import io.vertx.mcp.server.feature.ResourceServerFeature;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+
+/**
+ * Bounded LRU cache of encoded {@code resources/read} results keyed by resource URI. Each entry holds the encoded result bytes and a version derived from the encoded contents,
+ * so a hit is answered by splicing the bytes into a response envelope without invoking the resource handler nor encoding JSON again.
+ * <p>
+ * Concurrent misses on the same URI share a single load. An invalidation racing with a load prevents the loaded value from being stored, so content produced before an update is
+ * never served after it.
+ */
+public class ResourceCache {
+
+  /**
+   * A cached result.
+   */
+  public static class CachedResult {
+
+    private final String version;
+    private final Buffer result;
+
+    CachedResult(String version, Buffer result) {
+      this.version = version;
+      this.result = result;
+    }
+
+    /**
+     * @return the version of the content
+     */
+    public String version() {
+      return version;
+    }
+
+    /**
+     * @return the encoded {@code result} member of the response
+     */
+    public Buffer result() {
+      return result;
+    }
+  }
+
+  private final int maxEntries;
+  private final Map<String, CachedResult> entries;
+  private final Map<String, Future<CachedResult>> loading = new HashMap<>();
+  private final Map<String, Long> generations = new HashMap<>();
+  private long generation;
+
+  public ResourceCache(int maxEntries) {
+    this.maxEntries = maxEntries;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+        return size() > ResourceCache.this.maxEntries;
+      }
+    };
+  }
+
+  /**
+   * Returns the cached entry for a URI, loading it when absent.
+   *
+   * @param uri the resource URI
+   * @param loader computes the encoded {@code contents} array (which must not depend on the request) on a miss
+   * @return a future resolving to the entry
+   */
+  public Future<CachedResult> get(String uri, Supplier<Future<Buffer>> loader) {
+    Promise<CachedResult> promise;
+    long gen;
+    synchronized (this) {
+      CachedResult entry = entries.get(uri);
+      if (entry != null) {
+        return Future.succeededFuture(entry);
+      }
+      Future<CachedResult> pending = loading.get(uri);
+      if (pending != null) {
+        return pending;
+      }
+      promise = Promise.promise();
+      loading.put(uri, promise.future());
+      gen = ++generation;
+      generations.put(uri, gen);
+    }
+
+    Future<Buffer> loaded;
+    try {
+      loaded = loader.get();
+    } catch (Exception e) {
+      loaded = Future.failedFuture(e);
+    }
+    loaded.onComplete(ar -> {
+      CachedResult entry = ar.succeeded() ? entry(ar.result()) : null;
+      synchronized (this) {
+        // Only a load that has not been invalidated (nor superseded by a load started after an invalidation) may be stored
+        loading.remove(uri, promise.future());
+        if (generations.remove(uri, gen) && entry != null) {
+          entries.put(uri, entry);
+        }
+      }
+      if (entry != null) {
+        promise.complete(entry);
+      } else {
+        promise.fail(ar.cause());
+      }
+    });
+    return promise.future();
+  }
+
+  /**
+   * Evicts a URI, a load in progress for it will not be stored.
+   *
+   * @param uri the resource URI
+   */
+  public synchronized void invalidate(String uri) {
+    entries.remove(uri);
+    generations.remove(uri);
+    loading.remove(uri);
+  }
+
+  /**
+   * @return the number of cached entries
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Builds the encoded result telling a client that its copy of a resource is still current.
+   *
+   * @param version the current version
+   * @return the encoded result
+   */
+  public static Buffer unchanged(String version) {
+    return Buffer.buffer("{\"contents\":[],\"" + Meta.META_KEY + "\":" + new JsonObject()
+      .put(ResourceServerFeature.VERSION_META_KEY, version)
+      .put(ResourceServerFeature.UNCHANGED_META_KEY, true)
+      .encode() + "}");
+  }
+
+  private static CachedResult entry(Buffer contents) {
+    CRC32C crc = new CRC32C();
+    crc.update(contents.getBytes());
+    String version = Long.toHexString(((long) contents.length() << 32) | crc.getValue());
+
+    String meta = new JsonObject().put(ResourceServerFeature.VERSION_META_KEY, version).encode();
+    Buffer result = Buffer.buffer(contents.length() + meta.length() + 32)
+      .appendString("{\"contents\":")
+      .appendBuffer(contents)
+      .appendString(",\"" + Meta.META_KEY + "\":")
+      .appendString(meta)
+      .appendByte((byte) '}');
+    return new CachedResult(version, result);
+  }
+}
@@ -0,0 +1,197 @@
+package io.vertx.mcp.server.impl;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.mcp.common.rpc.JsonProtocol;
+import io.vertx.mcp.server.ResourceStream;
+
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Encodes a {@link ResourceStream} into the bytes of a complete {@code resources/read} JSON-RPC response while the content flows. Binary content is base64 encoded incrementally,
+ * carrying over at most two bytes between chunks so that every emitted chunk is a valid base64 fragment; text content is JSON escaped byte by byte, which is safe for UTF-8 since
+ * multi-byte sequences never contain ASCII bytes. Flow control ({@link #pause()}, {@link #resume()}, {@link #fetch(long)}) is delegated to the content stream.
+ */
+public class ResourceContentStream implements ReadStream<Buffer> {
+
+  private static final Base64.Encoder BASE64 = Base64.getEncoder();
+  private static final byte[] HEX = "0123456789abcdef".getBytes();
+  private static final Buffer TAIL = Buffer.buffer("\"}]}}");
+
+  private final ReadStream<Buffer> content;
+  private final boolean text;
+  private Buffer head;
+  private byte[] carry = new byte[0];
+  private Handler<Buffer> handler;
+  private Handler<Void> endHandler;
+
+  public ResourceContentStream(Object requestId, String uri, ResourceStream resource) {
+    this.content = resource.getContent();
+    this.text = resource.isText();
+    this.head = head(requestId, uri, resource, text);
+  }
+
+  private static Buffer head(Object requestId, String uri, ResourceStream resource, boolean text) {
+    JsonObject contents = new JsonObject().put("uri", resource.getUri() != null ? resource.getUri() : uri);
+    if (resource.getMimeType() != null) {
+      contents.put("mimeType", resource.getMimeType());
+    }
+    if (resource.getMeta() != null) {
+      contents.put("_meta", resource.getMeta());
+    }
+    String encoded = contents.encode();
+
+    return Buffer.buffer(encoded.length() + 64)
+      .appendString("{\"" + JsonProtocol.JSONRPC_FIELD + "\":\"" + JsonProtocol.JSONRPC_VERSION + "\",\"" + JsonProtocol.ID_FIELD + "\":")
+      .appendString(Json.encode(requestId))
+      .appendString(",\"" + JsonProtocol.RESULT_FIELD + "\":{\"contents\":[")
+      .appendString(encoded.substring(0, encoded.length() - 1))
+      .appendString(text ? ",\"text\":\"" : ",\"blob\":\"");
+  }
+
+  @Override
+  public ResourceContentStream exceptionHandler(Handler<Throwable> handler) {
+    content.exceptionHandler(handler);
+    return this;
+  }
+
+  @Override
+  public ResourceContentStream handler(Handler<Buffer> handler) {
+    this.handler = handler;
+    if (handler == null) {
+      content.handler(null);
+    } else {
+      content.handler(this::handleChunk);
+    }
+    return this;
+  }
+
+  @Override
+  public ResourceContentStream pause() {
+    content.pause();
+    return this;
+  }
+
+  @Override
+  public ResourceContentStream resume() {
+    content.resume();
+    return this;
+  }
+
+  @Override
+  public ResourceContentStream fetch(long amount) {
+    content.fetch(amount);
+    return this;
+  }
+
+  @Override
+  public ResourceContentStream endHandler(Handler<Void> endHandler) {
+    this.endHandler = endHandler;
+    if (endHandler == null) {
+      content.endHandler(null);
+    } else {
+      content.endHandler(v -> handleEnd());
+    }
+    return this;
+  }
+
+  private void handleChunk(Buffer chunk) {
+    Buffer encoded = text ? escape(chunk) : encode(chunk);
+    emit(encoded);
+  }
+
+  private void handleEnd() {
+    Buffer last = Buffer.buffer(8);
+    if (carry.length > 0) {
+      last.appendBytes(BASE64.encode(carry));
+      carry = new byte[0];
+    }
+    emit(last.appendBuffer(TAIL));
+    Handler<Void> h = endHandler;
+    if (h != null) {
+      h.handle(null);
+    }
+  }
+
+  private void emit(Buffer buffer) {
+    if (head != null) {
+      buffer = head.appendBuffer(buffer);
+      head = null;
+    }
+    Handler<Buffer> h = handler;
+    if (h != null && buffer.length() > 0) {
+      h.handle(buffer);
+    }
+  }
+
+  private Buffer encode(Buffer chunk) {
+    int total = carry.length + chunk.length();
+    int aligned = total - total % 3;
+    byte[] bytes = new byte[total];
+    System.arraycopy(carry, 0, bytes, 0, carry.length);
+    chunk.getBytes(bytes, carry.length);
+
+    byte[] remaining = new byte[total - aligned];
+    System.arraycopy(bytes, aligned, remaining, 0, remaining.length);
+    carry = remaining;
+
+    if (aligned == 0) {
+      return Buffer.buffer(0);
+    }
+    byte[] slice = aligned == total ? bytes : Arrays.copyOf(bytes, aligned);
+    return Buffer.buffer(BASE64.encode(slice));
+  }
+
+  private static Buffer escape(Buffer chunk) {
+    int length = chunk.length();
+    Buffer escaped = Buffer.buffer(length + 16);
+    int start = 0;
+    for (int i = 0; i < length; i++) {
+      byte b = chunk.getByte(i);
+      if (b != '"' && b != '\\' && (b & 0xFF) >= 0x20) {
+        continue;
+      }
+      if (i > start) {
+        escaped.appendBuffer(chunk, start, i - start);
+      }
+      start = i + 1;
+      switch (b) {
+        case '"':
+          escaped.appendString("\\\"");
+          break;
+        case '\\':
+          escaped.appendString("\\\\");
+          break;
+        case '\n':
+          escaped.appendString("\\n");
+          break;
+        case '\r':
+          escaped.appendString("\\r");
+          break;
+        case '\t':
+          escaped.appendString("\\t");
+          break;
+        case '\b':
+          escaped.appendString("\\b");
+          break;
+        case '\f':
+          escaped.appendString("\\f");
+          break;
+        default:
+          escaped.appendString("\\u00").appendByte(HEX[(b >> 4) & 0xF]).appendByte(HEX[b & 0xF]);
+          break;
+      }
+    }
+    if (start == 0) {
+      return chunk;
+    }
+    if (start < length) {
+      escaped.appendBuffer(chunk, start, length - start);
+    }
+    return escaped;
+  }
+}
@@ -0,0 +1,172 @@
+package io.vertx.mcp.server.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.common.Meta;
+import io.vertx.mcp.common.request.InitializeRequest;
+import io.vertx.mcp.common.rpc.JsonEnvelope;
+import io.vertx.mcp.common.rpc.JsonError;
+import io.vertx.mcp.common.rpc.JsonMessageDecoder;
+import io.vertx.mcp.common.rpc.JsonRequest;
+import io.vertx.mcp.common.rpc.JsonResponse;
+import io.vertx.mcp.common.rpc.JsonResponseEncoder;
+import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.ServerRequest;
+import io.vertx.mcp.server.ServerResponse;
+import io.vertx.mcp.server.ServerSession;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A persistent connection carrying the messages of a single session in both directions, e.g. the standard streams of the process or a WebSocket. The session is created by the
+ * {@code initialize} request of the client, the responses of the client are routed to the requests of the session and its requests are dispatched to the server on a duplicate
+ * of the context of the connection. Subclasses write the messages and feed the messages received to {@link #handleMessage(Buffer)} on the context of the connection.
+ */
+public abstract class ServerConnection {
+
+  private static final Logger LOGGER = Logger.getLogger(ServerConnection.class.getName());
+
+  private final ModelContextProtocolServer server;
+  private final SessionManagerImpl sessionManager;
+  private final ContextInternal context;
+
+  private ServerSession session;
+
+  protected ServerConnection(ModelContextProtocolServer server, SessionManagerImpl sessionManager, ContextInternal context) {
+    this.server = server;
+    this.sessionManager = sessionManager;
+    this.context = context;
+  }
+
+  /**
+   * @return the context on which the messages are received
+   */
+  public ContextInternal context() {
+    return context;
+  }
+
+  /**
+   * @return the session of the connection, or {@code null} before the {@code initialize} request of the client
+   */
+  protected ServerSession session() {
+    return session;
+  }
+
+  /**
+   * Writes a message on the connection.
+   *
+   * @param message the encoded message
+   * @return a future completed once the message has been written
+   */
+  protected abstract Future<Void> write(Buffer message);
+
+  /**
+   * Creates the request of a message received on the connection.
+   */
+  protected abstract ServerRequest createRequest(ContextInternal context, JsonRequest jsonRequest);
+
+  /**
+   * Creates a response written on the connection, the stream of the session when the request ID is {@code null}.
+   */
+  protected abstract ServerResponse createResponse(ContextInternal context, Object requestId);
+
+  /**
+   * Called once the session of the connection is created, before its {@code initialize} request is dispatched.
+   */
+  protected void sessionCreated(ServerSessionImpl session) {
+  }
+
+  /**
+   * Handles a message received on the connection.
+   *
+   * @param message the message
+   */
+  public void handleMessage(Buffer message) {
+    JsonEnvelope envelope;
+    try {
+      envelope = JsonEnvelope.probe(message);
+    } catch (DecodeException e) {
+      write(JsonResponseEncoder.encode(new JsonResponse(JsonError.parseError(), null)));
+      return;
+    }
+
+    ServerSession session = this.session;
+    if (session != null && sessionManager.getSession(session.id()) == null) {
+      // Expired, the requests of the client are handled without a session
+      this.session = session = null;
+    }
+
+    if (server instanceof ModelContextProtocolServerImpl && envelope.getMethod() != null && !envelope.isResponse()) {
+      JsonError error = ((ModelContextProtocolServerImpl) server).admit(envelope, session);
+      if (error != null) {
+        // Rejected on the envelope, the params are never decoded
+        write(JsonResponseEncoder.encode(new JsonResponse(error, envelope.getId())));
+        return;
+      }
+    }
+
+    Object decoded;
+    try {
+      decoded = JsonMessageDecoder.decode(message);
+    } catch (DecodeException | IllegalArgumentException e) {
+      write(JsonResponseEncoder.encode(new JsonResponse(JsonError.invalidRequest(e.getMessage()), envelope.getId())));
+      return;
+    }
+
+    if (decoded instanceof JsonResponse) {
+      if (!(session instanceof ServerSessionImpl) || !((ServerSessionImpl) session).completeRequest((JsonResponse) decoded)) {
+        LOGGER.log(Level.FINE, "Response to an unknown request: {0}", envelope.getId());
+      }
+      return;
+    }
+
+    JsonRequest jsonRequest = (JsonRequest) decoded;
+    if (session == null && InitializeRequest.METHOD.equals(jsonRequest.getMethod())) {
+      session = createSession(jsonRequest);
+    }
+
+    ContextInternal requestContext = context.duplicate();
+    if (session != null) {
+      requestContext.put(ServerSession.MCP_SESSION_CONTEXT_KEY, session);
+    }
+    if (jsonRequest.getNamedParams() != null && !jsonRequest.getNamedParams().isEmpty()) {
+      requestContext.put(Meta.MCP_META_CONTEXT_KEY, jsonRequest.getNamedParams().getJsonObject(Meta.META_KEY, new JsonObject()));
+    }
+
+    ServerRequest request = createRequest(requestContext, jsonRequest);
+    request.init(session, createResponse(requestContext, jsonRequest.getId()));
+    requestContext.dispatch(request, server);
+  }
+
+  /**
+   * Ends the session of the connection, if any.
+   */
+  public void removeSession() {
+    ServerSession s = session;
+    session = null;
+    if (s != null) {
+      sessionManager.removeSession(s.id());
+    }
+  }
+
+  private ServerSession createSession(JsonRequest jsonRequest) {
+    InitializeRequest initialize = (InitializeRequest) jsonRequest.getRequest();
+    ServerSession session = initialize != null
+      ? sessionManager.createSession(initialize.getCapabilities(), initialize.getProtocolVersion())
+      : sessionManager.createSession(null);
+
+    // Requests and notifications of the server are written on the connection as well
+    ServerResponse stream = createResponse(context, null);
+    stream.init(session);
+    ServerSessionImpl sessionImpl = (ServerSessionImpl) session;
+    sessionImpl.init(stream);
+    sessionCreated(sessionImpl);
+
+    this.session = session;
+    return session;
+  }
+}
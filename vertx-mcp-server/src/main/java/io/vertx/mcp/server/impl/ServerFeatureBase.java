@@ -2,30 +2,53 @@ package io.vertx.mcp.server.impl;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.spi.tracing.SpanKind;
+import io.vertx.core.spi.tracing.TagExtractor;
+import io.vertx.core.spi.tracing.VertxTracer;
+import io.vertx.core.tracing.TracingPolicy;
+import io.vertx.mcp.common.Meta;
+import io.vertx.mcp.common.metrics.McpMetrics;
 import io.vertx.mcp.common.notification.Notification;
 import io.vertx.mcp.common.rpc.JsonError;
 import io.vertx.mcp.common.rpc.JsonRequest;
 import io.vertx.mcp.common.rpc.JsonResponse;
+import io.vertx.mcp.common.tracing.McpTracing;
 import io.vertx.mcp.server.ModelContextProtocolServer;
 import io.vertx.mcp.server.ServerFeature;
+import io.vertx.mcp.server.ServerOptions;
 import io.vertx.mcp.server.ServerRequest;
 import io.vertx.mcp.server.SessionManager;
 
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 public abstract class ServerFeatureBase implements ServerFeature {
 
   private Vertx vertx;
   private ModelContextProtocolServer server;
+  private McpMetrics metrics;
+  private VertxTracer<Object, Object> tracer;
+  private TracingPolicy tracingPolicy;
 
+  /**
+   * Returns the JSON-RPC methods handled by this feature. A handler future completing with {@code null} signals that the handler has ended the response itself, for instance by
+   * streaming its content.
+   *
+   * @return the handlers keyed by method name
+   */
   public abstract Map<String, BiFunction<ServerRequest, JsonRequest, Future<JsonResponse>>> getHandlers();
 
   @Override
   public void init(ModelContextProtocolServer server, Vertx vertx) {
     this.vertx = vertx;
     this.server = server;
+    this.metrics = server instanceof ModelContextProtocolServerImpl ? ((ModelContextProtocolServerImpl) server).metrics() : null;
+    this.tracer = McpTracing.tracer(vertx);
+    this.tracingPolicy = server != null ? server.getOptions().getTracingPolicy() : ServerOptions.DEFAULT_TRACING_POLICY;
   }
 
   @Override
@@ -49,13 +72,36 @@ public abstract class ServerFeatureBase implements ServerFeature {
       return;
     }
 
+    McpMetrics metrics = this.metrics;
+    Object metric = metrics != null ? metrics.requestBegin(method) : null;
+
+    VertxTracer<Object, Object> tracer = this.tracer;
+    ContextInternal context = serverRequest.context();
+    Object span = null;
+    if (tracer != null) {
+      JsonObject params = request.getNamedParams();
+      span = tracer.receiveRequest(context, SpanKind.RPC, tracingPolicy, request, method, McpTracing.extract(params != null ? params.getJsonObject(Meta.META_KEY) : null),
+        McpTracing.REQUEST_TAGS);
+    }
+    Object requestSpan = span;
+
     handler.apply(serverRequest, request).onComplete(ar -> {
+      JsonResponse response;
       if (ar.succeeded()) {
-        serverRequest.response().end(ar.result());
+        response = ar.result();
+        // A handler completing with null has already written the response itself
+        if (response != null) {
+          serverRequest.response().end(response);
+        }
       } else {
-        serverRequest.response().end(
-          JsonResponse.error(request, JsonError.internalError(ar.cause().getMessage()))
-        );
+        response = JsonResponse.error(request, JsonError.internalError(ar.cause().getMessage()));
+        serverRequest.response().end(response);
+      }
+      if (metrics != null) {
+        metrics.requestEnd(metric, method, response != null && response.getError() != null ? response.getError().getCode() : 0);
+      }
+      if (tracer != null) {
+        tracer.sendResponse(context, response, requestSpan, null, McpTracing.RESPONSE_TAGS);
       }
     });
   }
@@ -81,7 +127,7 @@ public abstract class ServerFeatureBase implements ServerFeature {
       return;
     }
 
-    vertx.eventBus().send(SessionManager.NOTIFICATION_ADDRESS, notification.toNotification().toJson());
+    vertx.eventBus().publish(SessionManager.NOTIFICATION_ADDRESS, EncodedNotification.encode(notification, true));
   }
 
   protected Vertx getVertx() {
@@ -91,4 +137,48 @@ public abstract class ServerFeatureBase implements ServerFeature {
   protected ModelContextProtocolServer getServer() {
     return server;
   }
+
+  /**
+   * Traces the execution of a handler with a child span of the request span, when the request is traced.
+   *
+   * @param serverRequest the request
+   * @param operation the operation name of the span
+   * @param target the target of the handler, e.g. the resource URI, tagged with {@code tags}
+   * @param tags the tags of the target
+   * @param handler the handler
+   * @return the result of the handler
+   */
+  protected <T> Future<T> trace(ServerRequest serverRequest, String operation, String target, TagExtractor<String> tags, Supplier<Future<T>> handler) {
+    return trace(serverRequest, operation, false, target, tags, handler);
+  }
+
+  /**
+   * Traces the execution of a handler with a child span of the request span, when the request is traced.
+   *
+   * @param serverRequest the request
+   * @param operation the operation name of the span
+   * @param namedAfterTarget whether the target follows the operation in the span name, e.g. {@code execute_tool add}, the name is only built when the request is traced
+   * @param target the target of the handler, e.g. the tool name, tagged with {@code tags}
+   * @param tags the tags of the target
+   * @param handler the handler
+   * @return the result of the handler
+   */
+  protected <T> Future<T> trace(ServerRequest serverRequest, String operation, boolean namedAfterTarget, String target, TagExtractor<String> tags, Supplier<Future<T>> handler) {
+    VertxTracer<Object, Object> tracer = this.tracer;
+    if (tracer == null) {
+      return handler.get();
+    }
+    ContextInternal context = serverRequest.context();
+    String name = namedAfterTarget ? operation + " " + target : operation;
+    Object span = tracer.sendRequest(context, SpanKind.RPC, TracingPolicy.PROPAGATE, target, name, (key, value) -> {
+    }, tags);
+    return handler.get().andThen(ar -> tracer.receiveResponse(context, null, span, ar.cause(), TagExtractor.empty()));
+  }
+
+  /**
+   * @return the metrics of the server, or {@code null} when metrics are disabled
+   */
+  protected McpMetrics metrics() {
+    return metrics;
+  }
 }
@@ -4,7 +4,6 @@ import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 import io.vertx.mcp.common.rpc.JsonNotification;
 import io.vertx.mcp.server.ServerFeatureHandler;
-import io.vertx.mcp.server.ServerNotification;
 import io.vertx.mcp.server.SessionManager;
 
 import java.util.Collection;
@@ -108,6 +107,6 @@ public class ServerFeatureStorage<T extends ServerFeatureHandler<?, ?, ?>> imple
     }
 
     JsonNotification notification = new JsonNotification(notificationMethod, new JsonObject());
-    vertx.eventBus().send(SessionManager.NOTIFICATION_ADDRESS, new ServerNotification().setNotification(notification).setBroadcast(true).toJson());
+    vertx.eventBus().publish(SessionManager.NOTIFICATION_ADDRESS, EncodedNotification.encode(notification, true));
   }
 }
@@ -0,0 +1,68 @@
+package io.vertx.mcp.server.impl;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Event bus codec of {@link EncodedNotification}. A notification delivered within the JVM is immutable and passed by reference, instead of the copy made for {@code JsonObject}
+ * bodies, so that the consumers neither copy nor encode it again. A notification sent to another node of a cluster is encoded as a flag byte followed by the length and the
+ * UTF-8 bytes of its method, and the length and the bytes of the encoded JSON-RPC notification.
+ */
+public class ServerNotificationCodec implements MessageCodec<EncodedNotification, EncodedNotification> {
+
+  public static final String NAME = "mcp-server-notification";
+
+  private static final byte BROADCAST = 1;
+
+  /**
+   * Registers the codec as the default codec of {@link EncodedNotification} on the event bus of a Vert.x instance, unless already registered.
+   *
+   * @param vertx the Vert.x instance
+   */
+  public static void register(Vertx vertx) {
+    try {
+      vertx.eventBus().registerDefaultCodec(EncodedNotification.class, new ServerNotificationCodec());
+    } catch (IllegalStateException e) {
+      // Registered by another server or session manager of the Vert.x instance
+    }
+  }
+
+  @Override
+  public void encodeToWire(Buffer buffer, EncodedNotification notification) {
+    byte[] method = notification.method().getBytes(StandardCharsets.UTF_8);
+    Buffer encoded = notification.encoded();
+    buffer.appendByte(notification.isBroadcast() ? BROADCAST : 0);
+    buffer.appendInt(method.length);
+    buffer.appendBytes(method);
+    buffer.appendInt(encoded.length());
+    buffer.appendBuffer(encoded);
+  }
+
+  @Override
+  public EncodedNotification decodeFromWire(int pos, Buffer buffer) {
+    boolean broadcast = buffer.getByte(pos) == BROADCAST;
+    int methodLength = buffer.getInt(pos + 1);
+    String method = buffer.getString(pos + 5, pos + 5 + methodLength, "UTF-8");
+    int start = pos + 9 + methodLength;
+    int length = buffer.getInt(start - 4);
+    return new EncodedNotification(method, buffer.getBuffer(start, start + length), broadcast);
+  }
+
+  @Override
+  public EncodedNotification transform(EncodedNotification notification) {
+    return notification;
+  }
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public byte systemCodecID() {
+    return -1;
+  }
+}
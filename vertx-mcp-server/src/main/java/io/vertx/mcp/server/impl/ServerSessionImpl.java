@@ -3,44 +3,154 @@ package io.vertx.mcp.server.impl;
 import io.vertx.core.Completable;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.spi.tracing.SpanKind;
+import io.vertx.core.spi.tracing.TagExtractor;
+import io.vertx.core.spi.tracing.VertxTracer;
 import io.vertx.core.streams.WriteStream;
 import io.vertx.mcp.common.LoggingLevel;
 import io.vertx.mcp.common.capabilities.ClientCapabilities;
-import io.vertx.mcp.common.notification.LoggingMessageNotification;
+import io.vertx.mcp.common.metrics.McpMetrics;
 import io.vertx.mcp.common.notification.Notification;
 import io.vertx.mcp.common.request.Request;
+import io.vertx.mcp.common.rpc.JsonRequest;
+import io.vertx.mcp.common.rpc.JsonResponse;
+import io.vertx.mcp.common.tracing.McpTracing;
+import io.vertx.mcp.server.ServerOptions;
+import io.vertx.mcp.server.ServerResponse;
 import io.vertx.mcp.server.ServerSession;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.stream.Collectors;
 
+/**
+ * A session owned by this node. Most sessions are idle listeners, so the footprint of a session is kept small: the flags and the request counter are packed into a single state
+ * word, and the pending request table and the logging pipeline are allocated when first needed, the table being released again once empty.
+ */
 public class ServerSessionImpl implements ServerSession {
 
+  private static final AtomicIntegerFieldUpdater<ServerSessionImpl> STATE = AtomicIntegerFieldUpdater.newUpdater(ServerSessionImpl.class, "state");
+  private static final int ACTIVE = 1;
+  private static final int STREAMING = 2;
+  // The transport checks the peer is alive, e.g. with WebSocket pings, the session manager does not ping it
+  private static final int KEEP_ALIVE = 4;
+  // The request counter occupies the bits above the flags
+  private static final int REQUEST_SHIFT = 3;
+  private static final int REQUEST_UNIT = 1 << REQUEST_SHIFT;
+
+  private static final LoggerLevels DEFAULT_LEVELS = new LoggerLevels(LoggingLevel.INFO);
+
   private final String id;
-  private final boolean streaming;
   private final ClientCapabilities capabilities;
-  private final AtomicInteger requestCount = new AtomicInteger(0);
-  private final AtomicBoolean active = new AtomicBoolean(true);
-  private final Map<Object, Promise<JsonObject>> pendingRequests = new ConcurrentHashMap<>();
+  private final Vertx vertx;
+  private final ServerOptions options;
+  private final McpMetrics metrics;
+
+  private volatile int state;
+  private volatile LoggerLevels levels = DEFAULT_LEVELS;
+  private volatile SessionLogger logger;
+  // Guarded by this, null when no request is pending
+  private Map<Object, Promise<JsonObject>> pendingRequests;
+  // Only accessed by the session manager sweeping its sessions
+  private long lastPing;
+  private volatile long lastAccess;
 
   private WriteStream<JsonObject> stream;
-  private LoggingLevel loggingLevel = LoggingLevel.INFO;
 
-  public ServerSessionImpl(String id, boolean streaming, ClientCapabilities capabilities) {
+  public ServerSessionImpl(Vertx vertx, ServerOptions options, McpMetrics metrics, String id, boolean streaming, ClientCapabilities capabilities) {
     this.id = id;
-    this.streaming = streaming;
     this.capabilities = capabilities;
+    this.vertx = vertx;
+    this.options = options;
+    this.metrics = metrics;
+    this.state = streaming ? ACTIVE | STREAMING : ACTIVE;
   }
 
   public void init(WriteStream<JsonObject> stream) {
     this.stream = stream;
   }
 
-  public Map<Object, Promise<JsonObject>> getPendingRequests() {
-    return pendingRequests;
+  long lastPing() {
+    return lastPing;
+  }
+
+  void lastPing(long lastPing) {
+    this.lastPing = lastPing;
+  }
+
+  long lastAccess() {
+    return lastAccess;
+  }
+
+  void lastAccess(long lastAccess) {
+    this.lastAccess = lastAccess;
+  }
+
+  /**
+   * @return the number of server-to-client requests waiting for a response
+   */
+  public synchronized int pendingRequestCount() {
+    return pendingRequests != null ? pendingRequests.size() : 0;
+  }
+
+  private void addPendingRequest(Object requestId, Promise<JsonObject> promise) {
+    synchronized (this) {
+      if (pendingRequests == null) {
+        pendingRequests = new HashMap<>(4);
+      }
+      pendingRequests.put(requestId, promise);
+    }
+    if (metrics != null) {
+      metrics.pendingRequestAdded();
+    }
+  }
+
+  /**
+   * Removes a pending server-to-client request, typically when its response is received.
+   *
+   * @param requestId the request id
+   * @return the promise of the request, or {@code null} if no request is pending with this id
+   */
+  public Promise<JsonObject> removePendingRequest(Object requestId) {
+    Promise<JsonObject> promise;
+    synchronized (this) {
+      if (pendingRequests == null) {
+        return null;
+      }
+      promise = pendingRequests.remove(requestId);
+      if (pendingRequests.isEmpty()) {
+        pendingRequests = null;
+      }
+    }
+    if (promise != null && metrics != null) {
+      metrics.pendingRequestRemoved();
+    }
+    return promise;
+  }
+
+  /**
+   * Completes a pending server-to-client request with the response received from the client.
+   *
+   * @param response the response of the client
+   * @return {@code false} if no request is pending with the id of the response
+   */
+  public boolean completeRequest(JsonResponse response) {
+    Promise<JsonObject> promise = removePendingRequest(response.getId());
+    if (promise == null) {
+      return false;
+    }
+    if (response.isSuccess()) {
+      Object result = response.getResult();
+      promise.complete(result instanceof JsonObject ? (JsonObject) result : new JsonObject());
+    } else {
+      promise.fail(new RuntimeException(response.getError().getMessage()));
+    }
+    return true;
   }
 
   @Override
@@ -55,7 +165,7 @@ public class ServerSessionImpl implements ServerSession {
 
   @Override
   public Future<JsonObject> sendRequest(Request request) {
-    if (!active.get()) {
+    if (!isActive()) {
       return Future.failedFuture("Session is not active");
     }
 
@@ -63,21 +173,33 @@ public class ServerSessionImpl implements ServerSession {
       return Future.failedFuture("Session is not streaming");
     }
 
-    int requestId = requestCount.incrementAndGet();
+    int requestId = STATE.addAndGet(this, REQUEST_UNIT) >>> REQUEST_SHIFT;
     Promise<JsonObject> promise = Promise.promise();
-    pendingRequests.put(requestId, promise);
+    addPendingRequest(requestId, promise);
 
-    this.stream.write(request.toRequest(requestId).toJson()).onFailure(err -> {
-      pendingRequests.remove(requestId);
-      promise.fail(err);
+    JsonRequest jsonRequest = request.toRequest(requestId);
+    Future<JsonObject> response = promise.future();
+    VertxTracer<Object, Object> tracer = McpTracing.tracer(vertx);
+    if (tracer != null && jsonRequest.getNamedParams() != null) {
+      // The trace context is propagated to the client in the _meta of the request
+      ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+      Object span = tracer.sendRequest(context, SpanKind.RPC, options.getTracingPolicy(), jsonRequest, jsonRequest.getMethod(), McpTracing.inject(jsonRequest.getNamedParams()),
+        McpTracing.REQUEST_TAGS);
+      response = response.andThen(ar -> tracer.receiveResponse(context, null, span, ar.cause(), TagExtractor.empty()));
+    }
+
+    this.stream.write(jsonRequest.toJson()).onFailure(err -> {
+      if (removePendingRequest(requestId) != null) {
+        promise.fail(err);
+      }
     });
 
-    return promise.future();
+    return response;
   }
 
   @Override
   public Future<Void> sendNotification(Notification notification) {
-    if (!active.get()) {
+    if (!isActive()) {
       return Future.failedFuture("Session is not active");
     }
 
@@ -88,49 +210,141 @@ public class ServerSessionImpl implements ServerSession {
     return this.stream.write(notification.toNotification().toJson());
   }
 
+  /**
+   * Sends a notification encoded once for all the sessions, written as is when the stream of the session is a {@link ServerResponse}.
+   *
+   * @param notification the encoded notification
+   * @return a future completed when the notification is written
+   */
+  public Future<Void> sendNotification(EncodedNotification notification) {
+    if (!isActive()) {
+      return Future.failedFuture("Session is not active");
+    }
+
+    if (!isStreaming()) {
+      return Future.failedFuture("Session is not streaming");
+    }
+
+    WriteStream<JsonObject> stream = this.stream;
+    return stream instanceof ServerResponse ? ((ServerResponse) stream).write(notification.encoded()) : stream.write(new JsonObject(notification.encoded()));
+  }
+
   @Override
   public LoggingLevel getLoggingLevel() {
-    return this.loggingLevel;
+    return this.levels.root();
   }
 
   @Override
   public void setLoggingLevel(LoggingLevel level) {
-    this.loggingLevel = level;
+    if (level != null) {
+      this.levels = this.levels.withRoot(level);
+    }
   }
 
   @Override
-  public void log(LoggingLevel level, String logger, Object data) {
-    if (level == null) {
+  public LoggingLevel getLoggingLevel(String logger) {
+    return this.levels.levelOf(logger);
+  }
+
+  @Override
+  public void setLoggingLevel(String logger, LoggingLevel level) {
+    if (logger == null) {
+      setLoggingLevel(level);
       return;
     }
+    this.levels = this.levels.with(logger, level);
+  }
 
-    if (!level.shouldLog(this.loggingLevel)) {
+  @Override
+  public void log(LoggingLevel level, String logger, Object data) {
+    if (level == null || !isActive() || !isStreaming() || !this.levels.isEnabled(level, logger)) {
       return;
     }
 
-    this.sendNotification(new LoggingMessageNotification().setLevel(level).setLogger(logger).setData(data));
+    logger().log(level, logger, data);
+  }
+
+  private SessionLogger logger() {
+    SessionLogger logger = this.logger;
+    if (logger == null) {
+      synchronized (this) {
+        logger = this.logger;
+        if (logger == null) {
+          logger = new SessionLogger(vertx, options, metrics, this::writeLogs);
+          this.logger = logger;
+        }
+      }
+    }
+    return logger;
+  }
+
+  private Future<Void> writeLogs(List<JsonObject> messages) {
+    if (!isActive() || !isStreaming()) {
+      return Future.failedFuture("Session is not streaming");
+    }
+
+    if (this.stream instanceof ServerResponse) {
+      return ((ServerResponse) this.stream).writeAll(messages);
+    }
+
+    return Future.all(messages.stream().map(this.stream::write).collect(Collectors.toList())).mapEmpty();
   }
 
   @Override
   public void close(Completable<Void> completable) {
-    if (active.compareAndSet(true, false)) {
+    if (!deactivate()) {
+      // Already closed
       completable.succeed();
       return;
     }
 
-    pendingRequests.values().forEach(promise -> promise.fail("Session closed"));
-    pendingRequests.clear();
+    Object[] requestIds;
+    synchronized (this) {
+      requestIds = pendingRequests != null ? pendingRequests.keySet().toArray() : new Object[0];
+    }
+    for (Object requestId : requestIds) {
+      Promise<JsonObject> promise = removePendingRequest(requestId);
+      if (promise != null) {
+        promise.fail("Session closed");
+      }
+    }
+
+    if (this.stream != null) {
+      this.stream.end().onComplete(completable);
+    } else {
+      completable.succeed();
+    }
+  }
+
+  private boolean deactivate() {
+    int current;
+    do {
+      current = state;
+      if ((current & ACTIVE) == 0) {
+        return false;
+      }
+    } while (!STATE.compareAndSet(this, current, current & ~ACTIVE));
+    return true;
+  }
+
+  /**
+   * Marks the session as kept alive by its transport, the session manager stops sending it {@code ping} requests.
+   */
+  public void keepAlive() {
+    STATE.getAndUpdate(this, current -> current | KEEP_ALIVE);
+  }
 
-    this.stream.end().onComplete(completable);
+  public boolean isKeptAlive() {
+    return (state & KEEP_ALIVE) != 0;
   }
 
   @Override
   public boolean isStreaming() {
-    return this.streaming && this.stream != null;
+    return (state & STREAMING) != 0 && this.stream != null;
   }
 
   @Override
   public boolean isActive() {
-    return active.get();
+    return (state & ACTIVE) != 0;
   }
 }
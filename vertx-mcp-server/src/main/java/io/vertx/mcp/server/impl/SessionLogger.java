@@ -0,0 +1,180 @@
+package io.vertx.mcp.server.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.common.LoggingLevel;
+import io.vertx.mcp.common.metrics.McpMetrics;
+import io.vertx.mcp.common.notification.LoggingMessageNotification;
+import io.vertx.mcp.server.ServerOptions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * The logging pipeline of a session, created on the first message logged by the session. Messages are rate limited, and appended to a bounded lock-free ring buffer by the logging threads; the buffer is flushed
+ * in batches, written at once to the session stream, when a flush interval elapses or a batch size is reached, whichever comes first.
+ * <p>
+ * Messages exceeding the rate limit or the buffer capacity are dropped, and the number of dropped messages is reported by a warning message at the next flush.
+ */
+public class SessionLogger {
+
+  /**
+   * The logger name of the messages reporting dropped messages.
+   */
+  public static final String LOGGER_NAME = "io.vertx.mcp";
+
+  private final Vertx vertx;
+  private final McpMetrics metrics;
+  private final Function<List<JsonObject>, Future<Void>> sink;
+  private final AtomicReferenceArray<JsonObject> ring;
+  private final int mask;
+  private final int batchSize;
+  private final long flushIntervalMs;
+
+  // Producers claim slots by incrementing the tail, the single flusher advances the head
+  private final AtomicLong tail = new AtomicLong();
+  private final AtomicLong head = new AtomicLong();
+  private final AtomicBoolean timerPending = new AtomicBoolean();
+  private final AtomicBoolean flushPending = new AtomicBoolean();
+  private final AtomicBoolean flushing = new AtomicBoolean();
+  private final AtomicLong dropped = new AtomicLong();
+
+  // Generic cell rate algorithm: the theoretical arrival time of the next message, in nanoseconds
+  private final AtomicLong arrival = new AtomicLong(Long.MIN_VALUE);
+  private final long emissionInterval;
+  private final long burstTolerance;
+
+  public SessionLogger(Vertx vertx, ServerOptions options, McpMetrics metrics, Function<List<JsonObject>, Future<Void>> sink) {
+    this.vertx = vertx;
+    this.metrics = metrics;
+    this.sink = sink;
+    int capacity = Integer.highestOneBit(Math.max(1, options.getLogBufferSize() - 1)) << 1;
+    this.ring = new AtomicReferenceArray<>(capacity);
+    this.mask = capacity - 1;
+    this.batchSize = Math.min(options.getLogBatchSize(), capacity);
+    this.flushIntervalMs = options.getLogFlushIntervalMs();
+    int rate = options.getLogRateLimit();
+    this.emissionInterval = rate > 0 ? TimeUnit.SECONDS.toNanos(1) / rate : 0;
+    this.burstTolerance = emissionInterval * (rate - 1);
+  }
+
+  /**
+   * Logs a message, already filtered by the levels of the session.
+   *
+   * @param level the level
+   * @param logger the logger name, can be null
+   * @param data the message data
+   * @return whether the message was accepted
+   */
+  public boolean log(LoggingLevel level, String logger, Object data) {
+    if (!acquire()) {
+      dropped.incrementAndGet();
+      return false;
+    }
+
+    long slot;
+    do {
+      slot = tail.get();
+      if (slot - head.get() >= ring.length()) {
+        dropped.incrementAndGet();
+        return false;
+      }
+    } while (!tail.compareAndSet(slot, slot + 1));
+    ring.set((int) slot & mask, notification(level, logger, data));
+    if (metrics != null) {
+      metrics.messagesQueued(1);
+    }
+
+    if (slot + 1 - head.get() >= batchSize) {
+      if (flushPending.compareAndSet(false, true)) {
+        vertx.runOnContext(v -> flush());
+      }
+    } else if (timerPending.compareAndSet(false, true)) {
+      if (flushIntervalMs > 0) {
+        vertx.setTimer(flushIntervalMs, id -> flush());
+      } else {
+        vertx.runOnContext(v -> flush());
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Writes the buffered messages to the session.
+   */
+  public void flush() {
+    if (!flushing.compareAndSet(false, true)) {
+      // The running flush reschedules itself when messages remain
+      return;
+    }
+    List<JsonObject> batch;
+    try {
+      // Cleared before draining so that a message published after the drain schedules another flush
+      timerPending.set(false);
+      flushPending.set(false);
+
+      long h = head.get();
+      long t = tail.get();
+      batch = new ArrayList<>((int) Math.min(t - h + 1, ring.length() + 1));
+      while (h < t) {
+        int idx = (int) h & mask;
+        JsonObject message = ring.get(idx);
+        if (message == null) {
+          // Slot claimed but not yet published, its producer schedules the next flush
+          break;
+        }
+        ring.set(idx, null);
+        batch.add(message);
+        h++;
+      }
+      head.set(h);
+      if (metrics != null && !batch.isEmpty()) {
+        metrics.messagesDequeued(batch.size());
+      }
+
+      long count = dropped.getAndSet(0);
+      if (count > 0) {
+        batch.add(notification(LoggingLevel.WARNING, LOGGER_NAME, "Dropped " + count + " log messages"));
+      }
+    } finally {
+      flushing.set(false);
+    }
+
+    if (!batch.isEmpty()) {
+      sink.apply(batch);
+    }
+    long remaining = tail.get() - head.get();
+    if (remaining >= batchSize && flushPending.compareAndSet(false, true)) {
+      vertx.runOnContext(v -> flush());
+    } else if (remaining > 0 && timerPending.compareAndSet(false, true)) {
+      vertx.setTimer(Math.max(1, flushIntervalMs), id -> flush());
+    }
+  }
+
+  private boolean acquire() {
+    if (emissionInterval == 0) {
+      return true;
+    }
+    long now = System.nanoTime();
+    while (true) {
+      long tat = arrival.get();
+      long next = Math.max(tat == Long.MIN_VALUE ? now : tat, now);
+      if (next - now > burstTolerance) {
+        return false;
+      }
+      if (arrival.compareAndSet(tat, next + emissionInterval)) {
+        return true;
+      }
+    }
+  }
+
+  private static JsonObject notification(LoggingLevel level, String logger, Object data) {
+    return new LoggingMessageNotification().setLevel(level).setLogger(logger).setData(data).toNotification().toJson();
+  }
+}
@@ -1,77 +1,317 @@
 package io.vertx.mcp.server.impl;
 
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
 import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.common.LoggingLevel;
 import io.vertx.mcp.common.capabilities.ClientCapabilities;
-import io.vertx.mcp.common.notification.Notification;
+import io.vertx.mcp.common.metrics.McpMetrics;
 import io.vertx.mcp.common.request.PingRequest;
 import io.vertx.mcp.common.rpc.JsonCodec;
-import io.vertx.mcp.common.rpc.JsonNotification;
+import io.vertx.mcp.common.rpc.JsonResponse;
 import io.vertx.mcp.server.ServerNotification;
 import io.vertx.mcp.server.ServerOptions;
 import io.vertx.mcp.server.ServerSession;
+import io.vertx.mcp.server.SessionEvent;
+import io.vertx.mcp.server.SessionLifecycleHandler;
 import io.vertx.mcp.server.SessionManager;
 
+import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.Map;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+/**
+ * The session manager of a node. The ID of a session is tagged with the ID of the node owning the session, e.g. {@code Xk2fQ3aB.Vd8...}, so that requests of a session received
+ * by another node of a cluster are served with a {@link RemoteServerSession}, forwarding the operations of the session to the owning node over the event bus.
+ */
 public class SessionManagerImpl implements SessionManager {
 
+  private static final Logger LOGGER = Logger.getLogger(SessionManagerImpl.class.getName());
+
+  /**
+   * Prefix of the event bus address of a node, receiving the operations on the sessions the node owns.
+   */
+  public static final String NODE_ADDRESS_PREFIX = "io.vertx.mcp.server.node.";
+
+  private static final String STREAM_ADDRESS_PREFIX = "io.vertx.mcp.server.stream.";
+  private static final String REPLY_ADDRESS_PREFIX = "io.vertx.mcp.server.reply.";
+  private static final char NODE_SEPARATOR = '.';
+  private static final int SESSION_ID_SIZE = 16;
+  private static final int MAX_INTERNED_CAPABILITIES = 256;
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  // UUID.randomUUID() shares a single SecureRandom between all the threads creating sessions
+  private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(SecureRandom::new);
+
   private final Vertx vertx;
   private final ServerOptions options;
-  private final Map<String, Long> sessionLastPing = new ConcurrentHashMap<>();
+  private final McpMetrics metrics;
+  private final SessionLifecycleHandler lifecycleHandler;
+  private final String nodeId;
+  private final AtomicLong addressCount = new AtomicLong();
   private final Map<String, ServerSession> sessions = new ConcurrentHashMap<>();
+  // Clients of a deployment mostly declare the same capabilities, sessions share a single read-only instance of each declaration, keyed by its encoded JSON
+  private final Map<String, ClientCapabilities> capabilities = new ConcurrentHashMap<>();
 
   public SessionManagerImpl(Vertx vertx, ServerOptions options) {
+    this(vertx, options, null);
+  }
+
+  public SessionManagerImpl(Vertx vertx, ServerOptions options, McpMetrics metrics) {
+    this(vertx, options, metrics, null);
+  }
+
+  public SessionManagerImpl(Vertx vertx, ServerOptions options, McpMetrics metrics, SessionLifecycleHandler lifecycleHandler) {
     this.vertx = vertx;
     this.options = options;
+    this.metrics = metrics;
+    this.lifecycleHandler = lifecycleHandler;
+    this.nodeId = randomId(6);
 
-    // Register event bus consumer for notifications
-    this.vertx.eventBus().<JsonObject> consumer(NOTIFICATION_ADDRESS, message -> {
-      String sessionId = message.headers().get("Mcp-Session-Id");
-
-      ServerNotification notification = new ServerNotification(message.body());
-      if (notification.getNotification() == null) {
+    // Register event bus consumer for notifications, published to every node
+    ServerNotificationCodec.register(vertx);
+    this.vertx.eventBus().consumer(NOTIFICATION_ADDRESS, message -> {
+      EncodedNotification notification = notification(message.body());
+      if (notification == null) {
         return;
       }
 
-      JsonNotification jsonNotification = new JsonNotification(notification.getNotification());
-      Notification decodedNotification = JsonCodec.decodeNotification(jsonNotification.getMethod(), jsonNotification.getNamedParams());
-
-      if (!notification.isBroadcast() && sessionId != null) {
-        sessions.values().stream().filter(session -> session.id().equals(sessionId)).forEach(session -> session.sendNotification(decodedNotification));
+      String sessionId = message.headers().get("Mcp-Session-Id");
+      if (!notification.isBroadcast()) {
+        if (sessionId == null) {
+          LOGGER.log(Level.WARNING, "Ignoring notification {0} published to no session", notification.method());
+          return;
+        }
+        // Only the node owning the session delivers the notification
+        ServerSession session = sessions.get(sessionId);
+        if (session != null) {
+          if (metrics != null) {
+            metrics.notificationSent(notification.method());
+          }
+          sendNotification(session, notification);
+        }
         return;
-      } else if (!notification.isBroadcast()) {
-        throw new IllegalStateException("Notification must be sent to a specific session");
       }
 
-      sendNotification(decodedNotification);
+      if (metrics != null) {
+        metrics.notificationSent(notification.method());
+      }
+      for (ServerSession session : sessions.values()) {
+        sendNotification(session, notification);
+      }
     });
 
+    this.vertx.eventBus().<JsonObject> consumer(nodeAddress(nodeId), this::handleRemoteOperation);
+
+    // A single sweep pings the sessions and expires the unused ones, instead of a timer per session
     this.vertx.setPeriodic(1000, (timerId) -> {
-      for (Map.Entry<String, ServerSession> entry : sessions.entrySet()) {
-        String sessionId = entry.getKey();
-        ServerSession session = entry.getValue();
-        long lastPing = sessionLastPing.getOrDefault(sessionId, 0L);
+      long now = System.currentTimeMillis();
+      long timeoutMs = options.getSessionTimeoutMs();
+      for (ServerSession session : sessions.values()) {
+        ServerSessionImpl sessionImpl = (ServerSessionImpl) session;
+        if (!session.isActive() || (timeoutMs > 0 && now - sessionImpl.lastAccess() > timeoutMs)) {
+          // A session closed directly is removed too
+          if (sessions.remove(session.id(), session)) {
+            end(session, session.isActive() ? SessionEvent.Type.EXPIRED : SessionEvent.Type.CLOSED);
+          }
+          continue;
+        }
 
-        if (System.currentTimeMillis() - lastPing > 5000) {
-          sessionLastPing.put(sessionId, System.currentTimeMillis());
+        if (!sessionImpl.isKeptAlive() && now - sessionImpl.lastPing() > 5000) {
+          sessionImpl.lastPing(now);
           session.sendRequest(new PingRequest());
         }
+      }
+    });
+  }
+
+  private static String randomId(int size) {
+    byte[] bytes = new byte[size];
+    RANDOM.get().nextBytes(bytes);
+    return ENCODER.encodeToString(bytes);
+  }
+
+  /**
+   * @param nodeId the ID of a node
+   * @return the event bus address of the node
+   */
+  public static String nodeAddress(String nodeId) {
+    return NODE_ADDRESS_PREFIX + nodeId;
+  }
+
+  /**
+   * @param sessionId the ID of a session
+   * @return the ID of the node owning the session, or {@code null} if the session ID is not tagged
+   */
+  public static String ownerOf(String sessionId) {
+    int index = sessionId.indexOf(NODE_SEPARATOR);
+    return index > 0 ? sessionId.substring(0, index) : null;
+  }
+
+  /**
+   * @return the ID of this node, tagging the IDs of the sessions it creates
+   */
+  public String nodeId() {
+    return nodeId;
+  }
+
+  /**
+   * @param sessionId the ID of a session
+   * @return whether the session is owned by this node
+   */
+  public boolean isLocal(String sessionId) {
+    return nodeId.equals(ownerOf(sessionId));
+  }
 
-        /*if (System.currentTimeMillis() - lastPing > options.getSessionTimeoutMs()) {
-          sessions.remove(sessionId);
-          sessionLastPing.remove(sessionId);
-        }*/
+  /**
+   * Finds a session, asking the node owning the session over the event bus when the session is not owned by this node.
+   *
+   * @param sessionId the ID of the session
+   * @return a future completed with the session, or with {@code null} when no node owns the session
+   */
+  public Future<ServerSession> lookupSession(String sessionId) {
+    String owner = ownerOf(sessionId);
+    if (owner == null || owner.equals(nodeId)) {
+      return Future.succeededFuture(sessions.get(sessionId));
+    }
+    return vertx.eventBus().<JsonObject> request(nodeAddress(owner), operation(RemoteServerSession.DESCRIBE, sessionId))
+      .<ServerSession> map(reply -> {
+        JsonObject description = reply.body();
+        JsonObject capabilities = description.getJsonObject("capabilities");
+        return new RemoteServerSession(this, sessionId, capabilities != null ? new ClientCapabilities(capabilities) : null,
+          LoggingLevel.fromValue(description.getString("level")));
+      })
+      .otherwise((ServerSession) null);
+  }
+
+  /**
+   * Sends an operation on a session to the node owning the session.
+   *
+   * @param operation the operation, as created by {@link #operation(String, String)}
+   * @return the reply of the owning node
+   */
+  Future<Object> forward(JsonObject operation) {
+    String sessionId = operation.getString("session");
+    return vertx.eventBus().request(nodeAddress(ownerOf(sessionId)), operation).map(Message::body);
+  }
+
+  static JsonObject operation(String op, String sessionId) {
+    return new JsonObject().put("op", op).put("session", sessionId);
+  }
+
+  /**
+   * @return a new event bus address of this node, receiving the messages of a session stream relayed by the node owning the session
+   */
+  String streamAddress() {
+    return STREAM_ADDRESS_PREFIX + nodeId + NODE_SEPARATOR + addressCount.incrementAndGet();
+  }
+
+  /**
+   * @return a new event bus address of this node, receiving the result of a request to the client sent by the node owning the session
+   */
+  String replyAddress() {
+    return REPLY_ADDRESS_PREFIX + nodeId + NODE_SEPARATOR + addressCount.incrementAndGet();
+  }
+
+  Vertx vertx() {
+    return vertx;
+  }
+
+  private void handleRemoteOperation(Message<JsonObject> message) {
+    JsonObject operation = message.body();
+    String sessionId = operation.getString("session");
+    // The requests of the client served by other nodes use the session as well, it must not expire while they do
+    ServerSession session = sessionId != null ? getSession(sessionId) : null;
+    if (session == null) {
+      message.fail(404, "Session not found");
+      return;
+    }
+
+    Future<?> result;
+    switch (operation.getString("op")) {
+      case RemoteServerSession.DESCRIBE:
+        ClientCapabilities capabilities = session.clientCapabilities();
+        message.reply(new JsonObject()
+          .put("capabilities", capabilities != null ? capabilities.toJson() : null)
+          .put("level", session.getLoggingLevel().getValue()));
+        return;
+      case RemoteServerSession.REQUEST:
+        // Acknowledged at once, the client can take longer than the event bus timeout to answer: the result is sent to the node serving the request once received
+        String replyAddress = operation.getString("address");
+        session.sendRequest(JsonCodec.decodeRequest(operation.getString("method"), operation.getJsonObject("params"))).onComplete(ar -> vertx.eventBus().send(replyAddress,
+          ar.succeeded() ? new JsonObject().put("result", ar.result()) : new JsonObject().put("failure", ar.cause().getMessage())));
+        result = Future.succeededFuture();
+        break;
+      case RemoteServerSession.NOTIFY:
+        result = session.sendNotification(JsonCodec.decodeNotification(operation.getString("method"), operation.getJsonObject("params")));
+        break;
+      case RemoteServerSession.RESPONSE:
+        if (!((ServerSessionImpl) session).completeRequest(JsonResponse.fromJson(operation.getJsonObject("response")))) {
+          message.fail(400, "Unknown request ID");
+          return;
+        }
+        result = Future.succeededFuture();
+        break;
+      case RemoteServerSession.LEVEL:
+        session.setLoggingLevel(operation.getString("logger"), LoggingLevel.fromValue(operation.getString("level")));
+        result = Future.succeededFuture();
+        break;
+      case RemoteServerSession.STREAM:
+        if (!session.isStreaming()) {
+          ((ServerSessionImpl) session).init(new RemoteSessionStream(vertx, operation.getString("address")));
+        }
+        result = Future.succeededFuture();
+        break;
+      case RemoteServerSession.INITIALIZED:
+        emit(SessionEvent.Type.INITIALIZED, session);
+        result = Future.succeededFuture();
+        break;
+      case RemoteServerSession.CLOSE:
+        // Already ended when removed concurrently, e.g. by the sweep
+        result = sessions.remove(sessionId, session) ? end(session, SessionEvent.Type.CLOSED) : Future.succeededFuture();
+        break;
+      default:
+        message.fail(400, "Unknown operation");
+        return;
+    }
+    result.onComplete(ar -> {
+      if (ar.succeeded()) {
+        message.reply(ar.result());
+      } else {
+        message.fail(500, ar.cause().getMessage());
       }
     });
   }
 
-  private Future<Void> sendNotification(Notification notification) {
-    return Future.join(sessions.values().stream().map(session -> session.sendNotification(notification)).collect(Collectors.toList())).mapEmpty();
+  /**
+   * @param body the body of a message of the notification address
+   * @return the notification, or {@code null} when the body carries none
+   */
+  private static EncodedNotification notification(Object body) {
+    if (body instanceof EncodedNotification) {
+      return (EncodedNotification) body;
+    }
+    if (body instanceof JsonObject) {
+      // Notifications published by the application in their JSON form are encoded here
+      try {
+        return EncodedNotification.encode(new ServerNotification((JsonObject) body));
+      } catch (RuntimeException e) {
+        LOGGER.log(Level.WARNING, "Ignoring malformed notification " + body, e);
+        return null;
+      }
+    }
+    LOGGER.log(Level.WARNING, "Ignoring notification of unsupported type {0}", body != null ? body.getClass().getName() : null);
+    return null;
+  }
+
+  private static Future<Void> sendNotification(ServerSession session, EncodedNotification notification) {
+    // The encoded notification is written as is, instead of being encoded again for each session
+    return session instanceof ServerSessionImpl ? ((ServerSessionImpl) session).sendNotification(notification) : session.sendNotification(notification.decode());
   }
 
   @Override
@@ -80,35 +320,77 @@ public class SessionManagerImpl implements SessionManager {
       throw new IllegalStateException("Maximum session limit reached");
     }
 
-    String sessionId = UUID.randomUUID().toString();
-    ServerSession session = new ServerSessionImpl(sessionId, options.getStreamingEnabled(), capabilities);
+    String sessionId = nodeId + NODE_SEPARATOR + randomId(SESSION_ID_SIZE);
+    ServerSessionImpl session = new ServerSessionImpl(vertx, options, metrics, sessionId, options.getStreamingEnabled(), intern(capabilities));
+    long now = System.currentTimeMillis();
+    session.lastPing(now);
+    session.lastAccess(now);
 
     sessions.put(sessionId, session);
-
-    // Set up timeout to clean up inactive sessions
-    long timeoutMs = options.getSessionTimeoutMs();
-    if (timeoutMs > 0) {
-      vertx.setTimer(timeoutMs, timerId -> {
-        ServerSession existingSession = sessions.get(sessionId);
-        if (existingSession != null && !existingSession.isActive()) {
-          //existingSession.close();
-          sessions.remove(sessionId);
-        }
-      });
+    if (metrics != null) {
+      metrics.sessionOpened();
     }
+    emit(SessionEvent.Type.CREATED, session);
 
     return session;
   }
 
+  private ClientCapabilities intern(ClientCapabilities declared) {
+    if (declared == null) {
+      return null;
+    }
+    JsonObject json = declared.toJson();
+    String key = json.encode();
+    ClientCapabilities interned = capabilities.get(key);
+    if (interned != null) {
+      return interned;
+    }
+    // A snapshot, the declaration belongs to the caller
+    ClientCapabilities snapshot = new ReadOnlyClientCapabilities(json);
+    if (capabilities.size() >= MAX_INTERNED_CAPABILITIES) {
+      return snapshot;
+    }
+    interned = capabilities.putIfAbsent(key, snapshot);
+    return interned != null ? interned : snapshot;
+  }
+
   @Override
   public ServerSession getSession(String sessionId) {
-    return sessions.get(sessionId);
+    ServerSession session = sessions.get(sessionId);
+    if (session != null) {
+      // A session is used by each request of the client, including its responses to pings
+      ((ServerSessionImpl) session).lastAccess(System.currentTimeMillis());
+    }
+    return session;
   }
 
+  /**
+   * Removes and closes a session, failing its pending requests.
+   *
+   * @param sessionId the session ID
+   */
   @Override
   public void removeSession(String sessionId) {
-    sessions.remove(sessionId);
-    sessionLastPing.remove(sessionId);
+    ServerSession session = sessions.remove(sessionId);
+    if (session != null) {
+      end(session, SessionEvent.Type.CLOSED);
+    }
+  }
+
+  private Future<Void> end(ServerSession session, SessionEvent.Type type) {
+    Promise<Void> closed = Promise.promise();
+    session.close(closed);
+    if (metrics != null) {
+      metrics.sessionClosed();
+    }
+    emit(type, session);
+    return closed.future();
+  }
+
+  private void emit(SessionEvent.Type type, ServerSession session) {
+    if (lifecycleHandler != null) {
+      lifecycleHandler.handle(new SessionEvent(type, session));
+    }
   }
 
   @Override
@@ -0,0 +1,192 @@
+package io.vertx.mcp.server.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.common.LoggingLevel;
+import io.vertx.mcp.common.capabilities.ClientCapabilities;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Issues and verifies the tokens of stateless sessions. A token is the base64url encoded JSON state of the session followed by its HMAC-SHA256 signature, e.g.
+ * {@code eyJuIjoi...In0.Xk2f...}: the state is readable by the client but cannot be changed without the secret.
+ * <p>
+ * A token carries the time it was issued at and the time it expires at, a token is valid for the configured lifetime after being issued: since a token cannot be revoked,
+ * this bounds the use of a leaked token.
+ */
+public final class SessionTokens {
+
+  private static final String ALGORITHM = "HmacSHA256";
+  private static final int NONCE_SIZE = 12;
+
+  private static final String NONCE = "n";
+  private static final String PROTOCOL_VERSION = "v";
+  private static final String LOGGING_LEVEL = "l";
+  private static final String CAPABILITIES = "c";
+  // Epoch milliseconds
+  private static final String ISSUED_AT = "iat";
+  private static final String EXPIRES_AT = "exp";
+
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  private final SecretKeySpec key;
+  private final long lifetimeMs;
+  private final SecureRandom random = new SecureRandom();
+  // Mac instances are not thread safe, a token is signed by the thread of the request
+  private final ThreadLocal<Mac> mac;
+
+  /**
+   * @param secret the secret signing the tokens
+   * @param lifetimeMs the time in milliseconds a token is valid for after being issued
+   */
+  public SessionTokens(String secret, long lifetimeMs) {
+    if (secret == null) {
+      throw new IllegalStateException("A session token secret is required by stateless sessions");
+    }
+    if (lifetimeMs <= 0) {
+      throw new IllegalArgumentException("Session token lifetime must be positive");
+    }
+    this.lifetimeMs = lifetimeMs;
+    this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    this.mac = ThreadLocal.withInitial(() -> {
+      try {
+        Mac instance = Mac.getInstance(ALGORITHM);
+        instance.init(key);
+        return instance;
+      } catch (GeneralSecurityException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+  }
+
+  /**
+   * The state of a stateless session, as carried by its token.
+   */
+  public static final class State {
+
+    private final String nonce;
+    private final String protocolVersion;
+    private final LoggingLevel loggingLevel;
+    private final ClientCapabilities capabilities;
+    private final long issuedAt;
+
+    State(String nonce, String protocolVersion, LoggingLevel loggingLevel, ClientCapabilities capabilities, long issuedAt) {
+      this.nonce = nonce;
+      this.protocolVersion = protocolVersion;
+      this.loggingLevel = loggingLevel;
+      this.capabilities = capabilities;
+      this.issuedAt = issuedAt;
+    }
+
+    public String getProtocolVersion() {
+      return protocolVersion;
+    }
+
+    public LoggingLevel getLoggingLevel() {
+      return loggingLevel;
+    }
+
+    public ClientCapabilities getCapabilities() {
+      return capabilities;
+    }
+
+    /**
+     * @return the time in epoch milliseconds the token carrying this state was issued at, {@code 0} for a state not issued yet
+     */
+    public long getIssuedAt() {
+      return issuedAt;
+    }
+
+    /**
+     * @param level the new logging level
+     * @return the same session state with another logging level
+     */
+    public State withLoggingLevel(LoggingLevel level) {
+      return new State(nonce, protocolVersion, level, capabilities, issuedAt);
+    }
+  }
+
+  /**
+   * Creates the state of a new session, identified by a random nonce.
+   *
+   * @param protocolVersion the protocol version, can be null
+   * @param capabilities the client capabilities, can be null
+   * @return the state of the session
+   */
+  public State create(String protocolVersion, ClientCapabilities capabilities) {
+    byte[] nonce = new byte[NONCE_SIZE];
+    random.nextBytes(nonce);
+    return new State(ENCODER.encodeToString(nonce), protocolVersion, LoggingLevel.INFO, capabilities, 0);
+  }
+
+  /**
+   * @param state the state of a verified token
+   * @return whether more than half of the lifetime of the token has elapsed, the session should be given a new token
+   */
+  public boolean shouldRenew(State state) {
+    return System.currentTimeMillis() - state.issuedAt > lifetimeMs / 2;
+  }
+
+  /**
+   * Issues the signed token of a session state, valid for the token lifetime from now.
+   *
+   * @param state the session state
+   * @return the token
+   */
+  public String issue(State state) {
+    JsonObject json = new JsonObject().put(NONCE, state.nonce);
+    if (state.protocolVersion != null) {
+      json.put(PROTOCOL_VERSION, state.protocolVersion);
+    }
+    json.put(LOGGING_LEVEL, state.loggingLevel.getValue());
+    if (state.capabilities != null) {
+      json.put(CAPABILITIES, state.capabilities.toJson());
+    }
+    long now = System.currentTimeMillis();
+    json.put(ISSUED_AT, now).put(EXPIRES_AT, now + lifetimeMs);
+    String payload = ENCODER.encodeToString(json.toBuffer().getBytes());
+    return payload + '.' + ENCODER.encodeToString(sign(payload));
+  }
+
+  /**
+   * Verifies a token and reads the session state it carries.
+   *
+   * @param token the token
+   * @return the session state, or {@code null} if the token is malformed, its signature is invalid or it has expired
+   */
+  public State verify(String token) {
+    int dot = token.lastIndexOf('.');
+    if (dot <= 0) {
+      return null;
+    }
+    String payload = token.substring(0, dot);
+    try {
+      // Constant time comparison, the time taken does not tell how much of a forged signature is valid
+      if (!MessageDigest.isEqual(sign(payload), DECODER.decode(token.substring(dot + 1)))) {
+        return null;
+      }
+      JsonObject json = new JsonObject(Buffer.buffer(DECODER.decode(payload)));
+      Long expiresAt = json.getLong(EXPIRES_AT);
+      if (expiresAt == null || expiresAt <= System.currentTimeMillis()) {
+        return null;
+      }
+      LoggingLevel level = LoggingLevel.fromValue(json.getString(LOGGING_LEVEL));
+      JsonObject capabilities = json.getJsonObject(CAPABILITIES);
+      return new State(json.getString(NONCE), json.getString(PROTOCOL_VERSION), level != null ? level : LoggingLevel.INFO,
+        capabilities != null ? new ClientCapabilities(capabilities) : null, json.getLong(ISSUED_AT, 0L));
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+
+  private byte[] sign(String payload) {
+    return mac.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+  }
+}
@@ -0,0 +1,123 @@
+package io.vertx.mcp.server.impl;
+
+import io.vertx.core.Completable;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.mcp.common.LoggingLevel;
+import io.vertx.mcp.common.capabilities.ClientCapabilities;
+import io.vertx.mcp.common.notification.LoggingMessageNotification;
+import io.vertx.mcp.common.notification.Notification;
+import io.vertx.mcp.common.request.Request;
+import io.vertx.mcp.server.ServerSession;
+
+/**
+ * A session whose state is carried by its signed token, the {@code Mcp-Session-Id} of the session. An instance is created for each request from the token sent by the client,
+ * and only lives as long as the request: notifications and log messages are written to the response of the request, and changing the root logging level issues a new token,
+ * returned to the client in the {@code Mcp-Session-Id} header of the response.
+ * <p>
+ * Requests to the client are not supported, their response could be received by another server.
+ */
+public class StatelessServerSession implements ServerSession {
+
+  private final SessionTokens tokens;
+  private SessionTokens.State state;
+  private String id;
+  private LoggerLevels levels;
+  private WriteStream<JsonObject> stream;
+
+  public StatelessServerSession(SessionTokens tokens, SessionTokens.State state, String id) {
+    this.tokens = tokens;
+    this.state = state;
+    this.id = id;
+    this.levels = new LoggerLevels(state.getLoggingLevel());
+  }
+
+  public void init(WriteStream<JsonObject> stream) {
+    this.stream = stream;
+  }
+
+  /**
+   * @return the protocol version requested by the client on initialization
+   */
+  public String getProtocolVersion() {
+    return state.getProtocolVersion();
+  }
+
+  @Override
+  public String id() {
+    return id;
+  }
+
+  @Override
+  public ClientCapabilities clientCapabilities() {
+    return state.getCapabilities();
+  }
+
+  @Override
+  public Future<JsonObject> sendRequest(Request request) {
+    return Future.failedFuture("Requests to the client are not supported by stateless sessions");
+  }
+
+  @Override
+  public Future<Void> sendNotification(Notification notification) {
+    if (!isStreaming()) {
+      return Future.failedFuture("Session is not streaming");
+    }
+    return stream.write(notification.toNotification().toJson());
+  }
+
+  @Override
+  public LoggingLevel getLoggingLevel() {
+    return levels.root();
+  }
+
+  @Override
+  public void setLoggingLevel(LoggingLevel level) {
+    if (level == null) {
+      return;
+    }
+    levels = levels.withRoot(level);
+    // The level is kept by the client with the new token
+    state = state.withLoggingLevel(level);
+    id = tokens.issue(state);
+  }
+
+  @Override
+  public LoggingLevel getLoggingLevel(String logger) {
+    return levels.levelOf(logger);
+  }
+
+  @Override
+  public void setLoggingLevel(String logger, LoggingLevel level) {
+    if (logger == null) {
+      setLoggingLevel(level);
+      return;
+    }
+    // Only the root level is carried by the token, logger levels apply to the current request
+    levels = levels.with(logger, level);
+  }
+
+  @Override
+  public void log(LoggingLevel level, String logger, Object data) {
+    if (level == null || !isStreaming() || !levels.isEnabled(level, logger)) {
+      return;
+    }
+    stream.write(new LoggingMessageNotification().setLevel(level).setLogger(logger).setData(data).toNotification().toJson());
+  }
+
+  @Override
+  public void close(Completable<Void> completable) {
+    completable.succeed();
+  }
+
+  @Override
+  public boolean isStreaming() {
+    return stream != null;
+  }
+
+  @Override
+  public boolean isActive() {
+    return true;
+  }
+}
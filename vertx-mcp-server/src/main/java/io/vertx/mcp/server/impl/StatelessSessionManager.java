@@ -0,0 +1,52 @@
+package io.vertx.mcp.server.impl;
+
+import io.vertx.mcp.common.capabilities.ClientCapabilities;
+import io.vertx.mcp.server.ServerOptions;
+import io.vertx.mcp.server.ServerSession;
+import io.vertx.mcp.server.SessionManager;
+
+/**
+ * The session manager of stateless sessions: no session is kept, the session ID is a signed token holding the session state, verified on each request. Any server configured with
+ * the same {@link ServerOptions#getSessionTokenSecret() secret} serves the requests of a session.
+ * <p>
+ * A token is valid for the {@link ServerOptions#getSessionTokenLifetimeMs() token lifetime} after being issued, a session in use is given a new token, returned in the
+ * {@code Mcp-Session-Id} header of the response, once half of this time has elapsed.
+ */
+public class StatelessSessionManager implements SessionManager {
+
+  private final SessionTokens tokens;
+
+  public StatelessSessionManager(ServerOptions options) {
+    this.tokens = new SessionTokens(options.getSessionTokenSecret(), options.getSessionTokenLifetimeMs());
+  }
+
+  @Override
+  public ServerSession createSession(ClientCapabilities capabilities) {
+    return createSession(capabilities, null);
+  }
+
+  @Override
+  public ServerSession createSession(ClientCapabilities capabilities, String protocolVersion) {
+    SessionTokens.State state = tokens.create(protocolVersion, capabilities);
+    return new StatelessServerSession(tokens, state, tokens.issue(state));
+  }
+
+  @Override
+  public ServerSession getSession(String sessionId) {
+    SessionTokens.State state = tokens.verify(sessionId);
+    if (state == null) {
+      return null;
+    }
+    return new StatelessServerSession(tokens, state, tokens.shouldRenew(state) ? tokens.issue(state) : sessionId);
+  }
+
+  @Override
+  public void removeSession(String sessionId) {
+    // Nothing to remove, a token cannot be revoked
+  }
+
+  @Override
+  public int getSessionCount() {
+    return 0;
+  }
+}
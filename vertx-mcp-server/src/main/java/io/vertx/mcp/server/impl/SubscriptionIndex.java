@@ -0,0 +1,164 @@
+package io.vertx.mcp.server.impl;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Inverted index of resource subscriptions. Exact URIs are bucketed into the set of subscribed sessions so that an update touches only the sessions interested in it, while
+ * subscriptions to URI templates are compiled into a {@link UriTemplateRouter} and resolved in a single trie walk. A reverse session index keeps per-session limits and session
+ * cleanup proportional to the number of subscriptions of that session.
+ * <p>
+ * Lookups are lock-free; subscription changes are serialized.
+ */
+public class SubscriptionIndex {
+
+  private final Map<String, Set<String>> byUri = new ConcurrentHashMap<>();
+  private final Map<String, Set<String>> byTemplate = new ConcurrentHashMap<>();
+  private final UriTemplateRouter<Set<String>> templates = new UriTemplateRouter<>();
+  private final Map<String, Set<String>> bySession = new ConcurrentHashMap<>();
+
+  /**
+   * Adds a subscription.
+   *
+   * @param sessionId the session ID
+   * @param uri the resource URI or URI template
+   * @param maxPerSession the maximum number of subscriptions the session may hold
+   * @return {@code true} if the session is subscribed, {@code false} if the subscription would exceed the limit
+   */
+  public synchronized boolean subscribe(String sessionId, String uri, int maxPerSession) {
+    Set<String> sessionUris = bySession.get(sessionId);
+    if (sessionUris != null && sessionUris.contains(uri)) {
+      return true;
+    }
+    if (sessionUris != null && sessionUris.size() >= maxPerSession) {
+      return false;
+    }
+
+    if (isTemplate(uri)) {
+      Set<String> sessions = byTemplate.get(uri);
+      if (sessions == null) {
+        sessions = ConcurrentHashMap.newKeySet();
+        try {
+          templates.add(uri, sessions);
+        } catch (IllegalArgumentException e) {
+          // Not a valid template, index the literal URI instead
+          return subscribeExact(sessionId, uri);
+        }
+        byTemplate.put(uri, sessions);
+      }
+      sessions.add(sessionId);
+    } else {
+      byUri.computeIfAbsent(uri, k -> ConcurrentHashMap.newKeySet()).add(sessionId);
+    }
+
+    bySession.computeIfAbsent(sessionId, k -> ConcurrentHashMap.newKeySet()).add(uri);
+    return true;
+  }
+
+  private boolean subscribeExact(String sessionId, String uri) {
+    byUri.computeIfAbsent(uri, k -> ConcurrentHashMap.newKeySet()).add(sessionId);
+    bySession.computeIfAbsent(sessionId, k -> ConcurrentHashMap.newKeySet()).add(uri);
+    return true;
+  }
+
+  /**
+   * Removes a subscription.
+   *
+   * @param sessionId the session ID
+   * @param uri the resource URI or URI template
+   * @return {@code true} if the session was subscribed
+   */
+  public synchronized boolean unsubscribe(String sessionId, String uri) {
+    Set<String> sessionUris = bySession.get(sessionId);
+    if (sessionUris == null || !sessionUris.remove(uri)) {
+      return false;
+    }
+    if (sessionUris.isEmpty()) {
+      bySession.remove(sessionId);
+    }
+    removeFromBucket(sessionId, uri);
+    return true;
+  }
+
+  /**
+   * Removes every subscription of a session.
+   *
+   * @param sessionId the session ID
+   */
+  public synchronized void unsubscribeAll(String sessionId) {
+    Set<String> sessionUris = bySession.remove(sessionId);
+    if (sessionUris != null) {
+      for (String uri : sessionUris) {
+        removeFromBucket(sessionId, uri);
+      }
+    }
+  }
+
+  private void removeFromBucket(String sessionId, String uri) {
+    Set<String> sessions = byUri.get(uri);
+    if (sessions != null) {
+      sessions.remove(sessionId);
+      if (sessions.isEmpty()) {
+        byUri.remove(uri);
+      }
+      return;
+    }
+    sessions = byTemplate.get(uri);
+    if (sessions != null) {
+      sessions.remove(sessionId);
+      if (sessions.isEmpty()) {
+        byTemplate.remove(uri);
+        templates.remove(uri);
+      }
+    }
+  }
+
+  /**
+   * Visits every session subscribed to a URI, either directly or through a matching URI template. Each session is visited at most once.
+   *
+   * @param uri the updated resource URI
+   * @param consumer receives the subscribed session IDs
+   */
+  public void forEachSubscriber(String uri, Consumer<String> consumer) {
+    Set<String> exact = byUri.get(uri);
+    if (byTemplate.isEmpty()) {
+      if (exact != null) {
+        exact.forEach(consumer);
+      }
+      return;
+    }
+
+    Set<String> seen = new HashSet<>();
+    if (exact != null) {
+      for (String sessionId : exact) {
+        if (seen.add(sessionId)) {
+          consumer.accept(sessionId);
+        }
+      }
+    }
+    templates.forEachMatch(uri, sessions -> {
+      for (String sessionId : sessions) {
+        if (seen.add(sessionId)) {
+          consumer.accept(sessionId);
+        }
+      }
+    });
+  }
+
+  /**
+   * @param sessionId the session ID
+   * @return the URIs and URI templates the session is subscribed to
+   */
+  public Set<String> subscriptions(String sessionId) {
+    Set<String> sessionUris = bySession.get(sessionId);
+    return sessionUris != null ? Collections.unmodifiableSet(sessionUris) : Set.of();
+  }
+
+  private static boolean isTemplate(String uri) {
+    return uri.indexOf('{') >= 0;
+  }
+}
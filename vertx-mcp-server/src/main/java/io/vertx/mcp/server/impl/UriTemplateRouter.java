@@ -0,0 +1,744 @@
+package io.vertx.mcp.server.impl;
+
+import io.vertx.uritemplate.UriTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Routes concrete URIs to values registered under RFC 6570 URI templates. Templates are validated with {@link UriTemplate#of(String)} and compiled once at registration time into
+ * a character trie whose edges are either literal characters or template expressions, so that matching a URI walks the trie once instead of evaluating one regular expression per
+ * registered template.
+ * <p>
+ * Literal edges are always tried before expression edges, so {@code resource://user/me} takes precedence over {@code resource://user/{id}}. Supported expressions are simple
+ * string ({@code {var}}), reserved ({@code {+var}}), fragment ({@code {#var}}), label ({@code {.var}}), path segment ({@code {/var}}), path-style parameter ({@code {;var}}) and
+ * form-style query ({@code {?var}}, {@code {&var}}) expansion, including the prefix ({@code :n}) and explode ({@code *}) modifiers. Captured values are percent-decoded.
+ * <p>
+ * Registration is copy-on-write: adding or removing a template copies the nodes on the path of the template only, and publishes the new root, so readers always see a fully
+ * built trie without locking, and registration costs O(template length) whatever the number of registered templates.
+ * <p>
+ * Matching walks the URI once for templates whose expressions are separated by literals or stop characters. Each expression otherwise backtracks over the possible ends of its
+ * value: for adjacent expressions such as {@code {a}{b}}, or a reserved expansion ({@code {+var}}, {@code {#var}}) followed by other parts, matching costs O(n<sup>k</sup>)
+ * for a URI of length n and k such expressions in a row in the worst case. Templates are registered by the application, which bounds k.
+ *
+ * @param <T> the type of value associated with each template
+ */
+public class UriTemplateRouter<T> {
+
+  private final Map<String, Template<T>> compiled = new ConcurrentHashMap<>();
+  // The templates of each shape, in registration order, the lists are replaced rather than modified
+  private final Map<String, List<Template<T>>> shapes = new ConcurrentHashMap<>();
+  private volatile Node<T> root = Node.empty();
+
+  /**
+   * Compiles and registers a URI template. Registering the same template again replaces the previous value.
+   *
+   * @param template the URI template
+   * @param value the value to associate with the template
+   * @throws IllegalArgumentException if the template is not a valid RFC 6570 URI template
+   */
+  public synchronized void add(String template, T value) {
+    UriTemplate.of(template);
+    Template<T> added = new Template<>(template, parse(template), value);
+    Template<T> previous = compiled.put(template, added);
+    List<Template<T>> sameShape = new ArrayList<>(shapes.getOrDefault(added.shape, Collections.emptyList()));
+    if (previous != null) {
+      sameShape.set(sameShape.indexOf(previous), added);
+    } else {
+      sameShape.add(added);
+    }
+    shapes.put(added.shape, sameShape);
+    root = insert(root, added.steps, 0, added);
+  }
+
+  /**
+   * Removes a previously registered URI template.
+   *
+   * @param template the URI template
+   * @return the value that was associated with the template, or {@code null} if it was not registered
+   */
+  public synchronized T remove(String template) {
+    Template<T> removed = compiled.remove(template);
+    if (removed == null) {
+      return null;
+    }
+    List<Template<T>> sameShape = new ArrayList<>(shapes.get(removed.shape));
+    sameShape.remove(removed);
+    if (sameShape.isEmpty()) {
+      shapes.remove(removed.shape);
+    } else {
+      shapes.put(removed.shape, sameShape);
+    }
+    Node<T> pruned = remove(root, removed.steps, 0);
+    root = pruned != null ? pruned : Node.empty();
+    return removed.value;
+  }
+
+  /**
+   * Matches a URI against the registered templates.
+   *
+   * @param uri the URI to match
+   * @return the match, or {@code null} if no template matches the URI
+   */
+  public Match<T> match(String uri) {
+    if (uri == null) {
+      return null;
+    }
+    Captures captures = new Captures();
+    Template<T> template = match(root, uri, 0, captures, t -> true);
+    if (template == null) {
+      return null;
+    }
+    return new Match<>(template.source, template.value, captures.toMap());
+  }
+
+  /**
+   * Visits the values of every registered template matching a URI, not only the most specific one.
+   *
+   * @param uri the URI to match
+   * @param consumer receives each matching value once
+   */
+  public void forEachMatch(String uri, Consumer<T> consumer) {
+    if (uri == null) {
+      return;
+    }
+    Set<Template<T>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    match(root, uri, 0, new Captures(), t -> {
+      if (visited.add(t)) {
+        consumer.accept(t.value);
+      }
+      return false;
+    });
+  }
+
+  /**
+   * Returns the value registered for a template whose structure is identical to the given template, ignoring variable names. For instance {@code resource://user/{name}} finds the
+   * value registered for {@code resource://user/{id}}.
+   *
+   * @param template the URI template
+   * @return the value, or {@code null} if no structurally identical template is registered
+   */
+  public T lookupTemplate(String template) {
+    if (template == null) {
+      return null;
+    }
+    Template<T> found = compiled.get(template);
+    if (found == null) {
+      List<Template<T>> sameShape = shapes.get(shape(template));
+      found = sameShape != null ? sameShape.get(0) : null;
+    }
+    return found != null ? found.value : null;
+  }
+
+  private static <T> Template<T> match(Node<T> node, String uri, int pos, Captures captures, Predicate<Template<T>> accept) {
+    if (pos == uri.length() && node.terminal != null && accept.test(node.terminal)) {
+      return node.terminal;
+    }
+
+    if (pos < uri.length()) {
+      Node<T> next = node.literal(uri.charAt(pos));
+      if (next != null) {
+        Template<T> found = match(next, uri, pos + 1, captures, accept);
+        if (found != null) {
+          return found;
+        }
+      }
+    }
+
+    for (int i = 0; i < node.expressions.length; i++) {
+      Expression expression = node.expressions[i];
+      Node<T> next = node.expressionChildren[i];
+      Template<T> found = matchExpression(expression, next, uri, pos, captures, accept);
+      if (found != null) {
+        return found;
+      }
+    }
+
+    return null;
+  }
+
+  private static <T> Template<T> matchExpression(Expression expression, Node<T> next, String uri, int pos, Captures captures, Predicate<Template<T>> accept) {
+    int mark = captures.size;
+    int start = pos;
+
+    if (expression.prefix != 0) {
+      if (pos < uri.length() && uri.charAt(pos) == expression.prefix) {
+        start = pos + 1;
+      } else {
+        // An expression whose variables are all undefined expands to nothing, prefix included
+        return expression.optional ? match(next, uri, pos, captures, accept) : null;
+      }
+    }
+
+    int max = start;
+    while (max < uri.length() && !expression.isStop(uri.charAt(max))) {
+      max++;
+    }
+
+    int min = expression.optional ? start : start + 1;
+    // Backtracks over the possible ends of the value, the next node prunes the ends it cannot continue from unless it starts with an expression as well
+    for (int end = max; end >= min; end--) {
+      if (!next.canContinue(uri, end)) {
+        continue;
+      }
+      if (expression.capture(uri, start, end, captures)) {
+        Template<T> found = match(next, uri, end, captures, accept);
+        if (found != null) {
+          return found;
+        }
+      }
+      captures.size = mark;
+    }
+
+    if (expression.optional && start != pos) {
+      return match(next, uri, pos, captures, accept);
+    }
+
+    return null;
+  }
+
+  /**
+   * @return a copy of {@code node} with the template added at the end of the path of {@code steps[index..]}, the nodes off the path being shared
+   */
+  private static <T> Node<T> insert(Node<T> node, Object[] steps, int index, Template<T> template) {
+    if (node == null) {
+      node = Node.empty();
+    }
+    if (index == steps.length) {
+      return node.withTerminal(template);
+    }
+    Object step = steps[index];
+    return node.withChild(step, insert(node.child(step), steps, index + 1, template));
+  }
+
+  /**
+   * @return a copy of {@code node} without the template at the end of the path of {@code steps[index..]}, or {@code null} when the copy would be empty
+   */
+  private static <T> Node<T> remove(Node<T> node, Object[] steps, int index) {
+    Node<T> removed;
+    if (index == steps.length) {
+      removed = node.withTerminal(null);
+    } else {
+      Node<T> child = node.child(steps[index]);
+      if (child == null) {
+        return node;
+      }
+      removed = node.withChild(steps[index], remove(child, steps, index + 1));
+    }
+    return removed.isEmpty() ? null : removed;
+  }
+
+  private static List<Object> parse(String template) {
+    List<Object> parts = new ArrayList<>();
+    StringBuilder literal = new StringBuilder();
+    int i = 0;
+    while (i < template.length()) {
+      char c = template.charAt(i);
+      if (c == '{') {
+        int close = template.indexOf('}', i);
+        if (literal.length() > 0) {
+          parts.add(literal.toString());
+          literal.setLength(0);
+        }
+        parts.add(Expression.parse(template.substring(i + 1, close)));
+        i = close + 1;
+      } else {
+        literal.append(c);
+        i++;
+      }
+    }
+    if (literal.length() > 0) {
+      parts.add(literal.toString());
+    }
+    return parts;
+  }
+
+  /**
+   * Reduces a template to its structure by dropping variable names, e.g. {@code resource://user/{id}} becomes {@code resource://user/{}}.
+   */
+  static String shape(String template) {
+    StringBuilder sb = new StringBuilder(template.length());
+    boolean inExpression = false;
+    for (int i = 0; i < template.length(); i++) {
+      char c = template.charAt(i);
+      if (inExpression) {
+        if (c == '}') {
+          sb.append('}');
+          inExpression = false;
+        } else if (sb.charAt(sb.length() - 1) == '{' && "+#./;?&".indexOf(c) >= 0) {
+          sb.append(c);
+        }
+      } else {
+        sb.append(c);
+        inExpression = c == '{';
+      }
+    }
+    return sb.toString();
+  }
+
+  private static String decode(String uri, int start, int end) {
+    int percent = uri.indexOf('%', start);
+    if (percent < 0 || percent >= end) {
+      return uri.substring(start, end);
+    }
+    StringBuilder sb = new StringBuilder(end - start);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    int i = start;
+    while (i < end) {
+      while (i + 2 < end && uri.charAt(i) == '%' && Character.digit(uri.charAt(i + 1), 16) >= 0 && Character.digit(uri.charAt(i + 2), 16) >= 0) {
+        bytes.write((Character.digit(uri.charAt(i + 1), 16) << 4) | Character.digit(uri.charAt(i + 2), 16));
+        i += 3;
+      }
+      if (bytes.size() > 0) {
+        sb.append(bytes.toString(StandardCharsets.UTF_8));
+        bytes.reset();
+      } else {
+        sb.append(uri.charAt(i++));
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * The result of matching a URI against the router.
+   *
+   * @param <T> the type of the matched value
+   */
+  public static final class Match<T> {
+
+    private final String template;
+    private final T value;
+    private final Map<String, String> variables;
+
+    Match(String template, T value, Map<String, String> variables) {
+      this.template = template;
+      this.value = value;
+      this.variables = variables;
+    }
+
+    /**
+     * @return the template that matched
+     */
+    public String template() {
+      return template;
+    }
+
+    /**
+     * @return the value registered for the template
+     */
+    public T value() {
+      return value;
+    }
+
+    /**
+     * @return the template variables captured from the URI
+     */
+    public Map<String, String> variables() {
+      return variables;
+    }
+  }
+
+  private static final class Template<T> {
+
+    private final String source;
+    private final String shape;
+    // The edges of the path of the template in the trie, literal characters and expressions
+    private final Object[] steps;
+    private final T value;
+
+    Template(String source, List<Object> parts, T value) {
+      this.source = source;
+      this.shape = shape(source);
+      List<Object> steps = new ArrayList<>();
+      for (Object part : parts) {
+        if (part instanceof String) {
+          String literal = (String) part;
+          for (int i = 0; i < literal.length(); i++) {
+            steps.add(literal.charAt(i));
+          }
+        } else {
+          steps.add(part);
+        }
+      }
+      this.steps = steps.toArray();
+      this.value = value;
+    }
+  }
+
+  /**
+   * A node of the trie, never modified once built: changes copy the node.
+   */
+  private static final class Node<T> {
+
+    private static final char[] NO_LITERALS = new char[0];
+    private static final Expression[] NO_EXPRESSIONS = new Expression[0];
+
+    private final char[] literals;
+    private final Node<T>[] literalChildren;
+    private final Expression[] expressions;
+    private final Node<T>[] expressionChildren;
+    private final Template<T> terminal;
+
+    private Node(char[] literals, Node<T>[] literalChildren, Expression[] expressions, Node<T>[] expressionChildren, Template<T> terminal) {
+      this.literals = literals;
+      this.literalChildren = literalChildren;
+      this.expressions = expressions;
+      this.expressionChildren = expressionChildren;
+      this.terminal = terminal;
+    }
+
+    static <T> Node<T> empty() {
+      return new Node<>(NO_LITERALS, newArray(0), NO_EXPRESSIONS, newArray(0), null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] newArray(int size) {
+      return (Node<T>[]) new Node[size];
+    }
+
+    boolean isEmpty() {
+      return terminal == null && literals.length == 0 && expressions.length == 0;
+    }
+
+    Node<T> literal(char c) {
+      char[] keys = literals;
+      for (int i = 0; i < keys.length; i++) {
+        if (keys[i] == c) {
+          return literalChildren[i];
+        }
+      }
+      return null;
+    }
+
+    Node<T> child(Object step) {
+      if (step instanceof Character) {
+        return literal((Character) step);
+      }
+      for (int i = 0; i < expressions.length; i++) {
+        if (expressions[i].equals(step)) {
+          return expressionChildren[i];
+        }
+      }
+      return null;
+    }
+
+    Node<T> withTerminal(Template<T> template) {
+      return new Node<>(literals, literalChildren, expressions, expressionChildren, template);
+    }
+
+    /**
+     * @return a copy of this node with the child of the edge replaced, added when missing, or removed when {@code child} is {@code null}
+     */
+    Node<T> withChild(Object step, Node<T> child) {
+      if (step instanceof Character) {
+        char c = (Character) step;
+        int index = 0;
+        while (index < literals.length && literals[index] != c) {
+          index++;
+        }
+        char[] keys;
+        Node<T>[] children;
+        if (child == null) {
+          if (index == literals.length) {
+            return this;
+          }
+          keys = remove(literals, index);
+          children = remove(literalChildren, index);
+        } else if (index == literals.length) {
+          keys = Arrays.copyOf(literals, index + 1);
+          children = Arrays.copyOf(literalChildren, index + 1);
+          keys[index] = c;
+          children[index] = child;
+        } else {
+          keys = literals;
+          children = literalChildren.clone();
+          children[index] = child;
+        }
+        return new Node<>(keys, children, expressions, expressionChildren, terminal);
+      }
+      int index = 0;
+      while (index < expressions.length && !expressions[index].equals(step)) {
+        index++;
+      }
+      Expression[] keys;
+      Node<T>[] children;
+      if (child == null) {
+        if (index == expressions.length) {
+          return this;
+        }
+        keys = remove(expressions, index);
+        children = remove(expressionChildren, index);
+      } else if (index == expressions.length) {
+        // Expressions are tried in registration order
+        keys = Arrays.copyOf(expressions, index + 1);
+        children = Arrays.copyOf(expressionChildren, index + 1);
+        keys[index] = (Expression) step;
+        children[index] = child;
+      } else {
+        keys = expressions;
+        children = expressionChildren.clone();
+        children[index] = child;
+      }
+      return new Node<>(literals, literalChildren, keys, children, terminal);
+    }
+
+    private static char[] remove(char[] array, int index) {
+      char[] copy = new char[array.length - 1];
+      System.arraycopy(array, 0, copy, 0, index);
+      System.arraycopy(array, index + 1, copy, index, copy.length - index);
+      return copy;
+    }
+
+    private static <E> E[] remove(E[] array, int index) {
+      E[] copy = Arrays.copyOf(array, array.length - 1);
+      System.arraycopy(array, index + 1, copy, index, copy.length - index);
+      return copy;
+    }
+
+    /**
+     * Cheap pre-check avoiding a recursive descent for expression ends that cannot possibly lead to a match.
+     */
+    boolean canContinue(String uri, int pos) {
+      if (expressions.length > 0) {
+        return true;
+      }
+      if (pos == uri.length()) {
+        return terminal != null;
+      }
+      return literal(uri.charAt(pos)) != null;
+    }
+  }
+
+  private static final class Variable {
+
+    private final String name;
+    private final int maxLength;
+    private final boolean explode;
+
+    Variable(String name, int maxLength, boolean explode) {
+      this.name = name;
+      this.maxLength = maxLength;
+      this.explode = explode;
+    }
+  }
+
+  private static final class Expression {
+
+    private final char operator;
+    private final Variable[] variables;
+    private final char prefix;
+    private final char separator;
+    private final boolean named;
+    private final boolean optional;
+    private final String stops;
+    private final String key;
+
+    private Expression(char operator, Variable[] variables, String key) {
+      this.operator = operator;
+      this.variables = variables;
+      this.key = key;
+      switch (operator) {
+        case '+':
+          prefix = 0;
+          separator = ',';
+          named = false;
+          optional = false;
+          stops = "";
+          break;
+        case '#':
+          prefix = '#';
+          separator = ',';
+          named = false;
+          optional = true;
+          stops = "";
+          break;
+        case '.':
+          prefix = '.';
+          separator = '.';
+          named = false;
+          optional = true;
+          stops = "/?#";
+          break;
+        case '/':
+          prefix = '/';
+          separator = '/';
+          named = false;
+          optional = true;
+          stops = "?#";
+          break;
+        case ';':
+          prefix = ';';
+          separator = ';';
+          named = true;
+          optional = true;
+          stops = "/?#";
+          break;
+        case '?':
+          prefix = '?';
+          separator = '&';
+          named = true;
+          optional = true;
+          stops = "#";
+          break;
+        case '&':
+          prefix = '&';
+          separator = '&';
+          named = true;
+          optional = true;
+          stops = "#";
+          break;
+        default:
+          prefix = 0;
+          separator = ',';
+          named = false;
+          optional = false;
+          stops = "/?#";
+          break;
+      }
+    }
+
+    static Expression parse(String body) {
+      char operator = 0;
+      if (!body.isEmpty() && "+#./;?&".indexOf(body.charAt(0)) >= 0) {
+        operator = body.charAt(0);
+        body = body.substring(1);
+      }
+      String[] specs = body.split(",");
+      Variable[] variables = new Variable[specs.length];
+      for (int i = 0; i < specs.length; i++) {
+        String spec = specs[i];
+        boolean explode = spec.endsWith("*");
+        if (explode) {
+          spec = spec.substring(0, spec.length() - 1);
+        }
+        int maxLength = -1;
+        int colon = spec.indexOf(':');
+        if (colon >= 0) {
+          maxLength = Integer.parseInt(spec.substring(colon + 1));
+          spec = spec.substring(0, colon);
+        }
+        variables[i] = new Variable(spec, maxLength, explode);
+      }
+      return new Expression(operator, variables, (operator == 0 ? "" : String.valueOf(operator)) + body);
+    }
+
+    boolean isStop(char c) {
+      if (stops.indexOf(c) >= 0) {
+        return true;
+      }
+      // A label value cannot contain a dot unless it is exploded over several values
+      return operator == '.' && c == '.' && variables.length == 1 && !variables[0].explode;
+    }
+
+    /**
+     * Captures the variables of this expression from {@code uri[start, end)}, the prefix character being excluded.
+     */
+    boolean capture(String uri, int start, int end, Captures captures) {
+      if (named) {
+        return captureNamed(uri, start, end, captures);
+      }
+      int index = 0;
+      int valueStart = start;
+      for (int i = start; i <= end; i++) {
+        boolean last = index == variables.length - 1;
+        if (i == end || (!last && uri.charAt(i) == separator)) {
+          if (!captureValue(variables[index], uri, valueStart, i, captures)) {
+            return false;
+          }
+          index++;
+          valueStart = i + 1;
+          if (index == variables.length) {
+            return i == end;
+          }
+        }
+      }
+      return true;
+    }
+
+    private boolean captureNamed(String uri, int start, int end, Captures captures) {
+      int pairStart = start;
+      for (int i = start; i <= end; i++) {
+        if (i == end || uri.charAt(i) == separator) {
+          if (i > pairStart) {
+            int eq = uri.indexOf('=', pairStart);
+            int nameEnd = eq >= 0 && eq < i ? eq : i;
+            Variable variable = variable(uri, pairStart, nameEnd);
+            if (variable == null) {
+              return false;
+            }
+            int valueStart = nameEnd < i ? nameEnd + 1 : i;
+            if (!captureValue(variable, uri, valueStart, i, captures)) {
+              return false;
+            }
+          }
+          pairStart = i + 1;
+        }
+      }
+      return true;
+    }
+
+    private Variable variable(String uri, int start, int end) {
+      for (Variable variable : variables) {
+        if (variable.name.length() == end - start && uri.startsWith(variable.name, start)) {
+          return variable;
+        }
+      }
+      return null;
+    }
+
+    private static boolean captureValue(Variable variable, String uri, int start, int end, Captures captures) {
+      String value = decode(uri, start, end);
+      if (variable.maxLength >= 0 && value.length() > variable.maxLength) {
+        return false;
+      }
+      captures.add(variable.name, value);
+      return true;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof Expression && ((Expression) obj).key.equals(key);
+    }
+
+    @Override
+    public int hashCode() {
+      return key.hashCode();
+    }
+  }
+
+  private static final class Captures {
+
+    private String[] entries = new String[8];
+    private int size;
+
+    void add(String name, String value) {
+      if (size + 2 > entries.length) {
+        entries = Arrays.copyOf(entries, entries.length * 2);
+      }
+      entries[size++] = name;
+      entries[size++] = value;
+    }
+
+    Map<String, String> toMap() {
+      if (size == 0) {
+        return Collections.emptyMap();
+      }
+      Map<String, String> map = new HashMap<>();
+      for (int i = 0; i < size; i += 2) {
+        map.put(entries[i], entries[i + 1]);
+      }
+      return map;
+    }
+  }
+}
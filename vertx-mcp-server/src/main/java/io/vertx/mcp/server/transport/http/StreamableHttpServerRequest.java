@@ -2,7 +2,7 @@ package io.vertx.mcp.server.transport.http;
 
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
-import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
@@ -12,12 +12,17 @@ import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonObject;
 import io.vertx.mcp.common.Meta;
 import io.vertx.mcp.common.request.InitializeRequest;
+import io.vertx.mcp.common.rpc.JsonEnvelope;
+import io.vertx.mcp.common.rpc.JsonError;
 import io.vertx.mcp.common.rpc.JsonNotification;
 import io.vertx.mcp.common.rpc.JsonRequest;
-import io.vertx.mcp.common.rpc.JsonRequestDecoder;
+import io.vertx.mcp.common.rpc.JsonMessageDecoder;
 import io.vertx.mcp.common.rpc.JsonResponse;
 import io.vertx.mcp.server.*;
+import io.vertx.mcp.server.impl.RemoteServerSession;
 import io.vertx.mcp.server.impl.ServerSessionImpl;
+import io.vertx.mcp.server.impl.StatelessServerSession;
+
 
 public class StreamableHttpServerRequest implements ServerRequest {
 
@@ -29,9 +34,11 @@ public class StreamableHttpServerRequest implements ServerRequest {
   private StreamableHttpServerResponse response;
   private Handler<Void> requestHandler;
   private Handler<Throwable> exceptionHandler;
+  private AdmissionHandler admissionHandler;
 
   private JsonRequest jsonRequest;
   private ServerSession session;
+  private boolean tooLarge;
 
   public StreamableHttpServerRequest(Context context, HttpServerRequest httpRequest, SessionManager sessionManager, ServerOptions options) {
     this.context = (ContextInternal) context;
@@ -58,6 +65,15 @@ public class StreamableHttpServerRequest implements ServerRequest {
     this.exceptionHandler = handler;
   }
 
+  /**
+   * Set the handler admitting requests on their envelope, before their params are decoded.
+   *
+   * @param handler the admission handler
+   */
+  public void admissionHandler(AdmissionHandler handler) {
+    this.admissionHandler = handler;
+  }
+
   @Override
   public void init(ServerSession session, ServerResponse response) {
     this.session = session;
@@ -76,96 +92,192 @@ public class StreamableHttpServerRequest implements ServerRequest {
         return;
       }
 
-      if (!this.session.isStreaming()) {
-        ((ServerSessionImpl) this.session).init(this.response);
+      if (session instanceof RemoteServerSession) {
+        // The stream of the session is relayed by the node owning the session, the stream is open once the owning node relays it
+        RemoteServerSession remote = (RemoteServerSession) session;
+        this.response.closeHandler(v -> remote.streamClosed());
+        remote.forwardStream(this.response).onComplete(ar -> {
+          if (ar.succeeded()) {
+            if (httpRequest.response().closed()) {
+              // Dropped by the client while the owning node was reached
+              remote.streamClosed();
+            } else {
+              openStream();
+            }
+          } else {
+            httpRequest.response().setStatusCode(404).end("Session not found");
+          }
+        });
+      } else {
+        if (!this.session.isStreaming()) {
+          initStream();
+        }
+        openStream();
       }
+    }
 
-      httpRequest.response().setChunked(true);
-
-      httpRequest.response().putHeader(HttpHeaders.CONTENT_TYPE, "text/event-stream;charset=UTF-8");
-      httpRequest.response().putHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
-      httpRequest.response().putHeader(HttpHeaders.CONNECTION, "keep-alive");
-
-      httpRequest.response().writeHead();
+    int maxRequestSize = options.getMaxRequestSize();
+    if (maxRequestSize > 0 && contentLength() > maxRequestSize) {
+      rejectTooLarge();
+      return;
     }
 
-    httpRequest.bodyHandler(body -> {
-      try {
-        if (body.length() == 0 && httpRequest.method().equals(HttpMethod.GET)) {
-          return;
-        }
+    Buffer body = Buffer.buffer();
+    httpRequest.handler(chunk -> {
+      if (tooLarge) {
+        return;
+      }
+      if (maxRequestSize > 0 && body.length() + chunk.length() > maxRequestSize) {
+        // Chunked request exceeding the limit, the remaining chunks are discarded
+        tooLarge = true;
+        rejectTooLarge();
+        return;
+      }
+      body.appendBuffer(chunk);
+    });
+    httpRequest.endHandler(v -> {
+      if (!tooLarge) {
+        handleBody(body);
+      }
+    });
 
-        JsonObject json = new JsonObject(body.toString());
+    httpRequest.exceptionHandler(t -> {
+      if (exceptionHandler != null) {
+        exceptionHandler.handle(t);
+      }
+    });
+  }
 
-        if (!json.containsKey("method") && (json.containsKey("result") || json.containsKey("error"))) {
-          if (session == null) {
-            httpRequest.response().setStatusCode(400).end("Session required for responses");
-            return;
-          }
+  private void handleBody(Buffer body) {
+    try {
+      if (body.length() == 0 && httpRequest.method().equals(HttpMethod.GET)) {
+        return;
+      }
 
-          JsonResponse jsonResponse = JsonResponse.fromJson(json);
-          ServerSessionImpl sessionImpl = (ServerSessionImpl) session;
-          Promise<JsonObject> promise = sessionImpl.getPendingRequests().remove(jsonResponse.getId());
+      JsonEnvelope envelope = JsonEnvelope.probe(body);
+      if (admissionHandler != null && envelope.getMethod() != null && !envelope.isResponse()) {
+        JsonError error = admissionHandler.admit(envelope, session);
+        if (error != null) {
+          // Rejected on the envelope, the params are never decoded
+          this.response.requestId(envelope.getId());
+          this.response.end(new JsonResponse(error, envelope.getId()));
+          return;
+        }
+      }
 
-          if (promise == null) {
-            httpRequest.response().setStatusCode(400).end("Unknown request ID");
-            return;
-          }
+      Object message = JsonMessageDecoder.decode(body);
 
-          if (jsonResponse.isSuccess()) {
-            Object resultValue = jsonResponse.getResult();
-            JsonObject resultJson = resultValue instanceof JsonObject ? (JsonObject) resultValue : new JsonObject();
-            promise.complete(resultJson);
-          } else {
-            promise.fail(new RuntimeException(jsonResponse.getError().getMessage()));
-          }
+      if (message instanceof JsonResponse) {
+        JsonResponse jsonResponse = (JsonResponse) message;
 
-          httpRequest.response().setStatusCode(202);
-          httpRequest.response().end();
+        if (session instanceof RemoteServerSession) {
+          // The request is pending on the node owning the session
+          ((RemoteServerSession) session).forwardResponse(jsonResponse).onComplete(ar -> {
+            if (ar.succeeded()) {
+              httpRequest.response().setStatusCode(202).end();
+            } else {
+              httpRequest.response().setStatusCode(400).end("Unknown request ID");
+            }
+          });
           return;
         }
 
-        this.jsonRequest = JsonRequestDecoder.fromJson(json);
+        if (!(session instanceof ServerSessionImpl)) {
+          // Stateless sessions send no request to the client
+          httpRequest.response().setStatusCode(400).end("Session required for responses");
+          return;
+        }
 
-        if (this.jsonRequest.getMethod().equals("initialize") && options.getStreamingEnabled() && session == null) {
-          InitializeRequest initialize = new InitializeRequest(json);
-          httpRequest.response().putHeader(StreamableHttpServerTransport.MCP_SESSION_ID_HEADER, sessionManager.createSession(initialize.getCapabilities()).id());
+        if (!((ServerSessionImpl) session).completeRequest(jsonResponse)) {
+          httpRequest.response().setStatusCode(400).end("Unknown request ID");
+          return;
         }
 
-        if (this.session != null && options.getStreamingEnabled() && !(this.jsonRequest instanceof JsonNotification)) {
-          if (!this.session.isStreaming()) {
-            ((ServerSessionImpl) this.session).init(this.response);
-          }
+        httpRequest.response().setStatusCode(202);
+        httpRequest.response().end();
+        return;
+      }
 
-          HttpServerResponse httpResponse = httpRequest.response();
+      this.jsonRequest = (JsonRequest) message;
+
+      if (this.jsonRequest.getMethod().equals("initialize") && options.getStreamingEnabled() && session == null) {
+        InitializeRequest initialize = (InitializeRequest) this.jsonRequest.getRequest();
+        httpRequest.response().putHeader(StreamableHttpServerTransport.MCP_SESSION_ID_HEADER, initialize != null
+          ? sessionManager.createSession(initialize.getCapabilities(), initialize.getProtocolVersion()).id()
+          : sessionManager.createSession(null).id());
+      }
 
-          httpResponse.setChunked(true);
-          httpResponse.putHeader(HttpHeaders.CONTENT_TYPE, "text/event-stream;charset=UTF-8");
-          httpResponse.putHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
-          httpResponse.putHeader(HttpHeaders.CONNECTION, "keep-alive");
+      if (this.session != null && options.getStreamingEnabled() && !(this.jsonRequest instanceof JsonNotification)) {
+        if (!this.session.isStreaming()) {
+          initStream();
         }
 
-        this.response.requestId(this.jsonRequest.getId());
+        // The response is upgraded to an SSE stream only when messages are written before the final response
+        this.response.gracePeriod(options.getStreamingGracePeriodMs());
+      }
 
-        if (this.jsonRequest.getNamedParams() != null && !this.jsonRequest.getNamedParams().isEmpty()) {
-          this.context.put(Meta.MCP_META_CONTEXT_KEY, this.jsonRequest.getNamedParams().getJsonObject(Meta.META_KEY, new JsonObject()));
-        }
+      this.response.requestId(this.jsonRequest.getId());
 
-        if (requestHandler != null) {
-          requestHandler.handle(null);
-        }
-      } catch (DecodeException | IllegalArgumentException e) {
-        if (exceptionHandler != null) {
-          exceptionHandler.handle(e);
-        }
+      if (this.jsonRequest.getNamedParams() != null && !this.jsonRequest.getNamedParams().isEmpty()) {
+        this.context.put(Meta.MCP_META_CONTEXT_KEY, this.jsonRequest.getNamedParams().getJsonObject(Meta.META_KEY, new JsonObject()));
       }
-    });
 
-    httpRequest.exceptionHandler(t -> {
+      if (requestHandler != null) {
+        requestHandler.handle(null);
+      }
+    } catch (DecodeException | IllegalArgumentException e) {
       if (exceptionHandler != null) {
-        exceptionHandler.handle(t);
+        exceptionHandler.handle(e);
       }
-    });
+    }
+  }
+
+  private void openStream() {
+    HttpServerResponse httpResponse = httpRequest.response();
+    if (httpResponse.headWritten()) {
+      // Already opened by a relayed message
+      return;
+    }
+
+    httpResponse.setChunked(true);
+
+    httpResponse.putHeader(HttpHeaders.CONTENT_TYPE, "text/event-stream;charset=UTF-8");
+    httpResponse.putHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+    httpResponse.putHeader(HttpHeaders.CONNECTION, "keep-alive");
+
+    httpResponse.writeHead();
+    response.trackStream();
+  }
+
+  private void initStream() {
+    if (session instanceof StatelessServerSession) {
+      // The messages of a stateless session are sent on the response of its current request
+      ((StatelessServerSession) session).init(this.response);
+    } else if (session instanceof RemoteServerSession) {
+      // Notifications and log messages are sent on the response, the other messages of the session on its stream
+      ((RemoteServerSession) session).init(this.response);
+    } else {
+      ((ServerSessionImpl) session).init(this.response);
+    }
+  }
+
+  private long contentLength() {
+    String header = httpRequest.getHeader(HttpHeaders.CONTENT_LENGTH);
+    if (header == null) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(header);
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  private void rejectTooLarge() {
+    HttpServerResponse httpResponse = httpRequest.response();
+    if (!httpResponse.ended() && !httpResponse.headWritten()) {
+      httpResponse.setStatusCode(413).end("Request too large");
+    }
   }
 
   @Override
@@ -3,28 +3,57 @@ package io.vertx.mcp.server.transport.http;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.core.streams.WriteStream;
+import io.vertx.mcp.common.metrics.McpMetrics;
 import io.vertx.mcp.common.rpc.JsonProtocol;
+import io.vertx.mcp.common.rpc.JsonResponse;
+import io.vertx.mcp.common.rpc.JsonResponseEncoder;
 import io.vertx.mcp.server.ServerResponse;
 import io.vertx.mcp.server.ServerSession;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The response of a JSON-RPC request received by the streamable HTTP transport. The response is adaptive: it is sent as {@code application/json} with a content length unless
+ * messages are written before the final response, in which case it is upgraded to an SSE stream by the first message. With a grace period, the messages written during the
+ * period are buffered, and when the final response is ready before the period elapses, they are sent with it as a single SSE body with a content length.
+ */
 public class StreamableHttpServerResponse implements ServerResponse {
 
+  private static final Buffer SSE_DATA = Buffer.buffer("data: ");
+  private static final Buffer SSE_END = Buffer.buffer("\n\n");
+
   private final ContextInternal context;
   private final HttpServerResponse httpResponse;
+  private final McpMetrics metrics;
   private Handler<Throwable> exceptionHandler;
+  private Handler<Void> closeHandler;
 
   private boolean ended = false;
   private Object requestId;
   private ServerSession session;
 
+  // Adaptive mode: the response is upgraded to an SSE stream by the first message written before the final response
+  private long gracePeriodMs;
+  private boolean streaming;
+  private Buffer pending;
+  private long graceTimer = -1;
+
   public StreamableHttpServerResponse(ContextInternal context, HttpServerResponse httpResponse) {
+    this(context, httpResponse, null);
+  }
+
+  public StreamableHttpServerResponse(ContextInternal context, HttpServerResponse httpResponse, McpMetrics metrics) {
     this.context = context;
     this.httpResponse = httpResponse;
+    this.metrics = metrics;
   }
 
   @Override
@@ -41,6 +70,15 @@ public class StreamableHttpServerResponse implements ServerResponse {
     this.requestId = requestId;
   }
 
+  /**
+   * Sets the delay during which the messages written before the final response are buffered, instead of upgrading the response to an SSE stream.
+   *
+   * @param gracePeriodMs the grace period in milliseconds, {@code 0} upgrades the response on the first message
+   */
+  public void gracePeriod(long gracePeriodMs) {
+    this.gracePeriodMs = gracePeriodMs;
+  }
+
   @Override
   public ServerSession session() {
     return this.session;
@@ -58,7 +96,7 @@ public class StreamableHttpServerResponse implements ServerResponse {
     }
 
     if (this.session != null && this.session.isStreaming()) {
-      return httpResponse.write("data: " + data.encode() + "\n\n");
+      return writeEvent(Buffer.buffer("data: " + data.encode() + "\n\n"));
     }
 
     if (this.requestId != null && !data.containsKey(JsonProtocol.ID_FIELD)) {
@@ -68,6 +106,152 @@ public class StreamableHttpServerResponse implements ServerResponse {
     return end(data);
   }
 
+  @Override
+  public Future<Void> write(JsonResponse data) {
+    if (ended) {
+      return Future.failedFuture("Response already ended");
+    }
+
+    Buffer message = JsonResponseEncoder.encode(data);
+    if (this.session != null && this.session.isStreaming()) {
+      return writeEvent(Buffer.buffer(message.length() + 8).appendBuffer(SSE_DATA).appendBuffer(message).appendBuffer(SSE_END));
+    }
+
+    return end(message);
+  }
+
+  @Override
+  public Future<Void> write(Buffer message) {
+    if (ended) {
+      return Future.failedFuture("Response already ended");
+    }
+
+    if (this.session != null && this.session.isStreaming()) {
+      return writeEvent(Buffer.buffer(message.length() + 8).appendBuffer(SSE_DATA).appendBuffer(message).appendBuffer(SSE_END));
+    }
+
+    return ServerResponse.super.write(message);
+  }
+
+  @Override
+  public Future<Void> writeAll(List<JsonObject> messages) {
+    if (ended) {
+      return Future.failedFuture("Response already ended");
+    }
+
+    if (this.session == null || !this.session.isStreaming()) {
+      return ServerResponse.super.writeAll(messages);
+    }
+
+    // One chunk, hence one flush, for all the events
+    Buffer buffer = Buffer.buffer(messages.size() * 128);
+    for (JsonObject message : messages) {
+      buffer.appendBuffer(SSE_DATA).appendBuffer(message.toBuffer()).appendBuffer(SSE_END);
+    }
+    return writeEvent(buffer);
+  }
+
+  private Future<Void> writeEvent(Buffer event) {
+    if (streaming || httpResponse.headWritten()) {
+      return httpResponse.write(written(event));
+    }
+    if (gracePeriodMs > 0) {
+      if (pending == null) {
+        pending = Buffer.buffer(event.length() + 256);
+        graceTimer = context.setTimer(gracePeriodMs, id -> {
+          graceTimer = -1;
+          if (!ended) {
+            upgrade();
+          }
+        });
+      }
+      pending.appendBuffer(event);
+      return Future.succeededFuture();
+    }
+    upgrade();
+    return httpResponse.write(written(event));
+  }
+
+  /**
+   * Upgrades the response to an SSE stream, writing the buffered messages.
+   */
+  private void upgrade() {
+    if (streaming || httpResponse.headWritten()) {
+      return;
+    }
+    streaming = true;
+    cancelGraceTimer();
+
+    if (session != null) {
+      httpResponse.putHeader(StreamableHttpServerTransport.MCP_SESSION_ID_HEADER, session.id());
+    }
+    httpResponse.setChunked(true);
+    httpResponse.putHeader(HttpHeaders.CONTENT_TYPE, "text/event-stream;charset=UTF-8");
+    httpResponse.putHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+    httpResponse.putHeader(HttpHeaders.CONNECTION, "keep-alive");
+    trackStream();
+
+    if (pending != null) {
+      Buffer buffered = pending;
+      pending = null;
+      httpResponse.write(written(buffered));
+    } else {
+      httpResponse.writeHead();
+    }
+  }
+
+  private void cancelGraceTimer() {
+    if (graceTimer != -1) {
+      context.owner().cancelTimer(graceTimer);
+      graceTimer = -1;
+    }
+  }
+
+  /**
+   * Sets a handler called once the SSE stream of the response is ended or closed.
+   *
+   * @param handler the handler
+   */
+  public void closeHandler(Handler<Void> handler) {
+    this.closeHandler = handler;
+  }
+
+  /**
+   * Tracks the SSE stream of the response until it is ended or closed.
+   */
+  void trackStream() {
+    trackStream(httpResponse, metrics, closeHandler);
+  }
+
+  /**
+   * Reports an SSE stream to the metrics and calls the close handler, once the response is ended or closed.
+   *
+   * @param httpResponse the response streaming events
+   * @param metrics the metrics, can be null
+   * @param closeHandler the handler called when the stream is closed, can be null
+   */
+  private static void trackStream(HttpServerResponse httpResponse, McpMetrics metrics, Handler<Void> closeHandler) {
+    if (metrics == null && closeHandler == null) {
+      return;
+    }
+    if (metrics != null) {
+      metrics.streamOpened();
+    }
+    AtomicBoolean closed = new AtomicBoolean();
+    Handler<Void> onClose = v -> {
+      if (closed.compareAndSet(false, true)) {
+        if (metrics != null) {
+          metrics.streamClosed();
+        }
+        if (closeHandler != null) {
+          closeHandler.handle(null);
+        }
+      }
+    };
+    httpResponse.endHandler(onClose);
+    httpResponse.closeHandler(onClose);
+  }
+
   @Override
   public Future<Void> end() {
     if (ended) {
@@ -75,8 +259,11 @@ public class StreamableHttpServerResponse implements ServerResponse {
     }
 
     ended = true;
+    if (pending != null) {
+      upgrade();
+    }
 
-    if (this.requestId == null && !this.httpResponse.ended()) {
+    if (this.requestId == null && !this.httpResponse.ended() && !this.httpResponse.headWritten()) {
       httpResponse.setStatusCode(202);
       httpResponse.headers().remove(HttpHeaders.CONTENT_TYPE);
       httpResponse.headers().remove(HttpHeaders.CACHE_CONTROL);
@@ -89,6 +276,16 @@ public class StreamableHttpServerResponse implements ServerResponse {
 
   @Override
   public Future<Void> end(JsonObject data) {
+    return end(data.toBuffer());
+  }
+
+  @Override
+  public Future<Void> end(JsonResponse response) {
+    return end(JsonResponseEncoder.encode(response));
+  }
+
+  @Override
+  public Future<Void> end(Buffer message) {
     if (ended) {
       return Future.failedFuture("Response already ended");
     }
@@ -97,19 +294,70 @@ public class StreamableHttpServerResponse implements ServerResponse {
 
     // If response headers already written (SSE stream active), write as SSE and close
     if (httpResponse.headWritten()) {
-      return httpResponse.write("data: " + data.encode() + "\n\n")
+      return httpResponse.write(written(Buffer.buffer(message.length() + 8).appendBuffer(SSE_DATA).appendBuffer(message).appendBuffer(SSE_END)))
         .compose(v -> httpResponse.end());
     }
 
+    if (pending != null) {
+      // Messages buffered during the grace period, sent with the final response in a single SSE body
+      cancelGraceTimer();
+      Buffer body = pending.appendBuffer(SSE_DATA).appendBuffer(message).appendBuffer(SSE_END);
+      pending = null;
+      prepareResponse("text/event-stream;charset=UTF-8");
+      httpResponse.putHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+      return httpResponse.end(written(body));
+    }
+
     // Non-streaming response - set headers and send JSON
+    prepareJsonResponse();
+
+    return httpResponse.end(written(message));
+  }
+
+  @Override
+  public Future<Void> end(ReadStream<Buffer> message) {
+    if (ended) {
+      return Future.failedFuture("Response already ended");
+    }
+
+    ended = true;
+    if (pending != null) {
+      upgrade();
+    }
+
+    boolean sse = httpResponse.headWritten();
+    if (sse) {
+      httpResponse.write(SSE_DATA);
+    } else {
+      prepareJsonResponse();
+      httpResponse.setChunked(true);
+    }
+
+    return message.pipe()
+      .endOnComplete(false)
+      .to(httpResponse)
+      .compose(v -> sse ? httpResponse.end(SSE_END) : httpResponse.end())
+      .onFailure(err -> httpResponse.reset());
+  }
+
+  private Buffer written(Buffer buffer) {
+    if (metrics != null) {
+      metrics.bytesWritten(buffer.length());
+    }
+    return buffer;
+  }
+
+  private void prepareJsonResponse() {
+    prepareResponse("application/json");
+  }
+
+  private void prepareResponse(String contentType) {
     if (session != null) {
       httpResponse.putHeader(StreamableHttpServerTransport.MCP_SESSION_ID_HEADER, session.id());
     }
 
     httpResponse.setStatusCode(200);
-    httpResponse.putHeader(HttpHeaders.CONTENT_TYPE, "application/json");
-
-    return httpResponse.end(data.toBuffer());
+    httpResponse.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
   }
 
   @Override
@@ -8,6 +8,7 @@ import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.http.HttpServerRequestInternal;
+import io.vertx.mcp.common.metrics.McpMetrics;
 import io.vertx.mcp.common.rpc.JsonError;
 import io.vertx.mcp.common.rpc.JsonResponse;
 import io.vertx.mcp.server.ModelContextProtocolServer;
@@ -16,6 +17,7 @@ import io.vertx.mcp.server.ServerSession;
 import io.vertx.mcp.server.SessionManager;
 import io.vertx.mcp.server.impl.ModelContextProtocolServerImpl;
 import io.vertx.mcp.server.impl.SessionManagerImpl;
+import io.vertx.mcp.server.impl.StatelessSessionManager;
 
 import java.util.Arrays;
 import java.util.Set;
@@ -42,16 +44,21 @@ public class StreamableHttpServerTransport implements Handler<HttpServerRequest>
   private final ModelContextProtocolServer server;
   private final ServerOptions options;
   private final SessionManager sessionManager;
+  private final McpMetrics metrics;
 
   public StreamableHttpServerTransport(Vertx vertx, ModelContextProtocolServer server) {
     this.server = server;
-    // Get options if available
+    // Get options and metrics if available
     if (server instanceof ModelContextProtocolServerImpl) {
       this.options = ((ModelContextProtocolServerImpl) server).getOptions();
+      this.metrics = ((ModelContextProtocolServerImpl) server).metrics();
     } else {
       this.options = new ServerOptions();
+      this.metrics = null;
     }
-    this.sessionManager = new SessionManagerImpl(vertx, options);
+    this.sessionManager = options.getStatelessSessions()
+      ? new StatelessSessionManager(options)
+      : new SessionManagerImpl(vertx, options, metrics, server instanceof ModelContextProtocolServerImpl ? ((ModelContextProtocolServerImpl) server)::sessionEvent : null);
   }
 
   @Override
@@ -65,7 +72,9 @@ public class StreamableHttpServerTransport implements Handler<HttpServerRequest>
       return;
     }
 
-    if (!httpRequest.method().equals(HttpMethod.POST) && !httpRequest.method().equals(HttpMethod.GET)) {
+    // Stateless sessions have no stream for server initiated messages
+    boolean stateless = options.getStatelessSessions();
+    if (!httpRequest.method().equals(HttpMethod.POST) && (stateless || !httpRequest.method().equals(HttpMethod.GET))) {
       httpRequest.response().setStatusCode(405).end("Method not allowed");
       return;
     }
@@ -83,27 +92,52 @@ public class StreamableHttpServerTransport implements Handler<HttpServerRequest>
       return;
     }
 
-    ContextInternal context = ((HttpServerRequestInternal) httpRequest).context();
     String sessionId = httpRequest.getHeader(MCP_SESSION_ID_HEADER);
 
-    StreamableHttpServerRequest serverRequest = new StreamableHttpServerRequest(context, httpRequest, sessionManager, options);
-    StreamableHttpServerResponse serverResponse = new StreamableHttpServerResponse(context, httpRequest.response());
-
     ServerSession session = null;
 
     // If there's a session ID and sessions are enabled, retrieve existing session
     if (sessionId != null && options.getStreamingEnabled()) {
       session = sessionManager.getSession(sessionId);
+      if (session == null && isRemote(sessionId)) {
+        // Session owned by another node, the body is read once the owning node answers
+        httpRequest.pause();
+        ((SessionManagerImpl) sessionManager).lookupSession(sessionId).onComplete(ar -> {
+          if (ar.result() == null) {
+            httpRequest.response().setStatusCode(404).end("Session not found");
+          } else {
+            handle(httpRequest, ar.result());
+          }
+          httpRequest.resume();
+        });
+        return;
+      }
       if (session == null) {
         httpRequest.response().setStatusCode(404).end("Session not found");
         return;
       }
     }
 
+    handle(httpRequest, session);
+  }
+
+  private boolean isRemote(String sessionId) {
+    return sessionManager instanceof SessionManagerImpl && !((SessionManagerImpl) sessionManager).isLocal(sessionId);
+  }
+
+  private void handle(HttpServerRequest httpRequest, ServerSession session) {
+    ContextInternal context = ((HttpServerRequestInternal) httpRequest).context();
+
+    StreamableHttpServerRequest serverRequest = new StreamableHttpServerRequest(context, httpRequest, sessionManager, options);
+    StreamableHttpServerResponse serverResponse = new StreamableHttpServerResponse(context, httpRequest.response(), metrics);
+
     if (session != null) {
       context.put(ServerSession.MCP_SESSION_CONTEXT_KEY, session);
     }
 
+    if (server instanceof ModelContextProtocolServerImpl) {
+      serverRequest.admissionHandler(((ModelContextProtocolServerImpl) server)::admit);
+    }
     serverRequest.handler(v -> context.dispatch(serverRequest, server));
     serverRequest.exceptionHandler(t -> httpRequest.response()
       .setStatusCode(400)
@@ -131,14 +165,34 @@ public class StreamableHttpServerTransport implements Handler<HttpServerRequest>
       return;
     }
 
+    if (options.getStatelessSessions()) {
+      // A stateless session cannot be terminated by the server
+      httpRequest.response().setStatusCode(405).end("Method not allowed");
+      return;
+    }
+
     ServerSession session = sessionManager.getSession(sessionId);
+    if (session == null && isRemote(sessionId)) {
+      // Closed by the node owning the session
+      ((SessionManagerImpl) sessionManager).lookupSession(sessionId).onComplete(ar -> {
+        if (ar.result() == null) {
+          httpRequest.response().setStatusCode(404).end("Session not found");
+        } else {
+          closeSession(httpRequest, ar.result());
+        }
+      });
+      return;
+    }
     if (session == null) {
       httpRequest.response().setStatusCode(404).end("Session not found");
       return;
     }
 
     sessionManager.removeSession(sessionId);
+    closeSession(httpRequest, session);
+  }
 
+  private void closeSession(HttpServerRequest httpRequest, ServerSession session) {
     Promise<Void> promise = Promise.promise();
 
     session.close(promise);
@@ -0,0 +1,59 @@
+package io.vertx.mcp.server.transport.stdio;
+
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.mcp.common.rpc.JsonRequest;
+import io.vertx.mcp.server.ServerRequest;
+import io.vertx.mcp.server.ServerResponse;
+import io.vertx.mcp.server.ServerSession;
+
+/**
+ * A JSON-RPC request read by the stdio transport, the request is decoded before it is created.
+ */
+public class StdioServerRequest implements ServerRequest {
+
+  private final ContextInternal context;
+  private final JsonRequest jsonRequest;
+
+  private ServerSession session;
+  private StdioServerResponse response;
+
+  public StdioServerRequest(ContextInternal context, JsonRequest jsonRequest) {
+    this.context = context;
+    this.jsonRequest = jsonRequest;
+  }
+
+  @Override
+  public void init(ServerSession session, ServerResponse response) {
+    if (!(response instanceof StdioServerResponse)) {
+      throw new IllegalArgumentException("Response must be an instance of StdioServerResponse");
+    }
+    this.session = session;
+    this.response = (StdioServerResponse) response;
+    response.init(session);
+  }
+
+  @Override
+  public String path() {
+    return jsonRequest.getMethod();
+  }
+
+  @Override
+  public ContextInternal context() {
+    return context;
+  }
+
+  @Override
+  public ServerResponse response() {
+    return response;
+  }
+
+  @Override
+  public JsonRequest getJsonRequest() {
+    return jsonRequest;
+  }
+
+  @Override
+  public ServerSession session() {
+    return session;
+  }
+}
@@ -0,0 +1,142 @@
+package io.vertx.mcp.server.transport.stdio;
+
+import io.vertx.codegen.annotations.Nullable;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.mcp.common.rpc.JsonResponse;
+import io.vertx.mcp.common.rpc.JsonResponseEncoder;
+import io.vertx.mcp.common.transport.stdio.StdioChannel;
+import io.vertx.mcp.server.ServerResponse;
+import io.vertx.mcp.server.ServerSession;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The response of a JSON-RPC request received by the stdio transport, or the stream of the session when it has no request ID. Every message is written as a line of the channel,
+ * ending the stream of the session does not close the channel.
+ */
+public class StdioServerResponse implements ServerResponse {
+
+  private final ContextInternal context;
+  private final StdioChannel channel;
+  private final Object requestId;
+
+  private ServerSession session;
+  private boolean ended;
+
+  public StdioServerResponse(ContextInternal context, StdioChannel channel, Object requestId) {
+    this.context = context;
+    this.channel = channel;
+    this.requestId = requestId;
+  }
+
+  @Override
+  public void init(ServerSession session) {
+    this.session = session;
+  }
+
+  @Override
+  public Object requestId() {
+    return requestId;
+  }
+
+  @Override
+  public ServerSession session() {
+    return session;
+  }
+
+  @Override
+  public ContextInternal context() {
+    return context;
+  }
+
+  @Override
+  public Future<Void> write(JsonObject data) {
+    if (ended) {
+      return Future.failedFuture("Response already ended");
+    }
+    return channel.write(data.toBuffer());
+  }
+
+  @Override
+  public Future<Void> write(JsonResponse data) {
+    if (ended) {
+      return Future.failedFuture("Response already ended");
+    }
+    return channel.write(JsonResponseEncoder.encode(data));
+  }
+
+  @Override
+  public Future<Void> write(Buffer message) {
+    if (ended) {
+      return Future.failedFuture("Response already ended");
+    }
+    return channel.write(message);
+  }
+
+  @Override
+  public Future<Void> writeAll(List<JsonObject> messages) {
+    if (ended) {
+      return Future.failedFuture("Response already ended");
+    }
+    List<Buffer> buffers = new ArrayList<>(messages.size());
+    for (JsonObject message : messages) {
+      buffers.add(message.toBuffer());
+    }
+    return channel.writeAll(buffers);
+  }
+
+  @Override
+  public Future<Void> end() {
+    ended = true;
+    return context.succeededFuture();
+  }
+
+  @Override
+  public Future<Void> end(JsonObject data) {
+    return end(data.toBuffer());
+  }
+
+  @Override
+  public Future<Void> end(JsonResponse response) {
+    return end(JsonResponseEncoder.encode(response));
+  }
+
+  @Override
+  public Future<Void> end(Buffer message) {
+    if (ended) {
+      return Future.failedFuture("Response already ended");
+    }
+    ended = true;
+    return channel.write(message);
+  }
+
+  @Override
+  public WriteStream<JsonObject> setWriteQueueMaxSize(int maxSize) {
+    channel.setWriteQueueMaxSize(maxSize);
+    return this;
+  }
+
+  @Override
+  public boolean writeQueueFull() {
+    return channel.writeQueueFull();
+  }
+
+  @Override
+  public WriteStream<JsonObject> drainHandler(@Nullable Handler<Void> handler) {
+    if (handler != null) {
+      channel.drainHandler(handler);
+    }
+    return this;
+  }
+
+  @Override
+  public WriteStream<JsonObject> exceptionHandler(@Nullable Handler<Throwable> handler) {
+    return this;
+  }
+}
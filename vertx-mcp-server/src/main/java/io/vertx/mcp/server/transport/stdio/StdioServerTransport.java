@@ -0,0 +1,169 @@
+package io.vertx.mcp.server.transport.stdio;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.mcp.common.rpc.JsonRequest;
+import io.vertx.mcp.common.transport.stdio.StdioChannel;
+import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.ServerRequest;
+import io.vertx.mcp.server.ServerResponse;
+import io.vertx.mcp.server.ServerOptions;
+import io.vertx.mcp.server.impl.ModelContextProtocolServerImpl;
+import io.vertx.mcp.server.impl.ServerConnection;
+import io.vertx.mcp.server.impl.SessionManagerImpl;
+
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The StdioServerTransport class serves a single client over a pair of byte streams, by default the standard input and output of the process: the client launches the server as
+ * a subprocess and exchanges newline delimited JSON-RPC messages with it. The session of the client is created by its {@code initialize} request and ends with the input.
+ * <p>
+ * Reading stops while the client does not read the messages written by the server, so that a client that stops reading eventually blocks on its own writes.
+ *
+ * @version 2025-06-18
+ * @see <a href="https://modelcontextprotocol.io/specification/2025-06-18/basic/transports#stdio">Server Transports - stdio</a>
+ */
+public class StdioServerTransport {
+
+  private static final Logger LOGGER = Logger.getLogger(StdioServerTransport.class.getName());
+
+  private final SessionManagerImpl sessionManager;
+  private final ContextInternal context;
+  private final StdioChannel channel;
+  private final Connection connection;
+
+  private Handler<Void> closeHandler;
+  private boolean closed;
+
+  /**
+   * Creates a transport over the standard input and output of the process. {@link System#out} is redirected to {@link System#err} since anything printed on the standard output
+   * would corrupt the messages.
+   *
+   * @param vertx the Vert.x instance
+   * @param server the server handling the requests
+   */
+  public StdioServerTransport(Vertx vertx, ModelContextProtocolServer server) {
+    this(vertx, server, new FileInputStream(FileDescriptor.in), new FileOutputStream(FileDescriptor.out));
+    System.setOut(System.err);
+  }
+
+  /**
+   * Creates a transport over the given streams.
+   *
+   * @param vertx the Vert.x instance
+   * @param server the server handling the requests
+   * @param in the stream of the messages sent by the client
+   * @param out the stream of the messages sent to the client
+   */
+  public StdioServerTransport(Vertx vertx, ModelContextProtocolServer server, InputStream in, OutputStream out) {
+    ServerOptions options;
+    if (server instanceof ModelContextProtocolServerImpl) {
+      ModelContextProtocolServerImpl impl = (ModelContextProtocolServerImpl) server;
+      // The channel is the stream of the session
+      options = new ServerOptions(impl.getOptions()).setStreamingEnabled(true);
+      this.sessionManager = new SessionManagerImpl(vertx, options, impl.metrics(), impl::sessionEvent);
+    } else {
+      options = new ServerOptions().setStreamingEnabled(true);
+      this.sessionManager = new SessionManagerImpl(vertx, options);
+    }
+    this.context = (ContextInternal) vertx.getOrCreateContext();
+    int maxMessageSize = options.getMaxRequestSize() > 0 ? options.getMaxRequestSize() : Integer.MAX_VALUE - 1;
+    this.channel = new StdioChannel(context, in, out, maxMessageSize);
+    this.connection = new Connection(server, sessionManager, context);
+  }
+
+  /**
+   * Set a handler called once the transport is closed, when the input ends or {@link #close()} is called. A server running on the standard streams typically exits then.
+   *
+   * @param handler the handler
+   * @return a reference to this, so the API can be used fluently
+   */
+  public StdioServerTransport closeHandler(Handler<Void> handler) {
+    this.closeHandler = handler;
+    return this;
+  }
+
+  /**
+   * Starts reading the messages of the client.
+   *
+   * @return a future completed once the transport is started
+   */
+  public Future<Void> start() {
+    channel
+      .handler(this::handle)
+      .endHandler(v -> close())
+      .exceptionHandler(err -> LOGGER.log(Level.WARNING, "Stdio transport failure", err))
+      .start("vertx-mcp-stdio");
+    return context.succeededFuture();
+  }
+
+  /**
+   * Ends the session of the client and closes the output once the messages written have been flushed.
+   *
+   * @return a future completed once the transport is closed
+   */
+  public Future<Void> close() {
+    Promise<Void> promise = context.promise();
+    context.runOnContext(v -> {
+      if (closed) {
+        channel.closeFuture().onComplete(promise);
+        return;
+      }
+      closed = true;
+      connection.removeSession();
+      channel.close().onComplete(ar -> {
+        Handler<Void> handler = closeHandler;
+        if (handler != null) {
+          handler.handle(null);
+        }
+        promise.handle(ar);
+      });
+    });
+    return promise.future();
+  }
+
+  public SessionManagerImpl getSessionManager() {
+    return sessionManager;
+  }
+
+  private void handle(Buffer message) {
+    if (channel.writeQueueFull()) {
+      // The client does not read the messages of the server
+      channel.pause();
+      channel.drainHandler(v -> channel.resume());
+    }
+    connection.handleMessage(message);
+  }
+
+  private class Connection extends ServerConnection {
+
+    Connection(ModelContextProtocolServer server, SessionManagerImpl sessionManager, ContextInternal context) {
+      super(server, sessionManager, context);
+    }
+
+    @Override
+    protected Future<Void> write(Buffer message) {
+      return channel.write(message);
+    }
+
+    @Override
+    protected ServerRequest createRequest(ContextInternal context, JsonRequest jsonRequest) {
+      return new StdioServerRequest(context, jsonRequest);
+    }
+
+    @Override
+    protected ServerResponse createResponse(ContextInternal context, Object requestId) {
+      return new StdioServerResponse(context, channel, requestId);
+    }
+  }
+}
@@ -0,0 +1,213 @@
+package io.vertx.mcp.server.transport.websocket;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.ServerWebSocket;
+import io.vertx.core.http.WebSocketFrame;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mcp.common.rpc.JsonError;
+import io.vertx.mcp.common.rpc.JsonRequest;
+import io.vertx.mcp.common.rpc.JsonResponse;
+import io.vertx.mcp.common.rpc.JsonResponseEncoder;
+import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.ServerRequest;
+import io.vertx.mcp.server.ServerResponse;
+import io.vertx.mcp.server.ServerSession;
+import io.vertx.mcp.server.impl.ServerConnection;
+import io.vertx.mcp.server.impl.ServerSessionImpl;
+import io.vertx.mcp.server.impl.SessionManagerImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A WebSocket connection of the {@link WebSocketServerTransport}, carrying a single session. All the state is accessed on the context of the connection.
+ */
+class WebSocketServerConnection extends ServerConnection {
+
+  private static final Logger LOGGER = Logger.getLogger(WebSocketServerConnection.class.getName());
+
+  private final SessionManagerImpl sessionManager;
+  private final ServerWebSocket ws;
+  private final int maxMessageSize;
+  private final long pingIntervalMs;
+
+  // The messages are written in the frame type of the last message of the client
+  private boolean binary;
+  // The fragments of the message being received, null once discarded
+  private Buffer fragments;
+  private long fragmentsSize;
+  private long lastPong;
+  private long pingTimer = -1;
+  private List<Handler<Void>> drainHandlers;
+  private boolean closed;
+
+  WebSocketServerConnection(ModelContextProtocolServer server, SessionManagerImpl sessionManager, ServerWebSocket ws, ContextInternal context, int maxMessageSize,
+    long pingIntervalMs) {
+    super(server, sessionManager, context);
+    this.sessionManager = sessionManager;
+    this.ws = ws;
+    this.maxMessageSize = maxMessageSize;
+    this.pingIntervalMs = pingIntervalMs;
+  }
+
+  void init() {
+    ws.frameHandler(this::handleFrame);
+    ws.pongHandler(v -> handlePong());
+    ws.drainHandler(v -> drained());
+    ws.exceptionHandler(err -> LOGGER.log(Level.FINE, "WebSocket transport failure", err));
+    ws.closeHandler(v -> close());
+    if (pingIntervalMs > 0) {
+      lastPong = System.currentTimeMillis();
+      pingTimer = context().owner().setPeriodic(pingIntervalMs, id -> ping());
+    }
+  }
+
+  Future<Void> write(JsonObject message) {
+    return binary ? ws.writeBinaryMessage(message.toBuffer()) : ws.writeTextMessage(message.encode());
+  }
+
+  @Override
+  protected Future<Void> write(Buffer message) {
+    return binary ? ws.writeBinaryMessage(message) : ws.writeTextMessage(message.toString());
+  }
+
+  boolean writeQueueFull() {
+    return ws.writeQueueFull();
+  }
+
+  void setWriteQueueMaxSize(int maxSize) {
+    ws.setWriteQueueMaxSize(maxSize);
+  }
+
+  /**
+   * Adds a handler called once the write queue is no longer full, the handler can be added from any thread.
+   */
+  void drainHandler(Handler<Void> handler) {
+    context().runOnContext(v -> {
+      if (!ws.writeQueueFull()) {
+        handler.handle(null);
+        return;
+      }
+      if (drainHandlers == null) {
+        drainHandlers = new ArrayList<>(2);
+      }
+      drainHandlers.add(handler);
+    });
+  }
+
+  private void drained() {
+    List<Handler<Void>> handlers = drainHandlers;
+    drainHandlers = null;
+    if (handlers != null) {
+      for (Handler<Void> handler : handlers) {
+        handler.handle(null);
+      }
+    }
+  }
+
+  private void ping() {
+    if (System.currentTimeMillis() - lastPong > 2 * pingIntervalMs) {
+      // Two pings without a pong, the client is gone
+      ws.close((short) 1001, "Keepalive timeout");
+      return;
+    }
+    ws.writePing(Buffer.buffer());
+  }
+
+  private void handlePong() {
+    lastPong = System.currentTimeMillis();
+    ServerSession session = session();
+    if (session != null) {
+      // Refreshes the session, its client is alive even when idle
+      sessionManager.getSession(session.id());
+    }
+  }
+
+  private void handleFrame(WebSocketFrame frame) {
+    if (frame.isText() || frame.isBinary()) {
+      binary = frame.isBinary();
+      fragments = frame.isFinal() ? null : Buffer.buffer();
+      fragmentsSize = 0;
+      if (frame.isFinal()) {
+        Buffer message = frame.binaryData();
+        if (message.length() > maxMessageSize) {
+          tooLarge(message.length());
+        } else {
+          handle(message);
+        }
+        return;
+      }
+    } else if (!frame.isContinuation()) {
+      return;
+    }
+
+    fragmentsSize += frame.binaryData().length();
+    if (fragments != null) {
+      if (fragmentsSize > maxMessageSize) {
+        // Discarded up to the final fragment
+        fragments = null;
+      } else {
+        fragments.appendBuffer(frame.binaryData());
+      }
+    }
+    if (frame.isFinal()) {
+      Buffer message = fragments;
+      fragments = null;
+      if (message == null) {
+        tooLarge(fragmentsSize);
+      } else {
+        handle(message);
+      }
+    }
+  }
+
+  private void tooLarge(long size) {
+    write(JsonResponseEncoder.encode(new JsonResponse(JsonError.invalidRequest("Message too large: " + size + " bytes"), null)));
+  }
+
+  private void handle(Buffer message) {
+    if (ws.writeQueueFull()) {
+      // The client does not read the messages of the server
+      ws.pause();
+      drainHandler(v -> ws.resume());
+    }
+    handleMessage(message);
+  }
+
+  @Override
+  protected ServerRequest createRequest(ContextInternal context, JsonRequest jsonRequest) {
+    return new WebSocketServerRequest(context, jsonRequest);
+  }
+
+  @Override
+  protected ServerResponse createResponse(ContextInternal context, Object requestId) {
+    return new WebSocketServerResponse(context, this, requestId);
+  }
+
+  @Override
+  protected void sessionCreated(ServerSessionImpl session) {
+    if (pingIntervalMs > 0) {
+      // The pings of the WebSocket keep the session alive
+      session.keepAlive();
+    }
+  }
+
+  private void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (pingTimer != -1) {
+      context().owner().cancelTimer(pingTimer);
+      pingTimer = -1;
+    }
+    removeSession();
+    // The pending writers are released, their writes fail
+    drained();
+  }
+}
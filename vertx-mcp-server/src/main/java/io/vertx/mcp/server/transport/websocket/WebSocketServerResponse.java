@@ -0,0 +1,145 @@
+package io.vertx.mcp.server.transport.websocket;
+
+import io.vertx.codegen.annotations.Nullable;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.mcp.common.rpc.JsonResponse;
+import io.vertx.mcp.common.rpc.JsonResponseEncoder;
+import io.vertx.mcp.server.ServerResponse;
+import io.vertx.mcp.server.ServerSession;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The response of a JSON-RPC request received by the WebSocket transport, or the stream of the session when it has no request ID. Every message is written as a WebSocket
+ * message, ending the stream of the session does not close the WebSocket.
+ */
+public class WebSocketServerResponse implements ServerResponse {
+
+  private final ContextInternal context;
+  private final WebSocketServerConnection connection;
+  private final Object requestId;
+
+  private ServerSession session;
+  private boolean ended;
+
+  WebSocketServerResponse(ContextInternal context, WebSocketServerConnection connection, Object requestId) {
+    this.context = context;
+    this.connection = connection;
+    this.requestId = requestId;
+  }
+
+  @Override
+  public void init(ServerSession session) {
+    this.session = session;
+  }
+
+  @Override
+  public Object requestId() {
+    return requestId;
+  }
+
+  @Override
+  public ServerSession session() {
+    return session;
+  }
+
+  @Override
+  public ContextInternal context() {
+    return context;
+  }
+
+  @Override
+  public Future<Void> write(JsonObject data) {
+    if (ended) {
+      return Future.failedFuture("Response already ended");
+    }
+    return connection.write(data);
+  }
+
+  @Override
+  public Future<Void> write(JsonResponse data) {
+    if (ended) {
+      return Future.failedFuture("Response already ended");
+    }
+    return connection.write(JsonResponseEncoder.encode(data));
+  }
+
+  @Override
+  public Future<Void> write(Buffer message) {
+    if (ended) {
+      return Future.failedFuture("Response already ended");
+    }
+    return connection.write(message);
+  }
+
+  @Override
+  public Future<Void> writeAll(List<JsonObject> messages) {
+    if (ended) {
+      return Future.failedFuture("Response already ended");
+    }
+    List<Future<Void>> writes = new ArrayList<>(messages.size());
+    for (JsonObject message : messages) {
+      writes.add(connection.write(message));
+    }
+    return Future.all(writes).mapEmpty();
+  }
+
+  @Override
+  public Future<Void> end() {
+    ended = true;
+    return context.succeededFuture();
+  }
+
+  @Override
+  public Future<Void> end(JsonObject data) {
+    if (ended) {
+      return Future.failedFuture("Response already ended");
+    }
+    ended = true;
+    return connection.write(data);
+  }
+
+  @Override
+  public Future<Void> end(JsonResponse response) {
+    return end(JsonResponseEncoder.encode(response));
+  }
+
+  @Override
+  public Future<Void> end(Buffer message) {
+    if (ended) {
+      return Future.failedFuture("Response already ended");
+    }
+    ended = true;
+    return connection.write(message);
+  }
+
+  @Override
+  public WriteStream<JsonObject> setWriteQueueMaxSize(int maxSize) {
+    connection.setWriteQueueMaxSize(maxSize);
+    return this;
+  }
+
+  @Override
+  public boolean writeQueueFull() {
+    return connection.writeQueueFull();
+  }
+
+  @Override
+  public WriteStream<JsonObject> drainHandler(@Nullable Handler<Void> handler) {
+    if (handler != null) {
+      connection.drainHandler(handler);
+    }
+    return this;
+  }
+
+  @Override
+  public WriteStream<JsonObject> exceptionHandler(@Nullable Handler<Throwable> handler) {
+    return this;
+  }
+}
@@ -0,0 +1,80 @@
+package io.vertx.mcp.server.transport.websocket;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.ServerWebSocket;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.mcp.server.ModelContextProtocolServer;
+import io.vertx.mcp.server.ServerOptions;
+import io.vertx.mcp.server.impl.ModelContextProtocolServerImpl;
+import io.vertx.mcp.server.impl.SessionManagerImpl;
+
+/**
+ * The WebSocketServerTransport class serves clients over WebSocket connections to paths starting with "/mcp", it is set as the WebSocket handler of an HTTP server. Each
+ * connection carries a single session, created by the {@code initialize} request of the client and ended when the connection closes, the JSON-RPC messages flow in both
+ * directions as WebSocket messages without any HTTP request per message.
+ * <p>
+ * The server writes its messages in the frame type of the messages of the client, text by default. The liveness of the client is checked with WebSocket pings rather than
+ * JSON-RPC {@code ping} requests, a client not answering two consecutive pings is disconnected. Compression is negotiated with the permessage-deflate extension, configured
+ * with {@link io.vertx.core.http.HttpServerOptions#setPerMessageWebSocketCompressionSupported(boolean)}.
+ *
+ * @version 2025-06-18
+ */
+public class WebSocketServerTransport implements Handler<ServerWebSocket> {
+
+  public static final long DEFAULT_PING_INTERVAL_MS = 15_000;
+
+  private final Vertx vertx;
+  private final ModelContextProtocolServer server;
+  private final SessionManagerImpl sessionManager;
+  private final int maxMessageSize;
+  private long pingIntervalMs = DEFAULT_PING_INTERVAL_MS;
+
+  public WebSocketServerTransport(Vertx vertx, ModelContextProtocolServer server) {
+    this.vertx = vertx;
+    this.server = server;
+    ServerOptions options;
+    if (server instanceof ModelContextProtocolServerImpl) {
+      ModelContextProtocolServerImpl impl = (ModelContextProtocolServerImpl) server;
+      // The WebSocket is the stream of the session
+      options = new ServerOptions(impl.getOptions()).setStreamingEnabled(true);
+      this.sessionManager = new SessionManagerImpl(vertx, options, impl.metrics(), impl::sessionEvent);
+    } else {
+      options = new ServerOptions().setStreamingEnabled(true);
+      this.sessionManager = new SessionManagerImpl(vertx, options);
+    }
+    this.maxMessageSize = options.getMaxRequestSize() > 0 ? options.getMaxRequestSize() : Integer.MAX_VALUE;
+  }
+
+  /**
+   * Set the interval between the WebSocket pings checking the liveness of the clients, {@code 0} disables the pings and the session manager pings the sessions instead.
+   *
+   * @param pingIntervalMs the interval in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public WebSocketServerTransport setPingIntervalMs(long pingIntervalMs) {
+    if (pingIntervalMs < 0) {
+      throw new IllegalArgumentException("The ping interval must be positive");
+    }
+    this.pingIntervalMs = pingIntervalMs;
+    return this;
+  }
+
+  public long getPingIntervalMs() {
+    return pingIntervalMs;
+  }
+
+  @Override
+  public void handle(ServerWebSocket ws) {
+    if (!ws.path().startsWith("/mcp")) {
+      ws.close((short) 1008, "Unknown path");
+      return;
+    }
+    ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+    new WebSocketServerConnection(server, sessionManager, ws, context, maxMessageSize, pingIntervalMs).init();
+  }
+
+  public SessionManagerImpl getSessionManager() {
+    return sessionManager;
+  }
+}
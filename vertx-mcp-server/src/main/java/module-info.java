@@ -4,6 +4,7 @@ module io.vertx.mcp.server {
 
   requires io.vertx.codegen.json;
   requires io.vertx.core;
+  requires io.vertx.uritemplate;
 
   requires io.vertx.mcp.common;
   requires java.logging;
@@ -11,4 +12,6 @@ module io.vertx.mcp.server {
   exports io.vertx.mcp.server;
   exports io.vertx.mcp.server.feature;
   exports io.vertx.mcp.server.transport.http;
+  exports io.vertx.mcp.server.transport.stdio;
+  exports io.vertx.mcp.server.transport.websocket;
 }